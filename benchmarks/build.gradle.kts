@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+import io.spine.examples.kanban.dependency.HdrHistogram
+import io.spine.examples.kanban.dependency.Jmh
+import io.spine.examples.kanban.dependency.Spine
+import net.ltgt.gradle.errorprone.errorprone
+
+/*
+ * Performance tooling for the Kanban domain.
+ *
+ * The main source set contains the load generator. Run it against an in-process
+ * Kanban context with:
+ *
+ *   ./gradlew :benchmarks:run --args="--rate=500 --duration=60"
+ *
+ * Pass `--server=host:port` to drive a running `KanbanServer` instead.
+ * See `io.spine.examples.kanban.load.Workload` for all the options.
+ *
+ * The `jmh` source set contains JMH benchmarks of the domain hot paths.
+ *
+ * Run all the suites with:
+ *
+ *   ./gradlew :benchmarks:jmh
+ *
+ * Each run writes JSON results to `build/reports/jmh/<label>.json`, where `<label>` is taken
+ * from the `jmhLabel` project property (`results` by default). Label runs by commit to compare
+ * them, e.g. `-PjmhLabel=$(git rev-parse --short HEAD)`. A subset of suites can be selected
+ * with a regular expression passed as the `jmhInclude` property.
+ */
+plugins {
+    application
+    id(Jmh.GradlePlugin.id) version Jmh.GradlePlugin.version
+}
+
+dependencies {
+    implementation(project(":model"))
+    implementation(project(":server"))
+    implementation(Spine.Server.lib)
+    implementation(HdrHistogram.lib)
+
+    jmh(project(":model"))
+    jmh(project(":server"))
+    jmh(Spine.Server.lib)
+    jmh(Spine.Testing.lib)
+}
+
+application {
+    mainClass.set("io.spine.examples.kanban.load.LoadTest")
+}
+
+val jmhLabel: String = (findProperty("jmhLabel") ?: "results").toString()
+
+jmh {
+    jmhVersion = Jmh.version
+    findProperty("jmhInclude")?.let { include = listOf(it.toString()) }
+
+    // Report allocation rates along with the timings.
+    profilers = listOf("gc")
+
+    resultFormat = "JSON"
+    resultsFile = file("$buildDir/reports/jmh/${jmhLabel}.json")
+    humanOutputFile = file("$buildDir/reports/jmh/${jmhLabel}.txt")
+    duplicateClassesStrategy = DuplicatesStrategy.WARN
+}
+
+/*
+ * Do not analyze the code generated by JMH.
+ */
+tasks.named<JavaCompile>("jmhCompileGeneratedClasses") {
+    options.errorprone.isEnabled.set(false)
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.benchmark;
+
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.server.board.ColumnPositions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Measures adding a card to a column which already holds {@code columnSize} cards.
+ *
+ * <p>The measured chain covers loading the column and its {@code AddCardToColumn} handler
+ * along with the WIP limit check.
+ *
+ * <p>Adding a card makes the column longer. To keep the size close to {@code columnSize},
+ * every iteration starts with a new column and performs a fixed batch of additions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 10, batchSize = AddCardBenchmark.BATCH_SIZE)
+@Measurement(iterations = 20, batchSize = AddCardBenchmark.BATCH_SIZE)
+@Fork(1)
+public class AddCardBenchmark {
+
+    static final int BATCH_SIZE = 16;
+
+    @Param({"0", "100", "1000"})
+    int columnSize;
+
+    private KanbanFixture kanban;
+    private BoardId board;
+    private int width;
+    private ColumnId column;
+
+    @Setup
+    public void createBoard() {
+        kanban = new KanbanFixture();
+        board = kanban.createBoard(KanbanFixture.DEFAULT_COLUMNS);
+        width = KanbanFixture.DEFAULT_COLUMNS;
+    }
+
+    @Setup(Level.Iteration)
+    public void fillColumn() {
+        width++;
+        column = kanban.addColumn(board, ColumnPositions.of(width, width));
+        for (int i = 0; i < columnSize; i++) {
+            kanban.addCard(column);
+        }
+    }
+
+    @TearDown
+    public void closeContext() throws Exception {
+        kanban.close();
+    }
+
+    @Benchmark
+    public void addCard() {
+        kanban.addCard(column);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.benchmark;
+
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.server.board.ColumnPositions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Measures adding a column to the front of a board.
+ *
+ * <p>The measured chain covers the {@code AddColumn} and {@code PlaceColumn} handlers of
+ * the board, the column creation process, the reactions of all the shifted columns and
+ * the {@code BoardProjection} subscribers.
+ *
+ * <p>Adding a column makes the board wider. To keep the width close to {@code boardWidth},
+ * every iteration starts with a new board and performs a fixed batch of additions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 10, batchSize = AddColumnBenchmark.BATCH_SIZE)
+@Measurement(iterations = 20, batchSize = AddColumnBenchmark.BATCH_SIZE)
+@Fork(1)
+public class AddColumnBenchmark {
+
+    static final int BATCH_SIZE = 16;
+
+    @Param({"8", "32", "128"})
+    int boardWidth;
+
+    private KanbanFixture kanban;
+    private BoardId board;
+    private int width;
+
+    @Setup
+    public void createContext() {
+        kanban = new KanbanFixture();
+    }
+
+    @Setup(Level.Iteration)
+    public void createBoard() {
+        board = kanban.createBoard(boardWidth);
+        width = boardWidth;
+    }
+
+    @TearDown
+    public void closeContext() throws Exception {
+        kanban.close();
+    }
+
+    @Benchmark
+    public void addColumn() {
+        width++;
+        kanban.addColumn(board, ColumnPositions.of(1, width));
+    }
+}
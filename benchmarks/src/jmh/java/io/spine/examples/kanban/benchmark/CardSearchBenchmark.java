@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.CardId;
+import io.spine.examples.kanban.server.search.CardHit;
+import io.spine.examples.kanban.server.search.CardIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Measures the search in a {@link CardIndex} of many cards.
+ *
+ * <p>The cards are made of words drawn from a vocabulary with the Zipf-like distribution,
+ * so the index has both long posting lists of common words and short lists of rare ones.
+ * The query combines a common and a rare word.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class CardSearchBenchmark {
+
+    private static final int VOCABULARY = 50_000;
+    private static final int WORDS_PER_CARD = 12;
+    private static final int BOARDS = 1_000;
+
+    @Param({"100000", "1000000"})
+    int cards;
+
+    private final CardIndex index = new CardIndex();
+    private final BoardId[] boards = new BoardId[BOARDS];
+
+    @Setup
+    public void fill() {
+        Random random = new Random(42);
+        for (int i = 0; i < BOARDS; i++) {
+            boards[i] = BoardId.generate();
+        }
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < cards; i++) {
+            text.setLength(0);
+            for (int w = 0; w < WORDS_PER_CARD; w++) {
+                text.append(word(random)).append(' ');
+            }
+            index.put(CardId.generate(), boards[i % BOARDS], text.toString());
+        }
+    }
+
+    /**
+     * Draws a word, with the low numbered words being much more frequent.
+     */
+    private static String word(Random random) {
+        double u = random.nextDouble();
+        int rank = (int) Math.pow(VOCABULARY, u);
+        return "w" + rank;
+    }
+
+    @Benchmark
+    public ImmutableList<CardHit> allBoards() {
+        return index.search("w2 w9000", null, 20);
+    }
+
+    @Benchmark
+    public ImmutableList<CardHit> oneBoard() {
+        return index.search("w2 w9000", boards[7], 20);
+    }
+}
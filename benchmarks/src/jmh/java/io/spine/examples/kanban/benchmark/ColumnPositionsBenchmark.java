@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.benchmark;
+
+import io.spine.examples.kanban.ColumnPosition;
+import io.spine.examples.kanban.server.board.ColumnPositions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Measures {@link ColumnPositions#of(int, int)}.
+ *
+ * <p>Each invocation obtains positions of all the columns of a board, just as the board does
+ * when it makes space for a new column.
+ *
+ * <p>The {@code built} benchmark builds and validates a new message for every position, as
+ * {@code ColumnPositions} did before positions were interned. It serves as the baseline for
+ * the allocation rate. Widths over the {@linkplain ColumnPositions#MAX_INTERNED_WIDTH max
+ * interned width} show the cost of falling back to building.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnPositionsBenchmark {
+
+    @Param({"4", "16", "64", "256"})
+    int boardWidth;
+
+    @Benchmark
+    public void interned(Blackhole blackhole) {
+        for (int index = 1; index <= boardWidth; index++) {
+            blackhole.consume(ColumnPositions.of(index, boardWidth));
+        }
+    }
+
+    @Benchmark
+    public void built(Blackhole blackhole) {
+        for (int index = 1; index <= boardWidth; index++) {
+            blackhole.consume(ColumnPosition
+                                      .newBuilder()
+                                      .setIndex(index)
+                                      .setOfTotal(boardWidth)
+                                      .vBuild());
+        }
+    }
+}
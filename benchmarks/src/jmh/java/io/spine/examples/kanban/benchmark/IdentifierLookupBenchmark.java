@@ -0,0 +1,115 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.benchmark;
+
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.Uuid128;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Compares lookups of identifiers in the string and the {@linkplain Uuid128 binary} forms.
+ *
+ * <p>The looked up key is a copy of the stored one, as happens when the key comes from
+ * another message. So the equality check compares the contents rather than references.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdentifierLookupBenchmark {
+
+    @Param({"16", "1024"})
+    int size;
+
+    private final List<ColumnId> columns = new ArrayList<>();
+    private final List<Uuid128> compactColumns = new ArrayList<>();
+    private final Map<ColumnId, Integer> byColumn = new HashMap<>();
+    private final Map<Uuid128, Integer> byCompactColumn = new HashMap<>();
+    private ColumnId key;
+    private Uuid128 compactKey;
+
+    @Setup
+    public void fill() {
+        for (int i = 0; i < size; i++) {
+            ColumnId column = ColumnId.generate();
+            columns.add(column);
+            compactColumns.add(column.toCompact());
+            byColumn.put(column, i);
+            byCompactColumn.put(column.toCompact(), i);
+        }
+        ColumnId last = columns.get(size - 1);
+        key = ColumnId
+                .newBuilder()
+                .setUuid(new String(last.getUuid().toCharArray()))
+                .build();
+        compactKey = key.toCompact();
+    }
+
+    @Benchmark
+    public int stringIndexOf() {
+        return columns.indexOf(key);
+    }
+
+    @Benchmark
+    public int compactIndexOf() {
+        return compactColumns.indexOf(compactKey);
+    }
+
+    @Benchmark
+    public Integer stringMapLookup() {
+        return byColumn.get(key);
+    }
+
+    @Benchmark
+    public Integer compactMapLookup() {
+        return byCompactColumn.get(compactKey);
+    }
+
+    @Benchmark
+    public Uuid128 toCompact() {
+        return key.toCompact();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.benchmark;
+
+import io.spine.base.CommandMessage;
+import io.spine.base.Production;
+import io.spine.core.Command;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.BoardInit;
+import io.spine.examples.kanban.CardId;
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.ColumnPosition;
+import io.spine.examples.kanban.command.AddCardToColumn;
+import io.spine.examples.kanban.command.AddColumn;
+import io.spine.examples.kanban.command.CreateBoard;
+import io.spine.examples.kanban.command.MoveColumn;
+import io.spine.examples.kanban.server.KanbanContext;
+import io.spine.examples.kanban.server.board.ColumnPositions;
+import io.spine.server.BoundedContext;
+import io.spine.server.ServerEnvironment;
+import io.spine.server.storage.memory.InMemoryStorageFactory;
+import io.spine.server.transport.memory.InMemoryTransportFactory;
+import io.spine.testing.client.TestActorRequestFactory;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.spine.grpc.StreamObservers.noOpObserver;
+
+/**
+ * An in-process Kanban Bounded Context driven by the benchmarks.
+ *
+ * <p>Commands are posted directly to the command bus of the context. With the default
+ * local delivery, the command is handled and all the signals it causes are dispatched
+ * by the time {@link #post(CommandMessage)} returns, so the measured time covers the whole
+ * chain of handlers, reactors and projections.
+ */
+final class KanbanFixture implements AutoCloseable {
+
+    /**
+     * The number of columns a board has right after the creation.
+     */
+    static final int DEFAULT_COLUMNS = BoardInit.DefaultColumn.values().length - 1;
+
+    static {
+        ServerEnvironment
+                .when(Production.class)
+                .use(InMemoryStorageFactory.newInstance())
+                .use(InMemoryTransportFactory.newInstance());
+    }
+
+    private final BoundedContext context = KanbanContext.newBuilder().build();
+    private final TestActorRequestFactory requests =
+            new TestActorRequestFactory(KanbanFixture.class);
+
+    /**
+     * Posts the command to the context.
+     */
+    void post(CommandMessage message) {
+        Command command = requests.createCommand(message);
+        context.commandBus()
+               .post(command, noOpObserver());
+    }
+
+    /**
+     * Creates a new board with the given number of columns.
+     *
+     * <p>The number of columns cannot be less than the number of default columns.
+     *
+     * @return the ID of the created board
+     */
+    BoardId createBoard(int width) {
+        checkArgument(width >= DEFAULT_COLUMNS,
+                      "A board cannot have less than %s columns.", DEFAULT_COLUMNS);
+        BoardId board = BoardId.generate();
+        post(CreateBoard
+                     .newBuilder()
+                     .setBoard(board)
+                     .vBuild());
+        for (int current = DEFAULT_COLUMNS; current < width; current++) {
+            addColumn(board, ColumnPositions.of(current + 1, current + 1));
+        }
+        return board;
+    }
+
+    /**
+     * Adds a new column at the given position of the board.
+     *
+     * @return the ID of the added column
+     */
+    ColumnId addColumn(BoardId board, ColumnPosition position) {
+        ColumnId column = ColumnId.generate();
+        post(AddColumn
+                     .newBuilder()
+                     .setBoard(board)
+                     .setColumn(column)
+                     .setName(column.getUuid())
+                     .setDesiredPosition(position)
+                     .vBuild());
+        return column;
+    }
+
+    /**
+     * Moves the column between the given positions.
+     */
+    void moveColumn(BoardId board, ColumnId column, ColumnPosition from, ColumnPosition to) {
+        post(MoveColumn
+                     .newBuilder()
+                     .setBoard(board)
+                     .setColumn(column)
+                     .setFrom(from)
+                     .setTo(to)
+                     .vBuild());
+    }
+
+    /**
+     * Adds a new card to the column.
+     */
+    void addCard(ColumnId column) {
+        post(AddCardToColumn
+                     .newBuilder()
+                     .setColumn(column)
+                     .setCard(CardId.generate())
+                     .vBuild());
+    }
+
+    @Override
+    public void close() throws Exception {
+        context.close();
+    }
+}
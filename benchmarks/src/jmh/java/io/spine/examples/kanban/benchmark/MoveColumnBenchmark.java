@@ -0,0 +1,106 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.benchmark;
+
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.ColumnPosition;
+import io.spine.examples.kanban.server.board.ColumnPositions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Measures moving a column across the whole board.
+ *
+ * <p>The measured chain covers the {@code MoveColumn} handler of the board, the reactions of
+ * all the shifted columns and the {@code BoardProjection} subscribers.
+ *
+ * <p>The moved column travels between the first and the last position of the board, so every
+ * move shifts all other columns. Before the measurement, the column is moved
+ * {@code historyLength} times to grow the event history of the board and its columns.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoveColumnBenchmark {
+
+    @Param({"8", "32", "128"})
+    int boardWidth;
+
+    @Param({"0", "500"})
+    int historyLength;
+
+    private KanbanFixture kanban;
+    private BoardId board;
+    private ColumnId column;
+    private ColumnPosition first;
+    private ColumnPosition last;
+    private boolean atFirst;
+
+    @Setup
+    public void createBoard() {
+        kanban = new KanbanFixture();
+        board = kanban.createBoard(boardWidth - 1);
+        first = ColumnPositions.of(1, boardWidth);
+        last = ColumnPositions.of(boardWidth, boardWidth);
+        column = kanban.addColumn(board, first);
+        atFirst = true;
+        for (int i = 0; i < historyLength; i++) {
+            moveColumn();
+        }
+    }
+
+    @TearDown
+    public void closeContext() throws Exception {
+        kanban.close();
+    }
+
+    @Benchmark
+    public void moveColumn() {
+        if (atFirst) {
+            kanban.moveColumn(board, column, first, last);
+        } else {
+            kanban.moveColumn(board, column, last, first);
+        }
+        atFirst = !atFirst;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.load;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.CardId;
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.command.MoveCard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * What the load generator knows about a board.
+ *
+ * <p>The knowledge is built from the events emitted by the Kanban context. It is used to issue
+ * commands which make sense for the board, e.g. to move a card to a column it is not in yet.
+ *
+ * <p>To avoid conflicting commands, a card is not moved again until its previous move
+ * completes, and a column is not targeted by two moves at once.
+ */
+final class BoardModel {
+
+    /**
+     * The number of attempts to find a card and a column for the next move.
+     */
+    private static final int MOVE_ATTEMPTS = 8;
+
+    private final BoardId id;
+    private final List<ColumnId> columns = new ArrayList<>();
+    private final List<CardId> cards = new ArrayList<>();
+    private final Map<CardId, ColumnId> cardColumns = new HashMap<>();
+    private final Set<CardId> moving = new HashSet<>();
+    private final Set<ColumnId> targeted = new HashSet<>();
+
+    BoardModel(BoardId id) {
+        this.id = id;
+    }
+
+    BoardId id() {
+        return id;
+    }
+
+    /**
+     * Returns the number of columns on the board.
+     */
+    synchronized int width() {
+        return columns.size();
+    }
+
+    /**
+     * Returns the number of cards on the board.
+     */
+    synchronized int cardCount() {
+        return cards.size();
+    }
+
+    synchronized void columnAdded(ColumnId column) {
+        columns.add(column);
+    }
+
+    synchronized void cardAdded(CardId card, ColumnId column) {
+        cards.add(card);
+        cardColumns.put(card, column);
+    }
+
+    synchronized void cardMoved(CardId card, ColumnId column) {
+        cardColumns.put(card, column);
+        moving.remove(card);
+        targeted.remove(column);
+    }
+
+    /**
+     * Allows to move the card again after its move to the column was rejected.
+     */
+    synchronized void moveRejected(CardId card, ColumnId column) {
+        if (moving.remove(card)) {
+            targeted.remove(column);
+        }
+    }
+
+    /**
+     * Picks a random card and a random column to move it to.
+     *
+     * @return the command moving the card, or empty if no card can be moved at the moment
+     */
+    synchronized Optional<MoveCard> nextMove(Random random) {
+        if (cards.isEmpty() || columns.size() < 2) {
+            return Optional.empty();
+        }
+        for (int attempt = 0; attempt < MOVE_ATTEMPTS; attempt++) {
+            CardId card = cards.get(random.nextInt(cards.size()));
+            ColumnId target = columns.get(random.nextInt(columns.size()));
+            if (canMove(card, target)) {
+                return Optional.of(move(card, target));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Picks cards to move from the most populated columns to the columns having less than
+     * the given number of cards.
+     *
+     * <p>Each column is targeted at most once, so the method should be called repeatedly,
+     * each time after the previous moves complete, until it returns no moves.
+     */
+    synchronized ImmutableList<MoveCard> spread(int cardsPerColumn) {
+        Map<ColumnId, List<CardId>> byColumn = new HashMap<>();
+        columns.forEach(column -> byColumn.put(column, new ArrayList<>()));
+        cardColumns.forEach((card, column) -> byColumn.get(column).add(card));
+        List<CardId> surplus = new ArrayList<>();
+        byColumn.values()
+                .stream()
+                .filter(cardsInColumn -> cardsInColumn.size() > cardsPerColumn)
+                .forEach(cardsInColumn -> surplus.addAll(
+                        cardsInColumn.subList(cardsPerColumn, cardsInColumn.size())));
+        ImmutableList.Builder<MoveCard> moves = ImmutableList.builder();
+        for (ColumnId column : columns) {
+            if (surplus.isEmpty()) {
+                break;
+            }
+            if (byColumn.get(column).size() < cardsPerColumn) {
+                CardId card = surplus.remove(surplus.size() - 1);
+                moves.add(move(card, column));
+            }
+        }
+        return moves.build();
+    }
+
+    private boolean canMove(CardId card, ColumnId target) {
+        return !moving.contains(card)
+                && !targeted.contains(target)
+                && !target.equals(cardColumns.get(card));
+    }
+
+    private MoveCard move(CardId card, ColumnId target) {
+        moving.add(card);
+        targeted.add(target);
+        return MoveCard
+                .newBuilder()
+                .setCard(card)
+                .setCurrentColumn(cardColumns.get(card))
+                .setTargetColumn(target)
+                .vBuild();
+    }
+}
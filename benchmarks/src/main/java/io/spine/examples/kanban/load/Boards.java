@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.load;
+
+import io.spine.base.EventMessage;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.event.BoardInitialized;
+import io.spine.examples.kanban.event.CardAddedToColumn;
+import io.spine.examples.kanban.event.CardMoved;
+import io.spine.examples.kanban.event.ColumnAdded;
+import io.spine.examples.kanban.rejection.Rejections.WipLimitExceeded;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps {@linkplain BoardModel models} of all the boards known to the load generator.
+ */
+final class Boards {
+
+    private final Map<BoardId, BoardModel> boards = new ConcurrentHashMap<>();
+    private final Map<ColumnId, BoardModel> columns = new ConcurrentHashMap<>();
+
+    /**
+     * Updates the models with the {@linkplain FinalEvents#TYPES observed} event.
+     */
+    void observe(EventMessage event) {
+        if (event instanceof BoardInitialized) {
+            model(((BoardInitialized) event).getBoard());
+        } else if (event instanceof ColumnAdded) {
+            ColumnAdded added = (ColumnAdded) event;
+            BoardModel board = model(added.getBoard());
+            columns.put(added.getColumn(), board);
+            board.columnAdded(added.getColumn());
+        } else if (event instanceof CardAddedToColumn) {
+            CardAddedToColumn added = (CardAddedToColumn) event;
+            BoardModel board = columns.get(added.getColumn());
+            if (board != null && !added.getMoving()) {
+                board.cardAdded(added.getCard(), added.getColumn());
+            }
+        } else if (event instanceof CardMoved) {
+            CardMoved moved = (CardMoved) event;
+            BoardModel board = columns.get(moved.getCurrent());
+            if (board != null) {
+                board.cardMoved(moved.getCard(), moved.getCurrent());
+            }
+        } else if (event instanceof WipLimitExceeded) {
+            WipLimitExceeded exceeded = (WipLimitExceeded) event;
+            BoardModel board = columns.get(exceeded.getColumn());
+            if (board != null) {
+                board.moveRejected(exceeded.getCard(), exceeded.getColumn());
+            }
+        }
+    }
+
+    private BoardModel model(BoardId board) {
+        return boards.computeIfAbsent(board, BoardModel::new);
+    }
+
+    /**
+     * Finds the model of the board.
+     */
+    Optional<BoardModel> find(BoardId board) {
+        return Optional.ofNullable(boards.get(board));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.load;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.Message;
+import io.spine.base.EventMessage;
+import io.spine.base.RejectionMessage;
+import io.spine.examples.kanban.event.BoardInitialized;
+import io.spine.examples.kanban.event.CardAddedToColumn;
+import io.spine.examples.kanban.event.CardMoved;
+import io.spine.examples.kanban.event.ColumnAdded;
+import io.spine.examples.kanban.rejection.Rejections.ColumnCannotBeMoved;
+import io.spine.examples.kanban.rejection.Rejections.ColumnNameAlreadyTaken;
+import io.spine.examples.kanban.rejection.Rejections.WipLimitExceeded;
+
+import java.util.Optional;
+
+/**
+ * Events ending the chains of signals caused by the {@linkplain Operation operations}.
+ *
+ * <p>A chain ends either with the event of the completed operation, or with the rejection
+ * of one of its commands, e.g. when a card cannot be placed because of the WIP limit.
+ */
+final class FinalEvents {
+
+    /**
+     * The types of the events observed by the load generator.
+     */
+    static final ImmutableSet<Class<? extends EventMessage>> TYPES = ImmutableSet.of(
+            BoardInitialized.class,
+            ColumnAdded.class,
+            CardAddedToColumn.class,
+            CardMoved.class,
+            WipLimitExceeded.class,
+            ColumnNameAlreadyTaken.class,
+            ColumnCannotBeMoved.class
+    );
+
+    /**
+     * Prevents utility class instantiation.
+     */
+    private FinalEvents() {
+    }
+
+    /**
+     * Obtains the ID of the entity the final event is about.
+     *
+     * @return the entity ID, or empty if the event does not complete an operation
+     */
+    static Optional<Message> subjectOf(EventMessage event) {
+        if (event instanceof BoardInitialized) {
+            return Optional.of(((BoardInitialized) event).getBoard());
+        }
+        if (event instanceof ColumnAdded) {
+            return Optional.of(((ColumnAdded) event).getColumn());
+        }
+        if (event instanceof CardAddedToColumn) {
+            CardAddedToColumn added = (CardAddedToColumn) event;
+            return added.getMoving()
+                   ? Optional.empty()
+                   : Optional.of(added.getCard());
+        }
+        if (event instanceof CardMoved) {
+            return Optional.of(((CardMoved) event).getCard());
+        }
+        if (event instanceof WipLimitExceeded) {
+            return Optional.of(((WipLimitExceeded) event).getCard());
+        }
+        if (event instanceof ColumnNameAlreadyTaken) {
+            return Optional.of(((ColumnNameAlreadyTaken) event).getColumn());
+        }
+        if (event instanceof ColumnCannotBeMoved) {
+            return Optional.of(((ColumnCannotBeMoved) event).getColumn());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Tells if the event ends the chain with a rejection instead of completing the operation.
+     */
+    static boolean isRejection(EventMessage event) {
+        return event instanceof RejectionMessage;
+    }
+}
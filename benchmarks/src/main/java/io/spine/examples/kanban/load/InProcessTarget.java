@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.load;
+
+import io.spine.base.CommandMessage;
+import io.spine.base.EventMessage;
+import io.spine.base.Production;
+import io.spine.client.ActorRequestFactory;
+import io.spine.core.Command;
+import io.spine.core.UserId;
+import io.spine.examples.kanban.server.KanbanContext;
+import io.spine.server.BoundedContext;
+import io.spine.server.BoundedContextBuilder;
+import io.spine.server.ServerEnvironment;
+import io.spine.server.storage.memory.InMemoryStorageFactory;
+import io.spine.server.transport.memory.InMemoryTransportFactory;
+
+import java.util.function.Consumer;
+
+import static io.spine.grpc.StreamObservers.noOpObserver;
+
+/**
+ * Runs the Kanban context in this process and posts commands right to its command bus.
+ *
+ * <p>With the default local delivery, a command is handled along with all the signals
+ * it causes by the time it is posted. So a single posting thread measures the throughput
+ * of the context alone, without any transport overhead.
+ */
+final class InProcessTarget implements Target {
+
+    private final BoundedContext context;
+    private final ActorRequestFactory requests = ActorRequestFactory
+            .newBuilder()
+            .setActor(UserId.newBuilder()
+                            .setValue(InProcessTarget.class.getSimpleName())
+                            .build())
+            .build();
+
+    InProcessTarget(Consumer<EventMessage> observer) {
+        ServerEnvironment
+                .when(Production.class)
+                .use(InMemoryStorageFactory.newInstance())
+                .use(InMemoryTransportFactory.newInstance());
+        BoundedContextBuilder builder = KanbanContext.newBuilder();
+        builder.addEventListener(event -> {
+            EventMessage message = event.message();
+            if (FinalEvents.TYPES.contains(message.getClass())) {
+                observer.accept(message);
+            }
+        });
+        this.context = builder.build();
+    }
+
+    @Override
+    public void post(CommandMessage message) {
+        Command command = requests.command()
+                                  .create(message);
+        context.commandBus()
+               .post(command, noOpObserver());
+    }
+
+    @Override
+    public void close() throws Exception {
+        context.close();
+    }
+}
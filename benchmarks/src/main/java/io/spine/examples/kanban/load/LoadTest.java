@@ -0,0 +1,311 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.load;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.net.HostAndPort;
+import com.google.protobuf.Message;
+import io.spine.base.CommandMessage;
+import io.spine.base.EventMessage;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.CardId;
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.command.AddColumn;
+import io.spine.examples.kanban.command.CreateBoard;
+import io.spine.examples.kanban.command.CreateCard;
+import io.spine.examples.kanban.command.MoveCard;
+import io.spine.examples.kanban.server.board.ColumnPositions;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Applies a {@linkplain Workload workload} to the Kanban context and reports the throughput
+ * and latency of each {@linkplain Operation operation}.
+ *
+ * <p>The run consists of the following phases:
+ * <ol>
+ *     <li>Setup: boards are created and filled with cards. Commands are issued as fast as
+ *         they complete. Latencies of the setup are not reported.
+ *     <li>Load: commands are issued at the configured rate for the configured duration.
+ *         The throughput is printed every second.
+ *     <li>Drain: the generator waits for the final events of the issued commands.
+ * </ol>
+ */
+public final class LoadTest implements AutoCloseable {
+
+    private static final Duration SETUP_TIMEOUT = Duration.ofMinutes(5);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Workload workload;
+    private final Tracker tracker = new Tracker();
+    private final Boards boards = new Boards();
+    private final Target target;
+    private final ImmutableList<BoardId> loaded;
+    private final Zipf popularity;
+
+    private LoadTest(Workload workload) {
+        this.workload = workload;
+        Optional<HostAndPort> server = workload.server();
+        this.target = server.isPresent()
+                      ? Target.remote(server.get().getHost(), server.get().getPort(), this::observe)
+                      : Target.inProcess(this::observe);
+        ImmutableList.Builder<BoardId> boardIds = ImmutableList.builder();
+        for (int i = 0; i < workload.boards(); i++) {
+            boardIds.add(BoardId.generate());
+        }
+        this.loaded = boardIds.build();
+        this.popularity = new Zipf(loaded.size(), workload.skew());
+    }
+
+    /**
+     * Runs the load test.
+     *
+     * <p>See {@link Workload} for the supported arguments.
+     */
+    public static void main(String[] args) throws Exception {
+        Workload workload = Workload.parse(args);
+        System.out.println("Workload: " + workload);
+        try (LoadTest test = new LoadTest(workload)) {
+            test.setUp();
+            test.run();
+            test.report();
+        }
+    }
+
+    private void observe(EventMessage event) {
+        boards.observe(event);
+        Optional<Message> subject = FinalEvents.subjectOf(event);
+        if (!subject.isPresent()) {
+            return;
+        }
+        if (FinalEvents.isRejection(event)) {
+            tracker.reject(subject.get());
+        } else {
+            tracker.complete(subject.get());
+        }
+    }
+
+    private void setUp() throws InterruptedException {
+        System.out.printf("Creating %d boards...%n", loaded.size());
+        long now = System.nanoTime();
+        for (BoardId board : loaded) {
+            post(Operation.CREATE_BOARD, board, createBoard(board), now);
+        }
+        awaitSetup();
+
+        System.out.println("Creating cards...");
+        for (BoardId board : loaded) {
+            int cards = model(board).width() * workload.cardsPerColumn();
+            for (int i = 0; i < cards; i++) {
+                CardId card = CardId.generate();
+                post(Operation.CREATE_CARD, card, createCard(board, card), System.nanoTime());
+            }
+        }
+        awaitSetup();
+
+        System.out.println("Spreading cards over columns...");
+        boolean moved = true;
+        while (moved) {
+            moved = false;
+            for (BoardId board : loaded) {
+                for (MoveCard move : model(board).spread(workload.cardsPerColumn())) {
+                    post(Operation.MOVE_CARD, move.getCard(), move, System.nanoTime());
+                    moved = true;
+                }
+            }
+            awaitSetup();
+        }
+        tracker.reset();
+    }
+
+    private void awaitSetup() throws InterruptedException {
+        if (!tracker.awaitCompletion(SETUP_TIMEOUT)) {
+            throw newIllegalStateException(
+                    "%d setup commands did not complete within %s.",
+                    tracker.pendingCount(), SETUP_TIMEOUT);
+        }
+    }
+
+    private BoardModel model(BoardId board) {
+        return boards.find(board)
+                     .orElseThrow(() -> newIllegalStateException(
+                             "The board `%s` is not initialized.", board.getUuid()));
+    }
+
+    /**
+     * Issues commands at the configured rate.
+     *
+     * <p>Each command is scheduled for a specific point in time. The operation latency is
+     * measured from that point, so falling behind the schedule shows up in the results.
+     */
+    private void run() throws InterruptedException {
+        System.out.printf("Applying the load for %ds...%n", workload.duration().getSeconds());
+        ExecutorService posters = Executors.newFixedThreadPool(workload.threads());
+        long interval = SECONDS.toNanos(1) / workload.rate();
+        long start = System.nanoTime();
+        long end = start + workload.duration().toNanos();
+        long nextReport = start + SECONDS.toNanos(1);
+        for (long scheduled = start; scheduled < end; scheduled += interval) {
+            waitUntil(scheduled);
+            Operation operation = workload.nextOperation(ThreadLocalRandom.current());
+            long scheduledAt = scheduled;
+            posters.execute(() -> issue(operation, scheduledAt));
+            if (scheduled >= nextReport) {
+                printInterval();
+                nextReport += SECONDS.toNanos(1);
+            }
+        }
+        posters.shutdown();
+        posters.awaitTermination(DRAIN_TIMEOUT.getSeconds(), SECONDS);
+        if (!tracker.awaitCompletion(DRAIN_TIMEOUT)) {
+            System.out.printf("%d operations did not complete within %s.%n",
+                              tracker.pendingCount(), DRAIN_TIMEOUT);
+        }
+    }
+
+    private static void waitUntil(long nanoTime) {
+        long delay = nanoTime - System.nanoTime();
+        while (delay > 0) {
+            LockSupport.parkNanos(delay);
+            delay = nanoTime - System.nanoTime();
+        }
+    }
+
+    private void issue(Operation operation, long scheduled) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        BoardModel board = model(loaded.get(popularity.next(random)));
+        switch (operation) {
+            case CREATE_BOARD:
+                BoardId newBoard = BoardId.generate();
+                post(operation, newBoard, createBoard(newBoard), scheduled);
+                break;
+            case ADD_COLUMN:
+                ColumnId column = ColumnId.generate();
+                post(operation, column, addColumn(board, column), scheduled);
+                break;
+            case CREATE_CARD:
+                CardId card = CardId.generate();
+                post(operation, card, createCard(board.id(), card), scheduled);
+                break;
+            case MOVE_CARD:
+                Optional<MoveCard> move = board.nextMove(random);
+                if (move.isPresent()) {
+                    post(operation, move.get().getCard(), move.get(), scheduled);
+                } else {
+                    tracker.skip(operation);
+                }
+                break;
+            default:
+                throw newIllegalStateException("Unsupported operation `%s`.", operation);
+        }
+    }
+
+    private void post(Operation operation, Message key, CommandMessage command, long scheduled) {
+        tracker.expect(operation, key, scheduled);
+        target.post(command);
+    }
+
+    private static CreateBoard createBoard(BoardId board) {
+        return CreateBoard
+                .newBuilder()
+                .setBoard(board)
+                .vBuild();
+    }
+
+    private static AddColumn addColumn(BoardModel board, ColumnId column) {
+        return AddColumn
+                .newBuilder()
+                .setBoard(board.id())
+                .setColumn(column)
+                .setName(column.getUuid())
+                .setDesiredPosition(ColumnPositions.of(1, board.width() + 1))
+                .vBuild();
+    }
+
+    private static CreateCard createCard(BoardId board, CardId card) {
+        return CreateCard
+                .newBuilder()
+                .setBoard(board)
+                .setCard(card)
+                .setName(card.getUuid())
+                .vBuild();
+    }
+
+    private void printInterval() {
+        StringBuilder line = new StringBuilder("completed/s:");
+        for (Map.Entry<Operation, Histogram> entry : tracker.interval().entrySet()) {
+            line.append(' ')
+                .append(entry.getKey().label())
+                .append('=')
+                .append(entry.getValue().getTotalCount());
+        }
+        line.append(", pending: ")
+            .append(tracker.pendingCount());
+        System.out.println(line);
+    }
+
+    private void report() {
+        long seconds = workload.duration().getSeconds();
+        System.out.println();
+        System.out.printf("%-13s %9s %8s %8s %8s %9s %9s %9s %9s %9s%n",
+                          "operation", "completed", "rejected", "skipped", "per sec",
+                          "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Operation operation : Operation.values()) {
+            Histogram latency = tracker.total(operation);
+            System.out.printf("%-13s %9d %8d %8d %8.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                              operation.label(),
+                              latency.getTotalCount(),
+                              tracker.rejected(operation),
+                              tracker.skipped(operation),
+                              (double) latency.getTotalCount() / seconds,
+                              millis(latency.getValueAtPercentile(50)),
+                              millis(latency.getValueAtPercentile(90)),
+                              millis(latency.getValueAtPercentile(99)),
+                              millis(latency.getValueAtPercentile(99.9)),
+                              millis(latency.getMaxValue()));
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    @Override
+    public void close() throws Exception {
+        target.close();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.load;
+
+import java.util.Locale;
+
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * An operation issued by the load generator.
+ *
+ * <p>Each operation is a single command. The operation is complete when the event
+ * ending the chain of signals caused by the command is emitted.
+ */
+enum Operation {
+
+    /**
+     * Creates a board. Ends with {@code BoardInitialized}.
+     */
+    CREATE_BOARD,
+
+    /**
+     * Adds a column to the front of a board. Ends with {@code ColumnAdded}.
+     */
+    ADD_COLUMN,
+
+    /**
+     * Creates a card. Ends with {@code CardAddedToColumn} placing the card
+     * to the first column of the board.
+     */
+    CREATE_CARD,
+
+    /**
+     * Moves a card to another column of the same board. Ends with {@code CardMoved}.
+     */
+    MOVE_CARD;
+
+    /**
+     * Returns the name of the operation used in the command line, e.g. {@code move-card}.
+     */
+    String label() {
+        return name().toLowerCase(Locale.ROOT)
+                     .replace('_', '-');
+    }
+
+    /**
+     * Finds the operation by its {@linkplain #label() label}.
+     */
+    static Operation ofLabel(String label) {
+        for (Operation operation : values()) {
+            if (operation.label().equals(label)) {
+                return operation;
+            }
+        }
+        throw newIllegalArgumentException("Unknown operation `%s`.", label);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.load;
+
+import io.spine.base.CommandMessage;
+import io.spine.base.EventMessage;
+import io.spine.client.Client;
+
+import java.util.function.Consumer;
+
+/**
+ * Posts commands to a running {@code KanbanServer} over gRPC.
+ *
+ * <p>The final events are received through event subscriptions. The measured latency thus
+ * includes the network round trip and the subscription delivery.
+ */
+final class RemoteTarget implements Target {
+
+    private final Client client;
+
+    RemoteTarget(String host, int port, Consumer<EventMessage> observer) {
+        this.client = Client.connectTo(host, port)
+                            .build();
+        FinalEvents.TYPES.forEach(type -> subscribe(type, observer));
+    }
+
+    private <E extends EventMessage> void subscribe(Class<E> type,
+                                                    Consumer<EventMessage> observer) {
+        client.asGuest()
+              .subscribeToEvent(type)
+              .observe(observer::accept)
+              .post();
+    }
+
+    @Override
+    public void post(CommandMessage command) {
+        client.asGuest()
+              .command(command)
+              .post();
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+}
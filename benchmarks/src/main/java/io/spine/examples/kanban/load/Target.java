@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.load;
+
+import io.spine.base.CommandMessage;
+import io.spine.base.EventMessage;
+
+import java.util.function.Consumer;
+
+/**
+ * A Kanban Bounded Context to which the load is applied.
+ */
+interface Target extends AutoCloseable {
+
+    /**
+     * Posts the command to the context.
+     */
+    void post(CommandMessage command);
+
+    /**
+     * Creates a target running the Kanban context in this process.
+     *
+     * @param observer
+     *         the observer of the {@linkplain FinalEvents#TYPES final events}
+     */
+    static Target inProcess(Consumer<EventMessage> observer) {
+        return new InProcessTarget(observer);
+    }
+
+    /**
+     * Creates a target connected to a running {@code KanbanServer}.
+     *
+     * @param observer
+     *         the observer of the {@linkplain FinalEvents#TYPES final events}
+     */
+    static Target remote(String host, int port, Consumer<EventMessage> observer) {
+        return new RemoteTarget(host, port, observer);
+    }
+}
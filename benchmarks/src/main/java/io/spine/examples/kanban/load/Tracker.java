@@ -0,0 +1,220 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.load;
+
+import com.google.protobuf.Message;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Measures the latency of operations from the command post to the final event.
+ *
+ * <p>An operation is identified by the ID of the entity its final event is about, e.g.
+ * the card for {@link Operation#MOVE_CARD}. The final event is usually several hops away from
+ * the command and does not refer to the command directly, so the entity ID is the only
+ * reliable way to correlate them.
+ *
+ * <p>The latency is measured from the time the command was <em>scheduled</em> to be posted.
+ * This way the time a command waits for a free posting thread is accounted for,
+ * and the results are not subject to coordinated omission.
+ */
+final class Tracker {
+
+    /**
+     * The number of significant decimal digits kept by the histograms.
+     */
+    private static final int PRECISION = 3;
+
+    private final Map<Message, Pending> pending = new ConcurrentHashMap<>();
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, Histogram> totals = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> skipped = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> rejected = new EnumMap<>(Operation.class);
+
+    Tracker() {
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(PRECISION));
+            totals.put(operation, new Histogram(PRECISION));
+            skipped.put(operation, new AtomicLong());
+            rejected.put(operation, new AtomicLong());
+        }
+    }
+
+    /**
+     * Starts waiting for the final event of an operation.
+     *
+     * @param operation
+     *         the operation
+     * @param key
+     *         the ID of the entity the final event is about
+     * @param scheduledNanos
+     *         the {@link System#nanoTime()} at which the command was scheduled
+     */
+    void expect(Operation operation, Message key, long scheduledNanos) {
+        pending.put(key, new Pending(operation, scheduledNanos));
+    }
+
+    /**
+     * Completes the operation waiting for a final event about the entity with the given ID.
+     *
+     * <p>Does nothing if there is no such operation.
+     */
+    void complete(Message key) {
+        Pending operation = pending.remove(key);
+        if (operation != null) {
+            long micros = NANOSECONDS.toMicros(System.nanoTime() - operation.scheduledNanos);
+            recorders.get(operation.operation)
+                     .recordValue(micros);
+        }
+    }
+
+    /**
+     * Completes the operation waiting for a final event about the entity with the given ID
+     * as rejected.
+     *
+     * <p>The latency of a rejected operation is not recorded. Does nothing if there is no
+     * such operation.
+     */
+    void reject(Message key) {
+        Pending operation = pending.remove(key);
+        if (operation != null) {
+            rejected.get(operation.operation)
+                    .incrementAndGet();
+        }
+    }
+
+    /**
+     * Records that an operation was not issued because the board had nothing to apply it to,
+     * e.g. there were no cards which are not being moved already.
+     */
+    void skip(Operation operation) {
+        skipped.get(operation)
+               .incrementAndGet();
+    }
+
+    /**
+     * Returns the number of operations which are waiting for their final events.
+     */
+    int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Waits until all the operations are complete.
+     *
+     * @return {@code true} if all the operations completed within the timeout
+     */
+    boolean awaitCompletion(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!pending.isEmpty()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            MILLISECONDS.sleep(10);
+        }
+        return true;
+    }
+
+    /**
+     * Returns latencies recorded since the previous call, in microseconds.
+     *
+     * <p>The returned histograms are also accumulated for the {@linkplain #total(Operation)
+     * total} results.
+     */
+    synchronized Map<Operation, Histogram> interval() {
+        Map<Operation, Histogram> result = new EnumMap<>(Operation.class);
+        recorders.forEach((operation, recorder) -> {
+            Histogram histogram = recorder.getIntervalHistogram();
+            totals.get(operation)
+                  .add(histogram);
+            result.put(operation, histogram);
+        });
+        return result;
+    }
+
+    /**
+     * Returns all the latencies of the operation recorded since the last {@link #reset()},
+     * in microseconds.
+     */
+    synchronized Histogram total(Operation operation) {
+        interval();
+        return totals.get(operation)
+                     .copy();
+    }
+
+    /**
+     * Returns the number of skipped operations.
+     */
+    long skipped(Operation operation) {
+        return skipped.get(operation)
+                      .get();
+    }
+
+    /**
+     * Returns the number of rejected operations.
+     */
+    long rejected(Operation operation) {
+        return rejected.get(operation)
+                       .get();
+    }
+
+    /**
+     * Forgets all the recorded results.
+     */
+    synchronized void reset() {
+        interval();
+        totals.values()
+              .forEach(Histogram::reset);
+        skipped.values()
+               .forEach(counter -> counter.set(0));
+        rejected.values()
+                .forEach(counter -> counter.set(0));
+    }
+
+    /**
+     * An operation waiting for its final event.
+     */
+    private static final class Pending {
+
+        private final Operation operation;
+        private final long scheduledNanos;
+
+        private Pending(Operation operation, long scheduledNanos) {
+            this.operation = operation;
+            this.scheduledNanos = scheduledNanos;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.load;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.net.HostAndPort;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * The load to generate.
+ *
+ * <p>The workload is configured with command-line options in the {@code --name=value} form:
+ * <ul>
+ *     <li>{@code --server=host:port} — the address of a running {@code KanbanServer};
+ *         if omitted, the load is applied to an in-process Kanban context;
+ *     <li>{@code --rate} — the number of commands issued per second, 100 by default,
+ *         at most 1 000 000;
+ *     <li>{@code --duration} — the duration of the run in seconds, 60 by default;
+ *     <li>{@code --threads} — the number of threads posting commands, 1 by default;
+ *     <li>{@code --boards} — the number of boards created before the run, 10 by default;
+ *     <li>{@code --skew} — the exponent of the Zipf distribution used for picking a board;
+ *         0 stands for the uniform distribution, 1.0 by default;
+ *     <li>{@code --cards-per-column} — the number of cards put to each column of every board
+ *         before the run, 5 by default;
+ *     <li>{@code --mix} — weights of the {@linkplain Operation operations}, e.g.
+ *         {@code move-card:70,create-card:15,add-column:10,create-board:5}, which is the default.
+ * </ul>
+ *
+ * <p>The load is open-loop: commands are issued at the given rate regardless of how fast
+ * the previous ones complete.
+ */
+final class Workload {
+
+    /**
+     * The highest rate, at which a command is issued every microsecond.
+     */
+    private static final int MAX_RATE = 1_000_000;
+
+    private static final String DEFAULT_MIX =
+            "move-card:70,create-card:15,add-column:10,create-board:5";
+
+    private final @Nullable HostAndPort server;
+    private final int rate;
+    private final Duration duration;
+    private final int threads;
+    private final int boards;
+    private final double skew;
+    private final int cardsPerColumn;
+    private final ImmutableMap<Operation, Integer> mix;
+    private final int totalWeight;
+
+    private Workload(Map<String, String> options) {
+        String address = options.remove("server");
+        this.server = address == null ? null : HostAndPort.fromString(address);
+        this.rate = positive(options, "rate", 100);
+        checkArgument(rate <= MAX_RATE, "The rate cannot exceed %s commands per second.",
+                      MAX_RATE);
+        this.duration = Duration.ofSeconds(positive(options, "duration", 60));
+        this.threads = positive(options, "threads", 1);
+        this.boards = positive(options, "boards", 10);
+        this.skew = Double.parseDouble(take(options, "skew", "1.0"));
+        checkArgument(skew >= 0, "The skew cannot be negative.");
+        this.cardsPerColumn = Integer.parseInt(take(options, "cards-per-column", "5"));
+        checkArgument(cardsPerColumn >= 0, "The number of cards cannot be negative.");
+        this.mix = parseMix(take(options, "mix", DEFAULT_MIX));
+        this.totalWeight = mix.values()
+                              .stream()
+                              .mapToInt(Integer::intValue)
+                              .sum();
+        checkArgument(totalWeight > 0, "The operation mix cannot be empty.");
+        checkArgument(options.isEmpty(), "Unknown options: %s.", options.keySet());
+    }
+
+    /**
+     * Parses the workload from the command-line arguments.
+     */
+    static Workload parse(String... args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw newIllegalArgumentException(
+                        "Expected an option in the `--name=value` form, got `%s`.", arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new Workload(options);
+    }
+
+    private static String take(Map<String, String> options, String name, String defaultValue) {
+        String value = options.remove(name);
+        return value == null ? defaultValue : value;
+    }
+
+    private static int positive(Map<String, String> options, String name, int defaultValue) {
+        int result = Integer.parseInt(take(options, name, String.valueOf(defaultValue)));
+        checkArgument(result > 0, "The `%s` option should be positive.", name);
+        return result;
+    }
+
+    private static ImmutableMap<Operation, Integer> parseMix(String value) {
+        Map<String, String> weights = Splitter.on(',')
+                                              .trimResults()
+                                              .omitEmptyStrings()
+                                              .withKeyValueSeparator(':')
+                                              .split(value);
+        ImmutableMap.Builder<Operation, Integer> result = ImmutableMap.builder();
+        weights.forEach((label, weight) -> {
+            int parsed = Integer.parseInt(weight);
+            checkArgument(parsed >= 0, "The weight of `%s` cannot be negative.", label);
+            result.put(Operation.ofLabel(label), parsed);
+        });
+        return result.build();
+    }
+
+    /**
+     * Picks the next operation according to the mix.
+     */
+    Operation nextOperation(Random random) {
+        int point = random.nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            point -= entry.getValue();
+            if (point < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("The operation mix is inconsistent.");
+    }
+
+    /**
+     * Returns the address of the server to load, or empty if the load is applied in process.
+     */
+    Optional<HostAndPort> server() {
+        return Optional.ofNullable(server);
+    }
+
+    int rate() {
+        return rate;
+    }
+
+    Duration duration() {
+        return duration;
+    }
+
+    int threads() {
+        return threads;
+    }
+
+    int boards() {
+        return boards;
+    }
+
+    double skew() {
+        return skew;
+    }
+
+    int cardsPerColumn() {
+        return cardsPerColumn;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "target: %s, rate: %d/s, duration: %ds, threads: %d, boards: %d, skew: %.2f, " +
+                        "cards per column: %d, mix: %s",
+                server == null ? "in-process" : server, rate, duration.getSeconds(), threads,
+                boards, skew, cardsPerColumn, mix);
+    }
+}
@@ -38,6 +38,11 @@ object Spine {
         const val lib = "io.spine:spine-server:${version}";
     }
 
+    // https://github.com/SpineEventEngine/core-java/tree/master/testutil-server
+    object Testing {
+        const val lib = "io.spine.tools:spine-testutil-server:${version}";
+    }
+
     // https://github.com/SpineEventEngine/bootstraps
     object GradlePlugin {
         const val id = "io.spine.tools.gradle.bootstrap";
@@ -37,7 +37,12 @@ plugins {
 
 spine {
     assembleModel()
-    enableJava()
+    enableJava {
+        codegen {
+            // The stubs of the `EventStreamService`.
+            grpc = true
+        }
+    }
 }
 
 dependencies {
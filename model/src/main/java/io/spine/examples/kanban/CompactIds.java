@@ -0,0 +1,144 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban;
+
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * Converts identifiers between the string and the {@linkplain Uuid128 binary} forms.
+ *
+ * <p>Only UUIDs in the canonical lower-case form, such as produced by
+ * {@link BoardId#generate()}, are accepted. This guarantees that converting an identifier to
+ * the binary form and back gives an equal identifier.
+ */
+public final class CompactIds {
+
+    private static final int CANONICAL_LENGTH = 36;
+
+    /**
+     * Prevents utility class instantiation.
+     */
+    private CompactIds() {
+    }
+
+    /**
+     * Parses the UUID in the canonical lower-case form.
+     *
+     * @throws IllegalArgumentException
+     *         if the value is not a UUID in the canonical lower-case form
+     */
+    public static Uuid128 parse(String uuid) {
+        if (uuid.length() != CANONICAL_LENGTH) {
+            throw notCanonical(uuid);
+        }
+        long most = hex(uuid, 0, 8);
+        most = (most << 16) | hex(uuid, 9, 13);
+        most = (most << 16) | hex(uuid, 14, 18);
+        long least = hex(uuid, 19, 23);
+        least = (least << 48) | hex(uuid, 24, 36);
+        if (uuid.charAt(8) != '-' || uuid.charAt(13) != '-'
+                || uuid.charAt(18) != '-' || uuid.charAt(23) != '-') {
+            throw notCanonical(uuid);
+        }
+        return Uuid128
+                .newBuilder()
+                .setMostSignificantBits(most)
+                .setLeastSignificantBits(least)
+                .build();
+    }
+
+    /**
+     * Tells if the value is a UUID in the canonical lower-case form.
+     */
+    public static boolean isCanonical(String uuid) {
+        if (uuid.length() != CANONICAL_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < CANONICAL_LENGTH; i++) {
+            char c = uuid.charAt(i);
+            boolean valid = (i == 8 || i == 13 || i == 18 || i == 23)
+                            ? c == '-'
+                            : (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f');
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long hex(String value, int from, int to) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            int digit;
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if (c >= 'a' && c <= 'f') {
+                digit = c - 'a' + 10;
+            } else {
+                throw notCanonical(value);
+            }
+            result = (result << 4) | digit;
+        }
+        return result;
+    }
+
+    private static IllegalArgumentException notCanonical(String value) {
+        return newIllegalArgumentException(
+                "`%s` is not a UUID in the canonical lower-case form.", value);
+    }
+
+    /**
+     * Converts the binary form to a board ID.
+     */
+    public static BoardId toBoardId(Uuid128 id) {
+        return BoardId
+                .newBuilder()
+                .setUuid(id.toCanonicalString())
+                .build();
+    }
+
+    /**
+     * Converts the binary form to a column ID.
+     */
+    public static ColumnId toColumnId(Uuid128 id) {
+        return ColumnId
+                .newBuilder()
+                .setUuid(id.toCanonicalString())
+                .build();
+    }
+
+    /**
+     * Converts the binary form to a card ID.
+     */
+    public static CardId toCardId(Uuid128 id) {
+        return CardId
+                .newBuilder()
+                .setUuid(id.toCanonicalString())
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban;
+
+import com.google.errorprone.annotations.Immutable;
+import io.spine.annotation.GeneratedMixin;
+import io.spine.base.SerializableMessage;
+
+import java.util.UUID;
+
+/**
+ * Defines custom operations for the {@link Uuid128}.
+ */
+@Immutable
+@GeneratedMixin
+public interface Uuid128Mixin extends SerializableMessage {
+
+    /**
+     * The most significant 64 bits of the UUID.
+     */
+    long getMostSignificantBits();
+
+    /**
+     * The least significant 64 bits of the UUID.
+     */
+    long getLeastSignificantBits();
+
+    /**
+     * Converts to the Java {@code UUID}.
+     */
+    default UUID toUuid() {
+        return new UUID(getMostSignificantBits(), getLeastSignificantBits());
+    }
+
+    /**
+     * Converts to the canonical string form used by the identifiers.
+     */
+    default String toCanonicalString() {
+        return toUuid().toString();
+    }
+
+    /**
+     * Obtains a hash code which is the same in every JVM.
+     *
+     * <p>Unlike {@link #hashCode()}, which mixes in the identity of the message descriptor,
+     * this hash may be used to spread entities over the nodes of a cluster.
+     */
+    default int stableHash() {
+        return Long.hashCode(getMostSignificantBits() ^ getLeastSignificantBits());
+    }
+}
@@ -24,6 +24,8 @@
  * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
 
+import io.spine.examples.kanban.dependency.HdrHistogram
+
 /*
  * Add the Gradle plugin for bootstrapping projects built with Spine.
  * See: https://github.com/SpineEventEngine/bootstrap
@@ -43,4 +45,45 @@ spine {
 
 dependencies {
     implementation(project(":model"))
+    implementation(HdrHistogram.lib)
+}
+
+/*
+ * Imports cards from a file into a running Kanban server.
+ *
+ * Usage: `./gradlew :server:importCards --args="cards.jsonl --server localhost:50051"`.
+ */
+tasks.register<JavaExec>("importCards") {
+    group = "application"
+    description = "Imports cards from a JSON Lines or CSV file."
+    mainClass.set("io.spine.examples.kanban.server.migration.CardImport")
+    classpath = sourceSets["main"].runtimeClasspath
+}
+
+/*
+ * Exports a board from a running Kanban server to a file, or restores it from the file.
+ *
+ * Usage: `./gradlew :server:transferBoard --args="export <board-uuid> board.dump"`,
+ * `./gradlew :server:transferBoard --args="import board.dump --clone"`.
+ */
+tasks.register<JavaExec>("transferBoard") {
+    group = "application"
+    description = "Exports a board to a dump file or restores it from the file."
+    mainClass.set("io.spine.examples.kanban.server.migration.BoardTransfer")
+    classpath = sourceSets["main"].runtimeClasspath
+}
+
+/*
+ * Runs a read-only replica following the event log of a Kanban server.
+ *
+ * Usage: `./gradlew :server:runReplica -Dkanban.replica.log=events.log`.
+ */
+tasks.register<JavaExec>("runReplica") {
+    group = "application"
+    description = "Runs a read-only replica serving queries from the event log of a server."
+    mainClass.set("io.spine.examples.kanban.server.replica.KanbanReplica")
+    classpath = sourceSets["main"].runtimeClasspath
+    systemProperties(System.getProperties()
+                         .filterKeys { it.toString().startsWith("kanban.") }
+                         .mapKeys { it.key.toString() })
 }
@@ -32,8 +32,16 @@ import io.spine.examples.kanban.server.card.CardRepository;
 import io.spine.examples.kanban.server.column.ColumnAdditionRepository;
 import io.spine.examples.kanban.server.column.ColumnRepository;
 import io.spine.examples.kanban.server.column.MoveCardRepository;
-import io.spine.examples.kanban.server.view.BoardProjection;
-import io.spine.server.BoundedContext;
+import io.spine.examples.kanban.server.dedup.CommandDeduplicator;
+import io.spine.examples.kanban.server.history.History;
+import io.spine.examples.kanban.server.lane.Lanes;
+import io.spine.examples.kanban.server.monitor.Monitoring;
+import io.spine.examples.kanban.server.quota.AdmissionControl;
+import io.spine.examples.kanban.server.search.Search;
+import io.spine.examples.kanban.server.stream.EventStreams;
+import io.spine.examples.kanban.server.tenant.Tenancy;
+import io.spine.examples.kanban.server.view.ArchivedCardProjection;
+import io.spine.examples.kanban.server.view.BoardViewRepository;
 import io.spine.server.BoundedContextBuilder;
 import io.spine.server.DefaultRepository;
 
@@ -53,16 +61,53 @@ public final class KanbanContext {
     /**
      * Creates {@code BoundedContextBuilder} for the Kanban context and fills it with
      * repositories.
+     *
+     * <p>The context is {@linkplain Tenancy#isMultitenant() multi-tenant} if configured so.
+     * It is {@linkplain Monitoring monitored}, its cards are {@linkplain Search indexed} for
+     * search, and its events are kept in the {@linkplain History history} if enabled, to be
+     * {@linkplain EventStreams streamed} to the downstream consumers.
+     * The commands retried by clients are {@linkplain CommandDeduplicator deduplicated}, and
+     * those over the load limits are shed by the {@linkplain AdmissionControl admission
+     * control} if enabled. If the {@linkplain Lanes lanes} are enabled, the context tells them
+     * the boards of its columns and cards.
      */
     public static BoundedContextBuilder newBuilder() {
-        return BoundedContext
-                .singleTenant(NAME)
+        return newBuilder(Tenancy.isMultitenant());
+    }
+
+    /**
+     * Creates {@code BoundedContextBuilder} for the Kanban context of the given tenancy.
+     *
+     * <p>A multi-tenant context keeps the data of each tenant separately and limits
+     * the commands of each tenant by the {@linkplain Tenancy#quotas() quotas}. Its cards are
+     * not indexed for search, as the index is shared by all the tenants.
+     */
+    public static BoundedContextBuilder newBuilder(boolean multitenant) {
+        ColumnRepository columns = new ColumnRepository();
+        CardRepository cards = new CardRepository();
+        BoundedContextBuilder builder = Tenancy
+                .newContext(NAME, multitenant)
                 .add(new BoardRepository())
                 .add(new BoardInitRepository())
-                .add(DefaultRepository.of(BoardProjection.class))
-                .add(new ColumnRepository())
+                .add(new BoardViewRepository())
+                .add(DefaultRepository.of(ArchivedCardProjection.class))
+                .add(columns)
                 .add(new ColumnAdditionRepository())
-                .add(new CardRepository())
+                .add(cards)
                 .add(new MoveCardRepository());
+        // The limits go first, so that a refused command is not remembered as acknowledged.
+        Tenancy.attachTo(builder);
+        AdmissionControl.fromSystemProperties()
+                        .ifPresent(admission -> admission.attachTo(builder, columns, cards));
+        CommandDeduplicator.fromSystemProperties()
+                           .attachTo(builder);
+        Monitoring.attachTo(builder);
+        if (!multitenant) {
+            Search.attachTo(builder);
+        }
+        History.attachTo(builder);
+        EventStreams.attachTo(builder);
+        Lanes.attachTo(builder, columns, cards);
+        return builder;
     }
 }
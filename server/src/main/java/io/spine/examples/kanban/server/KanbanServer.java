@@ -27,6 +27,12 @@
 package io.spine.examples.kanban.server;
 
 import io.spine.base.Production;
+import io.spine.client.Client;
+import io.spine.examples.kanban.server.archive.ArchivalPolicy;
+import io.spine.examples.kanban.server.archive.Archiver;
+import io.spine.examples.kanban.server.lane.Lanes;
+import io.spine.examples.kanban.server.stream.EventStreams;
+import io.spine.examples.kanban.server.tenant.Tenancy;
 import io.spine.server.BoundedContextBuilder;
 import io.spine.server.Server;
 import io.spine.server.ServerEnvironment;
@@ -34,6 +40,7 @@ import io.spine.server.storage.memory.InMemoryStorageFactory;
 import io.spine.server.transport.memory.InMemoryTransportFactory;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import static io.spine.client.ConnectionConstants.DEFAULT_CLIENT_SERVICE_PORT;
 
@@ -53,8 +60,11 @@ public final class KanbanServer {
      * {@linkplain io.spine.client.ConnectionConstants#DEFAULT_CLIENT_SERVICE_PORT default} port.
      */
     static Server create() {
+        return create(KanbanContext.newBuilder());
+    }
+
+    private static Server create(BoundedContextBuilder context) {
         configureEnvironment();
-        BoundedContextBuilder context = KanbanContext.newBuilder();
         return Server
                 .atPort(DEFAULT_CLIENT_SERVICE_PORT)
                 .add(context)
@@ -66,14 +76,39 @@ public final class KanbanServer {
                 .when(Production.class)
                 .use(InMemoryStorageFactory.newInstance())
                 .use(InMemoryTransportFactory.newInstance());
+        Lanes.configure();
     }
 
     /**
      * The entry point of the server application.
+     *
+     * <p>If the {@linkplain ArchivalPolicy archival policy} is configured, the server also
+     * runs the {@link Archiver}. The archiver posts its commands as a single-tenant client,
+     * so it is not run by a {@linkplain Tenancy#isMultitenant() multi-tenant} server.
+     *
+     * <p>If the events are kept in the history, the server also serves
+     * the {@linkplain EventStreams stream} of the events.
      */
     public static void main(String[] args) throws IOException {
-        Server server = create();
+        BoundedContextBuilder context = KanbanContext.newBuilder();
+        Optional<ArchivalPolicy> archival = Tenancy.isMultitenant()
+                                            ? Optional.empty()
+                                            : ArchivalPolicy.fromSystemProperties();
+        archival.ifPresent(context::addEventDispatcher);
+        Server server = create(context);
         server.start();
+        EventStreams.start();
+        archival.ifPresent(KanbanServer::startArchiver);
         server.awaitTermination();
     }
+
+    private static void startArchiver(ArchivalPolicy policy) {
+        Client client = Client
+                .connectTo("localhost", DEFAULT_CLIENT_SERVICE_PORT)
+                .build();
+        Archiver archiver =
+                Archiver.start(policy, client, Archiver.periodFromSystemProperties());
+        Runtime.getRuntime()
+               .addShutdownHook(new Thread(archiver::close, "kanban-archiver-shutdown"));
+    }
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.archive;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.Timestamp;
+import io.spine.core.EventContext;
+import io.spine.core.Subscribe;
+import io.spine.examples.kanban.CardId;
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.command.ArchiveCard;
+import io.spine.examples.kanban.event.CardAddedToColumn;
+import io.spine.examples.kanban.event.CardArchived;
+import io.spine.examples.kanban.event.CardRemovedFromColumn;
+import io.spine.examples.kanban.event.ColumnCreated;
+import io.spine.server.event.AbstractEventSubscriber;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Decides which cards are old enough to be archived.
+ *
+ * <p>A card becomes due for archival when it stays in one of the archiving columns,
+ * e.g. "Done", longer than the configured age. The policy only selects the cards;
+ * the {@link Archiver} sends the {@link ArchiveCard} commands for them.
+ *
+ * <p>The policy is configured with the {@value #ARCHIVE_AFTER} system property, which holds
+ * an ISO-8601 duration such as {@code P14D}. The {@value #ARCHIVE_COLUMNS} system property
+ * lists the names of the archiving columns separated by commas, "Done" by default.
+ *
+ * <p>The policy keeps only the cards placed to the archiving columns, so its memory footprint
+ * is proportional to the number of the finished cards awaiting archival.
+ */
+public final class ArchivalPolicy extends AbstractEventSubscriber {
+
+    /**
+     * The system property with the age after which a card is archived.
+     */
+    public static final String ARCHIVE_AFTER = "kanban.archive.after";
+
+    /**
+     * The system property with the names of the columns from which the cards are archived.
+     */
+    public static final String ARCHIVE_COLUMNS = "kanban.archive.columns";
+
+    private static final String DEFAULT_COLUMNS = "Done";
+
+    private final Duration age;
+    private final ImmutableSet<String> columnNames;
+    private final Set<ColumnId> columns = ConcurrentHashMap.newKeySet();
+    private final Map<CardId, Placement> placements = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new policy.
+     *
+     * @param age
+     *         the time a card should stay in an archiving column to become due for archival
+     * @param columnNames
+     *         the names of the archiving columns
+     */
+    public ArchivalPolicy(Duration age, ImmutableSet<String> columnNames) {
+        super();
+        checkNotNull(age);
+        checkNotNull(columnNames);
+        checkArgument(!age.isNegative(), "The archival age cannot be negative: `%s`.", age);
+        this.age = age;
+        this.columnNames = columnNames;
+    }
+
+    /**
+     * Creates the policy configured by the system properties.
+     *
+     * @return the configured policy or empty {@code Optional} if archival is not configured
+     */
+    public static Optional<ArchivalPolicy> fromSystemProperties() {
+        String after = System.getProperty(ARCHIVE_AFTER);
+        if (after == null) {
+            return Optional.empty();
+        }
+        ImmutableSet<String> names = ImmutableSet.copyOf(
+                Splitter.on(',')
+                        .trimResults()
+                        .omitEmptyStrings()
+                        .split(System.getProperty(ARCHIVE_COLUMNS, DEFAULT_COLUMNS))
+        );
+        return Optional.of(new ArchivalPolicy(Duration.parse(after), names));
+    }
+
+    @Subscribe
+    void on(ColumnCreated e) {
+        if (columnNames.contains(e.getName())) {
+            columns.add(e.getColumn());
+        }
+    }
+
+    @Subscribe
+    void on(CardAddedToColumn e, EventContext context) {
+        if (columns.contains(e.getColumn())) {
+            placements.put(e.getCard(), new Placement(e.getColumn(), context.getTimestamp()));
+        } else {
+            placements.remove(e.getCard());
+        }
+    }
+
+    @Subscribe
+    void on(CardRemovedFromColumn e) {
+        placements.computeIfPresent(
+                e.getCard(), (card, placement) -> placement.isIn(e.getColumn()) ? null : placement
+        );
+    }
+
+    @Subscribe
+    void on(CardArchived e) {
+        placements.remove(e.getCard());
+    }
+
+    /**
+     * Selects the cards due for archival at the given time.
+     *
+     * <p>The selected cards are no longer tracked by the policy, so each card is returned once.
+     *
+     * @return the commands archiving the selected cards
+     */
+    public ImmutableList<ArchiveCard> due(Instant now) {
+        checkNotNull(now);
+        Instant threshold = now.minus(age);
+        ImmutableList.Builder<ArchiveCard> commands = ImmutableList.builder();
+        placements.forEach((card, placement) -> {
+            if (!placement.since.isAfter(threshold) && placements.remove(card, placement)) {
+                commands.add(ArchiveCard
+                                     .newBuilder()
+                                     .setColumn(placement.column)
+                                     .setCard(card)
+                                     .vBuild());
+            }
+        });
+        return commands.build();
+    }
+
+    /**
+     * The column in which a card resides and the time it was placed there.
+     */
+    private static final class Placement {
+
+        private final ColumnId column;
+        private final Instant since;
+
+        private Placement(ColumnId column, Timestamp since) {
+            this.column = column;
+            this.since = Instant.ofEpochSecond(since.getSeconds(), since.getNanos());
+        }
+
+        private boolean isIn(ColumnId column) {
+            return this.column.equals(column);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.archive;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.spine.client.Client;
+import io.spine.examples.kanban.command.ArchiveCard;
+import io.spine.logging.Logging;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Periodically archives the cards selected by an {@link ArchivalPolicy}.
+ *
+ * <p>The archiver is a regular client of the Kanban context, so the archival goes through
+ * the same command validation as the archival requested by a user.
+ */
+public final class Archiver implements Closeable, Logging {
+
+    /**
+     * The system property with the period of checking for the cards to archive.
+     *
+     * <p>Holds an ISO-8601 duration, {@code PT1M} by default.
+     */
+    public static final String SWEEP_PERIOD = "kanban.archive.sweepPeriod";
+
+    private static final String DEFAULT_PERIOD = "PT1M";
+
+    private final ArchivalPolicy policy;
+    private final Client client;
+    private final ScheduledExecutorService executor;
+
+    private Archiver(ArchivalPolicy policy, Client client) {
+        this.policy = policy;
+        this.client = client;
+        this.executor = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder()
+                        .setNameFormat("kanban-archiver")
+                        .setDaemon(true)
+                        .build()
+        );
+    }
+
+    /**
+     * Starts archiving the cards due by the policy.
+     *
+     * @param policy
+     *         the policy selecting the cards to archive
+     * @param client
+     *         the client of the context to post the commands to
+     * @param period
+     *         the period of checking for the cards to archive
+     */
+    public static Archiver start(ArchivalPolicy policy, Client client, Duration period) {
+        checkNotNull(policy);
+        checkNotNull(client);
+        checkNotNull(period);
+        checkArgument(!period.isNegative() && !period.isZero(),
+                      "The archival period must be positive: `%s`.", period);
+        Archiver archiver = new Archiver(policy, client);
+        archiver.executor.scheduleWithFixedDelay(
+                archiver::sweep, period.toMillis(), period.toMillis(), MILLISECONDS
+        );
+        return archiver;
+    }
+
+    /**
+     * Obtains the period configured by the {@value #SWEEP_PERIOD} system property.
+     */
+    public static Duration periodFromSystemProperties() {
+        return Duration.parse(System.getProperty(SWEEP_PERIOD, DEFAULT_PERIOD));
+    }
+
+    private void sweep() {
+        try {
+            for (ArchiveCard command : policy.due(Instant.now())) {
+                client.asGuest()
+                      .command(command)
+                      .post();
+            }
+        } catch (RuntimeException e) {
+            // Do not let a failure cancel the further sweeps.
+            _error().withCause(e)
+                    .log("Unable to archive the cards.");
+        }
+    }
+
+    /**
+     * Stops archiving and closes the client.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        client.close();
+    }
+}
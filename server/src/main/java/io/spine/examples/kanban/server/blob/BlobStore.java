@@ -0,0 +1,331 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.blob;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.spine.examples.kanban.BlobRef;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * A content-addressed store of blobs on the local disk.
+ *
+ * <p>A blob is stored in a file named after the SHA-256 hash of its content. Storing the same
+ * content twice results in the same {@link BlobRef} and a single file. Since a stored file
+ * never changes, blobs can be read without locking.
+ *
+ * <p>The files are written to a temporary file first and then moved to their place, so
+ * a reader never sees a partially written blob.
+ *
+ * <p>Large blobs are {@linkplain #put(ReadableByteChannel, long) stored} and
+ * {@linkplain #transferTo(BlobRef, WritableByteChannel) served} through {@link FileChannel}
+ * transfers, so they never reside in the heap as a whole.
+ */
+public final class BlobStore {
+
+    /**
+     * The system property with the directory of the {@linkplain #shared() shared} store.
+     *
+     * <p>If not set, the store resides in the {@code kanban-blobs} directory under
+     * the {@code java.io.tmpdir}.
+     */
+    public static final String BLOB_DIR = "kanban.blob.dir";
+
+    private static final Pattern SHA256 = Pattern.compile("[0-9a-f]{64}");
+    private static final Pattern NAMESPACE = Pattern.compile("[a-z]{3,}");
+
+    /**
+     * The maximum number of bytes transferred to a file in one call.
+     */
+    private static final long TRANSFER_CHUNK = 1 << 20;
+
+    /**
+     * The maximum number of bytes of a file mapped to memory at once for hashing.
+     */
+    private static final long MAP_CHUNK = 64 << 20;
+
+    private final Path root;
+
+    private BlobStore(Path root) {
+        this.root = root;
+    }
+
+    /**
+     * Creates a store in the given directory.
+     *
+     * <p>The directory is created if it does not exist.
+     */
+    public static BlobStore at(Path root) {
+        checkNotNull(root);
+        try {
+            Files.createDirectories(root);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new BlobStore(root);
+    }
+
+    /**
+     * Returns the store shared by all the Kanban contexts in this JVM.
+     */
+    public static BlobStore shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * Obtains the store of the blobs of one kind kept apart from the other blobs of this
+     * store.
+     *
+     * <p>A blob put to the namespace is not found in this store or in other namespaces,
+     * and vice versa, so the endpoints serving one kind of blobs never serve another one.
+     * The namespace resides in a subdirectory of this store.
+     *
+     * @param name
+     *         the name of the namespace of at least three lowercase letters
+     */
+    public BlobStore namespace(String name) {
+        checkNotNull(name);
+        checkArgument(NAMESPACE.matcher(name).matches(), "Invalid blob namespace: `%s`.", name);
+        return at(root.resolve(name));
+    }
+
+    /**
+     * Stores the given content.
+     *
+     * @return the reference to the stored content
+     */
+    public BlobRef put(byte[] content) {
+        checkNotNull(content);
+        HashCode hash = Hashing.sha256()
+                               .hashBytes(content);
+        BlobRef ref = BlobRef
+                .newBuilder()
+                .setSha256(hash.toString())
+                .setSize(content.length)
+                .vBuild();
+        Path file = pathOf(ref);
+        if (!Files.exists(file)) {
+            try {
+                Path temp = Files.createTempFile(root, "upload-", ".tmp");
+                Files.write(temp, content);
+                publish(temp, file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return ref;
+    }
+
+    /**
+     * Reads the content of the referenced blob.
+     *
+     * @return the content or empty {@code Optional} if the blob is not stored
+     */
+    public Optional<byte[]> get(BlobRef ref) {
+        checkNotNull(ref);
+        try {
+            return Optional.of(Files.readAllBytes(pathOf(ref)));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Stores the content read from the channel until its end.
+     *
+     * <p>The content is transferred to a file directly from the channel. The stored file is
+     * hashed through a memory mapping, so the heap use does not depend on the content size.
+     *
+     * @param content
+     *         the channel to read the content from
+     * @param maxSize
+     *         the maximum size of the content in bytes
+     * @return the reference to the stored content or empty {@code Optional} if the content
+     *         is larger than {@code maxSize}
+     */
+    public Optional<BlobRef> put(ReadableByteChannel content, long maxSize) throws IOException {
+        checkNotNull(content);
+        checkArgument(maxSize >= 0, "The maximum size cannot be negative: %s.", maxSize);
+        Path temp = Files.createTempFile(root, "upload-", ".tmp");
+        try {
+            BlobRef ref;
+            try (FileChannel file = FileChannel.open(temp, READ, WRITE)) {
+                long size = transferFrom(content, file, maxSize + 1);
+                if (size > maxSize) {
+                    return Optional.empty();
+                }
+                ref = BlobRef
+                        .newBuilder()
+                        .setSha256(hash(file, size).toString())
+                        .setSize(size)
+                        .vBuild();
+            }
+            Path file = pathOf(ref);
+            if (!Files.exists(file)) {
+                publish(temp, file);
+            }
+            return Optional.of(ref);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Obtains the size of the referenced blob.
+     *
+     * @return the size in bytes or empty {@code Optional} if the blob is not stored
+     */
+    public Optional<Long> sizeOf(BlobRef ref) throws IOException {
+        checkNotNull(ref);
+        try {
+            return Optional.of(Files.size(pathOf(ref)));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the content of the referenced blob to the channel.
+     *
+     * <p>The content is transferred by {@link FileChannel#transferTo(long, long,
+     * WritableByteChannel) FileChannel}, which lets the OS copy the data directly if
+     * the target supports it.
+     *
+     * @return {@code true} if the blob was written, {@code false} if the blob is not stored
+     */
+    public boolean transferTo(BlobRef ref, WritableByteChannel target) throws IOException {
+        checkNotNull(ref);
+        checkNotNull(target);
+        FileChannel file;
+        try {
+            file = FileChannel.open(pathOf(ref), READ);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+        try (FileChannel source = file) {
+            long size = source.size();
+            long position = 0;
+            while (position < size) {
+                position += source.transferTo(position, size - position, target);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Transfers the content of the channel to the file, but not more than the limit.
+     *
+     * @return the number of the transferred bytes
+     */
+    private static long transferFrom(ReadableByteChannel content, FileChannel file, long limit)
+            throws IOException {
+        long size = 0;
+        while (size < limit) {
+            long transferred = file.transferFrom(
+                    content, size, Math.min(TRANSFER_CHUNK, limit - size)
+            );
+            if (transferred == 0) {
+                break;
+            }
+            size += transferred;
+        }
+        return size;
+    }
+
+    /**
+     * Calculates the SHA-256 hash of the file, mapping it to memory piece by piece.
+     */
+    private static HashCode hash(FileChannel file, long size) throws IOException {
+        Hasher hasher = Hashing.sha256()
+                               .newHasher();
+        for (long position = 0; position < size; position += MAP_CHUNK) {
+            hasher.putBytes(file.map(READ_ONLY, position, Math.min(MAP_CHUNK, size - position)));
+        }
+        return hasher.hash();
+    }
+
+    /**
+     * Moves a fully written temporary file to the place of the blob.
+     *
+     * <p>If a concurrent writer has already stored the same content, the temporary file
+     * replaces it with the identical content.
+     */
+    private static void publish(Path temp, Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.move(temp, file, ATOMIC_MOVE);
+    }
+
+    /**
+     * Obtains the path of the blob file.
+     *
+     * <p>The files are spread over subdirectories named after the first two characters of
+     * the hash to keep the directories small.
+     */
+    private Path pathOf(BlobRef ref) {
+        String hash = ref.getSha256();
+        checkArgument(SHA256.matcher(hash).matches(), "Invalid blob hash: `%s`.", hash);
+        return root.resolve(hash.substring(0, 2))
+                   .resolve(hash);
+    }
+
+    /**
+     * Holds the shared store, which is created on first use.
+     */
+    private static final class Shared {
+
+        private static final BlobStore INSTANCE = at(directory());
+
+        private static Path directory() {
+            String dir = System.getProperty(BLOB_DIR);
+            if (dir != null) {
+                return Paths.get(dir);
+            }
+            return Paths.get(System.getProperty("java.io.tmpdir"), "kanban-blobs");
+        }
+    }
+}
@@ -36,12 +36,15 @@ import io.spine.examples.kanban.command.AddColumn;
 import io.spine.examples.kanban.command.CreateBoard;
 import io.spine.examples.kanban.command.MoveColumn;
 import io.spine.examples.kanban.command.PlaceColumn;
+import io.spine.examples.kanban.command.RestoreBoard;
 import io.spine.examples.kanban.event.BoardCreated;
+import io.spine.examples.kanban.event.BoardRestored;
 import io.spine.examples.kanban.event.CardCreated;
 import io.spine.examples.kanban.event.CardWaitingPlacement;
 import io.spine.examples.kanban.event.ColumnAdditionRequested;
 import io.spine.examples.kanban.event.ColumnMovedOnBoard;
 import io.spine.examples.kanban.event.ColumnPlaced;
+import io.spine.examples.kanban.rejection.BoardAlreadyExists;
 import io.spine.examples.kanban.rejection.ColumnCannotBeMoved;
 import io.spine.examples.kanban.rejection.ColumnNameAlreadyTaken;
 import io.spine.server.aggregate.Aggregate;
@@ -49,6 +52,9 @@ import io.spine.server.aggregate.Apply;
 import io.spine.server.command.Assign;
 import io.spine.server.event.React;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * An aggregate of a Kanban board.
  */
@@ -67,6 +73,41 @@ final class BoardAggregate extends Aggregate<BoardId, Board, Board.Builder> {
         builder().setId(e.getBoard());
     }
 
+    /**
+     * Restores the board from a dump.
+     *
+     * <p>The board is not initialized with the default columns, as its columns are
+     * restored along with it.
+     *
+     * @throws BoardAlreadyExists
+     *         if the board was already created or restored, so that a dump is never
+     *         restored over a live board
+     */
+    @Assign
+    BoardRestored handle(RestoreBoard c) throws BoardAlreadyExists {
+        if (state().hasId()) {
+            throw BoardAlreadyExists
+                    .newBuilder()
+                    .setBoard(id())
+                    .build();
+        }
+        Board state = c.getState()
+                       .toBuilder()
+                       .setId(c.getBoard())
+                       .build();
+        return BoardRestored
+                .newBuilder()
+                .setBoard(c.getBoard())
+                .setState(state)
+                .vBuild();
+    }
+
+    @Apply
+    private void apply(BoardRestored e) {
+        builder().clear()
+                 .mergeFrom(e.getState());
+    }
+
     @Assign
     ColumnAdditionRequested handle(AddColumn c) throws ColumnNameAlreadyTaken {
         if (columnNameIsTaken(c.getName())) {
@@ -180,9 +221,74 @@ final class BoardAggregate extends Aggregate<BoardId, Board, Board.Builder> {
         }
     }
 
+    /**
+     * Moves a column on the board.
+     *
+     * <p>If the {@linkplain MoveColumn#getNeighbour() neighbour} of the column is set,
+     * the move is {@linkplain #rebase(MoveColumn) rebased} onto the current order of
+     * the columns. Otherwise, the move is rejected unless its positions match the current order.
+     *
+     * <p>A rebased move which is already satisfied, e.g. because a concurrent move placed
+     * the column next to its neighbour, is accepted. It does not change the order, and
+     * the column stays in place.
+     *
+     * @throws ColumnCannotBeMoved
+     *         if the positions of the move are stale, or the column is not on the board
+     */
     @Assign
     Iterable<ColumnMovedOnBoard> handle(MoveColumn c) throws ColumnCannotBeMoved {
-        return new MoveColumnHandler(c).handle();
+        if (!c.hasNeighbour()) {
+            return new MoveColumnHandler(c).handle();
+        }
+        MoveColumn rebased = rebase(c);
+        if (rebased.getFrom().equals(rebased.getTo())) {
+            return ImmutableList.of(moveColumn(rebased.getFrom(), rebased.getTo()));
+        }
+        return new MoveColumnHandler(rebased).handle();
+    }
+
+    private static ColumnCannotBeMoved cannotBeMoved(MoveColumn c) {
+        return ColumnCannotBeMoved
+                .newBuilder()
+                .setColumn(c.getColumn())
+                .setFrom(c.getFrom())
+                .setTo(c.getTo())
+                .build();
+    }
+
+    /**
+     * Replaces the positions of the move with the ones matching the current order of
+     * the columns and the intended neighbour of the column.
+     *
+     * <p>If the column is already next to its neighbour, or the neighbour is not on the board
+     * any more, the column stays in place, and the positions are the same.
+     *
+     * @throws ColumnCannotBeMoved
+     *         if the column is not on the board, or is its own neighbour
+     */
+    private MoveColumn rebase(MoveColumn c) throws ColumnCannotBeMoved {
+        List<ColumnId> columns = new ArrayList<>(state().getColumnList());
+        int from = columns.indexOf(c.getColumn());
+        MoveColumn.Neighbour neighbour = c.getNeighbour();
+        if (from == -1
+                || neighbour.getAfter().equals(c.getColumn())
+                || neighbour.getBefore().equals(c.getColumn())) {
+            throw cannotBeMoved(c);
+        }
+        columns.remove(from);
+        int total = state().getColumnCount();
+        int to = from;
+        int after = columns.indexOf(neighbour.getAfter());
+        int before = columns.indexOf(neighbour.getBefore());
+        if (after != -1) {
+            to = after + 1;
+        } else if (before != -1) {
+            to = before;
+        }
+        return c.toBuilder()
+                .setFrom(ColumnPositions.of(from + 1, total))
+                .setTo(ColumnPositions.of(to + 1, total))
+                .build();
     }
 
     /**
@@ -26,15 +26,52 @@
 
 package io.spine.examples.kanban.server.board;
 
+import com.google.common.annotations.VisibleForTesting;
 import io.spine.examples.kanban.ColumnPosition;
 
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
 import static com.google.common.base.Preconditions.checkArgument;
 
 /**
  * Provides utility methods for {@link ColumnPosition}.
+ *
+ * <p>Positions on boards up to the {@linkplain #maxInternedWidth() max interned width} are
+ * interned: each distinct position is built and validated once and then shared.
+ * The max width is set by the {@value #MAX_INTERNED_WIDTH} system property, 64 by default.
  */
 public final class ColumnPositions {
 
+    /**
+     * The system property with the widest board for which positions are interned.
+     */
+    public static final String MAX_INTERNED_WIDTH = "kanban.columnPositions.maxInternedWidth";
+
+    private static final int DEFAULT_MAX_INTERNED_WIDTH = 64;
+
+    /**
+     * Limits the size of the table, which grows quadratically with the width.
+     */
+    private static final int MAX_ALLOWED_WIDTH = 1024;
+
+    private static final int maxWidth = Integer.getInteger(MAX_INTERNED_WIDTH,
+                                                           DEFAULT_MAX_INTERNED_WIDTH);
+
+    /**
+     * Interned positions.
+     *
+     * <p>The positions on a board of {@code n} columns occupy {@code n} consecutive slots
+     * following the positions on the boards of {@code 1..n-1} columns.
+     */
+    private static final AtomicReferenceArray<ColumnPosition> interned;
+
+    static {
+        checkArgument(maxWidth >= 0 && maxWidth <= MAX_ALLOWED_WIDTH,
+                      "The `%s` property should be within [0, %s].",
+                      MAX_INTERNED_WIDTH, MAX_ALLOWED_WIDTH);
+        interned = new AtomicReferenceArray<>(maxWidth * (maxWidth + 1) / 2);
+    }
+
     /**
      * Prevents utility class instantiation.
      */
@@ -42,13 +79,42 @@ public final class ColumnPositions {
     }
 
     /**
-     * Creates a column position with the passed index and total number of columns.
+     * Obtains a column position with the passed index and total number of columns.
+     *
+     * <p>The returned instance may be shared with other callers.
      */
     public static ColumnPosition of(int index, int ofTotal) {
         checkArgument(
                 index <= ofTotal,
                 "The index should be less than or equal to the total number of columns."
         );
+        if (index < 1 || ofTotal > maxWidth) {
+            return create(index, ofTotal);
+        }
+        int slot = slot(index, ofTotal);
+        ColumnPosition position = interned.get(slot);
+        if (position == null) {
+            position = create(index, ofTotal);
+            if (!interned.compareAndSet(slot, null, position)) {
+                position = interned.get(slot);
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Returns the widest board for which positions are interned.
+     */
+    @VisibleForTesting
+    static int maxInternedWidth() {
+        return maxWidth;
+    }
+
+    private static int slot(int index, int ofTotal) {
+        return (ofTotal - 1) * ofTotal / 2 + index - 1;
+    }
+
+    private static ColumnPosition create(int index, int ofTotal) {
         return ColumnPosition
                 .newBuilder()
                 .setIndex(index)
@@ -28,11 +28,26 @@ package io.spine.examples.kanban.server.card;
 
 import io.spine.examples.kanban.Card;
 import io.spine.examples.kanban.CardId;
+import io.spine.examples.kanban.ImportedCard;
+import io.spine.examples.kanban.command.AttachFile;
 import io.spine.examples.kanban.command.CreateCard;
+import io.spine.examples.kanban.event.CardArchived;
 import io.spine.examples.kanban.event.CardCreated;
+import io.spine.examples.kanban.event.CardImported;
+import io.spine.examples.kanban.event.CardRestored;
+import io.spine.examples.kanban.event.CardsImported;
+import io.spine.examples.kanban.event.CardsRestored;
+import io.spine.examples.kanban.event.CardFrozen;
+import io.spine.examples.kanban.event.FileAttached;
+import io.spine.examples.kanban.rejection.CardAlreadyArchived;
 import io.spine.server.aggregate.Aggregate;
 import io.spine.server.aggregate.Apply;
 import io.spine.server.command.Assign;
+import io.spine.server.event.React;
+import io.spine.server.model.Nothing;
+import io.spine.server.tuple.EitherOf2;
+
+import static io.spine.util.Exceptions.newIllegalStateException;
 
 /**
  * A Card aggregate handles the logic of creation, picking/joining, and leaving the team
@@ -42,16 +57,22 @@ final class CardAggregate extends Aggregate<CardId, Card, Card.Builder> {
 
     /**
      * Handles the command to create a card.
+     *
+     * <p>A {@linkplain Descriptions#tooLong(String) long} description is stored out of line,
+     * and the event carries only its preview.
      */
     @Assign
     CardCreated handle(CreateCard c) {
-        return CardCreated
+        CardCreated.Builder event = CardCreated
                 .newBuilder()
                 .setCard(c.getCard())
                 .setBoard(c.getBoard())
-                .setName(c.getName())
-                .setDescription(c.getDescription())
-                .vBuild();
+                .setName(c.getName());
+        String description = c.getDescription();
+        event.setDescription(Descriptions.inline(description));
+        Descriptions.outOfLine(description)
+                    .ifPresent(event::setFullDescription);
+        return event.vBuild();
     }
 
     @Apply
@@ -59,5 +80,129 @@ final class CardAggregate extends Aggregate<CardId, Card, Card.Builder> {
         builder().setBoard(e.getBoard())
                  .setName(e.getName())
                  .setDescription(e.getDescription());
+        if (e.hasFullDescription()) {
+            builder().setFullDescription(e.getFullDescription());
+        }
+    }
+
+    /**
+     * Creates the card imported as a part of the batch.
+     *
+     * <p>A {@linkplain Descriptions#tooLong(String) long} description is stored out of line,
+     * as for a {@linkplain #handle(CreateCard) created} card.
+     *
+     * <p>A card which already exists is left as is.
+     */
+    @React
+    EitherOf2<CardImported, Nothing> on(CardsImported e) {
+        if (state().hasBoard()) {
+            return EitherOf2.withB(nothing());
+        }
+        ImportedCard card = e.getCardList()
+                             .stream()
+                             .filter(c -> c.getCard().equals(id()))
+                             .findFirst()
+                             .orElseThrow(() -> newIllegalStateException(
+                                     "The card `%s` is not in the imported batch.", id().getUuid()
+                             ));
+        CardImported.Builder event = CardImported
+                .newBuilder()
+                .setCard(card.getCard())
+                .setBoard(e.getBoard())
+                .setName(card.getName());
+        String description = card.getDescription();
+        event.setDescription(Descriptions.inline(description));
+        Descriptions.outOfLine(description)
+                    .ifPresent(event::setFullDescription);
+        return EitherOf2.withA(event.vBuild());
+    }
+
+    @Apply
+    private void event(CardImported e) {
+        builder().setBoard(e.getBoard())
+                 .setName(e.getName())
+                 .setDescription(e.getDescription());
+        if (e.hasFullDescription()) {
+            builder().setFullDescription(e.getFullDescription());
+        }
+    }
+
+    /**
+     * Restores the card as a part of the batch.
+     *
+     * <p>A card which already exists is left as is, so that a dump never overwrites
+     * a live card.
+     */
+    @React
+    EitherOf2<CardRestored, Nothing> on(CardsRestored e) {
+        if (state().hasBoard()) {
+            return EitherOf2.withB(nothing());
+        }
+        Card card = e.getCardList()
+                     .stream()
+                     .filter(c -> c.getId().equals(id()))
+                     .findFirst()
+                     .orElseThrow(() -> newIllegalStateException(
+                             "The card `%s` is not in the restored batch.", id().getUuid()
+                     ));
+        CardRestored restored = CardRestored
+                .newBuilder()
+                .setCard(card.getId())
+                .setBoard(e.getBoard())
+                .setState(card.toBuilder()
+                              .setBoard(e.getBoard()))
+                .vBuild();
+        return EitherOf2.withA(restored);
+    }
+
+    @Apply
+    private void event(CardRestored e) {
+        builder().clear()
+                 .mergeFrom(e.getState());
+    }
+
+    /**
+     * Records that the card was archived from its column.
+     */
+    @React
+    CardFrozen on(CardArchived e) {
+        return CardFrozen
+                .newBuilder()
+                .setCard(e.getCard())
+                .setBoard(e.getBoard())
+                .vBuild();
+    }
+
+    @Apply
+    private void event(CardFrozen e) {
+        builder().setArchived(true);
+    }
+
+    /**
+     * Handles the command to attach a file to the card.
+     *
+     * <p>Only the metadata of the file is recorded. The content resides in the blob store.
+     *
+     * @throws CardAlreadyArchived
+     *         if the card was archived
+     */
+    @Assign
+    FileAttached handle(AttachFile c) throws CardAlreadyArchived {
+        if (state().getArchived()) {
+            throw CardAlreadyArchived
+                    .newBuilder()
+                    .setCard(c.getCard())
+                    .build();
+        }
+        return FileAttached
+                .newBuilder()
+                .setCard(c.getCard())
+                .setAttachment(c.getAttachment())
+                .vBuild();
+    }
+
+    @Apply
+    private void event(FileAttached e) {
+        builder().addAttachment(e.getAttachment());
     }
 }
@@ -26,23 +26,60 @@
 
 package io.spine.examples.kanban.server.card;
 
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.Card;
 import io.spine.examples.kanban.CardId;
+import io.spine.examples.kanban.ImportedCard;
+import io.spine.examples.kanban.event.CardArchived;
 import io.spine.examples.kanban.event.CardMoved;
+import io.spine.examples.kanban.event.CardsImported;
+import io.spine.examples.kanban.event.CardsRestored;
 import io.spine.server.aggregate.AggregateRepository;
 import io.spine.server.route.EventRouting;
 
+import java.util.Optional;
+
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static io.spine.server.route.EventRoute.withId;
 
 /**
  * The repository for managing {@link CardAggregate} instances.
  *
- * <p>Routes the boards {@link CardMoved} event to an appropriate {@link CardAggregate}.
+ * <p>Routes the boards {@link CardMoved} event and the columns {@link CardArchived} event to
+ * an appropriate {@link CardAggregate}.
+ * Routes the {@link CardsImported} and {@link CardsRestored} events to all the cards
+ * of the batch.
  */
 public final class CardRepository extends AggregateRepository<CardId, CardAggregate> {
 
     @Override
     protected void setupEventRouting(EventRouting<CardId> routing) {
         super.setupEventRouting(routing);
-        routing.route(CardMoved.class, (event, context) -> withId(event.getCard()));
+        routing.route(CardMoved.class, (event, context) -> withId(event.getCard()))
+               .route(CardArchived.class, (event, context) -> withId(event.getCard()))
+               .route(CardsImported.class, (event, context) ->
+                       event.getCardList()
+                            .stream()
+                            .map(ImportedCard::getCard)
+                            .collect(toImmutableSet()))
+               .route(CardsRestored.class, (event, context) ->
+                       event.getCardList()
+                            .stream()
+                            .map(Card::getId)
+                            .collect(toImmutableSet()));
+    }
+
+    /**
+     * Obtains the board of the stored card.
+     *
+     * <p>In a multi-tenant context, should be called on behalf of the tenant of the card.
+     *
+     * @return the board of the card, or empty {@code Optional} if there is no such card
+     */
+    public Optional<BoardId> boardOf(CardId card) {
+        return find(card)
+                .map(CardAggregate::state)
+                .filter(Card::hasBoard)
+                .map(Card::getBoard);
     }
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.card;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.spine.examples.kanban.BlobRef;
+import io.spine.examples.kanban.Card;
+import io.spine.examples.kanban.server.blob.BlobStore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Keeps long card descriptions out of line.
+ *
+ * <p>A description longer than the inline limit is put to the {@linkplain #store() store of
+ * the descriptions}, a namespace of the {@linkplain BlobStore#shared() shared blob store} kept
+ * apart from the attachments. The {@link Card} state and the board views then carry only
+ * the {@linkplain #preview(String) preview} of the description and the reference to
+ * the full text, which is {@linkplain #fullText(BlobRef) fetched} on demand.
+ *
+ * <p>The limit is set in bytes of the UTF-8 encoded description by the {@value #INLINE_LIMIT}
+ * system property, 4096 by default. A stored description larger than {@value #MAX_SIZE}
+ * bytes, 4 MiB by default, is never read.
+ */
+public final class Descriptions {
+
+    /**
+     * The system property with the maximum size of a description kept inline.
+     */
+    public static final String INLINE_LIMIT = "kanban.description.inlineLimit";
+
+    /**
+     * The system property with the maximum size of a description read from the store.
+     */
+    public static final String MAX_SIZE = "kanban.description.maxSize";
+
+    /**
+     * The namespace of the descriptions in a blob store.
+     */
+    private static final String NAMESPACE = "descriptions";
+
+    /**
+     * The maximum number of characters in the preview of a description.
+     */
+    @VisibleForTesting
+    static final int PREVIEW_LENGTH = 280;
+
+    private static final int inlineLimit = Integer.getInteger(INLINE_LIMIT, 4096);
+    private static final long maxSize = Long.getLong(MAX_SIZE, 4L << 20);
+
+    /**
+     * Prevents utility class instantiation.
+     */
+    private Descriptions() {
+    }
+
+    /**
+     * Tells if the description should be stored out of line.
+     */
+    static boolean tooLong(String description) {
+        // Each character takes at least one byte, and at most three bytes in UTF-8.
+        if (description.length() > inlineLimit) {
+            return true;
+        }
+        if (description.length() * 3 <= inlineLimit) {
+            return false;
+        }
+        return description.getBytes(UTF_8).length > inlineLimit;
+    }
+
+    /**
+     * Obtains the text to keep inline for the description.
+     *
+     * @return the description itself or its preview, if the description is too long
+     */
+    static String inline(String description) {
+        return tooLong(description) ? preview(description) : description;
+    }
+
+    /**
+     * Stores the description out of line if it is too long.
+     *
+     * @return the reference to the stored description or empty {@code Optional} if
+     *         the description is kept inline
+     */
+    static Optional<BlobRef> outOfLine(String description) {
+        if (!tooLong(description)) {
+            return Optional.empty();
+        }
+        BlobRef ref = store().put(description.getBytes(UTF_8));
+        return Optional.of(ref);
+    }
+
+    /**
+     * Returns the store of the descriptions of the Kanban contexts in this JVM.
+     */
+    public static BlobStore store() {
+        return storeIn(BlobStore.shared());
+    }
+
+    /**
+     * Obtains the store of the descriptions kept in the given blob store.
+     */
+    public static BlobStore storeIn(BlobStore blobs) {
+        checkNotNull(blobs);
+        return blobs.namespace(NAMESPACE);
+    }
+
+    /**
+     * Returns the maximum size of a description read from the store in bytes.
+     */
+    public static long maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Obtains the beginning of the description to display instead of the full text.
+     */
+    @VisibleForTesting
+    static String preview(String description) {
+        if (description.length() <= PREVIEW_LENGTH) {
+            return description;
+        }
+        int end = PREVIEW_LENGTH;
+        if (Character.isHighSurrogate(description.charAt(end - 1))) {
+            end--;
+        }
+        return description.substring(0, end) + '\u2026';
+    }
+
+    /**
+     * Obtains the full text of the description stored out of line.
+     *
+     * @return the text or empty {@code Optional} if there is no such description, or it is
+     *         larger than the {@linkplain #maxSize() maximum size}
+     */
+    public static Optional<String> fullText(BlobRef ref) {
+        checkNotNull(ref);
+        BlobStore store = store();
+        try {
+            Optional<Long> size = store.sizeOf(ref);
+            if (!size.isPresent() || size.get() > maxSize) {
+                return Optional.empty();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return store.get(ref)
+                    .map(bytes -> new String(bytes, UTF_8));
+    }
+}
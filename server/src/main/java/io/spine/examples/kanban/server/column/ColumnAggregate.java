@@ -26,23 +26,38 @@
 
 package io.spine.examples.kanban.server.column;
 
+import io.spine.examples.kanban.Card;
+import io.spine.examples.kanban.CardId;
 import io.spine.examples.kanban.Column;
 import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.ImportedCard;
 import io.spine.examples.kanban.WipLimit;
 import io.spine.examples.kanban.command.AddCardToColumn;
+import io.spine.examples.kanban.command.ArchiveCard;
 import io.spine.examples.kanban.command.CreateColumn;
+import io.spine.examples.kanban.command.ImportCards;
 import io.spine.examples.kanban.command.RemoveCardFromColumn;
+import io.spine.examples.kanban.command.RestoreCards;
+import io.spine.examples.kanban.command.RestoreColumn;
 import io.spine.examples.kanban.command.SetWipLimit;
 import io.spine.examples.kanban.event.CardAddedToColumn;
+import io.spine.examples.kanban.event.CardArchived;
 import io.spine.examples.kanban.event.CardRemovedFromColumn;
 import io.spine.examples.kanban.event.CardWaitingPlacement;
+import io.spine.examples.kanban.event.CardsImported;
+import io.spine.examples.kanban.event.CardsRestored;
 import io.spine.examples.kanban.event.ColumnCreated;
 import io.spine.examples.kanban.event.ColumnMovedOnBoard;
 import io.spine.examples.kanban.event.ColumnPlaced;
 import io.spine.examples.kanban.event.ColumnPositionUpdated;
+import io.spine.examples.kanban.event.ColumnRestored;
 import io.spine.examples.kanban.event.WipLimitChanged;
 import io.spine.examples.kanban.event.WipLimitRemoved;
 import io.spine.examples.kanban.event.WipLimitSet;
+import io.spine.examples.kanban.rejection.CardAlreadyInColumn;
+import io.spine.examples.kanban.rejection.CardNotInColumn;
+import io.spine.examples.kanban.rejection.ColumnAlreadyExists;
+import io.spine.examples.kanban.rejection.UnknownColumn;
 import io.spine.examples.kanban.rejection.WipLimitAlreadySet;
 import io.spine.examples.kanban.rejection.WipLimitExceeded;
 import io.spine.server.aggregate.Aggregate;
@@ -162,6 +177,155 @@ final class ColumnAggregate extends Aggregate<ColumnId, Column, Column.Builder>
                  .remove(index);
     }
 
+    /**
+     * Places a batch of imported cards to the bottom of the column.
+     *
+     * <p>The whole batch is placed with one event, so an import does not go through
+     * the placement of every card to the first column.
+     *
+     * @throws UnknownColumn
+     *         if the column was not created
+     * @throws CardAlreadyInColumn
+     *         if a card of the batch already resides in the column, for example, when
+     *         the same file is imported again
+     */
+    @Assign
+    CardsImported handle(ImportCards c) throws UnknownColumn, CardAlreadyInColumn {
+        if (!state().hasBoard()) {
+            throw UnknownColumn
+                    .newBuilder()
+                    .setColumn(id())
+                    .build();
+        }
+        for (ImportedCard card : c.getCardList()) {
+            checkNotInColumn(card.getCard());
+        }
+        return CardsImported
+                .newBuilder()
+                .setColumn(id())
+                .setBoard(state().getBoard())
+                .addAllCard(c.getCardList())
+                .vBuild();
+    }
+
+    @Apply
+    private void event(CardsImported e) {
+        for (ImportedCard card : e.getCardList()) {
+            builder().addCard(card.getCard());
+        }
+    }
+
+    /**
+     * Restores the column from a dump.
+     *
+     * <p>The column is restored without cards. They are placed by the {@link RestoreCards}
+     * commands that follow.
+     *
+     * @throws ColumnAlreadyExists
+     *         if the column was already created or restored
+     */
+    @Assign
+    ColumnRestored handle(RestoreColumn c) throws ColumnAlreadyExists {
+        if (state().hasBoard()) {
+            throw ColumnAlreadyExists
+                    .newBuilder()
+                    .setColumn(id())
+                    .build();
+        }
+        Column state = c.getState()
+                        .toBuilder()
+                        .setId(c.getColumn())
+                        .clearCard()
+                        .build();
+        return ColumnRestored
+                .newBuilder()
+                .setColumn(c.getColumn())
+                .setBoard(state.getBoard())
+                .setState(state)
+                .vBuild();
+    }
+
+    @Apply
+    private void event(ColumnRestored e) {
+        builder().clear()
+                 .mergeFrom(e.getState());
+    }
+
+    /**
+     * Places a batch of restored cards to the bottom of the column.
+     *
+     * @throws UnknownColumn
+     *         if the column was neither created nor restored
+     * @throws CardAlreadyInColumn
+     *         if a card of the batch already resides in the column
+     */
+    @Assign
+    CardsRestored handle(RestoreCards c) throws UnknownColumn, CardAlreadyInColumn {
+        if (!state().hasBoard()) {
+            throw UnknownColumn
+                    .newBuilder()
+                    .setColumn(id())
+                    .build();
+        }
+        for (Card card : c.getCardList()) {
+            checkNotInColumn(card.getId());
+        }
+        return CardsRestored
+                .newBuilder()
+                .setColumn(id())
+                .setBoard(state().getBoard())
+                .addAllCard(c.getCardList())
+                .vBuild();
+    }
+
+    @Apply
+    private void event(CardsRestored e) {
+        for (Card card : e.getCardList()) {
+            builder().addCard(card.getId());
+        }
+    }
+
+    private void checkNotInColumn(CardId card) throws CardAlreadyInColumn {
+        if (state().getCardList().contains(card)) {
+            throw CardAlreadyInColumn
+                    .newBuilder()
+                    .setColumn(id())
+                    .setCard(card)
+                    .build();
+        }
+    }
+
+    /**
+     * Archives a card residing in the column.
+     *
+     * @throws CardNotInColumn
+     *         if the card is not in the column, e.g. because it was already archived
+     */
+    @Assign
+    CardArchived handle(ArchiveCard c) throws CardNotInColumn {
+        if (!state().getCardList().contains(c.getCard())) {
+            throw CardNotInColumn
+                    .newBuilder()
+                    .setColumn(id())
+                    .setCard(c.getCard())
+                    .build();
+        }
+        return CardArchived
+                .newBuilder()
+                .setCard(c.getCard())
+                .setColumn(id())
+                .setBoard(state().getBoard())
+                .vBuild();
+    }
+
+    @Apply
+    private void event(CardArchived e) {
+        int index = state().getCardList()
+                           .indexOf(e.getCard());
+        builder().getCardBuilderList()
+                 .remove(index);
+    }
+
     /**
      * Updates the WIP limit value for a column.
      *
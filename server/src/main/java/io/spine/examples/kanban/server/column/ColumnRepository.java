@@ -26,6 +26,8 @@
 
 package io.spine.examples.kanban.server.column;
 
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.Column;
 import io.spine.examples.kanban.ColumnId;
 import io.spine.examples.kanban.event.CardWaitingPlacement;
 import io.spine.examples.kanban.event.ColumnMovedOnBoard;
@@ -33,6 +35,8 @@ import io.spine.examples.kanban.event.ColumnPlaced;
 import io.spine.server.aggregate.AggregateRepository;
 import io.spine.server.route.EventRouting;
 
+import java.util.Optional;
+
 import static io.spine.server.route.EventRoute.withId;
 
 /**
@@ -47,4 +51,18 @@ public final class ColumnRepository extends AggregateRepository<ColumnId, Column
                .route(ColumnPlaced.class, (event, context) -> withId(event.getColumn()))
                .route(ColumnMovedOnBoard.class, (event, context) -> withId(event.getColumn()));
     }
+
+    /**
+     * Obtains the board of the stored column.
+     *
+     * <p>In a multi-tenant context, should be called on behalf of the tenant of the column.
+     *
+     * @return the board of the column, or empty {@code Optional} if there is no such column
+     */
+    public Optional<BoardId> boardOf(ColumnId column) {
+        return find(column)
+                .map(ColumnAggregate::state)
+                .filter(Column::hasBoard)
+                .map(Column::getBoard);
+    }
 }
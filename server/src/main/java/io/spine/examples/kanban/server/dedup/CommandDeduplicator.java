@@ -0,0 +1,239 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.dedup;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.protobuf.Any;
+import com.google.protobuf.Empty;
+import io.spine.core.Ack;
+import io.spine.core.CommandId;
+import io.spine.core.Origin;
+import io.spine.core.Status;
+import io.spine.examples.kanban.server.monitor.Monitoring;
+import io.spine.server.BoundedContextBuilder;
+import io.spine.server.bus.BusFilter;
+import io.spine.server.type.CommandEnvelope;
+import io.spine.server.type.EventEnvelope;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.protobuf.AnyPacker.pack;
+import static io.spine.protobuf.AnyPacker.unpack;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Acknowledges the retried commands without dispatching them again.
+ *
+ * <p>A client which did not get the acknowledgement of a command, e.g. because of a timeout,
+ * posts the same command again. Dispatching it again would repeat its effect or, for
+ * the commands which cannot be repeated such as {@code AddColumn}, lead to a rejection.
+ *
+ * <p>The deduplicator remembers the IDs of the commands posted within the time window along
+ * with their outcomes. The outcome of a command is known once the first event or rejection
+ * caused by it is posted: the rejection is the outcome of a rejected command, and any other
+ * event tells the command is handled. A command with a remembered ID is not dispatched, and
+ * the client gets the acknowledgement with the outcome of the original command. To keep
+ * the memory bounded, the least recently posted commands are forgotten when the maximum
+ * number is reached.
+ *
+ * <p>While the outcome of the original command is not known, a retry within the lease time
+ * is acknowledged without being dispatched, as the original may still be handled. A command
+ * which caused neither events nor rejections for the lease time, e.g. because it was refused
+ * by a later filter or its handler failed, is considered failed, and its retry is
+ * dispatched again.
+ *
+ * <p>The commands posted by the handlers in the context, e.g. by process managers, always
+ * pass, as they are never retried.
+ *
+ * <p>The duplicates are counted in the {@linkplain Monitoring#metrics() metrics}.
+ */
+public final class CommandDeduplicator implements BusFilter<CommandEnvelope> {
+
+    /**
+     * The system property with the time window of deduplication in the ISO-8601 format,
+     * {@code PT10M} by default.
+     */
+    public static final String WINDOW = "kanban.dedup.window";
+
+    /**
+     * The system property with the maximum number of the remembered commands,
+     * 100 000 by default.
+     */
+    public static final String MAX_SIZE = "kanban.dedup.maxSize";
+
+    /**
+     * The system property with the time after which a command without a known outcome is
+     * considered failed, in the ISO-8601 format, {@code PT30S} by default.
+     */
+    public static final String LEASE = "kanban.dedup.lease";
+
+    private static final String DEFAULT_WINDOW = "PT10M";
+    private static final String DEFAULT_MAX_SIZE = "100000";
+    private static final String DEFAULT_LEASE = "PT30S";
+
+    private final Cache<CommandId, Ack> acks;
+    private final Cache<CommandId, Boolean> pending;
+    private final LongAdder duplicates = new LongAdder();
+
+    /**
+     * Creates a new deduplicator.
+     *
+     * @param window
+     *         the time for which a command is remembered after it is posted
+     * @param maxSize
+     *         the maximum number of the remembered commands
+     * @param lease
+     *         the time after which a command without a known outcome is considered failed
+     * @param ticker
+     *         the source of time
+     */
+    CommandDeduplicator(Duration window, long maxSize, Duration lease, Ticker ticker) {
+        checkNotNull(window);
+        checkNotNull(lease);
+        checkNotNull(ticker);
+        checkArgument(!window.isNegative() && !window.isZero(),
+                      "The deduplication window must be positive.");
+        checkArgument(maxSize > 0, "The maximum number of commands must be positive.");
+        checkArgument(!lease.isNegative() && !lease.isZero(), "The lease must be positive.");
+        this.acks = CacheBuilder
+                .newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(window.toNanos(), NANOSECONDS)
+                .ticker(ticker)
+                .build();
+        this.pending = CacheBuilder
+                .newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(lease.toNanos(), NANOSECONDS)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Creates the deduplicator configured by the {@value #WINDOW}, {@value #MAX_SIZE}, and
+     * {@value #LEASE} system properties.
+     */
+    public static CommandDeduplicator fromSystemProperties() {
+        Duration window = Duration.parse(System.getProperty(WINDOW, DEFAULT_WINDOW));
+        long maxSize = Long.parseLong(System.getProperty(MAX_SIZE, DEFAULT_MAX_SIZE));
+        Duration lease = Duration.parse(System.getProperty(LEASE, DEFAULT_LEASE));
+        return new CommandDeduplicator(window, maxSize, lease, Ticker.systemTicker());
+    }
+
+    /**
+     * Starts deduplicating the commands of the context being built.
+     */
+    public void attachTo(BoundedContextBuilder context) {
+        context.addCommandFilter(this);
+        context.addEventListener(this::eventPosted);
+    }
+
+    @Override
+    public Optional<Ack> filter(CommandEnvelope envelope) {
+        if (envelope.outerObject()
+                    .origin()
+                    .isPresent()) {
+            return Optional.empty();
+        }
+        CommandId id = envelope.id();
+        Ack outcome = acks.getIfPresent(id);
+        if (outcome == null) {
+            Boolean dispatched = pending.asMap()
+                                        .putIfAbsent(id, Boolean.TRUE);
+            if (dispatched == null) {
+                return Optional.empty();
+            }
+            outcome = acknowledge(id, ok());
+        }
+        duplicates.increment();
+        Monitoring.metrics()
+                  .deduplicated(envelope.message()
+                                        .getClass()
+                                        .getSimpleName());
+        return Optional.of(outcome);
+    }
+
+    /**
+     * Remembers the outcome of the command which caused the event, if it is the first
+     * event caused by a command let pass by this deduplicator.
+     */
+    @VisibleForTesting
+    void eventPosted(EventEnvelope event) {
+        Optional<Origin> origin = event.outerObject()
+                                       .origin();
+        if (!origin.isPresent()) {
+            return;
+        }
+        Any originId = origin.get()
+                             .getMessage()
+                             .getId();
+        if (!originId.is(CommandId.class)) {
+            return;
+        }
+        CommandId id = unpack(originId, CommandId.class);
+        if (pending.getIfPresent(id) == null) {
+            return;
+        }
+        Status status = event.isRejection()
+                        ? Status.newBuilder()
+                                .setRejection(event.outerObject())
+                                .build()
+                        : ok();
+        acks.asMap()
+            .putIfAbsent(id, acknowledge(id, status));
+        pending.invalidate(id);
+    }
+
+    private static Status ok() {
+        return Status
+                .newBuilder()
+                .setOk(Empty.getDefaultInstance())
+                .build();
+    }
+
+    private static Ack acknowledge(CommandId id, Status status) {
+        return Ack
+                .newBuilder()
+                .setMessageId(pack(id))
+                .setStatus(status)
+                .build();
+    }
+
+    /**
+     * Returns the number of the duplicates which were not dispatched.
+     */
+    public long duplicates() {
+        return duplicates.sum();
+    }
+}
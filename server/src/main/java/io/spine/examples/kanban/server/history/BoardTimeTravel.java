@@ -0,0 +1,108 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.history;
+
+import com.google.protobuf.Timestamp;
+import io.spine.core.Event;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.history.BoardCheckpoint;
+import io.spine.examples.kanban.server.view.BoardViewReplay;
+import io.spine.examples.kanban.view.BoardView;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.protobuf.util.Timestamps.compare;
+
+/**
+ * Rebuilds the view of a board as it was at a moment in the past.
+ *
+ * <p>The view is rebuilt from the latest {@linkplain BoardCheckpoint checkpoint} of the board
+ * made at the moment or before it. Only the events of the board after this checkpoint are
+ * read, found by their positions kept by the {@link Checkpointer}, along with the latest
+ * records of the log the checkpointer did not read yet. If the board has no checkpoints
+ * yet, its events are read from its creation.
+ */
+public final class BoardTimeTravel {
+
+    private final EventLog log;
+    private final Checkpointer checkpointer;
+
+    BoardTimeTravel(EventLog log, Checkpointer checkpointer) {
+        this.log = log;
+        this.checkpointer = checkpointer;
+    }
+
+    /**
+     * Obtains the view of the board at the given moment.
+     *
+     * @return the view of the board, or empty {@code Optional} if the board did not exist
+     *         at the moment
+     */
+    public Optional<BoardView> boardAt(BoardId board, Timestamp moment) throws IOException {
+        checkNotNull(board);
+        checkNotNull(moment);
+        Checkpointer.Span span = checkpointer.span(board, moment);
+        Optional<BoardCheckpoint> start = span.start();
+        BoardViewReplay replay = start.isPresent()
+                                 ? new BoardViewReplay(start.get()
+                                                            .getView())
+                                 : new BoardViewReplay(board);
+        boolean seen = start.isPresent();
+        try (EventLogReader reader = log.read(span.scanFrom())) {
+            for (long position : span.events()) {
+                reader.seek(position);
+                Optional<Event> event = reader.next();
+                if (event.isPresent()) {
+                    seen |= apply(replay, event.get(), moment);
+                }
+            }
+            if (span.scanFrom() < span.scanTo()) {
+                reader.seek(span.scanFrom());
+                Optional<Event> event = reader.next();
+                while (event.isPresent() && reader.position() <= span.scanTo()) {
+                    seen |= apply(replay, event.get(), moment);
+                    event = reader.next();
+                }
+            }
+        }
+        return seen
+               ? Optional.of(replay.view())
+               : Optional.empty();
+    }
+
+    private static boolean apply(BoardViewReplay replay, Event event, Timestamp moment) {
+        return happenedBy(event, moment) && replay.apply(event.enclosedMessage());
+    }
+
+    private static boolean happenedBy(Event event, Timestamp moment) {
+        Timestamp when = event.getContext()
+                              .getTimestamp();
+        return compare(when, moment) <= 0;
+    }
+}
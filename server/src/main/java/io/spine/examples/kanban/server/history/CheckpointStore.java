@@ -0,0 +1,270 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.history;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Timestamp;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.history.BoardCheckpoint;
+import io.spine.examples.kanban.history.CheckpointRecord;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.protobuf.util.Timestamps.toNanos;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * A file of the {@linkplain BoardCheckpoint checkpoints} of the board views.
+ *
+ * <p>The checkpoints are appended to the file as size-prefixed records. The store keeps
+ * in memory only the index of the checkpoints of each board by their time, and reads
+ * a checkpoint from the file when it is asked for.
+ *
+ * <p>When the checkpointing stops, the store records the position of the event log up to
+ * which all the boards are checkpointed. A store without such a record at its end was not
+ * closed properly, so its checkpoints may miss some events.
+ */
+final class CheckpointStore implements Closeable {
+
+    private static final int MAX_VARINT_SIZE = 5;
+
+    private final FileChannel channel;
+    private final Map<BoardId, NavigableMap<Long, Entry>> index = new HashMap<>();
+    private long end;
+    private @Nullable Long completeUpTo;
+
+    private CheckpointStore(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.end = channel.size();
+        channel.position(end);
+    }
+
+    /**
+     * Opens the store in the given file, creating the file if it does not exist.
+     *
+     * <p>If the file is damaged, e.g. by a crash during a write, the store is
+     * {@linkplain #completeUpTo() incomplete}.
+     */
+    static CheckpointStore open(Path file) throws IOException {
+        checkNotNull(file);
+        CheckpointStore store = new CheckpointStore(FileChannel.open(file, CREATE, READ, WRITE));
+        try (InputStream in = Files.newInputStream(file)) {
+            store.load(CodedInputStream.newInstance(in));
+        } catch (InvalidProtocolBufferException e) {
+            store.completeUpTo = null;
+        }
+        return store;
+    }
+
+    /**
+     * Opens an empty store in the given file, dropping the checkpoints in it.
+     */
+    static CheckpointStore create(Path file) throws IOException {
+        checkNotNull(file);
+        return new CheckpointStore(FileChannel.open(file, CREATE, TRUNCATE_EXISTING,
+                                                    READ, WRITE));
+    }
+
+    private void load(CodedInputStream in) throws IOException {
+        long position = 0;
+        while (!in.isAtEnd()) {
+            int size = in.readRawVarint32();
+            CheckpointRecord record = CheckpointRecord.parseFrom(in.readRawBytes(size));
+            if (record.hasCheckpoint()) {
+                indexCheckpoint(record.getCheckpoint(), position);
+                completeUpTo = null;
+            } else {
+                completeUpTo = record.getCompleteUpTo();
+            }
+            position += CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+            in.resetSizeCounter();
+        }
+    }
+
+    private void indexCheckpoint(BoardCheckpoint checkpoint, long filePosition) {
+        Entry entry = new Entry(filePosition);
+        index.computeIfAbsent(checkpoint.getBoard(), b -> new TreeMap<>())
+             .put(toNanos(checkpoint.getWhen()), entry);
+    }
+
+    /**
+     * Appends the checkpoint to the store.
+     */
+    synchronized void append(BoardCheckpoint checkpoint) throws IOException {
+        checkNotNull(checkpoint);
+        long position = write(CheckpointRecord
+                                      .newBuilder()
+                                      .setCheckpoint(checkpoint)
+                                      .build());
+        indexCheckpoint(checkpoint, position);
+        completeUpTo = null;
+    }
+
+    /**
+     * Records that all the boards are checkpointed up to the given position of the event log.
+     */
+    synchronized void complete(long logPosition) throws IOException {
+        write(CheckpointRecord
+                      .newBuilder()
+                      .setCompleteUpTo(logPosition)
+                      .build());
+        completeUpTo = logPosition;
+    }
+
+    private long write(CheckpointRecord record) throws IOException {
+        int size = record.getSerializedSize();
+        byte[] bytes = new byte[CodedOutputStream.computeUInt32SizeNoTag(size) + size];
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        out.writeUInt32NoTag(size);
+        record.writeTo(out);
+        out.checkNoSpaceLeft();
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long position = end;
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        end = channel.position();
+        return position;
+    }
+
+    /**
+     * Returns the position of the event log up to which all the boards are checkpointed,
+     * or empty if the store was not closed properly.
+     */
+    synchronized OptionalLong completeUpTo() {
+        return completeUpTo == null
+               ? OptionalLong.empty()
+               : OptionalLong.of(completeUpTo);
+    }
+
+    /**
+     * Reads the latest checkpoint of the board.
+     */
+    Optional<BoardCheckpoint> latest(BoardId board) throws IOException {
+        Map.Entry<Long, Entry> entry;
+        synchronized (this) {
+            NavigableMap<Long, Entry> checkpoints = index.get(board);
+            entry = checkpoints == null ? null : checkpoints.lastEntry();
+        }
+        return read(entry);
+    }
+
+    /**
+     * Reads the latest checkpoint of the board made at the given time or before it.
+     */
+    Optional<BoardCheckpoint> atOrBefore(BoardId board, Timestamp time) throws IOException {
+        Map.Entry<Long, Entry> entry;
+        synchronized (this) {
+            NavigableMap<Long, Entry> checkpoints = index.get(board);
+            entry = checkpoints == null ? null : checkpoints.floorEntry(toNanos(time));
+        }
+        return read(entry);
+    }
+
+    /**
+     * Reads the earliest checkpoint of the board made after the given time.
+     *
+     * <p>All the events of the board up to the time are reflected in this checkpoint.
+     */
+    Optional<BoardCheckpoint> after(BoardId board, Timestamp time) throws IOException {
+        Map.Entry<Long, Entry> entry;
+        synchronized (this) {
+            NavigableMap<Long, Entry> checkpoints = index.get(board);
+            entry = checkpoints == null ? null : checkpoints.higherEntry(toNanos(time));
+        }
+        return read(entry);
+    }
+
+    private Optional<BoardCheckpoint> read(Map.@Nullable Entry<Long, Entry> entry)
+            throws IOException {
+        if (entry == null) {
+            return Optional.empty();
+        }
+        long position = entry.getValue().filePosition;
+        ByteBuffer header = ByteBuffer.allocate(MAX_VARINT_SIZE);
+        readFully(header, position);
+        int size = CodedInputStream.newInstance(header.array(), 0, header.limit())
+                                   .readRawVarint32();
+        ByteBuffer body = ByteBuffer.allocate(size);
+        readFully(body, position + CodedOutputStream.computeUInt32SizeNoTag(size));
+        CheckpointRecord record = CheckpointRecord.parseFrom(body.array());
+        return Optional.of(record.getCheckpoint());
+    }
+
+    /**
+     * Reads as many bytes as the buffer can take or the file has, starting at the position.
+     */
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        int read = 0;
+        while (read >= 0 && buffer.hasRemaining()) {
+            read = channel.read(buffer, position + buffer.position());
+        }
+        buffer.flip();
+    }
+
+    /**
+     * Writes the appended records to the storage device and closes the store.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel.isOpen()) {
+            channel.force(false);
+            channel.close();
+        }
+    }
+
+    /**
+     * The location of a checkpoint.
+     */
+    private static final class Entry {
+
+        private final long filePosition;
+
+        private Entry(long filePosition) {
+            this.filePosition = filePosition;
+        }
+    }
+}
@@ -0,0 +1,393 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.history;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.protobuf.Timestamp;
+import io.spine.base.EventMessage;
+import io.spine.core.Event;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.history.BoardCheckpoint;
+import io.spine.examples.kanban.server.lane.BoardAffinity;
+import io.spine.examples.kanban.server.view.BoardViewReplay;
+import io.spine.examples.kanban.view.BoardView;
+import io.spine.logging.Logging;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Follows the {@link EventLog} and writes {@linkplain BoardCheckpoint checkpoints} of
+ * the board views to a {@link CheckpointStore}.
+ *
+ * <p>The view of a board is checkpointed after every so many of its events, so the view of
+ * the board at any moment can be rebuilt from the nearest checkpoint and a bounded number of
+ * events after it. Each checkpoint keeps the positions of the events of the board since
+ * the previous one, and the positions of the events since the latest checkpoint are kept in
+ * memory, so the view is rebuilt without reading the events of other boards.
+ *
+ * <p>The views of the recently changed boards are kept in memory. A view which does not fit
+ * into memory any more is checkpointed and then read back from the store when its board
+ * changes again.
+ *
+ * <p>When closed, the checkpointer checkpoints all the views in memory, so it can resume
+ * following the log where it stopped. The boards of the columns and cards are learned anew
+ * from the log up to this position, so that, e.g. a file attached to a card created before
+ * the restart gets to the view of its board. If the checkpointer was not closed properly,
+ * the checkpoints are built anew from the start of the log.
+ */
+final class Checkpointer implements Closeable, Logging {
+
+    private static final long POLL_DELAY_MILLIS = 200;
+    private static final int MAX_BOARDS_IN_MEMORY = 1000;
+
+    private final EventLog log;
+    private final CheckpointStore store;
+    private final EventLogReader reader;
+    private final int checkpointEvery;
+    private final BoardAffinity boards = new BoardAffinity();
+    private final Cache<BoardId, Running> running;
+    private final ScheduledExecutorService follower;
+    private boolean closed;
+
+    private Checkpointer(EventLog log,
+                         CheckpointStore store,
+                         EventLogReader reader,
+                         int checkpointEvery) {
+        this.log = log;
+        this.store = store;
+        this.reader = reader;
+        this.checkpointEvery = checkpointEvery;
+        this.running = CacheBuilder
+                .newBuilder()
+                .maximumSize(MAX_BOARDS_IN_MEMORY)
+                .removalListener(this::evicted)
+                .build();
+        this.follower = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder()
+                        .setNameFormat("kanban-history-checkpoints")
+                        .setDaemon(true)
+                        .build()
+        );
+    }
+
+    /**
+     * Opens the checkpointer of the log.
+     *
+     * <p>The checkpointer does not read the log until it is asked to {@link #follow()} it or
+     * to {@link #catchUp()} with it.
+     *
+     * @param log
+     *         the log to checkpoint
+     * @param file
+     *         the file of the checkpoints
+     * @param checkpointEvery
+     *         the number of the events of a board between its checkpoints
+     */
+    static Checkpointer open(EventLog log, Path file, int checkpointEvery) throws IOException {
+        checkNotNull(log);
+        checkNotNull(file);
+        checkArgument(checkpointEvery > 0, "The checkpoint interval must be positive.");
+        CheckpointStore store = CheckpointStore.open(file);
+        OptionalLong complete = store.completeUpTo();
+        long resumeAt = complete.orElse(0);
+        if (!complete.isPresent() || resumeAt > log.end()) {
+            store.close();
+            store = CheckpointStore.create(file);
+            resumeAt = 0;
+        }
+        Checkpointer result = new Checkpointer(log, store, log.read(resumeAt), checkpointEvery);
+        result.learnBoards(resumeAt);
+        return result;
+    }
+
+    /**
+     * Teaches the affinity the boards of the columns and cards mentioned in the log before
+     * the given position.
+     */
+    private void learnBoards(long end) throws IOException {
+        if (end == 0) {
+            return;
+        }
+        try (EventLogReader prefix = log.read(0)) {
+            Optional<Event> event = prefix.next();
+            while (event.isPresent() && prefix.position() <= end) {
+                boards.observe(event.get()
+                                    .enclosedMessage());
+                event = prefix.next();
+            }
+        }
+    }
+
+    /**
+     * Starts following the log in the background.
+     *
+     * <p>A failure to read the log or to write a checkpoint is logged, and the log is read
+     * again after the delay.
+     */
+    void follow() {
+        follower.scheduleWithFixedDelay(this::catchUpInBackground,
+                                        POLL_DELAY_MILLIS, POLL_DELAY_MILLIS, MILLISECONDS);
+    }
+
+    private void catchUpInBackground() {
+        try {
+            catchUp();
+        } catch (RuntimeException e) {
+            // Do not let a failure cancel the further polls.
+            _error().withCause(e)
+                    .log("Unable to checkpoint the board views.");
+        }
+    }
+
+    /**
+     * Reads the log up to its end and checkpoints the views which got enough events.
+     */
+    synchronized void catchUp() {
+        if (closed) {
+            return;
+        }
+        try {
+            long position = reader.position();
+            Optional<Event> event = reader.next();
+            while (event.isPresent()) {
+                apply(event.get(), position);
+                position = reader.position();
+                event = reader.next();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void apply(Event event, long position) throws IOException {
+        EventMessage message = event.enclosedMessage();
+        boards.observe(message);
+        Optional<BoardId> board = boards.boardIn(message);
+        if (!board.isPresent()) {
+            return;
+        }
+        Running view = running(board.get());
+        if (view.replay.apply(message)) {
+            view.count++;
+            view.events.add(position);
+            view.when = event.getContext()
+                             .getTimestamp();
+            view.position = reader.position();
+            if (view.count >= checkpointEvery) {
+                checkpoint(view);
+            }
+        }
+    }
+
+    private Running running(BoardId board) throws IOException {
+        Running view = running.getIfPresent(board);
+        if (view == null) {
+            Optional<BoardCheckpoint> latest = store.latest(board);
+            view = latest.isPresent()
+                   ? new Running(latest.get())
+                   : new Running(board);
+            running.put(board, view);
+        }
+        return view;
+    }
+
+    private void evicted(RemovalNotification<BoardId, Running> notification) {
+        Running view = notification.getValue();
+        if (view != null && view.count > 0) {
+            try {
+                checkpoint(view);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void checkpoint(Running view) throws IOException {
+        store.append(view.checkpoint());
+        view.count = 0;
+        view.events.clear();
+    }
+
+    /**
+     * Finds the records of the log to rebuild the view of the board at the given moment from.
+     */
+    synchronized Span span(BoardId board, Timestamp moment) throws IOException {
+        checkNotNull(board);
+        checkNotNull(moment);
+        Optional<BoardCheckpoint> start = store.atOrBefore(board, moment);
+        Optional<BoardCheckpoint> next = store.after(board, moment);
+        if (next.isPresent()) {
+            List<Long> events = next.get()
+                                    .getEventPositionList();
+            if (!events.isEmpty()) {
+                return new Span(start, events, 0, 0);
+            }
+            // Written before the positions were kept, so all the records in between are read.
+            long from = start.map(BoardCheckpoint::getPosition)
+                             .orElse(0L);
+            long to = next.get()
+                          .getPosition();
+            return new Span(start, ImmutableList.of(), from, to);
+        }
+        Running view = running.getIfPresent(board);
+        List<Long> events = view == null
+                            ? ImmutableList.of()
+                            : view.events;
+        // The records not read by the checkpointer yet may have the events of the board.
+        return new Span(start, events, reader.position(), log.end());
+    }
+
+    /**
+     * Returns the store of the checkpoints.
+     */
+    CheckpointStore store() {
+        return store;
+    }
+
+    /**
+     * Checkpoints all the views in memory and closes the checkpointer.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        follower.shutdown();
+        catchUp();
+        closed = true;
+        running.invalidateAll();
+        store.complete(reader.position());
+        store.close();
+        reader.close();
+    }
+
+    /**
+     * The view of a board being checkpointed.
+     */
+    private static final class Running {
+
+        private final BoardViewReplay replay;
+        private final List<Long> events = new ArrayList<>();
+        private int count;
+        private Timestamp when;
+        private long position;
+
+        private Running(BoardCheckpoint latest) {
+            this.replay = new BoardViewReplay(latest.getView());
+            this.when = latest.getWhen();
+            this.position = latest.getPosition();
+        }
+
+        private Running(BoardId board) {
+            this.replay = new BoardViewReplay(board);
+            this.when = Timestamp.getDefaultInstance();
+        }
+
+        private BoardCheckpoint checkpoint() {
+            BoardView view = replay.view();
+            return BoardCheckpoint
+                    .newBuilder()
+                    .setBoard(view.getId())
+                    .setWhen(when)
+                    .setPosition(position)
+                    .setView(view)
+                    .addAllEventPosition(events)
+                    .build();
+        }
+    }
+
+    /**
+     * The records of the log from which the view of a board at a moment is rebuilt.
+     *
+     * <p>The view is rebuilt from the start checkpoint, if any, by applying the events at
+     * the given positions, and then all the events in the range of the log to scan.
+     */
+    static final class Span {
+
+        private final @Nullable BoardCheckpoint start;
+        private final ImmutableList<Long> events;
+        private final long scanFrom;
+        private final long scanTo;
+
+        private Span(Optional<BoardCheckpoint> start,
+                     List<Long> events,
+                     long scanFrom,
+                     long scanTo) {
+            this.start = start.orElse(null);
+            this.events = ImmutableList.copyOf(events);
+            this.scanFrom = scanFrom;
+            this.scanTo = scanTo;
+        }
+
+        /**
+         * Returns the checkpoint to start from, or empty if the board is rebuilt from
+         * its creation.
+         */
+        Optional<BoardCheckpoint> start() {
+            return Optional.ofNullable(start);
+        }
+
+        /**
+         * Returns the positions of the events of the board after the start checkpoint.
+         */
+        ImmutableList<Long> events() {
+            return events;
+        }
+
+        /**
+         * Returns the position of the first record to scan.
+         */
+        long scanFrom() {
+            return scanFrom;
+        }
+
+        /**
+         * Returns the position right after the last record to scan.
+         */
+        long scanTo() {
+            return scanTo;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.history;
+
+import com.google.protobuf.CodedOutputStream;
+import io.spine.core.Event;
+import io.spine.server.BoundedContextBuilder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * An append-only file of events.
+ *
+ * <p>The events are written as length-delimited {@link Event} records, so the file can be
+ * read by any Protocol Buffers runtime. Each record is written to the file at once, and
+ * an {@linkplain EventLogReader reader} stops before an incomplete record at the end.
+ * So the log can be read while it is being written, including by another process.
+ *
+ * <p>The position of a record is its offset in the file. The positions grow with
+ * the appended records and never change.
+ */
+public final class EventLog implements Closeable {
+
+    private final Path file;
+    private final FileChannel channel;
+    private long end;
+
+    private EventLog(Path file, FileChannel channel) throws IOException {
+        this.file = file;
+        this.channel = channel;
+        this.end = channel.size();
+        channel.position(end);
+    }
+
+    /**
+     * Opens the log in the given file, creating the file if it does not exist.
+     *
+     * <p>The events are appended after the records already in the file. An incomplete
+     * record at the end of the file, left by a write torn by a crash, is cut off first,
+     * so that the appended records are not hidden behind it from the readers.
+     */
+    public static EventLog open(Path file) throws IOException {
+        checkNotNull(file);
+        FileChannel channel = FileChannel.open(file, CREATE, WRITE);
+        try {
+            long complete = completeEnd(file);
+            if (channel.size() > complete) {
+                channel.truncate(complete);
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new EventLog(file, channel);
+    }
+
+    /**
+     * Returns the position after the last complete record of the file.
+     */
+    private static long completeEnd(Path file) throws IOException {
+        try (EventLogReader reader = EventLogReader.open(file, 0)) {
+            boolean skipped = reader.skip();
+            while (skipped) {
+                skipped = reader.skip();
+            }
+            return reader.position();
+        }
+    }
+
+    /**
+     * Starts appending the events posted in the context being built.
+     *
+     * <p>The events are appended in the order of posting, before they are dispatched.
+     */
+    public void attachTo(BoundedContextBuilder context) {
+        context.addEventListener(event -> append(event.outerObject()));
+    }
+
+    /**
+     * Appends the event to the log.
+     *
+     * @return the position of the appended record
+     */
+    public long append(Event event) {
+        checkNotNull(event);
+        int size = event.getSerializedSize();
+        byte[] record = new byte[CodedOutputStream.computeUInt32SizeNoTag(size) + size];
+        try {
+            CodedOutputStream out = CodedOutputStream.newInstance(record);
+            out.writeUInt32NoTag(size);
+            event.writeTo(out);
+            out.checkNoSpaceLeft();
+            return write(ByteBuffer.wrap(record));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private synchronized long write(ByteBuffer record) throws IOException {
+        long position = end;
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+        end = channel.position();
+        return position;
+    }
+
+    /**
+     * Returns the position after the last record of the log.
+     *
+     * <p>The next appended record gets this position.
+     */
+    public synchronized long end() {
+        return end;
+    }
+
+    /**
+     * Returns the file of the log.
+     */
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * Opens a reader of the log starting at the given position.
+     *
+     * @param position
+     *         the position of a record, or the {@linkplain #end() end} of the log
+     */
+    public EventLogReader read(long position) throws IOException {
+        return EventLogReader.open(file, position);
+    }
+
+    /**
+     * Writes the appended records to the storage device and closes the log.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel.isOpen()) {
+            channel.force(false);
+            channel.close();
+        }
+    }
+}
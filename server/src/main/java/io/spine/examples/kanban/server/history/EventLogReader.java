@@ -0,0 +1,196 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.history;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.spine.core.Event;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Reads the records of an {@link EventLog} one by one.
+ *
+ * <p>The file is read in large chunks through a buffer, so reading a record seldom touches
+ * the file. When the reader reaches the end of the log, or an incomplete record being
+ * written, it returns nothing. The records appended later are returned by the next calls,
+ * so the reader can be used to follow the log.
+ */
+public final class EventLogReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_VARINT_SIZE = 5;
+
+    private final FileChannel channel;
+    private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private long bufferStart;
+    private long position;
+    private int headerSize;
+    private int size;
+
+    private EventLogReader(FileChannel channel, long position) {
+        this.channel = channel;
+        this.position = position;
+        this.bufferStart = position;
+        buffer.flip();
+    }
+
+    /**
+     * Opens the reader of the log file.
+     *
+     * @param file
+     *         the file of the log
+     * @param position
+     *         the position of the first record to read
+     */
+    public static EventLogReader open(Path file, long position) throws IOException {
+        checkNotNull(file);
+        checkArgument(position >= 0, "The position must not be negative.");
+        return new EventLogReader(FileChannel.open(file, READ), position);
+    }
+
+    /**
+     * Reads the next record of the log.
+     *
+     * @return the event of the record, or empty if there is no complete record yet
+     * @throws InvalidProtocolBufferException
+     *         if the log is corrupted, or the position is not the one of a record
+     */
+    public Optional<Event> next() throws IOException {
+        if (!readHeader() || !fill(headerSize + size)) {
+            return Optional.empty();
+        }
+        Event event = Event.parser()
+                           .parseFrom(buffer.array(), offset() + headerSize, size);
+        position += headerSize + size;
+        return Optional.of(event);
+    }
+
+    /**
+     * Moves past the next record of the log without parsing it.
+     *
+     * @return {@code true} if the record was complete, {@code false} otherwise
+     * @throws InvalidProtocolBufferException
+     *         if the size of the record is malformed
+     */
+    boolean skip() throws IOException {
+        if (!readHeader() || !fill(headerSize + size)) {
+            return false;
+        }
+        position += headerSize + size;
+        return true;
+    }
+
+    /**
+     * Moves the reader to the record at the given position.
+     *
+     * <p>If the record is near the current position, it is read from the buffer without
+     * touching the file.
+     */
+    void seek(long position) {
+        checkArgument(position >= 0, "The position must not be negative.");
+        this.position = position;
+    }
+
+    /**
+     * Reads the size of the record at the current position.
+     *
+     * @return {@code true} if the file has the whole size, {@code false} otherwise
+     */
+    private boolean readHeader() throws IOException {
+        size = 0;
+        headerSize = 0;
+        boolean complete = false;
+        while (!complete) {
+            if (headerSize == MAX_VARINT_SIZE) {
+                throw new InvalidProtocolBufferException(
+                        "Malformed record size at the position " + position + '.');
+            }
+            if (!fill(headerSize + 1)) {
+                return false;
+            }
+            byte b = buffer.get(offset() + headerSize);
+            size |= (b & 0x7f) << (7 * headerSize);
+            headerSize++;
+            complete = b >= 0;
+        }
+        if (size < 0) {
+            throw new InvalidProtocolBufferException(
+                    "Negative record size at the position " + position + '.');
+        }
+        return true;
+    }
+
+    /**
+     * Returns the position of the next record to read.
+     *
+     * <p>The position can be used to {@linkplain #open(Path, long) resume} reading later.
+     */
+    public long position() {
+        return position;
+    }
+
+    private int offset() {
+        return (int) (position - bufferStart);
+    }
+
+    /**
+     * Makes the buffer hold the given number of bytes starting at the current position.
+     *
+     * @return {@code true} if the file has the bytes, {@code false} otherwise
+     */
+    private boolean fill(int needed) throws IOException {
+        long bufferEnd = bufferStart + buffer.limit();
+        if (position >= bufferStart && position + needed <= bufferEnd) {
+            return true;
+        }
+        if (needed > buffer.capacity()) {
+            buffer = ByteBuffer.allocate(Math.max(needed, buffer.capacity() * 2));
+        }
+        buffer.clear();
+        bufferStart = position;
+        int read = 0;
+        while (read >= 0 && buffer.hasRemaining()) {
+            read = channel.read(buffer, bufferStart + buffer.position());
+        }
+        buffer.flip();
+        return buffer.limit() >= needed;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
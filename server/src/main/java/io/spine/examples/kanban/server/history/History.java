@@ -0,0 +1,150 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.history;
+
+import io.spine.examples.kanban.server.tenant.Tenancy;
+import io.spine.server.BoundedContextBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+/**
+ * Provides the event history shared by all the Kanban contexts in this JVM.
+ *
+ * <p>The history is kept if the {@value #LOG_FILE} system property is set to the path of
+ * the {@linkplain EventLog log} file. Otherwise, the events are not kept.
+ *
+ * <p>While the history is kept, the views of the boards are checkpointed next to the log,
+ * in the file with the {@code .checkpoints} suffix, so the
+ * {@linkplain #timeTravel() past views} of the boards can be obtained without reading
+ * the whole log. A board is checkpointed after every {@value #CHECKPOINT_EVERY} of its
+ * events, 1000 by default.
+ */
+public final class History {
+
+    /**
+     * The system property with the path of the file to append the events to.
+     */
+    public static final String LOG_FILE = "kanban.history.file";
+
+    /**
+     * The system property with the number of the events of a board between its checkpoints.
+     */
+    public static final String CHECKPOINT_EVERY = "kanban.history.checkpointEvery";
+
+    private static final int DEFAULT_CHECKPOINT_EVERY = 1000;
+    private static final String CHECKPOINTS_SUFFIX = ".checkpoints";
+
+    private static final @Nullable EventLog log = openLog();
+    private static final @Nullable Checkpointer checkpointer = openCheckpointer();
+
+    /**
+     * Prevents utility class instantiation.
+     */
+    private History() {
+    }
+
+    private static @Nullable EventLog openLog() {
+        String file = System.getProperty(LOG_FILE);
+        if (file == null) {
+            return null;
+        }
+        try {
+            EventLog opened = EventLog.open(Paths.get(file));
+            Runtime.getRuntime()
+                   .addShutdownHook(new Thread(History::close, "kanban-history-close"));
+            return opened;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static @Nullable Checkpointer openCheckpointer() {
+        if (log == null) {
+            return null;
+        }
+        Path file = Paths.get(log.file() + CHECKPOINTS_SUFFIX);
+        int every = Integer.parseInt(System.getProperty(CHECKPOINT_EVERY,
+                                                        String.valueOf(DEFAULT_CHECKPOINT_EVERY)));
+        try {
+            Checkpointer opened = Checkpointer.open(log, file, every);
+            opened.follow();
+            return opened;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Closes the checkpoints and then the log they are made of.
+     */
+    private static void close() {
+        try {
+            if (checkpointer != null) {
+                checkpointer.close();
+            }
+            if (log != null) {
+                log.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Starts keeping the history of the context being built, if the history is enabled.
+     */
+    public static void attachTo(BoundedContextBuilder context) {
+        if (log != null) {
+            log.attachTo(context);
+        }
+    }
+
+    /**
+     * Returns the log of the events of all the contexts, if the history is enabled.
+     */
+    public static Optional<EventLog> log() {
+        return Optional.ofNullable(log);
+    }
+
+    /**
+     * Returns the past views of the boards, if the history is enabled.
+     *
+     * <p>The history keeps the events of all the tenants together, so the past views are not
+     * available in the {@linkplain Tenancy#isMultitenant() multi-tenant} mode.
+     */
+    public static Optional<BoardTimeTravel> timeTravel() {
+        if (log == null || checkpointer == null || Tenancy.isMultitenant()) {
+            return Optional.empty();
+        }
+        return Optional.of(new BoardTimeTravel(log, checkpointer));
+    }
+}
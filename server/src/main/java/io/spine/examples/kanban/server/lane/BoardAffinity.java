@@ -0,0 +1,304 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.lane;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
+import com.google.protobuf.Message;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.CardId;
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.Uuid128;
+import io.spine.server.BoundedContextBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Knows the board to which each column and card belongs.
+ *
+ * <p>The affinity learns the boards from the signals posted in a context. A column or
+ * a card becomes known as soon as the first command or event mentioning it together with
+ * its board is posted, that is, before any of its entities receive a signal.
+ *
+ * <p>The columns and cards are remembered by the {@linkplain Uuid128 compact form} of their
+ * IDs, which takes a fraction of the memory of the ID messages. An affinity created by
+ * the constructor remembers all of them. A {@linkplain #bounded() bounded} one forgets
+ * the least recently used, and suits the users which
+ * {@linkplain #boardIn(Message, Function) look up} the boards they do not know.
+ */
+public final class BoardAffinity {
+
+    /**
+     * The system property with the number of the columns, and as many cards, which
+     * a {@linkplain #bounded() bounded} affinity remembers.
+     */
+    public static final String MAX_SIZE = "kanban.affinity.maxSize";
+
+    private static final long MAX_SIZE_BY_DEFAULT = 1_000_000;
+
+    /**
+     * How deep the nested messages are looked into for the identifiers.
+     */
+    private static final int MAX_DEPTH = 3;
+
+    private static final String MODEL_PACKAGE = BoardId.getDescriptor()
+                                                       .getFile()
+                                                       .getPackage();
+
+    private final ConcurrentMap<Uuid128, BoardId> columns;
+    private final ConcurrentMap<Uuid128, BoardId> cards;
+    private final ConcurrentMap<Descriptor, ImmutableList<FieldDescriptor>> fields =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Creates an affinity which remembers all the columns and cards it learns.
+     */
+    public BoardAffinity() {
+        this.columns = new ConcurrentHashMap<>();
+        this.cards = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Creates an affinity which remembers up to the given number of the columns, and as
+     * many cards.
+     */
+    @VisibleForTesting
+    BoardAffinity(long maxSize) {
+        this.columns = leastRecentlyUsed(maxSize);
+        this.cards = leastRecentlyUsed(maxSize);
+    }
+
+    private static ConcurrentMap<Uuid128, BoardId> leastRecentlyUsed(long maxSize) {
+        return CacheBuilder
+                .newBuilder()
+                .maximumSize(maxSize)
+                .<Uuid128, BoardId>build()
+                .asMap();
+    }
+
+    /**
+     * Creates an affinity which remembers up to {@value #MAX_SIZE_BY_DEFAULT} columns, and as
+     * many cards, or as many as the {@value #MAX_SIZE} system property tells.
+     *
+     * <p>The columns and cards used least recently are forgotten first. The bound should be
+     * well above the number of the cards created at once, so that a card is not forgotten
+     * before it is stored and its board may be looked up.
+     */
+    public static BoardAffinity bounded() {
+        return new BoardAffinity(Long.getLong(MAX_SIZE, MAX_SIZE_BY_DEFAULT));
+    }
+
+    /**
+     * Starts learning the boards from the commands and events of the context being built.
+     */
+    public void attachTo(BoundedContextBuilder context) {
+        context.addCommandListener(command -> observe(command.message()));
+        context.addEventListener(event -> observe(event.message()));
+    }
+
+    /**
+     * Remembers the board of the columns and cards mentioned in the message.
+     *
+     * <p>The board is either mentioned in the message directly, or is the board of
+     * an already known column or card in it.
+     */
+    public void observe(Message message) {
+        checkNotNull(message);
+        Members members = new Members();
+        collect(message, members, MAX_DEPTH);
+        BoardId board = resolve(members);
+        if (board == null) {
+            return;
+        }
+        for (ColumnId column : members.columns) {
+            columns.putIfAbsent(column.toCompact(), board);
+        }
+        for (CardId card : members.cards) {
+            cards.putIfAbsent(card.toCompact(), board);
+        }
+    }
+
+    /**
+     * Obtains the board the message is about.
+     *
+     * @return the board mentioned in the message directly or the board of a known column or
+     *         card mentioned in it, or empty {@code Optional} if the board is not known
+     */
+    public Optional<BoardId> boardIn(Message message) {
+        checkNotNull(message);
+        Members members = new Members();
+        collect(message, members, MAX_DEPTH);
+        return Optional.ofNullable(resolve(members));
+    }
+
+    /**
+     * Obtains the board the message is about, looking up the boards of the unknown columns
+     * and cards.
+     *
+     * <p>If the message mentions no board and none of its columns and cards is known, the
+     * boards of the columns and then of the cards are obtained from the given lookup, e.g.
+     * from their stored state. The found board is remembered, so the lookup is made once
+     * per column or card, e.g. for those created before the restart of the server.
+     *
+     * @param message
+     *         the message to find the board of
+     * @param lookup
+     *         obtains the board of a column or a card by its ID
+     * @return the board of the message, or empty {@code Optional} if it is not known and
+     *         the lookup finds none
+     */
+    public Optional<BoardId> boardIn(Message message,
+                                     Function<Message, Optional<BoardId>> lookup) {
+        checkNotNull(message);
+        checkNotNull(lookup);
+        Members members = new Members();
+        collect(message, members, MAX_DEPTH);
+        BoardId known = resolve(members);
+        if (known != null) {
+            return Optional.of(known);
+        }
+        for (ColumnId column : members.columns) {
+            Optional<BoardId> board = lookup.apply(column);
+            if (board.isPresent()) {
+                columns.putIfAbsent(column.toCompact(), board.get());
+                return board;
+            }
+        }
+        for (CardId card : members.cards) {
+            Optional<BoardId> board = lookup.apply(card);
+            if (board.isPresent()) {
+                cards.putIfAbsent(card.toCompact(), board.get());
+                return board;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private @Nullable BoardId resolve(Members members) {
+        if (members.board != null) {
+            return members.board;
+        }
+        for (ColumnId column : members.columns) {
+            BoardId board = columns.get(column.toCompact());
+            if (board != null) {
+                return board;
+            }
+        }
+        for (CardId card : members.cards) {
+            BoardId board = cards.get(card.toCompact());
+            if (board != null) {
+                return board;
+            }
+        }
+        return null;
+    }
+
+    private void collect(Message message, Members members, int depth) {
+        if (message instanceof BoardId) {
+            members.board = (BoardId) message;
+        } else if (message instanceof ColumnId) {
+            members.columns.add((ColumnId) message);
+        } else if (message instanceof CardId) {
+            members.cards.add((CardId) message);
+        } else if (depth > 0) {
+            for (FieldDescriptor field : fieldsOf(message.getDescriptorForType())) {
+                collectField(message, field, members, depth - 1);
+            }
+        }
+    }
+
+    private void collectField(Message message, FieldDescriptor field, Members members, int depth) {
+        if (field.isRepeated()) {
+            int count = message.getRepeatedFieldCount(field);
+            for (int i = 0; i < count; i++) {
+                collect((Message) message.getRepeatedField(field, i), members, depth);
+            }
+        } else if (message.hasField(field)) {
+            collect((Message) message.getField(field), members, depth);
+        }
+    }
+
+    /**
+     * Obtains the fields of the type which may hold the identifiers of the board members.
+     */
+    private ImmutableList<FieldDescriptor> fieldsOf(Descriptor type) {
+        return fields.computeIfAbsent(type, BoardAffinity::modelFields);
+    }
+
+    private static ImmutableList<FieldDescriptor> modelFields(Descriptor type) {
+        return type.getFields()
+                   .stream()
+                   .filter(field -> field.getJavaType() == JavaType.MESSAGE
+                           && !field.isMapField()
+                           && MODEL_PACKAGE.equals(field.getMessageType()
+                                                        .getFile()
+                                                        .getPackage()))
+                   .collect(ImmutableList.toImmutableList());
+    }
+
+    /**
+     * Obtains the board of the entity with the given ID.
+     *
+     * @return the board itself for a board ID, the board of a known column or card, or
+     *         empty {@code Optional} for other IDs
+     */
+    public Optional<BoardId> boardOf(Object entityId) {
+        checkNotNull(entityId);
+        if (entityId instanceof BoardId) {
+            return Optional.of((BoardId) entityId);
+        }
+        if (entityId instanceof ColumnId) {
+            return Optional.ofNullable(columns.get(((ColumnId) entityId).toCompact()));
+        }
+        if (entityId instanceof CardId) {
+            return Optional.ofNullable(cards.get(((CardId) entityId).toCompact()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The identifiers found in a message.
+     */
+    private static final class Members {
+
+        private final List<ColumnId> columns = new ArrayList<>();
+        private final List<CardId> cards = new ArrayList<>();
+        private @Nullable BoardId board;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.lane;
+
+import com.google.protobuf.Message;
+import io.spine.base.Identifier;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.CardId;
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.CompactIdentifier;
+import io.spine.examples.kanban.Uuid128;
+import io.spine.server.delivery.DeliveryStrategy;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.Math.floorMod;
+
+/**
+ * A delivery strategy which puts the entities of a board into the shard of the board.
+ *
+ * <p>The board of a column or a card is told by the {@linkplain BoardAffinity affinity},
+ * which learns it from the command creating the column or the card. The boards of the columns
+ * and cards the affinity does not know, e.g. created before the restart of the server or
+ * on another node, are {@linkplain #readBoardsBy read} from their stored state. So a column
+ * or a card stays in the shard of its board for all of its life, and never has its signals
+ * in two shards at once. Only a column or a card which is not stored yet and whose creation
+ * was not seen by this node is put into the shard of its own ID, as its board cannot be known.
+ * Other entities are spread over the shards by the hash of their IDs.
+ *
+ * <p>The hashes are the same in every JVM, so all the nodes agree on the shard of an entity.
+ * The board, column and card IDs are hashed in their {@linkplain Uuid128 compact form}, and
+ * other IDs by their string form.
+ */
+final class BoardSharding extends DeliveryStrategy {
+
+    private final BoardAffinity affinity;
+    private final int shardCount;
+    private volatile Function<Message, Optional<BoardId>> stored = entityId -> Optional.empty();
+
+    BoardSharding(BoardAffinity affinity, int shardCount) {
+        super();
+        checkArgument(shardCount > 0, "The number of shards should be positive.");
+        this.affinity = checkNotNull(affinity);
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * Makes the strategy read the boards of the columns and cards the affinity does not
+     * know by the given function.
+     *
+     * <p>The function is called when a signal is dispatched to the column or the card,
+     * that is, on behalf of the tenant of the signal.
+     */
+    void readBoardsBy(Function<Message, Optional<BoardId>> stored) {
+        this.stored = checkNotNull(stored);
+    }
+
+    @Override
+    protected int indexFor(Object entityId) {
+        Optional<BoardId> board = entityId instanceof ColumnId || entityId instanceof CardId
+                                  ? affinity.boardIn((Message) entityId, stored)
+                                  : affinity.boardOf(entityId);
+        int hash = board.isPresent()
+                   ? hashOf(board.get())
+                   : hashOf(entityId);
+        return floorMod(hash, shardCount);
+    }
+
+    private static int hashOf(Object entityId) {
+        if (entityId instanceof CompactIdentifier) {
+            return ((CompactIdentifier) entityId).toCompact()
+                                                 .stableHash();
+        }
+        return Identifier.toString(entityId)
+                         .hashCode();
+    }
+
+    @Override
+    public int shardCount() {
+        return shardCount;
+    }
+}
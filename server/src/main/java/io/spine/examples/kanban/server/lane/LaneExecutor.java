@@ -0,0 +1,171 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.lane;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Runs the work of a number of lanes over a small pool of workers.
+ *
+ * <p>A lane is a single writer: its work never runs on two workers at the same time.
+ * Requests for a lane made while its work is running are merged and served by one more
+ * run afterwards. Different lanes run in parallel, as many at a time as there are workers.
+ *
+ * <p>A lane whose work could not be done runs again after a short delay, so that waiting for
+ * the work to become possible does not keep a worker busy.
+ */
+final class LaneExecutor implements AutoCloseable {
+
+    private static final long RETRY_DELAY_MILLIS = 20;
+
+    private final ImmutableList<Lane> lanes;
+    private final IntPredicate work;
+    private final ScheduledExecutorService workers;
+
+    /**
+     * Creates a new executor.
+     *
+     * @param laneCount
+     *         the number of lanes
+     * @param workerCount
+     *         the number of worker threads
+     * @param work
+     *         runs the work of the lane with the given index; returns {@code false} if
+     *         the work could not be done now and the lane should run again later
+     */
+    LaneExecutor(int laneCount, int workerCount, IntPredicate work) {
+        checkArgument(laneCount > 0, "The number of lanes should be positive.");
+        checkArgument(workerCount > 0, "The number of workers should be positive.");
+        this.work = checkNotNull(work);
+        this.lanes = IntStream.range(0, laneCount)
+                              .mapToObj(Lane::new)
+                              .collect(ImmutableList.toImmutableList());
+        this.workers = Executors.newScheduledThreadPool(
+                workerCount,
+                new ThreadFactoryBuilder()
+                        .setNameFormat("kanban-lane-%d")
+                        .setDaemon(true)
+                        .build()
+        );
+    }
+
+    /**
+     * Requests a run of the lane with the given index.
+     */
+    void request(int lane) {
+        checkElementIndex(lane, lanes.size());
+        lanes.get(lane)
+             .request();
+    }
+
+    /**
+     * Stops the workers after the runs already queued.
+     */
+    @Override
+    public void close() {
+        workers.shutdown();
+        try {
+            workers.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+    /**
+     * A lane of work.
+     */
+    private final class Lane implements Runnable {
+
+        private final int index;
+
+        /**
+         * Tells if a run was requested and not started yet.
+         */
+        private final AtomicBoolean requested = new AtomicBoolean();
+
+        /**
+         * Tells if the lane is queued to a worker, is running, or waits to retry.
+         */
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Lane(int index) {
+            this.index = index;
+        }
+
+        private void request() {
+            requested.set(true);
+            schedule();
+        }
+
+        private void schedule() {
+            if (requested.get() && scheduled.compareAndSet(false, true)) {
+                workers.execute(this);
+            }
+        }
+
+        /**
+         * Runs the work once and queues the lane again if more runs were requested
+         * meanwhile.
+         *
+         * <p>The lane goes to the back of the worker queue rather than running again
+         * at once, so that a busy lane does not hold a worker from the other lanes.
+         * If the work could not be done, the lane is queued again after the delay.
+         */
+        @Override
+        public void run() {
+            requested.set(false);
+            boolean done = false;
+            try {
+                done = work.test(index);
+            } finally {
+                if (workers.isShutdown()) {
+                    scheduled.set(false);
+                } else if (done) {
+                    scheduled.set(false);
+                    schedule();
+                } else {
+                    requested.set(true);
+                    workers.schedule(this, RETRY_DELAY_MILLIS, MILLISECONDS);
+                }
+            }
+        }
+    }
+}
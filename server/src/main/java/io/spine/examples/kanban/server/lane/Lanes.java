@@ -0,0 +1,158 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.lane;
+
+import io.spine.examples.kanban.CardId;
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.server.card.CardRepository;
+import io.spine.examples.kanban.server.column.ColumnRepository;
+import io.spine.server.BoundedContextBuilder;
+import io.spine.server.ServerEnvironment;
+import io.spine.server.delivery.Delivery;
+import io.spine.server.delivery.DeliveryStats;
+import io.spine.server.delivery.ShardIndex;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Provides the single-writer lanes shared by all the Kanban contexts in this JVM.
+ *
+ * <p>The lanes are used if the {@value #WORKERS} system property is set to the number of
+ * the worker threads. Then the signals of the entities are delivered by
+ * {@value #LANES_BY_DEFAULT} lanes, or as many as the {@value #LANES} system property tells.
+ * All the entities of one board, that is, the board itself, its view, and its columns and
+ * cards, are delivered on the same lane. Several boards may share a lane. The boards of
+ * the columns and cards are read from the repositories of the context
+ * {@linkplain #attachTo attached} last, which is the only Kanban context of a server.
+ *
+ * <p>The workers of the lanes finish the runs already queued when the JVM shuts down.
+ *
+ * <p>Otherwise, the signals are delivered by the default delivery of the server environment.
+ */
+public final class Lanes {
+
+    /**
+     * The system property with the number of the threads to run the lanes on.
+     */
+    public static final String WORKERS = "kanban.lanes.workers";
+
+    /**
+     * The system property with the number of the lanes.
+     */
+    public static final String LANES = "kanban.lanes.count";
+
+    private static final int LANES_BY_DEFAULT = 64;
+
+    private static final BoardAffinity affinity = BoardAffinity.bounded();
+    private static @Nullable LaneExecutor executor;
+    private static @Nullable BoardSharding sharding;
+
+    /**
+     * Prevents utility class instantiation.
+     */
+    private Lanes() {
+    }
+
+    private static boolean enabled() {
+        return System.getProperty(WORKERS) != null;
+    }
+
+    /**
+     * Makes the server environment deliver the signals over the lanes, if the lanes are
+     * enabled.
+     *
+     * <p>Must be called before the contexts are built. Calling the method again has
+     * no effect.
+     */
+    public static synchronized void configure() {
+        if (executor != null || !enabled()) {
+            return;
+        }
+        int laneCount = Integer.getInteger(LANES, LANES_BY_DEFAULT);
+        int workerCount = Integer.parseInt(System.getProperty(WORKERS));
+        BoardSharding strategy = new BoardSharding(affinity, laneCount);
+        Delivery delivery = Delivery
+                .newBuilder()
+                .setStrategy(strategy)
+                .build();
+        LaneExecutor lanes = new LaneExecutor(laneCount, workerCount,
+                                              lane -> deliver(delivery, lane, laneCount));
+        delivery.subscribe(message -> lanes.request(message.getShardIndex()
+                                                           .getIndex()));
+        ServerEnvironment.instance()
+                         .configureDelivery(delivery);
+        Runtime.getRuntime()
+               .addShutdownHook(new Thread(lanes::close, "kanban-lanes-shutdown"));
+        executor = lanes;
+        sharding = strategy;
+    }
+
+    /**
+     * Delivers the messages of the lane.
+     *
+     * @return {@code false} if the shard of the lane is being delivered by another node
+     */
+    private static boolean deliver(Delivery delivery, int lane, int laneCount) {
+        ShardIndex shard = ShardIndex
+                .newBuilder()
+                .setIndex(lane)
+                .setOfTotal(laneCount)
+                .build();
+        Optional<DeliveryStats> stats = delivery.deliverMessagesFrom(shard);
+        return stats.isPresent();
+    }
+
+    /**
+     * Starts learning the boards of the columns and cards of the context being built,
+     * if the lanes are enabled.
+     *
+     * @param context
+     *         the context being built
+     * @param columns
+     *         the repository of the columns of the context
+     * @param cards
+     *         the repository of the cards of the context
+     */
+    public static synchronized void attachTo(BoundedContextBuilder context,
+                                             ColumnRepository columns,
+                                             CardRepository cards) {
+        checkNotNull(columns);
+        checkNotNull(cards);
+        if (!enabled()) {
+            return;
+        }
+        affinity.attachTo(context);
+        if (sharding != null) {
+            sharding.readBoardsBy(entityId -> entityId instanceof ColumnId
+                                              ? columns.boardOf((ColumnId) entityId)
+                                              : cards.boardOf((CardId) entityId));
+        }
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.migration;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.protobuf.Message;
+import io.spine.base.EntityState;
+import io.spine.base.Time;
+import io.spine.client.Client;
+import io.spine.core.Event;
+import io.spine.examples.kanban.Attachment;
+import io.spine.examples.kanban.BlobRef;
+import io.spine.examples.kanban.Board;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.Card;
+import io.spine.examples.kanban.CardId;
+import io.spine.examples.kanban.Column;
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.migration.DumpHeader;
+import io.spine.examples.kanban.migration.DumpRecord;
+import io.spine.examples.kanban.server.blob.BlobStore;
+import io.spine.examples.kanban.server.card.Descriptions;
+import io.spine.examples.kanban.server.history.EventLog;
+import io.spine.examples.kanban.server.history.EventLogReader;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * Exports a board with its columns and cards to a dump file.
+ *
+ * <p>The states of the entities are queried from the server in chunks and written to
+ * the file as they arrive, so only a chunk of the cards is kept in memory.
+ *
+ * <p>If the {@linkplain EventLog event log} of the server is available, the events
+ * concerning the board, its columns or its cards are written after the states. The IDs of
+ * the cards are then kept in memory to select the events.
+ *
+ * <p>The blobs of the full descriptions and the attachments of the cards are copied from
+ * the blob store of the server to the dump, each blob once. The descriptions are taken from
+ * the {@linkplain Descriptions#storeIn(BlobStore) store of the descriptions} in the blob
+ * store. Blobs missing from the store are left out.
+ *
+ * @see BoardRestore
+ */
+public final class BoardExport {
+
+    private static final int QUERY_CHUNK = 1_000;
+
+    /**
+     * Tells the written descriptions from the written attachments with the same content.
+     */
+    private static final String DESCRIPTION_PREFIX = "description:";
+
+    private final Client client;
+    private final BlobStore blobs;
+    private final BlobStore descriptions;
+    private final @Nullable Path history;
+
+    /**
+     * Creates a new export.
+     *
+     * @param client
+     *         the client of the server to export the board from
+     * @param blobs
+     *         the blob store of the server
+     * @param history
+     *         the file of the event log of the server, or {@code null} to export
+     *         the states only
+     */
+    public BoardExport(Client client, BlobStore blobs, @Nullable Path history) {
+        this.client = checkNotNull(client);
+        this.blobs = checkNotNull(blobs);
+        this.descriptions = Descriptions.storeIn(blobs);
+        this.history = history;
+    }
+
+    /**
+     * Exports the board to the file, overwriting the file if it exists.
+     *
+     * @return the number of the written records
+     * @throws IllegalArgumentException
+     *         if there is no such board
+     */
+    public long run(BoardId board, Path file) throws IOException {
+        checkNotNull(board);
+        checkNotNull(file);
+        Board state = query(Board.class, ImmutableList.of(board))
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> newIllegalArgumentException(
+                        "There is no board `%s`.", board.getUuid()));
+        Set<Message> members = new HashSet<>();
+        members.add(board);
+        Set<String> writtenBlobs = new HashSet<>();
+        try (DumpWriter out = DumpWriter.create(file)) {
+            out.write(DumpRecord.newBuilder()
+                                .setHeader(header(board))
+                                .build());
+            out.write(DumpRecord.newBuilder()
+                                .setBoard(state)
+                                .build());
+            Map<ColumnId, Column> columns =
+                    byId(query(Column.class, state.getColumnList()), Column::getId);
+            for (ColumnId id : state.getColumnList()) {
+                Column column = columns.get(id);
+                if (column != null) {
+                    members.add(id);
+                    out.write(DumpRecord.newBuilder()
+                                        .setColumn(column)
+                                        .build());
+                    writeCards(column, out, members, writtenBlobs);
+                }
+            }
+            if (history != null) {
+                writeHistory(out, members);
+            }
+            return out.records();
+        }
+    }
+
+    private static DumpHeader header(BoardId board) {
+        return DumpHeader
+                .newBuilder()
+                .setVersion(DumpReader.VERSION)
+                .setBoard(board)
+                .setWhenExported(Time.currentTime())
+                .vBuild();
+    }
+
+    private void writeCards(Column column,
+                            DumpWriter out,
+                            Set<Message> members,
+                            Set<String> writtenBlobs) throws IOException {
+        for (List<CardId> chunk : Lists.partition(column.getCardList(), QUERY_CHUNK)) {
+            Map<CardId, Card> cards = byId(query(Card.class, chunk), Card::getId);
+            for (CardId id : chunk) {
+                Card card = cards.get(id);
+                if (card != null) {
+                    if (history != null) {
+                        members.add(id);
+                    }
+                    writeBlobs(card, out, writtenBlobs);
+                    out.write(DumpRecord.newBuilder()
+                                        .setCard(card)
+                                        .build());
+                }
+            }
+        }
+    }
+
+    private void writeBlobs(Card card, DumpWriter out, Set<String> writtenBlobs)
+            throws IOException {
+        if (card.hasFullDescription()) {
+            BlobRef description = card.getFullDescription();
+            if (writtenBlobs.add(DESCRIPTION_PREFIX + description.getSha256())) {
+                out.writeDescription(description, descriptions);
+            }
+        }
+        for (Attachment attachment : card.getAttachmentList()) {
+            BlobRef content = attachment.getContent();
+            if (writtenBlobs.add(content.getSha256())) {
+                out.writeAttachment(content, blobs);
+            }
+        }
+    }
+
+    private void writeHistory(DumpWriter out, Set<Message> members) throws IOException {
+        checkNotNull(history);
+        try (EventLogReader reader = EventLogReader.open(history, 0)) {
+            Optional<Event> event = reader.next();
+            while (event.isPresent()) {
+                if (concerns(event.get(), members)) {
+                    out.write(DumpRecord.newBuilder()
+                                        .setEvent(event.get())
+                                        .build());
+                }
+                event = reader.next();
+            }
+        }
+    }
+
+    /**
+     * Tells if the event has a field with the ID of the board, one of its columns or
+     * one of its cards.
+     */
+    private static boolean concerns(Event event, Set<Message> members) {
+        return event.enclosedMessage()
+                    .getAllFields()
+                    .values()
+                    .stream()
+                    .anyMatch(members::contains);
+    }
+
+    private <S extends EntityState> ImmutableList<S> query(Class<S> type, List<?> ids) {
+        if (ids.isEmpty()) {
+            return ImmutableList.of();
+        }
+        return client.asGuest()
+                     .select(type)
+                     .byId(ids)
+                     .run();
+    }
+
+    private static <I, S> Map<I, S> byId(List<S> states, Function<S, I> id) {
+        Map<I, S> result = new HashMap<>(states.size());
+        for (S state : states) {
+            result.put(id.apply(state), state);
+        }
+        return result;
+    }
+}
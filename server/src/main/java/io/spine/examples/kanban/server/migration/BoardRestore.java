@@ -0,0 +1,295 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.migration;
+
+import io.spine.base.CommandMessage;
+import io.spine.examples.kanban.BlobRef;
+import io.spine.examples.kanban.Board;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.Card;
+import io.spine.examples.kanban.CardId;
+import io.spine.examples.kanban.Column;
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.command.RestoreBoard;
+import io.spine.examples.kanban.command.RestoreCards;
+import io.spine.examples.kanban.command.RestoreColumn;
+import io.spine.examples.kanban.migration.DumpRecord;
+import io.spine.examples.kanban.server.blob.BlobStore;
+import io.spine.examples.kanban.server.card.Descriptions;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+import static io.spine.util.Exceptions.newIllegalStateException;
+
+/**
+ * Restores a board from a dump file written by the {@link BoardExport}.
+ *
+ * <p>The board, its columns and its cards are restored by the {@link RestoreBoard},
+ * {@link RestoreColumn} and {@link RestoreCards} commands, which set the states of
+ * the entities directly. So a restored board does not go through the initialization with
+ * the default columns, and its cards do not go through the placement to the first column.
+ * The cards are restored in batches.
+ *
+ * <p>The blobs of the dump are put to the blob store of the target server as they are read,
+ * so they are stored before the cards referencing them are restored. The descriptions of
+ * the cards are put to the {@linkplain Descriptions#storeIn(BlobStore) store of
+ * the descriptions} kept apart from the attachments.
+ *
+ * <p>A cloned board gets new IDs for itself, its columns and its cards, so the clone can be
+ * restored to the same server as the original board. Without cloning, a board which already
+ * exists on the server is rejected, and the restore stops before touching its columns and
+ * cards.
+ *
+ * <p>The events of the dump are kept for reference only and are not restored.
+ */
+public final class BoardRestore {
+
+    private final Consumer<CommandMessage> target;
+    private final BlobStore blobs;
+    private final BlobStore descriptions;
+    private final int batchSize;
+    private final boolean clone;
+    private final Map<ColumnId, ColumnId> clonedColumns = new HashMap<>();
+    private final List<Card> batch = new ArrayList<>();
+    private @Nullable ColumnId column;
+    private long cards;
+    private long restoredBlobs;
+    private long skippedEvents;
+
+    /**
+     * Creates a new restore.
+     *
+     * @param target
+     *         posts a command and returns when the command is acknowledged; must not return
+     *         before the {@link RestoreBoard} command is handled, and must throw if it is
+     *         rejected
+     * @param blobs
+     *         the blob store of the target server
+     * @param batchSize
+     *         the number of cards restored by one command
+     * @param clone
+     *         if {@code true}, the restored entities get new IDs
+     */
+    public BoardRestore(Consumer<CommandMessage> target,
+                        BlobStore blobs,
+                        int batchSize,
+                        boolean clone) {
+        checkNotNull(target);
+        checkNotNull(blobs);
+        checkArgument(batchSize > 0, "The batch size must be positive.");
+        this.target = target;
+        this.blobs = blobs;
+        this.descriptions = Descriptions.storeIn(blobs);
+        this.batchSize = batchSize;
+        this.clone = clone;
+    }
+
+    /**
+     * Restores the board from the dump.
+     *
+     * <p>If the target throws on a command, the restore stops and the exception is
+     * propagated.
+     *
+     * @return the ID of the restored board
+     */
+    public BoardId run(Path file) throws IOException {
+        checkNotNull(file);
+        try (DumpReader reader = DumpReader.open(file)) {
+            BoardId restored = clone
+                               ? BoardId.generate()
+                               : reader.header().getBoard();
+            Optional<DumpRecord> record = reader.next();
+            while (record.isPresent()) {
+                restore(record.get(), restored, reader);
+                record = reader.next();
+            }
+            flush();
+            return restored;
+        }
+    }
+
+    private void restore(DumpRecord record, BoardId board, DumpReader reader)
+            throws IOException {
+        switch (record.getKindCase()) {
+            case BOARD:
+                restore(record.getBoard(), board);
+                break;
+            case COLUMN:
+                flush();
+                restore(record.getColumn(), board);
+                break;
+            case CARD:
+                checkState(column != null, "A card precedes all the columns in the dump.");
+                if (reader.header()
+                          .getVersion() < DumpReader.DESCRIPTIONS_VERSION) {
+                    keepDescription(record.getCard());
+                }
+                batch.add(restored(record.getCard(), board));
+                if (batch.size() == batchSize) {
+                    flush();
+                }
+                break;
+            case ATTACHMENT:
+                restore(record.getAttachment(), reader, blobs);
+                break;
+            case DESCRIPTION:
+                restore(record.getDescription(), reader, descriptions);
+                break;
+            case EVENT:
+                skippedEvents++;
+                break;
+            default:
+                throw newIllegalArgumentException(
+                        "Unexpected record in the dump: `%s`.", record.getKindCase());
+        }
+    }
+
+    private void restore(Board state, BoardId board) {
+        Board.Builder restored = state.toBuilder()
+                                      .setId(board);
+        if (clone) {
+            restored.clearColumn();
+            for (ColumnId id : state.getColumnList()) {
+                restored.addColumn(cloneOf(id));
+            }
+            for (Board.TakenColumnName.Builder name : restored.getTakenColumnNamesBuilderList()) {
+                name.setColumn(cloneOf(name.getColumn()));
+            }
+        }
+        target.accept(RestoreBoard
+                              .newBuilder()
+                              .setBoard(board)
+                              .setState(restored)
+                              .vBuild());
+    }
+
+    private void restore(Column state, BoardId board) {
+        ColumnId id = clone
+                      ? cloneOf(state.getId())
+                      : state.getId();
+        column = id;
+        target.accept(RestoreColumn
+                              .newBuilder()
+                              .setColumn(id)
+                              .setState(state.toBuilder()
+                                             .setId(id)
+                                             .setBoard(board)
+                                             .clearCard())
+                              .vBuild());
+    }
+
+    private void restore(BlobRef blob, DumpReader reader, BlobStore store) throws IOException {
+        Optional<BlobRef> stored;
+        try (ReadableByteChannel content = reader.content(blob)) {
+            stored = store.put(content, blob.getSize());
+        }
+        if (!stored.isPresent() || !stored.get().equals(blob)) {
+            throw newIllegalStateException(
+                    "The content of the blob `%s` in the dump is corrupted.", blob.getSha256());
+        }
+        restoredBlobs++;
+    }
+
+    /**
+     * Copies the full description of the card from a dump which keeps it as an attachment
+     * to the store of the descriptions.
+     */
+    private void keepDescription(Card card) {
+        if (!card.hasFullDescription()) {
+            return;
+        }
+        BlobRef description = card.getFullDescription();
+        Optional<byte[]> content = blobs.get(description);
+        if (content.isPresent()) {
+            BlobRef stored = descriptions.put(content.get());
+            checkState(stored.equals(description),
+                       "The content of the blob `%s` is corrupted.", description.getSha256());
+        }
+    }
+
+    private Card restored(Card state, BoardId board) {
+        CardId id = clone
+                    ? CardId.generate()
+                    : state.getId();
+        return state.toBuilder()
+                    .setId(id)
+                    .setBoard(board)
+                    .build();
+    }
+
+    private ColumnId cloneOf(ColumnId original) {
+        return clonedColumns.computeIfAbsent(original, id -> ColumnId.generate());
+    }
+
+    private void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        checkNotNull(column);
+        target.accept(RestoreCards
+                              .newBuilder()
+                              .setColumn(column)
+                              .addAllCard(batch)
+                              .vBuild());
+        cards += batch.size();
+        batch.clear();
+    }
+
+    /**
+     * Returns the number of the restored cards.
+     */
+    public long cards() {
+        return cards;
+    }
+
+    /**
+     * Returns the number of the blobs put to the store.
+     */
+    public long blobs() {
+        return restoredBlobs;
+    }
+
+    /**
+     * Returns the number of the events of the dump, which were not restored.
+     */
+    public long skippedEvents() {
+        return skippedEvents;
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.migration;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableSet;
+import io.spine.base.CommandMessage;
+import io.spine.client.Client;
+import io.spine.client.Subscription;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.command.RestoreBoard;
+import io.spine.examples.kanban.event.BoardRestored;
+import io.spine.examples.kanban.rejection.Rejections.BoardAlreadyExists;
+import io.spine.examples.kanban.server.blob.BlobStore;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Exports a board to a dump file, or restores a board from a dump file.
+ *
+ * <p>Usage:
+ * <pre>
+ * BoardTransfer export &lt;board-uuid&gt; &lt;file&gt; [--server host:port] [--history log-file]
+ *         [--blobs dir]
+ * BoardTransfer import &lt;file&gt; [--server host:port] [--batch 500] [--clone] [--blobs dir]
+ * </pre>
+ *
+ * <p>The {@code --history} option sets the {@linkplain io.spine.examples.kanban.server.history
+ * event log} file of the server to export the events of the board from.
+ *
+ * <p>The {@code --blobs} option sets the directory of the {@linkplain BlobStore blob store} of
+ * the server to copy the blobs of the cards from or to. By default, it is the directory of
+ * the {@linkplain BlobStore#shared() shared} store.
+ *
+ * @see BoardExport
+ * @see BoardRestore
+ */
+public final class BoardTransfer {
+
+    private static final long OUTCOME_TIMEOUT_SECONDS = 30;
+
+    /**
+     * Prevents instantiation of this class.
+     */
+    private BoardTransfer() {
+    }
+
+    /**
+     * The entry point of the tool.
+     */
+    public static void main(String[] args) throws IOException {
+        checkArgument(args.length > 1, "Expected `export` or `import` followed by a file.");
+        String server = Connections.LOCAL_SERVER;
+        @Nullable Path history = null;
+        BlobStore blobs = BlobStore.shared();
+        int batchSize = 500;
+        boolean clone = false;
+        boolean export = "export".equals(args[0]);
+        int first = export ? 3 : 2;
+        for (int i = first; i < args.length; i++) {
+            String option = args[i];
+            if ("--clone".equals(option)) {
+                clone = true;
+                continue;
+            }
+            checkArgument(i + 1 < args.length, "No value for the `%s` option.", option);
+            String value = args[++i];
+            switch (option) {
+                case "--server":
+                    server = value;
+                    break;
+                case "--history":
+                    history = Paths.get(value);
+                    break;
+                case "--blobs":
+                    blobs = BlobStore.at(Paths.get(value));
+                    break;
+                case "--batch":
+                    batchSize = Integer.parseInt(value);
+                    break;
+                default:
+                    throw newIllegalArgumentException("Unknown option `%s`.", option);
+            }
+        }
+        Client client = Connections.connect(server);
+        try {
+            if (export) {
+                checkArgument(args.length > 2, "Expected the board UUID and the file.");
+                export(client, args[1], Paths.get(args[2]), blobs, history);
+            } else {
+                checkArgument("import".equals(args[0]), "Unknown command `%s`.", args[0]);
+                restore(client, Paths.get(args[1]), blobs, batchSize, clone);
+            }
+        } finally {
+            client.close();
+        }
+    }
+
+    private static void export(Client client,
+                               String board,
+                               Path file,
+                               BlobStore blobs,
+                               @Nullable Path history) throws IOException {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        BoardId id = BoardId.newBuilder()
+                            .setUuid(board)
+                            .vBuild();
+        long records = new BoardExport(client, blobs, history).run(id, file);
+        System.out.printf(Locale.ROOT, "Exported %d records in %d ms.%n",
+                          records, stopwatch.elapsed(MILLISECONDS));
+    }
+
+    private static void restore(Client client,
+                                Path file,
+                                BlobStore blobs,
+                                int batchSize,
+                                boolean clone) throws IOException {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        BoardRestore restore = new BoardRestore(
+                command -> post(client, command),
+                blobs, batchSize, clone
+        );
+        BoardId board = restore.run(file);
+        System.out.printf(Locale.ROOT,
+                          "Restored the board `%s` with %d cards and %d blobs in %d ms.%n",
+                          board.getUuid(), restore.cards(), restore.blobs(),
+                          stopwatch.elapsed(MILLISECONDS));
+    }
+
+    /**
+     * Posts the command.
+     *
+     * <p>The {@link RestoreBoard} command is awaited until the board is restored, so that
+     * the restore stops if the board already exists.
+     */
+    private static void post(Client client, CommandMessage command) {
+        if (command instanceof RestoreBoard) {
+            restoreBoard(client, (RestoreBoard) command);
+        } else {
+            client.asGuest()
+                  .command(command)
+                  .post();
+        }
+    }
+
+    /**
+     * Posts the command and waits until the board is restored.
+     *
+     * @throws IllegalStateException
+     *         if the board already exists, the command is refused by the server, or
+     *         there is no outcome in time
+     */
+    private static void restoreBoard(Client client, RestoreBoard command) {
+        CompletableFuture<Optional<String>> outcome = new CompletableFuture<>();
+        ImmutableSet<Subscription> subscriptions = client
+                .asGuest()
+                .command(command)
+                .observe(BoardRestored.class, e -> outcome.complete(Optional.empty()))
+                .observe(BoardAlreadyExists.class,
+                         r -> outcome.complete(Optional.of("the board already exists")))
+                .onServerError((c, error) -> outcome.complete(Optional.of(error.getMessage())))
+                .post();
+        try {
+            Optional<String> failure = outcome.get(OUTCOME_TIMEOUT_SECONDS, SECONDS);
+            if (failure.isPresent()) {
+                throw newIllegalStateException("Cannot restore the board `%s`: %s.",
+                                               command.getBoard().getUuid(), failure.get());
+            }
+        } catch (TimeoutException e) {
+            throw newIllegalStateException(e, "The board is not restored in %d s.",
+                                           OUTCOME_TIMEOUT_SECONDS);
+        } catch (ExecutionException e) {
+            throw newIllegalStateException(e, "Cannot restore the board.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw newIllegalStateException(e, "Interrupted waiting for the board.");
+        } finally {
+            subscriptions.forEach(client.subscriptions()::cancel);
+        }
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.migration;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.spine.client.Client;
+import io.spine.client.Subscription;
+import io.spine.examples.kanban.command.ImportCards;
+import io.spine.examples.kanban.event.CardsImported;
+import io.spine.examples.kanban.migration.CardRecord;
+import io.spine.examples.kanban.rejection.Rejections.CardAlreadyInColumn;
+import io.spine.examples.kanban.rejection.Rejections.UnknownColumn;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Imports cards from a file into the Kanban context.
+ *
+ * <p>The records are read as a stream and grouped into {@link ImportCards} batches by
+ * column. Each batch is placed into its column with a single event, instead of the chain
+ * of the placement events run for every card created by {@code CreateCard}.
+ *
+ * <p>Not more than the given number of batches are posted at once. When all of them wait
+ * for the acknowledgement, reading of the file pauses. Together with the bounded
+ * {@linkplain ImportBatcher batching}, this keeps the memory use independent of the file size.
+ *
+ * <p>A batch counts as imported only when its cards are placed into the column. A batch
+ * refused by the server or rejected by the column counts as failed.
+ *
+ * <p>The progress is reported every few seconds.
+ */
+public final class CardImport {
+
+    private static final long REPORT_PERIOD_SECONDS = 5;
+    private static final long OUTCOME_TIMEOUT_SECONDS = 30;
+
+    private final Consumer<ImportCards> target;
+    private final ImportBatcher batcher;
+    private final int inFlight;
+    private final Semaphore permits;
+    private final PrintStream log;
+    private final AtomicLong cards = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+
+    /**
+     * Creates a new import.
+     *
+     * @param target
+     *         posts a batch and returns when its cards are imported, or throws
+     *         a {@code RuntimeException} if the batch is refused or rejected
+     * @param batchSize
+     *         the number of cards in a batch
+     * @param maxBuffered
+     *         the maximum number of cards waiting for their batch to complete
+     * @param inFlight
+     *         the maximum number of batches posted at once
+     * @param log
+     *         the stream to report the progress to
+     */
+    public CardImport(
+            Consumer<ImportCards> target,
+            int batchSize,
+            int maxBuffered,
+            int inFlight,
+            PrintStream log
+    ) {
+        checkNotNull(target);
+        checkNotNull(log);
+        checkArgument(inFlight > 0, "The number of batches in flight must be positive.");
+        this.target = target;
+        this.batcher = new ImportBatcher(batchSize, maxBuffered);
+        this.inFlight = inFlight;
+        this.permits = new Semaphore(inFlight);
+        this.log = log;
+    }
+
+    /**
+     * Imports all the records of the reader.
+     *
+     * @return the number of the imported cards
+     */
+    public long run(CardRecordReader reader) throws IOException, InterruptedException {
+        checkNotNull(reader);
+        ExecutorService posting =
+                Executors.newFixedThreadPool(inFlight, daemon("kanban-import-%d"));
+        ScheduledExecutorService reporting =
+                Executors.newSingleThreadScheduledExecutor(daemon("kanban-import-report"));
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        reporting.scheduleAtFixedRate(() -> report(stopwatch),
+                                      REPORT_PERIOD_SECONDS, REPORT_PERIOD_SECONDS, SECONDS);
+        try {
+            Optional<CardRecord> record = reader.next();
+            while (record.isPresent()) {
+                Optional<ImportCards> batch = batcher.add(record.get());
+                if (batch.isPresent()) {
+                    post(batch.get(), posting);
+                }
+                record = reader.next();
+            }
+            for (ImportCards batch : batcher.flush()) {
+                post(batch, posting);
+            }
+            permits.acquire(inFlight);
+            permits.release(inFlight);
+        } finally {
+            posting.shutdownNow();
+            reporting.shutdownNow();
+        }
+        report(stopwatch);
+        long failed = failedBatches.get();
+        if (failed > 0) {
+            log.printf(Locale.ROOT, "%d batches failed to import.%n", failed);
+        }
+        return cards.get();
+    }
+
+    private void post(ImportCards batch, ExecutorService posting) throws InterruptedException {
+        permits.acquire();
+        posting.execute(() -> {
+            try {
+                target.accept(batch);
+                cards.addAndGet(batch.getCardCount());
+                batches.incrementAndGet();
+            } catch (RuntimeException e) {
+                failedBatches.incrementAndGet();
+                log.printf(Locale.ROOT, "Failed to import a batch into the column `%s`: %s%n",
+                           batch.getColumn().getUuid(), e);
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    private void report(Stopwatch stopwatch) {
+        long elapsed = Math.max(1, stopwatch.elapsed(MILLISECONDS));
+        long imported = cards.get();
+        log.printf(Locale.ROOT, "Imported %d cards in %d batches in %.1f s, %.0f cards/s.%n",
+                   imported, batches.get(), elapsed / 1000.0, imported * 1000.0 / elapsed);
+    }
+
+    private static ThreadFactory daemon(String nameFormat) {
+        return new ThreadFactoryBuilder()
+                .setNameFormat(nameFormat)
+                .setDaemon(true)
+                .build();
+    }
+
+    /**
+     * Imports the cards from a file into the Kanban server.
+     *
+     * <p>Usage:
+     * <pre>
+     * CardImport &lt;file&gt; [--server host:port] [--format jsonl|csv] [--batch 500]
+     *            [--buffer 50000] [--in-flight 4]
+     * </pre>
+     *
+     * <p>The format is detected by the file extension if not set.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        checkArgument(args.length > 0, "Expected the path of the file to import.");
+        Path file = Paths.get(args[0]);
+        String server = Connections.LOCAL_SERVER;
+        String format = file.toString().endsWith(".csv") ? "csv" : "jsonl";
+        int batchSize = 500;
+        int buffer = 50_000;
+        int inFlight = 4;
+        for (int i = 1; i < args.length; i += 2) {
+            checkArgument(i + 1 < args.length, "No value for the `%s` option.", args[i]);
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--server":
+                    server = value;
+                    break;
+                case "--format":
+                    format = value;
+                    break;
+                case "--batch":
+                    batchSize = Integer.parseInt(value);
+                    break;
+                case "--buffer":
+                    buffer = Integer.parseInt(value);
+                    break;
+                case "--in-flight":
+                    inFlight = Integer.parseInt(value);
+                    break;
+                default:
+                    throw newIllegalArgumentException("Unknown option `%s`.", args[i]);
+            }
+        }
+        Client client = Connections.connect(server);
+        CardImport cardImport = new CardImport(
+                batch -> postAndAwait(client, batch),
+                batchSize, buffer, inFlight, System.out
+        );
+        try (CardRecordReader reader = readerOf(file, format)) {
+            cardImport.run(reader);
+        } finally {
+            client.close();
+        }
+    }
+
+    /**
+     * Posts the batch and waits until the cards are imported.
+     *
+     * <p>An acknowledgement tells only that the command is accepted for dispatching, so
+     * the outcome of the batch is observed as the events produced by the command.
+     *
+     * @throws IllegalStateException
+     *         if the batch is refused by the server, rejected by the column, or has no
+     *         outcome in time
+     */
+    private static void postAndAwait(Client client, ImportCards batch) {
+        CompletableFuture<Optional<String>> outcome = new CompletableFuture<>();
+        ImmutableSet<Subscription> subscriptions = client
+                .asGuest()
+                .command(batch)
+                .observe(CardsImported.class, e -> outcome.complete(Optional.empty()))
+                .observe(UnknownColumn.class,
+                         r -> outcome.complete(Optional.of("the column is unknown")))
+                .observe(CardAlreadyInColumn.class,
+                         r -> outcome.complete(Optional.of(
+                                 "the card `" + r.getCard().getUuid() + "` is already imported"
+                         )))
+                .onServerError((command, error) -> outcome.complete(
+                        Optional.of(error.getMessage())
+                ))
+                .post();
+        try {
+            Optional<String> failure = outcome.get(OUTCOME_TIMEOUT_SECONDS, SECONDS);
+            if (failure.isPresent()) {
+                throw newIllegalStateException("The batch failed: %s.", failure.get());
+            }
+        } catch (TimeoutException e) {
+            throw newIllegalStateException(e, "The batch has no outcome in %d s.",
+                                           OUTCOME_TIMEOUT_SECONDS);
+        } catch (ExecutionException e) {
+            throw newIllegalStateException(e, "The batch failed.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw newIllegalStateException(e, "Interrupted waiting for the batch.");
+        } finally {
+            subscriptions.forEach(client.subscriptions()::cancel);
+        }
+    }
+
+    private static CardRecordReader readerOf(Path file, String format) throws IOException {
+        switch (format) {
+            case "csv":
+                return CardRecordReader.csv(Files.newBufferedReader(file, UTF_8));
+            case "jsonl":
+                return CardRecordReader.jsonLines(Files.newBufferedReader(file, UTF_8));
+            default:
+                throw newIllegalArgumentException("Unknown format `%s`.", format);
+        }
+    }
+}
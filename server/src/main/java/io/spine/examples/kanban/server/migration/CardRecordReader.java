@@ -0,0 +1,89 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.migration;
+
+import io.spine.examples.kanban.migration.CardRecord;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.json.Json.fromJson;
+
+/**
+ * Reads the {@link CardRecord}s from a text stream one by one.
+ *
+ * <p>Only the current record is kept in memory, so files of any size can be read.
+ */
+public interface CardRecordReader extends Closeable {
+
+    /**
+     * Reads the next record.
+     *
+     * @return the record or empty {@code Optional} if the stream is over
+     */
+    Optional<CardRecord> next() throws IOException;
+
+    /**
+     * Creates a reader of the JSON Lines format, with a JSON of a record on each line.
+     *
+     * <p>Blank lines are skipped.
+     */
+    static CardRecordReader jsonLines(BufferedReader in) {
+        checkNotNull(in);
+        return new CardRecordReader() {
+            @Override
+            public Optional<CardRecord> next() throws IOException {
+                String line;
+                do {
+                    line = in.readLine();
+                    if (line == null) {
+                        return Optional.empty();
+                    }
+                } while (line.trim().isEmpty());
+                return Optional.of(fromJson(line, CardRecord.class));
+            }
+
+            @Override
+            public void close() throws IOException {
+                in.close();
+            }
+        };
+    }
+
+    /**
+     * Creates a reader of the CSV format.
+     *
+     * @see CsvCardReader
+     */
+    static CardRecordReader csv(BufferedReader in) {
+        checkNotNull(in);
+        return new CsvCardReader(in);
+    }
+}
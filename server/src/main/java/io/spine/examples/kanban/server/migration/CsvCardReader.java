@@ -0,0 +1,168 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.migration;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.examples.kanban.migration.CardRecord;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * Reads the {@link CardRecord}s from CSV.
+ *
+ * <p>The first line is a header naming the columns: {@code column}, {@code card},
+ * {@code name} and {@code description}, in any order. The {@code card} and
+ * {@code description} columns are optional.
+ *
+ * <p>The values follow RFC 4180: a value containing commas, quotes or line breaks is
+ * enclosed in double quotes, and a quote inside such a value is doubled.
+ */
+final class CsvCardReader implements CardRecordReader {
+
+    private static final char QUOTE = '"';
+    private static final char SEPARATOR = ',';
+
+    private final BufferedReader in;
+    private final StringBuilder value = new StringBuilder();
+    private @MonotonicNonNull Header header;
+
+    CsvCardReader(BufferedReader in) {
+        this.in = in;
+    }
+
+    @Override
+    public Optional<CardRecord> next() throws IOException {
+        if (header == null) {
+            Optional<ImmutableList<String>> names = readRow();
+            if (!names.isPresent()) {
+                return Optional.empty();
+            }
+            header = new Header(names.get());
+        }
+        Optional<ImmutableList<String>> row = readRow();
+        return row.map(header::toRecord);
+    }
+
+    /**
+     * Reads the values of the next row.
+     *
+     * @return the values or empty {@code Optional} if the stream is over
+     */
+    private Optional<ImmutableList<String>> readRow() throws IOException {
+        int c = in.read();
+        while (c == '\n' || c == '\r') {
+            c = in.read();
+        }
+        if (c < 0) {
+            return Optional.empty();
+        }
+        List<String> values = new ArrayList<>();
+        value.setLength(0);
+        boolean quoted = false;
+        while (c >= 0) {
+            if (quoted) {
+                if (c == QUOTE) {
+                    in.mark(1);
+                    if (in.read() == QUOTE) {
+                        value.append(QUOTE);
+                    } else {
+                        in.reset();
+                        quoted = false;
+                    }
+                } else {
+                    value.append((char) c);
+                }
+            } else if (c == QUOTE) {
+                quoted = true;
+            } else if (c == SEPARATOR) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                break;
+            } else {
+                value.append((char) c);
+            }
+            c = in.read();
+        }
+        values.add(value.toString());
+        return Optional.of(ImmutableList.copyOf(values));
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * The positions of the record fields in a row.
+     */
+    private static final class Header {
+
+        private final int column;
+        private final int card;
+        private final int name;
+        private final int description;
+
+        private Header(ImmutableList<String> names) {
+            this.column = required(names, "column");
+            this.card = names.indexOf("card");
+            this.name = required(names, "name");
+            this.description = names.indexOf("description");
+        }
+
+        private static int required(ImmutableList<String> names, String name) {
+            int index = names.indexOf(name);
+            if (index < 0) {
+                throw newIllegalArgumentException(
+                        "The CSV header `%s` has no `%s` column.", names, name
+                );
+            }
+            return index;
+        }
+
+        private CardRecord toRecord(ImmutableList<String> row) {
+            return CardRecord
+                    .newBuilder()
+                    .setColumn(valueAt(row, column))
+                    .setCard(valueAt(row, card))
+                    .setName(valueAt(row, name))
+                    .setDescription(valueAt(row, description))
+                    .build();
+        }
+
+        private static String valueAt(ImmutableList<String> row, int index) {
+            return index >= 0 && index < row.size() ? row.get(index) : "";
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.migration;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.spine.examples.kanban.BlobRef;
+import io.spine.examples.kanban.migration.DumpHeader;
+import io.spine.examples.kanban.migration.DumpRecord;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Reads a board dump written by the {@link DumpWriter} record by record.
+ *
+ * <p>Only the current record is kept in memory, so dumps of any size can be read.
+ */
+final class DumpReader implements Closeable {
+
+    /**
+     * The version of the dump format written by this version of the application.
+     *
+     * <p>The dumps of the earlier versions are read as well. The first version has no blobs,
+     * and the second one keeps the descriptions of the cards as attachments.
+     */
+    static final int VERSION = 3;
+
+    /**
+     * The first version of the dump format which keeps the descriptions of the cards apart
+     * from the attachments.
+     */
+    static final int DESCRIPTIONS_VERSION = 3;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final InputStream stream;
+    private final CodedInputStream in;
+    private final DumpHeader header;
+
+    private DumpReader(InputStream stream) throws IOException {
+        this.stream = stream;
+        this.in = CodedInputStream.newInstance(stream, BUFFER_SIZE);
+        this.header = readHeader();
+    }
+
+    /**
+     * Opens the dump file and reads its header.
+     *
+     * @throws IllegalArgumentException
+     *         if the file does not start with the header of a known version
+     */
+    static DumpReader open(Path file) throws IOException {
+        checkNotNull(file);
+        InputStream stream = Channels.newInputStream(FileChannel.open(file, READ));
+        try {
+            return new DumpReader(stream);
+        } catch (IOException | RuntimeException e) {
+            stream.close();
+            throw e;
+        }
+    }
+
+    private DumpHeader readHeader() throws IOException {
+        Optional<DumpRecord> first;
+        try {
+            first = next();
+        } catch (InvalidProtocolBufferException e) {
+            throw newIllegalArgumentException(e, "The file is not a board dump.");
+        }
+        if (!first.isPresent() || !first.get().hasHeader()) {
+            throw newIllegalArgumentException("The file is not a board dump.");
+        }
+        DumpHeader result = first.get().getHeader();
+        if (result.getVersion() < 1 || result.getVersion() > VERSION) {
+            throw newIllegalArgumentException(
+                    "Unsupported version of the dump format: %d.", result.getVersion());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the header of the dump.
+     */
+    DumpHeader header() {
+        return header;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the record or empty {@code Optional} if the dump is over
+     */
+    Optional<DumpRecord> next() throws IOException {
+        if (in.isAtEnd()) {
+            return Optional.empty();
+        }
+        DumpRecord record =
+                in.readMessage(DumpRecord.parser(), ExtensionRegistryLite.getEmptyRegistry());
+        in.resetSizeCounter();
+        return Optional.of(record);
+    }
+
+    /**
+     * Opens the content of the blob read by the last call to {@link #next()}.
+     *
+     * <p>The content must be read to its end before reading the next record.
+     */
+    ReadableByteChannel content(BlobRef blob) {
+        checkNotNull(blob);
+        return new Content(blob.getSize());
+    }
+
+    @Override
+    public void close() throws IOException {
+        stream.close();
+    }
+
+    /**
+     * The raw bytes of a blob which follow its record.
+     */
+    private final class Content implements ReadableByteChannel {
+
+        private long remaining;
+        private boolean open = true;
+
+        private Content(long size) {
+            this.remaining = size;
+        }
+
+        @Override
+        public int read(ByteBuffer target) throws IOException {
+            if (!open) {
+                throw new ClosedChannelException();
+            }
+            if (remaining == 0) {
+                return -1;
+            }
+            int length = (int) Math.min(Math.min(remaining, target.remaining()), BUFFER_SIZE);
+            target.put(in.readRawBytes(length));
+            in.resetSizeCounter();
+            remaining -= length;
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.migration;
+
+import com.google.protobuf.CodedOutputStream;
+import io.spine.examples.kanban.BlobRef;
+import io.spine.examples.kanban.migration.DumpRecord;
+import io.spine.examples.kanban.server.blob.BlobStore;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Writes a board dump as a sequence of length-delimited {@link DumpRecord}s.
+ *
+ * <p>The records are serialized into a large buffer, which is written to the file when full.
+ * The content of a blob bypasses the buffer and is transferred from the blob file directly.
+ */
+final class DumpWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final CodedOutputStream out;
+    private long records;
+
+    private DumpWriter(FileChannel channel) {
+        this.channel = channel;
+        this.out = CodedOutputStream.newInstance(Channels.newOutputStream(channel), BUFFER_SIZE);
+    }
+
+    /**
+     * Creates the writer of the file, overwriting the file if it exists.
+     */
+    static DumpWriter create(Path file) throws IOException {
+        checkNotNull(file);
+        return new DumpWriter(FileChannel.open(file, CREATE, TRUNCATE_EXISTING, WRITE));
+    }
+
+    /**
+     * Writes the record.
+     */
+    void write(DumpRecord record) throws IOException {
+        checkNotNull(record);
+        out.writeUInt32NoTag(record.getSerializedSize());
+        record.writeTo(out);
+        records++;
+    }
+
+    /**
+     * Writes the record of the attachment followed by its content.
+     *
+     * @return {@code true} if the blob was written, {@code false} if it is not in the store
+     */
+    boolean writeAttachment(BlobRef blob, BlobStore store) throws IOException {
+        return writeBlob(blob, store, DumpRecord.Builder::setAttachment);
+    }
+
+    /**
+     * Writes the record of the card description followed by its content.
+     *
+     * @param blob
+     *         the full description of a card
+     * @param store
+     *         the store of the descriptions
+     * @return {@code true} if the blob was written, {@code false} if it is not in the store
+     */
+    boolean writeDescription(BlobRef blob, BlobStore store) throws IOException {
+        return writeBlob(blob, store, DumpRecord.Builder::setDescription);
+    }
+
+    private boolean writeBlob(BlobRef blob,
+                              BlobStore store,
+                              BiConsumer<DumpRecord.Builder, BlobRef> kind) throws IOException {
+        checkNotNull(blob);
+        checkNotNull(store);
+        Optional<Long> size = store.sizeOf(blob);
+        if (!size.isPresent()) {
+            return false;
+        }
+        DumpRecord.Builder record = DumpRecord.newBuilder();
+        kind.accept(record, blob.toBuilder()
+                                .setSize(size.get())
+                                .build());
+        write(record.build());
+        out.flush();
+        store.transferTo(blob, channel);
+        return true;
+    }
+
+    /**
+     * Returns the number of the written records.
+     */
+    long records() {
+        return records;
+    }
+
+    /**
+     * Writes the buffered records to the storage device and closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            out.flush();
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.migration;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.examples.kanban.CardId;
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.ImportedCard;
+import io.spine.examples.kanban.command.ImportCards;
+import io.spine.examples.kanban.migration.CardRecord;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+
+/**
+ * Groups the imported cards into batches by column.
+ *
+ * <p>A batch is complete when it reaches the batch size. If the input interleaves many
+ * columns, the number of the buffered cards is still bounded: when the limit is reached,
+ * the largest incomplete batch is emitted early.
+ *
+ * <p>The class is not thread-safe.
+ */
+final class ImportBatcher {
+
+    private final int batchSize;
+    private final int maxBuffered;
+    private final Map<ColumnId, List<ImportedCard>> batches = new HashMap<>();
+    private int buffered;
+
+    /**
+     * Creates a new batcher.
+     *
+     * @param batchSize
+     *         the number of cards in a complete batch
+     * @param maxBuffered
+     *         the maximum number of cards kept in all the incomplete batches
+     */
+    ImportBatcher(int batchSize, int maxBuffered) {
+        checkArgument(batchSize > 0, "The batch size must be positive: %s.", batchSize);
+        checkArgument(maxBuffered >= batchSize,
+                      "Cannot buffer %s cards with batches of %s.", maxBuffered, batchSize);
+        this.batchSize = batchSize;
+        this.maxBuffered = maxBuffered;
+    }
+
+    /**
+     * Adds the card to the batch of its column.
+     *
+     * @return the batch to post, if the card completes a batch or the buffer is full
+     */
+    Optional<ImportCards> add(CardRecord record) {
+        ColumnId column = ColumnId
+                .newBuilder()
+                .setUuid(record.getColumn())
+                .vBuild();
+        CardId card = record.getCard().isEmpty()
+                      ? CardId.generate()
+                      : CardId.newBuilder()
+                              .setUuid(record.getCard())
+                              .vBuild();
+        ImportedCard imported = ImportedCard
+                .newBuilder()
+                .setCard(card)
+                .setName(record.getName())
+                .setDescription(record.getDescription())
+                .vBuild();
+        List<ImportedCard> batch = batches.computeIfAbsent(column, c -> new ArrayList<>());
+        batch.add(imported);
+        buffered++;
+        if (batch.size() >= batchSize) {
+            return Optional.of(take(column));
+        }
+        if (buffered > maxBuffered) {
+            ColumnId largest = Collections.max(
+                    batches.entrySet(), Map.Entry.comparingByValue(
+                            (a, b) -> Integer.compare(a.size(), b.size()))
+            ).getKey();
+            return Optional.of(take(largest));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Takes all the incomplete batches.
+     */
+    ImmutableList<ImportCards> flush() {
+        ImmutableList<ColumnId> columns = ImmutableList.copyOf(batches.keySet());
+        return columns.stream()
+                      .map(this::take)
+                      .collect(toImmutableList());
+    }
+
+    private ImportCards take(ColumnId column) {
+        List<ImportedCard> batch = batches.remove(column);
+        buffered -= batch.size();
+        return ImportCards
+                .newBuilder()
+                .setColumn(column)
+                .addAllCard(batch)
+                .vBuild();
+    }
+}
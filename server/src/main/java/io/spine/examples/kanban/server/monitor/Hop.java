@@ -0,0 +1,142 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.monitor;
+
+import com.google.protobuf.Any;
+import io.spine.base.RejectionMessage;
+import io.spine.core.MessageId;
+import io.spine.core.Origin;
+import io.spine.core.Signal;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Optional;
+
+/**
+ * A signal posted to the Kanban context along with the signal which caused it.
+ *
+ * <p>For a signal produced by a handler, the time between the posting of the origin signal
+ * and the posting of the produced signal is the time the hop took. It covers waiting for
+ * the delivery, loading the entity, running the handler and storing the entity.
+ *
+ * <p>Signals posted by users, such as commands sent from the UI, have no origin.
+ */
+public final class Hop {
+
+    private final Signal<?, ?, ?> signal;
+    private final String type;
+    private final @Nullable Origin origin;
+    private final long postedNanos;
+    private final long originPostedNanos;
+
+    Hop(Signal<?, ?, ?> signal, @Nullable Origin origin, long postedNanos, long originPostedNanos) {
+        this.signal = signal;
+        this.type = signal.enclosedMessage()
+                          .getClass()
+                          .getSimpleName();
+        this.origin = origin;
+        this.postedNanos = postedNanos;
+        this.originPostedNanos = originPostedNanos;
+    }
+
+    /**
+     * Returns the posted signal.
+     */
+    public Signal<?, ?, ?> signal() {
+        return signal;
+    }
+
+    /**
+     * Returns the simple name of the posted signal type, e.g. {@code ColumnPlaced}.
+     */
+    public String type() {
+        return type;
+    }
+
+    /**
+     * Returns the ID of the posted signal.
+     */
+    public Any id() {
+        return signal.messageId()
+                     .getId();
+    }
+
+    /**
+     * Returns the ID of the signal which started the chain the posted signal belongs to.
+     *
+     * <p>For a signal posted by a user, this is the ID of the signal itself.
+     */
+    public Any rootId() {
+        return signal.rootMessage()
+                     .getId();
+    }
+
+    /**
+     * Tells whether the posted signal is a rejection.
+     */
+    public boolean isRejection() {
+        return signal.enclosedMessage() instanceof RejectionMessage;
+    }
+
+    /**
+     * Returns the simple name of the origin signal type, or empty if the signal has no origin.
+     */
+    public Optional<String> originType() {
+        return Optional.ofNullable(origin)
+                       .map(o -> simpleName(o.getMessage()));
+    }
+
+    /**
+     * Returns the ID of the origin signal, or empty if the signal has no origin.
+     */
+    public Optional<Any> originId() {
+        return Optional.ofNullable(origin)
+                       .map(o -> o.getMessage()
+                                  .getId());
+    }
+
+    /**
+     * Returns the {@link System#nanoTime()} at which the signal was posted.
+     */
+    public long postedNanos() {
+        return postedNanos;
+    }
+
+    /**
+     * Returns the {@link System#nanoTime()} at which the origin signal was posted, or empty if
+     * the signal has no origin or the origin was posted too long ago to be remembered.
+     */
+    public Optional<Long> originPostedNanos() {
+        return origin == null || originPostedNanos < 0
+               ? Optional.empty()
+               : Optional.of(originPostedNanos);
+    }
+
+    private static String simpleName(MessageId message) {
+        String typeUrl = message.getTypeUrl();
+        return typeUrl.substring(typeUrl.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.monitor;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Metrics of a hop between signals of the given types, e.g. from {@code PlaceColumn} to
+ * {@code ColumnPlaced}.
+ *
+ * <p>A hop between two signal types corresponds to a single handler method, e.g.
+ * {@code BoardAggregate.handle(PlaceColumn)}.
+ */
+public final class HopMetrics implements HopMetricsMXBean {
+
+    /**
+     * The number of significant decimal digits kept by the histograms.
+     */
+    private static final int PRECISION = 2;
+
+    private final String origin;
+    private final String produced;
+    private final Recorder recorder = new Recorder(PRECISION);
+    private final Histogram total = new Histogram(PRECISION);
+
+    HopMetrics(String origin, String produced) {
+        this.origin = origin;
+        this.produced = produced;
+    }
+
+    void record(long nanos) {
+        recorder.recordValue(NANOSECONDS.toMicros(nanos));
+    }
+
+    /**
+     * Returns the latencies of all the hops recorded so far, in microseconds.
+     */
+    synchronized Histogram latencies() {
+        total.add(recorder.getIntervalHistogram());
+        return total.copy();
+    }
+
+    @Override
+    public String getOrigin() {
+        return origin;
+    }
+
+    @Override
+    public String getProduced() {
+        return produced;
+    }
+
+    @Override
+    public long getCount() {
+        return latencies().getTotalCount();
+    }
+
+    @Override
+    public double getMeanMillis() {
+        return latencies().getMean() / 1000.0;
+    }
+
+    @Override
+    public double getP50Millis() {
+        return latencies().getValueAtPercentile(50) / 1000.0;
+    }
+
+    @Override
+    public double getP99Millis() {
+        return latencies().getValueAtPercentile(99) / 1000.0;
+    }
+
+    @Override
+    public double getMaxMillis() {
+        return latencies().getMaxValue() / 1000.0;
+    }
+}
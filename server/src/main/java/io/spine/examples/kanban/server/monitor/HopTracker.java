@@ -0,0 +1,108 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.monitor;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.protobuf.Any;
+import io.spine.core.Origin;
+import io.spine.core.Signal;
+import io.spine.server.BoundedContextBuilder;
+import io.spine.server.type.CommandEnvelope;
+import io.spine.server.type.EventEnvelope;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+/**
+ * Observes signals posted to a Bounded Context and reports them as {@linkplain Hop hops}.
+ *
+ * <p>The tracker remembers when each signal was posted. When a signal caused by another one is
+ * posted, the tracker looks up the posting time of the origin. To keep the memory bounded,
+ * only the most recent signals are remembered.
+ */
+public final class HopTracker {
+
+    private static final int REMEMBERED_SIGNALS = 100_000;
+
+    private final Cache<Any, Long> postingTimes = CacheBuilder
+            .newBuilder()
+            .maximumSize(REMEMBERED_SIGNALS)
+            .expireAfterWrite(1, MINUTES)
+            .build();
+    private final List<HopListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Starts observing the context being built.
+     */
+    public void attachTo(BoundedContextBuilder context) {
+        context.addCommandListener(this::commandPosted);
+        context.addEventListener(this::eventPosted);
+    }
+
+    /**
+     * Adds the listener of the hops.
+     */
+    public void addListener(HopListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes the listener of the hops.
+     */
+    public void removeListener(HopListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void commandPosted(CommandEnvelope command) {
+        posted(command.outerObject());
+    }
+
+    private void eventPosted(EventEnvelope event) {
+        posted(event.outerObject());
+    }
+
+    private void posted(Signal<?, ?, ?> signal) {
+        long now = System.nanoTime();
+        postingTimes.put(signal.messageId()
+                               .getId(), now);
+        Origin origin = signal.origin()
+                              .orElse(null);
+        long originPosted = -1;
+        if (origin != null) {
+            Long time = postingTimes.getIfPresent(origin.getMessage()
+                                                        .getId());
+            originPosted = time == null ? -1 : time;
+        }
+        Hop hop = new Hop(signal, origin, now, originPosted);
+        for (HopListener listener : listeners) {
+            listener.onHop(hop);
+        }
+    }
+}
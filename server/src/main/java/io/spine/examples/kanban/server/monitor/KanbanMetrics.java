@@ -0,0 +1,367 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.monitor;
+
+import com.google.common.collect.ImmutableList;
+import org.HdrHistogram.Histogram;
+
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+import static java.lang.String.format;
+
+/**
+ * Collects per-handler metrics of the Kanban context from the {@linkplain Hop hops}.
+ *
+ * <p>For every signal type, counts the posted signals and the rejections they caused.
+ * For commands, also counts the duplicates which were not dispatched and the commands shed
+ * by the admission control.
+ * For every pair of an origin signal type and a produced signal type, records the hop latency.
+ * For every tenant of a multi-tenant context, counts the commands admitted and refused by
+ * the tenant quotas. For every read replica, tracks how far it is behind the event log.
+ *
+ * <p>Each metric is registered as an MXBean in the {@code io.spine.examples.kanban} JMX domain
+ * once it is first seen. The metrics of a tenant are unregistered when the tenant is
+ * {@linkplain #forgetTenant(String) forgotten}. The metrics are also
+ * {@linkplain #writeText(StringBuilder) available} in the Prometheus text format.
+ */
+public final class KanbanMetrics implements HopListener {
+
+    private static final String JMX_DOMAIN = "io.spine.examples.kanban";
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final Map<String, SignalMetrics> signals = new ConcurrentHashMap<>();
+    private final Map<String, HopMetrics> hops = new ConcurrentHashMap<>();
+    private final Map<String, TenantMetrics> tenants = new ConcurrentHashMap<>();
+    private final Map<String, ReplicaMetrics> replicas = new ConcurrentHashMap<>();
+    private final boolean registerBeans;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param registerBeans
+     *         if {@code true}, the metrics are registered in the platform MBean server
+     */
+    KanbanMetrics(boolean registerBeans) {
+        this.registerBeans = registerBeans;
+    }
+
+    @Override
+    public void onHop(Hop hop) {
+        signal(hop.type()).posted();
+        Optional<String> originType = hop.originType();
+        if (!originType.isPresent()) {
+            return;
+        }
+        String origin = originType.get();
+        if (hop.isRejection()) {
+            signal(origin).rejected(hop.type());
+        }
+        hop.originPostedNanos()
+           .ifPresent(posted -> hop(origin, hop.type()).record(hop.postedNanos() - posted));
+    }
+
+    /**
+     * Counts a duplicate of a command, which was not dispatched.
+     *
+     * @param commandType
+     *         the simple name of the command type
+     */
+    public void deduplicated(String commandType) {
+        signal(commandType).deduplicated();
+    }
+
+    /**
+     * Counts a command shed by the admission control, which was not dispatched.
+     *
+     * @param commandType
+     *         the simple name of the command type
+     * @param reason
+     *         the limit the command is over, e.g. {@code board}
+     */
+    public void shed(String commandType, String reason) {
+        signal(commandType).shed(reason);
+    }
+
+    /**
+     * Counts a command of the tenant admitted within its quotas.
+     */
+    public void admitted(String tenant) {
+        tenant(tenant).admitted();
+    }
+
+    /**
+     * Counts an admitted command of the tenant which is handled.
+     */
+    public void completed(String tenant) {
+        tenant(tenant).completed();
+    }
+
+    /**
+     * Counts a command refused because the tenant posts commands too often.
+     */
+    public void throttled(String tenant) {
+        tenant(tenant).throttled();
+    }
+
+    /**
+     * Counts a command refused because the tenant has too many commands in flight.
+     */
+    public void overloaded(String tenant) {
+        tenant(tenant).overloaded();
+    }
+
+    /**
+     * Forgets the metrics of the tenant, e.g. of one idle for long.
+     *
+     * <p>If the tenant posts commands again, its metrics start from zero.
+     */
+    public void forgetTenant(String tenant) {
+        TenantMetrics metrics = tenants.remove(tenant);
+        if (metrics != null) {
+            unregister("Tenant", tenant);
+        }
+    }
+
+    /**
+     * Returns the metrics of the replica following the given event log.
+     *
+     * @param log
+     *         the path of the event log file
+     */
+    public ReplicaMetrics replica(String log) {
+        return replicas.computeIfAbsent(log, l -> register(new ReplicaMetrics(l), "Replica", l));
+    }
+
+    private SignalMetrics signal(String type) {
+        return signals.computeIfAbsent(type, t -> register(new SignalMetrics(t), "Signal", t));
+    }
+
+    private HopMetrics hop(String origin, String produced) {
+        String name = origin + " -> " + produced;
+        return hops.computeIfAbsent(name, n -> register(new HopMetrics(origin, produced),
+                                                        "Hop", n));
+    }
+
+    private TenantMetrics tenant(String tenant) {
+        return tenants.computeIfAbsent(tenant,
+                                       t -> register(new TenantMetrics(t), "Tenant", t));
+    }
+
+    private <T> T register(T bean, String type, String name) {
+        if (!registerBeans) {
+            return bean;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName objectName = objectName(type, name);
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(bean, objectName);
+            }
+        } catch (JMException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+        return bean;
+    }
+
+    private void unregister(String type, String name) {
+        if (!registerBeans) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(objectName(type, name));
+        } catch (InstanceNotFoundException ignored) {
+            // Already unregistered, e.g. by another instance of the metrics.
+        } catch (JMException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    private static ObjectName objectName(String type, String name)
+            throws MalformedObjectNameException {
+        return new ObjectName(format(
+                "%s:type=%s,name=%s", JMX_DOMAIN, type, ObjectName.quote(name)));
+    }
+
+    /**
+     * Returns the metrics of all the signal types seen so far.
+     */
+    public ImmutableList<SignalMetrics> signals() {
+        return signals.values()
+                      .stream()
+                      .sorted(Comparator.comparing(SignalMetrics::getType))
+                      .collect(toImmutableList());
+    }
+
+    /**
+     * Returns the metrics of all the hops seen so far.
+     */
+    public ImmutableList<HopMetrics> hops() {
+        return hops.values()
+                   .stream()
+                   .sorted(Comparator.comparing(HopMetrics::getOrigin)
+                                     .thenComparing(HopMetrics::getProduced))
+                   .collect(toImmutableList());
+    }
+
+    /**
+     * Returns the metrics of all the tenants seen so far.
+     */
+    public ImmutableList<TenantMetrics> tenants() {
+        return tenants.values()
+                      .stream()
+                      .sorted(Comparator.comparing(TenantMetrics::getTenant))
+                      .collect(toImmutableList());
+    }
+
+    /**
+     * Returns the metrics of all the replicas seen so far.
+     */
+    public ImmutableList<ReplicaMetrics> replicas() {
+        return replicas.values()
+                       .stream()
+                       .sorted(Comparator.comparing(ReplicaMetrics::getLog))
+                       .collect(toImmutableList());
+    }
+
+    /**
+     * Writes the metrics in the Prometheus text exposition format.
+     */
+    public void writeText(StringBuilder out) {
+        ImmutableList<SignalMetrics> signalMetrics = signals();
+        line(out, "# TYPE kanban_signals_posted_total counter");
+        for (SignalMetrics signal : signalMetrics) {
+            line(out, "kanban_signals_posted_total{type=\"%s\"} %d",
+                 signal.getType(), signal.getPosted());
+        }
+        line(out, "# TYPE kanban_rejections_total counter");
+        for (SignalMetrics signal : signalMetrics) {
+            signal.rejections()
+                  .forEach((rejection, count) -> line(
+                          out, "kanban_rejections_total{origin=\"%s\",rejection=\"%s\"} %d",
+                          signal.getType(), rejection, count));
+        }
+        line(out, "# TYPE kanban_commands_deduplicated_total counter");
+        for (SignalMetrics signal : signalMetrics) {
+            long deduplicated = signal.getDeduplicated();
+            if (deduplicated > 0) {
+                line(out, "kanban_commands_deduplicated_total{type=\"%s\"} %d",
+                     signal.getType(), deduplicated);
+            }
+        }
+        line(out, "# TYPE kanban_commands_shed_total counter");
+        for (SignalMetrics signal : signalMetrics) {
+            signal.shed()
+                  .forEach((reason, count) -> line(
+                          out, "kanban_commands_shed_total{type=\"%s\",reason=\"%s\"} %d",
+                          signal.getType(), reason, count));
+        }
+        writeTenants(out);
+        writeReplicas(out);
+        line(out, "# TYPE kanban_hop_latency_seconds summary");
+        for (HopMetrics hop : hops()) {
+            Histogram latencies = hop.latencies();
+            String labels = format("origin=\"%s\",produced=\"%s\"",
+                                   hop.getOrigin(), hop.getProduced());
+            for (double quantile : QUANTILES) {
+                double seconds = latencies.getValueAtPercentile(quantile * 100) / 1e6;
+                line(out, "kanban_hop_latency_seconds{%s,quantile=\"%s\"} %f",
+                     labels, quantile, seconds);
+            }
+            double sum = latencies.getMean() * latencies.getTotalCount() / 1e6;
+            line(out, "kanban_hop_latency_seconds_sum{%s} %f", labels, sum);
+            line(out, "kanban_hop_latency_seconds_count{%s} %d",
+                 labels, latencies.getTotalCount());
+        }
+    }
+
+    private void writeTenants(StringBuilder out) {
+        ImmutableList<TenantMetrics> tenantMetrics = tenants();
+        line(out, "# TYPE kanban_tenant_commands_admitted_total counter");
+        for (TenantMetrics tenant : tenantMetrics) {
+            line(out, "kanban_tenant_commands_admitted_total{tenant=\"%s\"} %d",
+                 labelValue(tenant.getTenant()), tenant.getAdmitted());
+        }
+        line(out, "# TYPE kanban_tenant_commands_refused_total counter");
+        for (TenantMetrics tenant : tenantMetrics) {
+            String name = labelValue(tenant.getTenant());
+            line(out, "kanban_tenant_commands_refused_total{tenant=\"%s\",reason=\"%s\"} %d",
+                 name, "rate", tenant.getThrottled());
+            line(out, "kanban_tenant_commands_refused_total{tenant=\"%s\",reason=\"%s\"} %d",
+                 name, "concurrency", tenant.getOverloaded());
+        }
+        line(out, "# TYPE kanban_tenant_commands_in_flight gauge");
+        for (TenantMetrics tenant : tenantMetrics) {
+            line(out, "kanban_tenant_commands_in_flight{tenant=\"%s\"} %d",
+                 labelValue(tenant.getTenant()), tenant.getInFlight());
+        }
+    }
+
+    private void writeReplicas(StringBuilder out) {
+        ImmutableList<ReplicaMetrics> replicaMetrics = replicas();
+        if (replicaMetrics.isEmpty()) {
+            return;
+        }
+        line(out, "# TYPE kanban_replica_lag_bytes gauge");
+        for (ReplicaMetrics replica : replicaMetrics) {
+            line(out, "kanban_replica_lag_bytes{log=\"%s\"} %d",
+                 labelValue(replica.getLog()), replica.getLag());
+        }
+        line(out, "# TYPE kanban_replica_failures_total counter");
+        for (ReplicaMetrics replica : replicaMetrics) {
+            line(out, "kanban_replica_failures_total{log=\"%s\"} %d",
+                 labelValue(replica.getLog()), replica.getFailures());
+        }
+    }
+
+    /**
+     * Escapes the backslashes, double quotes and line feeds of a label value, as required by
+     * the Prometheus text format.
+     */
+    private static String labelValue(String value) {
+        return value.replace("\\", "\\\\")
+                    .replace("\"", "\\\"")
+                    .replace("\n", "\\n");
+    }
+
+    private static void line(StringBuilder out, String template, Object... args) {
+        out.append(format(Locale.ROOT, template, args))
+           .append('\n');
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.monitor;
+
+import io.spine.server.BoundedContextBuilder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+
+/**
+ * Provides the monitoring facilities shared by all the Kanban contexts in this JVM.
+ *
+ * <p>The {@linkplain KanbanMetrics metrics} are always collected.
+ *
+ * <p>{@linkplain Tracer Tracing} is enabled by setting the {@value #TRACE_FILE} system property
+ * to the path of the trace file. The share of the traced chains is set by
+ * the {@value #TRACE_SAMPLING} system property, 0.01 by default.
+ */
+public final class Monitoring {
+
+    /**
+     * The system property with the path of the file to write the trace to.
+     */
+    public static final String TRACE_FILE = "kanban.trace.file";
+
+    /**
+     * The system property with the share of the chains to trace, from 0 to 1.
+     */
+    public static final String TRACE_SAMPLING = "kanban.trace.sampling";
+
+    private static final String DEFAULT_SAMPLING = "0.01";
+
+    private static final HopTracker tracker = new HopTracker();
+    private static final KanbanMetrics metrics = new KanbanMetrics(true);
+
+    static {
+        tracker.addListener(metrics);
+        String traceFile = System.getProperty(TRACE_FILE);
+        if (traceFile != null) {
+            double sampling = Double.parseDouble(
+                    System.getProperty(TRACE_SAMPLING, DEFAULT_SAMPLING));
+            Tracer tracer = startTracing(Paths.get(traceFile), sampling);
+            Runtime.getRuntime()
+                   .addShutdownHook(new Thread(tracer::close, "kanban-tracer-shutdown"));
+        }
+    }
+
+    /**
+     * Prevents utility class instantiation.
+     */
+    private Monitoring() {
+    }
+
+    /**
+     * Starts monitoring the context being built.
+     */
+    public static void attachTo(BoundedContextBuilder context) {
+        tracker.attachTo(context);
+    }
+
+    /**
+     * Returns the tracker of the hops in all the monitored contexts.
+     */
+    public static HopTracker tracker() {
+        return tracker;
+    }
+
+    /**
+     * Starts tracing all the monitored contexts to the given file.
+     *
+     * <p>To stop tracing, {@linkplain HopTracker#removeListener(HopListener) remove}
+     * the returned tracer from the {@link #tracker()} and close it.
+     *
+     * @param file
+     *         the file to write the trace to
+     * @param samplingRate
+     *         the share of the chains to trace, from 0 to 1
+     */
+    public static Tracer startTracing(Path file, double samplingRate) {
+        try {
+            Tracer tracer = Tracer.toFile(file, samplingRate);
+            tracker.addListener(tracer);
+            return tracer;
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    /**
+     * Returns the metrics of all the monitored contexts.
+     */
+    public static KanbanMetrics metrics() {
+        return metrics;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.monitor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of a read replica following the event log of the server.
+ *
+ * <p>Tells how far the replica is behind the log, in bytes, and counts the failed attempts
+ * to read the log along with the message of the last failure.
+ */
+public final class ReplicaMetrics implements ReplicaMetricsMXBean {
+
+    private final String log;
+    private final LongAdder failures = new LongAdder();
+    private volatile long position;
+    private volatile long logSize;
+    private volatile String lastFailure = "";
+
+    ReplicaMetrics(String log) {
+        this.log = log;
+    }
+
+    /**
+     * Records the position up to which the log is read, and the size of the log.
+     */
+    public void caughtUp(long position, long logSize) {
+        this.position = position;
+        this.logSize = logSize;
+    }
+
+    /**
+     * Counts a failed attempt to read the log.
+     */
+    public void failed(Throwable cause) {
+        failures.increment();
+        lastFailure = String.valueOf(cause);
+    }
+
+    @Override
+    public String getLog() {
+        return log;
+    }
+
+    @Override
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    public long getLag() {
+        return Math.max(0, logSize - position);
+    }
+
+    @Override
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    @Override
+    public String getLastFailure() {
+        return lastFailure;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.monitor;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.collect.ImmutableMap.toImmutableMap;
+
+/**
+ * Metrics of a signal type, e.g. {@code MoveColumn}.
+ *
+ * <p>Counts the posted signals of the type and, for commands, the rejections
+ * they caused, e.g. {@code ColumnCannotBeMoved}, the duplicates which were not
+ * dispatched, and the commands shed by the admission control for each reason.
+ */
+public final class SignalMetrics implements SignalMetricsMXBean {
+
+    private final String type;
+    private final LongAdder posted = new LongAdder();
+    private final Map<String, LongAdder> rejections = new ConcurrentHashMap<>();
+    private final LongAdder deduplicated = new LongAdder();
+    private final Map<String, LongAdder> shed = new ConcurrentHashMap<>();
+
+    SignalMetrics(String type) {
+        this.type = type;
+    }
+
+    void posted() {
+        posted.increment();
+    }
+
+    void rejected(String rejectionType) {
+        rejections.computeIfAbsent(rejectionType, t -> new LongAdder())
+                  .increment();
+    }
+
+    void deduplicated() {
+        deduplicated.increment();
+    }
+
+    void shed(String reason) {
+        shed.computeIfAbsent(reason, r -> new LongAdder())
+            .increment();
+    }
+
+    /**
+     * Returns the number of rejections of each type caused by signals of this type.
+     */
+    ImmutableMap<String, Long> rejections() {
+        return rejections.entrySet()
+                         .stream()
+                         .collect(toImmutableMap(Map.Entry::getKey, e -> e.getValue().sum()));
+    }
+
+    /**
+     * Returns the number of the commands of this type shed for each reason.
+     */
+    ImmutableMap<String, Long> shed() {
+        return shed.entrySet()
+                   .stream()
+                   .collect(toImmutableMap(Map.Entry::getKey, e -> e.getValue().sum()));
+    }
+
+    @Override
+    public String getType() {
+        return type;
+    }
+
+    @Override
+    public long getPosted() {
+        return posted.sum();
+    }
+
+    @Override
+    public long getRejected() {
+        return rejections.values()
+                         .stream()
+                         .mapToLong(LongAdder::sum)
+                         .sum();
+    }
+
+    @Override
+    public long getDeduplicated() {
+        return deduplicated.sum();
+    }
+
+    @Override
+    public long getShed() {
+        return shed.values()
+                   .stream()
+                   .mapToLong(LongAdder::sum)
+                   .sum();
+    }
+
+    @Override
+    public double getRejectionRate() {
+        long total = getPosted();
+        return total == 0 ? 0 : (double) getRejected() / total;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.monitor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the commands posted by a tenant.
+ *
+ * <p>Counts the commands admitted within the quotas of the tenant and those of them which
+ * are already handled. Also counts the commands refused because the tenant posted them too
+ * often, i.e. throttled, or had too many commands in flight, i.e. overloaded.
+ */
+public final class TenantMetrics implements TenantMetricsMXBean {
+
+    private final String tenant;
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder overloaded = new LongAdder();
+
+    TenantMetrics(String tenant) {
+        this.tenant = tenant;
+    }
+
+    void admitted() {
+        admitted.increment();
+    }
+
+    void completed() {
+        completed.increment();
+    }
+
+    void throttled() {
+        throttled.increment();
+    }
+
+    void overloaded() {
+        overloaded.increment();
+    }
+
+    @Override
+    public String getTenant() {
+        return tenant;
+    }
+
+    @Override
+    public long getAdmitted() {
+        return admitted.sum();
+    }
+
+    @Override
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    @Override
+    public long getInFlight() {
+        return getAdmitted() - getCompleted();
+    }
+
+    @Override
+    public long getThrottled() {
+        return throttled.sum();
+    }
+
+    @Override
+    public long getOverloaded() {
+        return overloaded.sum();
+    }
+}
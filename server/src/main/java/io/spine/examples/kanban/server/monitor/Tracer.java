@@ -0,0 +1,219 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.monitor;
+
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.protobuf.Any;
+import io.spine.logging.Logging;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Traces causal chains of signals, such as all the signals caused by an {@code AddColumn}
+ * command, and writes them to a file.
+ *
+ * <p>Every {@linkplain Hop hop} of a chain becomes a span named after the origin and
+ * the produced signal types, e.g. {@code PlaceColumn -> ColumnPlaced}. The span starts when
+ * the origin is posted and ends when the produced signal is posted. So it covers waiting in
+ * the delivery queue along with running the handler. A signal posted by a user becomes
+ * an instant event starting the chain.
+ *
+ * <p>Chains are sampled as a whole: the decision is made from the hash of the ID of the root
+ * signal, so all the hops of a chain are either traced or not. The spans are buffered and
+ * written to the file by a background thread once a second. If the buffer overflows,
+ * spans are dropped rather than slowing down the context. A failed write is logged, its spans
+ * are counted as dropped, and the writing goes on.
+ *
+ * <p>The file uses the JSON array flavour of the Chrome trace event format, which can be
+ * opened in {@code chrome://tracing} or <a href="https://ui.perfetto.dev">Perfetto</a>.
+ * Each chain is shown as a separate thread. The closing bracket of the array is optional
+ * for the viewers, so the file can be loaded while tracing is still in progress.
+ */
+public final class Tracer implements HopListener, Closeable, Logging {
+
+    private static final int BUFFER_SIZE = 65_536;
+    private static final long SAMPLING_SCALE = 1_000_000;
+
+    private final long sampledBelow;
+    private final long startNanos = System.nanoTime();
+    private final BlockingQueue<String> events = new ArrayBlockingQueue<>(BUFFER_SIZE);
+    private final LongAdder dropped = new LongAdder();
+    private final Writer out;
+    private final ScheduledExecutorService flusher;
+    private boolean closed;
+
+    private Tracer(Writer out, double samplingRate) throws IOException {
+        checkArgument(samplingRate >= 0 && samplingRate <= 1,
+                      "The sampling rate should be within [0, 1].");
+        this.sampledBelow = (long) (samplingRate * SAMPLING_SCALE);
+        this.out = out;
+        out.write("[\n");
+        this.flusher = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder()
+                        .setNameFormat("kanban-tracer")
+                        .setDaemon(true)
+                        .build()
+        );
+        flusher.scheduleWithFixedDelay(this::flushInBackground, 1, 1, SECONDS);
+    }
+
+    /**
+     * Starts tracing to the given file.
+     *
+     * @param file
+     *         the file to write the trace to; overwritten if exists
+     * @param samplingRate
+     *         the share of the chains to trace, from 0 to 1
+     */
+    public static Tracer toFile(Path file, double samplingRate) throws IOException {
+        BufferedWriter writer = Files.newBufferedWriter(file, UTF_8);
+        return new Tracer(writer, samplingRate);
+    }
+
+    @Override
+    public void onHop(Hop hop) {
+        long trace = traceId(hop.rootId());
+        if (Long.remainderUnsigned(trace, SAMPLING_SCALE) >= sampledBelow) {
+            return;
+        }
+        Optional<String> event = toEvent(hop, trace);
+        if (event.isPresent() && !events.offer(event.get())) {
+            dropped.increment();
+        }
+    }
+
+    private static long traceId(Any root) {
+        return Hashing.murmur3_128()
+                      .hashBytes(root.toByteArray())
+                      .asLong();
+    }
+
+    private Optional<String> toEvent(Hop hop, long trace) {
+        int thread = (int) (trace & Integer.MAX_VALUE);
+        Optional<String> originType = hop.originType();
+        if (!originType.isPresent()) {
+            return Optional.of(format(
+                    Locale.ROOT,
+                    "{\"name\":\"%s\",\"cat\":\"post\",\"ph\":\"i\",\"s\":\"t\",\"ts\":%.3f," +
+                            "\"pid\":1,\"tid\":%d},\n",
+                    hop.type(), micros(hop.postedNanos()), thread));
+        }
+        return hop.originPostedNanos()
+                  .map(start -> format(
+                          Locale.ROOT,
+                          "{\"name\":\"%s -> %s\",\"cat\":\"hop\",\"ph\":\"X\",\"ts\":%.3f," +
+                                  "\"dur\":%.3f,\"pid\":1,\"tid\":%d," +
+                                  "\"args\":{\"trace\":\"%016x\",\"rejection\":%b}},\n",
+                          originType.get(), hop.type(), micros(start),
+                          (hop.postedNanos() - start) / 1000.0, thread,
+                          trace, hop.isRejection()));
+    }
+
+    private double micros(long nanoTime) {
+        return (nanoTime - startNanos) / 1000.0;
+    }
+
+    /**
+     * Returns the number of spans dropped because the buffer was full.
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Writes the buffered spans to the file.
+     */
+    public synchronized void flush() {
+        if (closed) {
+            return;
+        }
+        List<String> batch = new ArrayList<>(events.size());
+        events.drainTo(batch);
+        try {
+            for (String event : batch) {
+                out.write(event);
+            }
+            out.flush();
+        } catch (IOException e) {
+            dropped.add(batch.size());
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flushInBackground() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // Do not let a failure cancel the further flushes.
+            _error().withCause(e)
+                    .log("Unable to write the trace.");
+        }
+    }
+
+    /**
+     * Writes the remaining spans and closes the file.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        flusher.shutdown();
+        flush();
+        closed = true;
+        try {
+            out.write(format(Locale.ROOT,
+                             "{\"name\":\"dropped spans\",\"ph\":\"C\",\"ts\":%.3f," +
+                                     "\"pid\":1,\"args\":{\"count\":%d}}\n]\n",
+                             micros(System.nanoTime()), dropped()));
+            out.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.quota;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.protobuf.Any;
+import com.google.protobuf.Message;
+import io.spine.core.Ack;
+import io.spine.core.Command;
+import io.spine.core.Origin;
+import io.spine.core.TenantId;
+import io.spine.core.UserId;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.CardId;
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.server.card.CardRepository;
+import io.spine.examples.kanban.server.column.ColumnRepository;
+import io.spine.examples.kanban.server.lane.BoardAffinity;
+import io.spine.examples.kanban.server.monitor.Monitoring;
+import io.spine.server.BoundedContextBuilder;
+import io.spine.server.bus.BusFilter;
+import io.spine.server.tenant.TenantAwareRunner;
+import io.spine.server.type.CommandEnvelope;
+import io.spine.server.type.EventEnvelope;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Sheds the commands over the limits of the server, of a board, or of a client.
+ *
+ * <p>Every client and every board may get commands at the given rate, with short bursts
+ * allowed. The server as a whole may have up to the given number of commands in flight,
+ * i.e. posted but not handled yet. A command is handled once the first event or rejection
+ * caused by it is posted. A command which fails without producing any is considered handled
+ * after the lease time.
+ *
+ * <p>A command over a limit is not dispatched and takes none of the tokens of the limits
+ * it passed. The client gets
+ * a {@linkplain QuotaExceeded refusal} telling when to post the command again.
+ * The commands posted by the handlers in the context, e.g. by process managers, always
+ * pass, as they are the part of the work already admitted.
+ *
+ * <p>The board of a command is the one mentioned in it, or the board of the column or card
+ * it is about. The boards of the columns and cards are learned from the commands and events
+ * posted in the context. Those created before the server started are read from their stored
+ * state once, so that, e.g. a {@code MoveCard}, which names only the columns and the card,
+ * is limited by its board after a restart too.
+ *
+ * <p>The clients are told apart by the {@linkplain io.spine.core.ActorContext#getActor()
+ * actor} of their commands. The web client posts the commands of each browser session
+ * on behalf of a separate actor.
+ *
+ * <p>The shed commands are counted in the {@linkplain Monitoring#metrics() metrics}
+ * by the limit they are over: {@code server}, {@code board}, or {@code client}.
+ */
+public final class AdmissionControl implements BusFilter<CommandEnvelope> {
+
+    /**
+     * The system property which turns on the admission control.
+     */
+    public static final String ENABLED = "kanban.admission";
+
+    /**
+     * The system property with the number of commands per second a board may get,
+     * 20 by default.
+     */
+    public static final String BOARD_RATE = "kanban.admission.board.rate";
+
+    /**
+     * The system property with the number of commands a board may get at once over
+     * the rate, 40 by default.
+     */
+    public static final String BOARD_BURST = "kanban.admission.board.burst";
+
+    /**
+     * The system property with the number of commands per second a client may post,
+     * 50 by default.
+     */
+    public static final String CLIENT_RATE = "kanban.admission.client.rate";
+
+    /**
+     * The system property with the number of commands a client may post at once over
+     * the rate, 100 by default.
+     */
+    public static final String CLIENT_BURST = "kanban.admission.client.burst";
+
+    /**
+     * The system property with the number of commands the server may have in flight,
+     * 1000 by default.
+     */
+    public static final String MAX_IN_FLIGHT = "kanban.admission.maxInFlight";
+
+    /**
+     * The system property with the time after which a command is considered handled even
+     * if it caused no events, in the ISO-8601 format, {@code PT30S} by default.
+     */
+    public static final String LEASE = "kanban.admission.lease";
+
+    /**
+     * The time to wait before retrying a command shed because the server is busy.
+     */
+    private static final Duration BUSY_RETRY = Duration.ofSeconds(1);
+
+    /**
+     * The time after which the limits of an idle board or client are forgotten.
+     */
+    private static final long IDLE_MINUTES = 10;
+
+    private final double boardRate;
+    private final int boardBurst;
+    private final double clientRate;
+    private final int clientBurst;
+    private final int maxInFlight;
+    private final Ticker ticker;
+    private final Cache<BoardId, TokenBucket> boards;
+    private final Cache<UserId, TokenBucket> clients;
+    private final Cache<Any, Boolean> inFlight;
+    private final BoardAffinity affinity = BoardAffinity.bounded();
+    private StoredBoards stored = (tenant, entityId) -> Optional.empty();
+
+    /**
+     * Creates a new admission control.
+     *
+     * @param boardRate
+     *         the number of commands per second a board may get
+     * @param boardBurst
+     *         the number of commands a board may get at once
+     * @param clientRate
+     *         the number of commands per second a client may post
+     * @param clientBurst
+     *         the number of commands a client may post at once
+     * @param maxInFlight
+     *         the number of commands the server may have in flight
+     * @param lease
+     *         the time after which an admitted command is considered handled
+     * @param ticker
+     *         the source of time
+     */
+    AdmissionControl(double boardRate,
+                     int boardBurst,
+                     double clientRate,
+                     int clientBurst,
+                     int maxInFlight,
+                     Duration lease,
+                     Ticker ticker) {
+        checkArgument(maxInFlight > 0, "The number of commands in flight must be positive.");
+        checkArgument(!lease.isNegative() && !lease.isZero(), "The lease must be positive.");
+        this.boardRate = boardRate;
+        this.boardBurst = boardBurst;
+        this.clientRate = clientRate;
+        this.clientBurst = clientBurst;
+        this.maxInFlight = maxInFlight;
+        this.ticker = checkNotNull(ticker);
+        this.boards = idleExpiring(ticker);
+        this.clients = idleExpiring(ticker);
+        this.inFlight = CacheBuilder
+                .newBuilder()
+                .expireAfterWrite(lease.toNanos(), NANOSECONDS)
+                .ticker(ticker)
+                .build();
+    }
+
+    private static <K> Cache<K, TokenBucket> idleExpiring(Ticker ticker) {
+        return CacheBuilder
+                .newBuilder()
+                .expireAfterAccess(IDLE_MINUTES, MINUTES)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Creates the admission control configured by the system properties, if it is enabled
+     * by the {@value #ENABLED} property.
+     */
+    public static Optional<AdmissionControl> fromSystemProperties() {
+        if (!Boolean.getBoolean(ENABLED)) {
+            return Optional.empty();
+        }
+        AdmissionControl result = new AdmissionControl(
+                Double.parseDouble(System.getProperty(BOARD_RATE, "20")),
+                Integer.parseInt(System.getProperty(BOARD_BURST, "40")),
+                Double.parseDouble(System.getProperty(CLIENT_RATE, "50")),
+                Integer.parseInt(System.getProperty(CLIENT_BURST, "100")),
+                Integer.parseInt(System.getProperty(MAX_IN_FLIGHT, "1000")),
+                Duration.parse(System.getProperty(LEASE, "PT30S")),
+                Ticker.systemTicker()
+        );
+        return Optional.of(result);
+    }
+
+    /**
+     * Starts admitting the commands of the context being built.
+     *
+     * @param context
+     *         the context being built
+     * @param columns
+     *         the repository of the columns of the context
+     * @param cards
+     *         the repository of the cards of the context
+     */
+    public void attachTo(BoundedContextBuilder context,
+                         ColumnRepository columns,
+                         CardRepository cards) {
+        checkNotNull(columns);
+        checkNotNull(cards);
+        readBoardsBy((tenant, entityId) -> onBehalfOf(tenant, () -> entityId instanceof ColumnId
+                ? columns.boardOf((ColumnId) entityId)
+                : cards.boardOf((CardId) entityId)));
+        affinity.attachTo(context);
+        context.addCommandFilter(this);
+        context.addEventListener(this::eventPosted);
+    }
+
+    private static Optional<BoardId> onBehalfOf(TenantId tenant,
+                                                Supplier<Optional<BoardId>> read) {
+        return tenant.equals(TenantId.getDefaultInstance())
+               ? read.get()
+               : TenantAwareRunner.with(tenant)
+                                  .evaluate(read);
+    }
+
+    /**
+     * Makes the admission read the boards of the columns and cards it does not know
+     * by the given function.
+     */
+    @VisibleForTesting
+    void readBoardsBy(StoredBoards stored) {
+        this.stored = checkNotNull(stored);
+    }
+
+    @Override
+    public Optional<Ack> filter(CommandEnvelope envelope) {
+        Command command = envelope.outerObject();
+        if (command.origin()
+                   .isPresent()) {
+            return Optional.empty();
+        }
+        inFlight.cleanUp();
+        if (inFlight.size() >= maxInFlight) {
+            return shed(envelope, "server", BUSY_RETRY,
+                        format("The server has %d commands in flight.", maxInFlight));
+        }
+        TenantId tenant = envelope.tenantId();
+        Optional<BoardId> board = affinity.boardIn(
+                envelope.message(), entityId -> stored.boardOf(tenant, entityId)
+        );
+        Optional<TokenBucket> boardBucket = board.map(
+                b -> boards.asMap()
+                           .computeIfAbsent(b, id -> new TokenBucket(
+                                   boardRate, boardBurst, ticker))
+        );
+        if (boardBucket.isPresent() && !boardBucket.get().tryAcquire()) {
+            return shed(envelope, "board", boardBucket.get().timeToToken(),
+                        format("The board `%s` gets more than %s commands per second.",
+                               board.get().getUuid(), boardRate));
+        }
+        UserId actor = command.getContext()
+                              .getActorContext()
+                              .getActor();
+        TokenBucket bucket = clients.asMap()
+                                    .computeIfAbsent(actor, a -> new TokenBucket(
+                                            clientRate, clientBurst, ticker));
+        if (!bucket.tryAcquire()) {
+            // The command is not dispatched, so it should not count against the board.
+            boardBucket.ifPresent(TokenBucket::release);
+            return shed(envelope, "client", bucket.timeToToken(),
+                        format("The client `%s` posts more than %s commands per second.",
+                               actor.getValue(), clientRate));
+        }
+        inFlight.put(command.messageId()
+                            .getId(), Boolean.TRUE);
+        return Optional.empty();
+    }
+
+    private static Optional<Ack> shed(CommandEnvelope envelope,
+                                      String reason,
+                                      Duration retryAfter,
+                                      String message) {
+        Monitoring.metrics()
+                  .shed(envelope.message()
+                                .getClass()
+                                .getSimpleName(), reason);
+        return Optional.of(QuotaExceeded.refuse(envelope.id(), message, retryAfter));
+    }
+
+    private void eventPosted(EventEnvelope event) {
+        Optional<Origin> origin = event.outerObject()
+                                       .origin();
+        origin.ifPresent(o -> inFlight.invalidate(o.getMessage()
+                                                   .getId()));
+    }
+
+    /**
+     * Returns the number of the admitted commands in flight.
+     */
+    public long inFlight() {
+        inFlight.cleanUp();
+        return inFlight.size();
+    }
+
+    /**
+     * Reads the board of a stored column or card.
+     */
+    @FunctionalInterface
+    interface StoredBoards {
+
+        /**
+         * Obtains the board of the column or card with the given ID stored for the tenant.
+         */
+        Optional<BoardId> boardOf(TenantId tenant, Message entityId);
+    }
+}
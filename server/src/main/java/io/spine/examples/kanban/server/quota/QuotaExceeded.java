@@ -0,0 +1,116 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.quota;
+
+import com.google.protobuf.Value;
+import io.spine.base.Error;
+import io.spine.core.Ack;
+import io.spine.core.CommandId;
+import io.spine.core.Status;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.protobuf.AnyPacker.pack;
+
+/**
+ * Acknowledgements of the commands refused because a quota is exceeded.
+ *
+ * <p>The refused command is not dispatched. The error of the acknowledgement tells
+ * the client when the command may be posted again.
+ */
+public final class QuotaExceeded {
+
+    /**
+     * The type of the error of a refused command.
+     */
+    public static final String ERROR_TYPE = "spine_examples.kanban.QuotaExceeded";
+
+    /**
+     * The attribute of the error with the number of milliseconds to wait before posting
+     * the command again.
+     */
+    public static final String RETRY_AFTER = "retryAfterMillis";
+
+    /**
+     * Prevents utility class instantiation.
+     */
+    private QuotaExceeded() {
+    }
+
+    /**
+     * Creates the acknowledgement of a refused command.
+     *
+     * @param command
+     *         the refused command
+     * @param message
+     *         the message of the error
+     * @param retryAfter
+     *         the time after which the command may be posted again
+     */
+    public static Ack refuse(CommandId command, String message, Duration retryAfter) {
+        checkNotNull(command);
+        checkNotNull(message);
+        checkNotNull(retryAfter);
+        Value millis = Value
+                .newBuilder()
+                .setNumberValue(retryAfter.toMillis())
+                .build();
+        Error error = Error
+                .newBuilder()
+                .setType(ERROR_TYPE)
+                .setMessage(message)
+                .putAttributes(RETRY_AFTER, millis)
+                .build();
+        Status status = Status
+                .newBuilder()
+                .setError(error)
+                .build();
+        return Ack
+                .newBuilder()
+                .setMessageId(pack(command))
+                .setStatus(status)
+                .build();
+    }
+
+    /**
+     * Obtains the time to wait before posting the command again, if the command was refused
+     * because a quota is exceeded.
+     */
+    public static Optional<Duration> retryAfter(Ack ack) {
+        checkNotNull(ack);
+        Error error = ack.getStatus()
+                         .getError();
+        if (!ERROR_TYPE.equals(error.getType())) {
+            return Optional.empty();
+        }
+        double millis = error.getAttributesOrDefault(RETRY_AFTER, Value.getDefaultInstance())
+                             .getNumberValue();
+        return Optional.of(Duration.ofMillis((long) millis));
+    }
+}
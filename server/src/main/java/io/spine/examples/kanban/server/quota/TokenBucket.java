@@ -0,0 +1,111 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.quota;
+
+import com.google.common.base.Ticker;
+
+import java.time.Duration;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Limits the rate of some actions while allowing short bursts.
+ *
+ * <p>The bucket holds up to the burst number of tokens and is refilled at the given rate.
+ * An action takes a token; if there are none, the action is over the limit.
+ */
+public final class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final double burst;
+    private final double tokensPerNano;
+    private final Ticker ticker;
+    private double tokens;
+    private long refilledAt;
+
+    /**
+     * Creates a new full bucket.
+     *
+     * @param ratePerSecond
+     *         the number of tokens added per second
+     * @param burst
+     *         the maximum number of tokens in the bucket
+     * @param ticker
+     *         the source of time
+     */
+    public TokenBucket(double ratePerSecond, int burst, Ticker ticker) {
+        checkArgument(ratePerSecond > 0, "The rate must be positive.");
+        checkArgument(burst > 0, "The burst must be positive.");
+        this.ticker = checkNotNull(ticker);
+        this.burst = burst;
+        this.tokensPerNano = ratePerSecond / NANOS_PER_SECOND;
+        this.tokens = burst;
+        this.refilledAt = ticker.read();
+    }
+
+    /**
+     * Takes a token from the bucket.
+     *
+     * @return {@code true} if the token was taken, {@code false} if the bucket is empty
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * Puts back a token taken for an action which was not performed after all.
+     */
+    public synchronized void release() {
+        refill();
+        tokens = Math.min(burst, tokens + 1);
+    }
+
+    /**
+     * Returns the time after which a token is available, zero if it is available now.
+     */
+    public synchronized Duration timeToToken() {
+        refill();
+        if (tokens >= 1) {
+            return Duration.ZERO;
+        }
+        long nanos = (long) Math.ceil((1 - tokens) / tokensPerNano);
+        return Duration.ofNanos(nanos);
+    }
+
+    private void refill() {
+        long now = ticker.read();
+        tokens = Math.min(burst, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.replica;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.spine.core.Event;
+import io.spine.examples.kanban.server.history.EventLogReader;
+import io.spine.examples.kanban.server.monitor.Monitoring;
+import io.spine.examples.kanban.server.monitor.ReplicaMetrics;
+import io.spine.logging.Logging;
+import io.spine.server.event.EventBus;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.grpc.StreamObservers.noOpObserver;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Follows the {@linkplain io.spine.examples.kanban.server.history.EventLog event log} of
+ * the Kanban server and posts its events to the event bus of the replica.
+ *
+ * <p>The log is read from its start, so the replica builds its views anew each time it
+ * starts.
+ *
+ * <p>How far the replica is behind the log, and the failures to read it, are reported in
+ * the {@linkplain ReplicaMetrics metrics} of the replica. A failure is also logged, and
+ * the log is read again after the delay.
+ */
+final class EventLogTail implements Closeable, Logging {
+
+    private static final long POLL_DELAY_MILLIS = 100;
+
+    private final Path log;
+    private final EventLogReader reader;
+    private final EventBus bus;
+    private final ReplicaMetrics metrics;
+    private final ScheduledExecutorService follower;
+    private boolean closed;
+
+    private EventLogTail(Path log, EventLogReader reader, EventBus bus) {
+        this.log = log;
+        this.reader = reader;
+        this.bus = bus;
+        this.metrics = Monitoring.metrics()
+                                 .replica(log.toString());
+        this.follower = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder()
+                        .setNameFormat("kanban-replica-tail")
+                        .setDaemon(true)
+                        .build()
+        );
+        follower.scheduleWithFixedDelay(this::catchUpInBackground,
+                                        0, POLL_DELAY_MILLIS, MILLISECONDS);
+    }
+
+    /**
+     * Starts following the log in the background.
+     *
+     * @param log
+     *         the file of the log of the server
+     * @param bus
+     *         the bus to post the events of the log to
+     */
+    static EventLogTail follow(Path log, EventBus bus) throws IOException {
+        checkNotNull(log);
+        checkNotNull(bus);
+        return new EventLogTail(log, EventLogReader.open(log, 0), bus);
+    }
+
+    /**
+     * Posts the events appended to the log since the last call.
+     */
+    private synchronized void catchUp() {
+        if (closed) {
+            return;
+        }
+        try {
+            Optional<Event> event = reader.next();
+            while (event.isPresent()) {
+                bus.post(event.get(), noOpObserver());
+                event = reader.next();
+            }
+            metrics.caughtUp(reader.position(), Files.size(log));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void catchUpInBackground() {
+        try {
+            catchUp();
+        } catch (RuntimeException e) {
+            // Do not let a failure cancel the further polls.
+            metrics.failed(e);
+            _error().withCause(e)
+                    .log("Unable to follow the event log `%s`.", log);
+        }
+    }
+
+    /**
+     * Stops following the log.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        follower.shutdown();
+        closed = true;
+        reader.close();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.replica;
+
+import io.spine.base.Production;
+import io.spine.server.BoundedContext;
+import io.spine.server.GrpcContainer;
+import io.spine.server.QueryService;
+import io.spine.server.ServerEnvironment;
+import io.spine.server.SubscriptionService;
+import io.spine.server.storage.memory.InMemoryStorageFactory;
+import io.spine.server.transport.memory.InMemoryTransportFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+
+import static com.google.common.base.Preconditions.checkState;
+import static io.spine.client.ConnectionConstants.DEFAULT_CLIENT_SERVICE_PORT;
+
+/**
+ * A gRPC server running a read-only replica of the Kanban Bounded Context.
+ *
+ * <p>The replica follows the event log of the Kanban server given by the {@value #LOG_FILE}
+ * system property, which is the file the server writes its
+ * {@linkplain io.spine.examples.kanban.server.history.History history} to. The replica serves
+ * the queries and subscriptions at the port given by the {@value #PORT} system property, by
+ * default the one after the port of the server. It does not accept commands.
+ *
+ * <p>The replica follows a single-tenant server.
+ */
+public final class KanbanReplica {
+
+    /**
+     * The system property with the path of the event log of the server.
+     */
+    public static final String LOG_FILE = "kanban.replica.log";
+
+    /**
+     * The system property with the port to serve the queries at.
+     */
+    public static final String PORT = "kanban.replica.port";
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private KanbanReplica() {
+    }
+
+    /**
+     * The entry point of the replica application.
+     */
+    public static void main(String[] args) throws IOException {
+        String log = System.getProperty(LOG_FILE);
+        checkState(log != null, "Set the `%s` system property to the event log file.", LOG_FILE);
+        int port = Integer.parseInt(System.getProperty(
+                PORT, String.valueOf(DEFAULT_CLIENT_SERVICE_PORT + 1)));
+        ServerEnvironment
+                .when(Production.class)
+                .use(InMemoryStorageFactory.newInstance())
+                .use(InMemoryTransportFactory.newInstance());
+        BoundedContext context = ReplicaContext.newBuilder()
+                                               .build();
+        GrpcContainer container = GrpcContainer
+                .atPort(port)
+                .addService(QueryService.newBuilder()
+                                        .add(context)
+                                        .build())
+                .addService(SubscriptionService.newBuilder()
+                                               .add(context)
+                                               .build())
+                .build();
+        container.start();
+        EventLogTail tail = EventLogTail.follow(Paths.get(log), context.eventBus());
+        Runtime.getRuntime()
+               .addShutdownHook(new Thread(() -> close(tail), "kanban-replica-shutdown"));
+        container.awaitTermination();
+    }
+
+    private static void close(EventLogTail tail) {
+        try {
+            tail.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.replica;
+
+import io.spine.examples.kanban.server.lane.BoardAffinity;
+import io.spine.examples.kanban.server.monitor.Monitoring;
+import io.spine.examples.kanban.server.view.ArchivedCardProjection;
+import io.spine.examples.kanban.server.view.BoardReplicaRepository;
+import io.spine.server.BoundedContext;
+import io.spine.server.BoundedContextBuilder;
+import io.spine.server.DefaultRepository;
+
+/**
+ * Configures the read-only Kanban Bounded Context of a replica.
+ *
+ * <p>The context has only the projections. It does not handle commands, and gets all its
+ * events from the {@linkplain EventLogTail log} of the Kanban server.
+ */
+public final class ReplicaContext {
+
+    static final String NAME = "KanbanReplica";
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private ReplicaContext() {
+    }
+
+    /**
+     * Creates {@code BoundedContextBuilder} for the replica context and fills it with
+     * the repositories of the views.
+     *
+     * <p>The context is {@linkplain Monitoring monitored}.
+     */
+    public static BoundedContextBuilder newBuilder() {
+        BoardAffinity boards = new BoardAffinity();
+        BoundedContextBuilder builder = BoundedContext
+                .singleTenant(NAME)
+                .add(new BoardReplicaRepository(boards))
+                .add(DefaultRepository.of(ArchivedCardProjection.class));
+        boards.attachTo(builder);
+        Monitoring.attachTo(builder);
+        return builder;
+    }
+}
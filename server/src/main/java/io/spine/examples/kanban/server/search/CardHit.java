@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.search;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import io.spine.examples.kanban.CardId;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A card found by the {@linkplain CardIndex#search search}.
+ */
+public final class CardHit {
+
+    private final CardId card;
+    private final double score;
+
+    CardHit(CardId card, double score) {
+        this.card = checkNotNull(card);
+        this.score = score;
+    }
+
+    /**
+     * Returns the ID of the found card.
+     */
+    public CardId card() {
+        return card;
+    }
+
+    /**
+     * Returns the relevance of the card to the query.
+     *
+     * <p>The greater score means the better match.
+     */
+    public double score() {
+        return score;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CardHit)) {
+            return false;
+        }
+        CardHit other = (CardHit) o;
+        return Double.compare(other.score, score) == 0 && card.equals(other.card);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(card, score);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("card", card.getUuid())
+                          .add("score", score)
+                          .toString();
+    }
+}
@@ -0,0 +1,490 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.search;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMultiset;
+import com.google.common.collect.Multiset;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.CardId;
+import io.spine.examples.kanban.CompactIds;
+import io.spine.examples.kanban.Uuid128;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * An in-memory inverted index of cards.
+ *
+ * <p>Each indexed card becomes a document with a sequential number. For every term,
+ * the index keeps a {@linkplain PostingList compressed list} of the documents containing
+ * the term. Indexing a card again replaces its document with a new one; the old one is only
+ * marked deleted, so the posting lists stay append-only. Once the deleted documents
+ * outnumber the live ones, the index is compacted, i.e. rebuilt without them.
+ *
+ * <p>The {@linkplain #search(String, BoardId, int) search} ranks the documents
+ * with the BM25 formula and returns the best ones. The statistics of the formula, such as
+ * the number of the documents containing a term, count only the live documents.
+ *
+ * <p>The cards and the boards are kept by the {@linkplain Uuid128 compact form} of their IDs,
+ * both in memory and in the file.
+ *
+ * <p>The index can be {@linkplain #writeTo(Path) saved} to a file and
+ * {@linkplain #readFrom(Path) loaded} from it, to avoid rebuilding on restart.
+ *
+ * <p>The index is safe for concurrent use. Searches run in parallel with each other and
+ * wait for the updates.
+ */
+public final class CardIndex {
+
+    /**
+     * The version of the file format written by this version of the application.
+     *
+     * <p>The first version, with the IDs in the string form, is read as well.
+     */
+    private static final int FORMAT_VERSION = 2;
+
+    /**
+     * The BM25 term frequency saturation.
+     */
+    private static final double K1 = 1.2;
+
+    /**
+     * The BM25 document length normalization.
+     */
+    private static final double B = 0.75;
+
+    /**
+     * The number of the deleted documents below which the index is never compacted.
+     */
+    private static final int MIN_DELETED_TO_COMPACT = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final List<Uuid128> cards = new ArrayList<>();
+    private final Map<Uuid128, Integer> docs = new HashMap<>();
+    private final List<Uuid128> boards = new ArrayList<>();
+    private final Map<Uuid128, Integer> boardNumbers = new HashMap<>();
+    private int[] boardOf = new int[16];
+    private int[] lengthOf = new int[16];
+    private final BitSet deleted = new BitSet();
+    private int deletedCount;
+    private long totalLength;
+
+    /**
+     * Indexes the text of the card.
+     *
+     * <p>If the card is already indexed, its previous text is forgotten.
+     */
+    public void put(CardId card, BoardId board, String text) {
+        checkNotNull(card);
+        checkNotNull(board);
+        checkNotNull(text);
+        ImmutableMultiset<String> terms = ImmutableMultiset.copyOf(Tokenizer.terms(text));
+        Uuid128 id = card.toCompact();
+        lock.writeLock().lock();
+        try {
+            Integer previous = docs.get(id);
+            if (previous != null) {
+                delete(previous);
+                compactIfSparse();
+            }
+            int doc = cards.size();
+            cards.add(id);
+            docs.put(id, doc);
+            ensureCapacity(doc + 1);
+            boardOf[doc] = boardNumber(board.toCompact());
+            lengthOf[doc] = terms.size();
+            totalLength += terms.size();
+            for (Multiset.Entry<String> term : terms.entrySet()) {
+                postings.computeIfAbsent(term.getElement(), t -> new PostingList())
+                        .add(doc, term.getCount());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the card from the index.
+     */
+    public void remove(CardId card) {
+        checkNotNull(card);
+        lock.writeLock().lock();
+        try {
+            Integer doc = docs.remove(card.toCompact());
+            if (doc != null) {
+                delete(doc);
+                compactIfSparse();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void delete(int doc) {
+        deleted.set(doc);
+        deletedCount++;
+        totalLength -= lengthOf[doc];
+    }
+
+    /**
+     * Rebuilds the index without the deleted documents, if they outnumber the live ones.
+     *
+     * <p>Each document is copied once per as many deletions, so the compaction takes
+     * a constant amortized time per update.
+     */
+    private void compactIfSparse() {
+        if (deletedCount < MIN_DELETED_TO_COMPACT || deletedCount <= docs.size()) {
+            return;
+        }
+        CardIndex copy = liveCopy();
+        postings.clear();
+        postings.putAll(copy.postings);
+        cards.clear();
+        cards.addAll(copy.cards);
+        docs.clear();
+        docs.putAll(copy.docs);
+        boards.clear();
+        boards.addAll(copy.boards);
+        boardNumbers.clear();
+        boardNumbers.putAll(copy.boardNumbers);
+        boardOf = copy.boardOf;
+        lengthOf = copy.lengthOf;
+        deleted.clear();
+        deletedCount = 0;
+        totalLength = copy.totalLength;
+    }
+
+    /**
+     * Obtains the number of the documents in the index, including the deleted ones.
+     */
+    @VisibleForTesting
+    int documentCount() {
+        lock.readLock().lock();
+        try {
+            return cards.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Obtains the number of the indexed cards.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the cards best matching the query.
+     *
+     * <p>A card matches if it contains at least one of the query terms. The cards containing
+     * more of the rare terms rank higher.
+     *
+     * @param query
+     *         the text to search for
+     * @param board
+     *         the board to search on, or {@code null} to search on all the boards
+     * @param limit
+     *         the maximum number of the cards to return
+     * @return the found cards, the best match first
+     */
+    public ImmutableList<CardHit> search(String query, @Nullable BoardId board, int limit) {
+        checkNotNull(query);
+        checkArgument(limit > 0, "The limit must be positive: %s.", limit);
+        ImmutableList<String> terms = ImmutableList.copyOf(
+                ImmutableMultiset.copyOf(Tokenizer.terms(query)).elementSet()
+        );
+        if (board != null && !CompactIds.isCanonical(board.getUuid())) {
+            return ImmutableList.of();
+        }
+        lock.readLock().lock();
+        try {
+            int boardNumber = -1;
+            if (board != null) {
+                Integer number = boardNumbers.get(board.toCompact());
+                if (number == null) {
+                    return ImmutableList.of();
+                }
+                boardNumber = number;
+            }
+            Map<Integer, Double> scores = score(terms, boardNumber);
+            return top(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Integer, Double> score(ImmutableList<String> terms, int boardNumber) {
+        Map<Integer, Double> scores = new HashMap<>();
+        int liveDocs = docs.size();
+        double averageLength = liveDocs == 0 ? 1 : Math.max(1.0, (double) totalLength / liveDocs);
+        for (String term : terms) {
+            PostingList list = postings.get(term);
+            if (list == null) {
+                continue;
+            }
+            int[] matches = new int[list.count()];
+            int[] frequencies = new int[list.count()];
+            int matchCount = 0;
+            int frequency = 0;
+            PostingList.Cursor cursor = list.cursor();
+            while (cursor.next()) {
+                int doc = cursor.doc();
+                if (deleted.get(doc)) {
+                    continue;
+                }
+                frequency++;
+                if (boardNumber < 0 || boardOf[doc] == boardNumber) {
+                    matches[matchCount] = doc;
+                    frequencies[matchCount] = cursor.frequency();
+                    matchCount++;
+                }
+            }
+            double idf = Math.log(1 + (liveDocs - frequency + 0.5) / (frequency + 0.5));
+            for (int i = 0; i < matchCount; i++) {
+                int doc = matches[i];
+                double tf = frequencies[i];
+                double norm = K1 * (1 - B + B * lengthOf[doc] / averageLength);
+                scores.merge(doc, idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+            }
+        }
+        return scores;
+    }
+
+    private ImmutableList<CardHit> top(Map<Integer, Double> scores, int limit) {
+        Comparator<Map.Entry<Integer, Double>> byScore = Map.Entry.comparingByValue();
+        PriorityQueue<Map.Entry<Integer, Double>> best = new PriorityQueue<>(limit + 1, byScore);
+        for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+            best.add(entry);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<CardHit> hits = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            Map.Entry<Integer, Double> entry = best.poll();
+            CardId card = CompactIds.toCardId(cards.get(entry.getKey()));
+            hits.add(new CardHit(card, entry.getValue()));
+        }
+        return ImmutableList.copyOf(hits).reverse();
+    }
+
+    private int boardNumber(Uuid128 board) {
+        Integer number = boardNumbers.get(board);
+        if (number == null) {
+            number = boards.size();
+            boards.add(board);
+            boardNumbers.put(board, number);
+        }
+        return number;
+    }
+
+    private void ensureCapacity(int docCount) {
+        if (docCount > boardOf.length) {
+            int capacity = Math.max(docCount, boardOf.length * 2);
+            boardOf = Arrays.copyOf(boardOf, capacity);
+            lengthOf = Arrays.copyOf(lengthOf, capacity);
+        }
+    }
+
+    /**
+     * Saves the index to the file.
+     *
+     * <p>The index is written to a temporary file, which then replaces the given one.
+     * Deleted documents are not saved.
+     */
+    public void writeTo(Path file) throws IOException {
+        checkNotNull(file);
+        Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), "index-", ".tmp");
+        CardIndex compacted = compacted();
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            compacted.write(out);
+        }
+        Files.move(temp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+    }
+
+    /**
+     * Creates a copy of the index without the deleted documents.
+     */
+    private CardIndex compacted() {
+        lock.readLock().lock();
+        try {
+            if (deleted.isEmpty()) {
+                return this;
+            }
+            return liveCopy();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Copies the live documents to a new index.
+     *
+     * <p>The caller must hold a lock of this index.
+     */
+    private CardIndex liveCopy() {
+        CardIndex copy = new CardIndex();
+        Map<Integer, Integer> renumbered = new HashMap<>();
+        for (int doc = 0; doc < cards.size(); doc++) {
+            if (!deleted.get(doc)) {
+                int newDoc = copy.cards.size();
+                renumbered.put(doc, newDoc);
+                copy.cards.add(cards.get(doc));
+                copy.docs.put(cards.get(doc), newDoc);
+                copy.ensureCapacity(newDoc + 1);
+                copy.boardOf[newDoc] = copy.boardNumber(boards.get(boardOf[doc]));
+                copy.lengthOf[newDoc] = lengthOf[doc];
+                copy.totalLength += lengthOf[doc];
+            }
+        }
+        postings.forEach((term, list) -> {
+            PostingList.Cursor cursor = list.cursor();
+            while (cursor.next()) {
+                Integer doc = renumbered.get(cursor.doc());
+                if (doc != null) {
+                    copy.postings.computeIfAbsent(term, t -> new PostingList())
+                                 .add(doc, cursor.frequency());
+                }
+            }
+        });
+        return copy;
+    }
+
+    private void write(DataOutputStream out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(boards.size());
+            for (Uuid128 board : boards) {
+                writeId(board, out);
+            }
+            out.writeInt(cards.size());
+            for (int doc = 0; doc < cards.size(); doc++) {
+                writeId(cards.get(doc), out);
+                out.writeInt(boardOf[doc]);
+                out.writeInt(lengthOf[doc]);
+            }
+            out.writeInt(postings.size());
+            for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+                out.writeUTF(entry.getKey());
+                entry.getValue().writeTo(out);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void writeId(Uuid128 id, DataOutputStream out) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    private static Uuid128 readId(DataInputStream in, int version) throws IOException {
+        if (version == 1) {
+            return CompactIds.parse(in.readUTF());
+        }
+        return Uuid128.newBuilder()
+                      .setMostSignificantBits(in.readLong())
+                      .setLeastSignificantBits(in.readLong())
+                      .build();
+    }
+
+    /**
+     * Loads the index saved to the file.
+     *
+     * @return the loaded index or empty {@code Optional} if the file does not exist
+     */
+    public static Optional<CardIndex> readFrom(Path file) throws IOException {
+        checkNotNull(file);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file)))) {
+            int version = in.readInt();
+            if (version < 1 || version > FORMAT_VERSION) {
+                throw newIllegalStateException(
+                        "Unsupported format version %s of the index file `%s`.", version, file
+                );
+            }
+            CardIndex index = new CardIndex();
+            int boardCount = in.readInt();
+            for (int i = 0; i < boardCount; i++) {
+                index.boardNumber(readId(in, version));
+            }
+            int cardCount = in.readInt();
+            index.ensureCapacity(cardCount);
+            for (int doc = 0; doc < cardCount; doc++) {
+                Uuid128 card = readId(in, version);
+                index.cards.add(card);
+                index.docs.put(card, doc);
+                index.boardOf[doc] = in.readInt();
+                index.lengthOf[doc] = in.readInt();
+                index.totalLength += index.lengthOf[doc];
+            }
+            int termCount = in.readInt();
+            for (int i = 0; i < termCount; i++) {
+                index.postings.put(in.readUTF(), PostingList.readFrom(in));
+            }
+            return Optional.of(index);
+        }
+    }
+}
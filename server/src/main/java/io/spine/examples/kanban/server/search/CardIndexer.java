@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.search;
+
+import io.spine.core.Subscribe;
+import io.spine.examples.kanban.BlobRef;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.Card;
+import io.spine.examples.kanban.CardId;
+import io.spine.examples.kanban.event.CardArchived;
+import io.spine.examples.kanban.event.CardCreated;
+import io.spine.examples.kanban.event.CardImported;
+import io.spine.examples.kanban.event.CardRestored;
+import io.spine.examples.kanban.server.card.Descriptions;
+import io.spine.server.event.AbstractEventSubscriber;
+
+/**
+ * Feeds the card events to the {@link CardIndex}.
+ */
+final class CardIndexer extends AbstractEventSubscriber {
+
+    private final CardIndex index;
+
+    CardIndexer(CardIndex index) {
+        super();
+        this.index = index;
+    }
+
+    /**
+     * Indexes the name and the description of the created card.
+     *
+     * <p>If the description is stored out of line, the full text is indexed.
+     */
+    @Subscribe
+    void on(CardCreated e) {
+        index(e.getCard(), e.getBoard(), e.getName(), e.getDescription(), e.getFullDescription());
+    }
+
+    /**
+     * Indexes the name and the description of the imported card.
+     */
+    @Subscribe
+    void on(CardImported e) {
+        index(e.getCard(), e.getBoard(), e.getName(), e.getDescription(), e.getFullDescription());
+    }
+
+    /**
+     * Indexes the name and the description of the restored card.
+     */
+    @Subscribe
+    void on(CardRestored e) {
+        Card card = e.getState();
+        index(e.getCard(), e.getBoard(),
+              card.getName(), card.getDescription(), card.getFullDescription());
+    }
+
+    /**
+     * Removes the archived card from the index.
+     */
+    @Subscribe
+    void on(CardArchived e) {
+        index.remove(e.getCard());
+    }
+
+    private void index(
+            CardId card,
+            BoardId board,
+            String name,
+            String description,
+            BlobRef fullDescription
+    ) {
+        String text = fullDescription.getSha256().isEmpty()
+                      ? description
+                      : Descriptions.fullText(fullDescription)
+                                    .orElse(description);
+        index.put(card, board, name + '\n' + text);
+    }
+}
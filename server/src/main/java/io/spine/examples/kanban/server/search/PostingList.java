@@ -0,0 +1,165 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.search;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * The list of the documents containing a term, with the number of occurrences in each.
+ *
+ * <p>The documents are added in the ascending order. The list is stored as a sequence of
+ * variable-length integers: the difference from the previous document number, then
+ * the term frequency. A typical entry takes two or three bytes.
+ *
+ * <p>The class is not thread-safe.
+ */
+final class PostingList {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private byte[] data;
+    private int length;
+    private int count;
+    private int lastDoc = -1;
+
+    PostingList() {
+        this.data = new byte[INITIAL_CAPACITY];
+    }
+
+    private PostingList(byte[] data, int count, int lastDoc) {
+        this.data = data;
+        this.length = data.length;
+        this.count = count;
+        this.lastDoc = lastDoc;
+    }
+
+    /**
+     * Appends the document to the list.
+     *
+     * @param doc
+     *         the document number, greater than any number in the list
+     * @param frequency
+     *         the number of the term occurrences in the document
+     */
+    void add(int doc, int frequency) {
+        checkArgument(doc > lastDoc, "Document %s is added after %s.", doc, lastDoc);
+        writeVarInt(doc - lastDoc);
+        writeVarInt(frequency);
+        lastDoc = doc;
+        count++;
+    }
+
+    /**
+     * Obtains the number of documents in the list.
+     */
+    int count() {
+        return count;
+    }
+
+    /**
+     * Obtains a cursor positioned before the first document.
+     */
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    private void writeVarInt(int value) {
+        if (length + 5 > data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+        int rest = value;
+        while ((rest & ~0x7F) != 0) {
+            data[length++] = (byte) ((rest & 0x7F) | 0x80);
+            rest >>>= 7;
+        }
+        data[length++] = (byte) rest;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(count);
+        out.writeInt(lastDoc);
+        out.writeInt(length);
+        out.write(data, 0, length);
+    }
+
+    static PostingList readFrom(DataInput in) throws IOException {
+        int count = in.readInt();
+        int lastDoc = in.readInt();
+        byte[] data = new byte[in.readInt()];
+        in.readFully(data);
+        return new PostingList(data, count, lastDoc);
+    }
+
+    /**
+     * Iterates over the documents of the list.
+     */
+    final class Cursor {
+
+        private int position;
+        private int doc = -1;
+        private int frequency;
+
+        /**
+         * Moves to the next document.
+         *
+         * @return {@code false} if there are no more documents
+         */
+        boolean next() {
+            if (position >= length) {
+                return false;
+            }
+            doc += readVarInt();
+            frequency = readVarInt();
+            return true;
+        }
+
+        int doc() {
+            return doc;
+        }
+
+        int frequency() {
+            return frequency;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+}
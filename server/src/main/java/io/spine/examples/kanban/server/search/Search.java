@@ -0,0 +1,108 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.search;
+
+import io.spine.server.BoundedContextBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Provides the card search of the Kanban contexts.
+ *
+ * <p>Each context being built gets an index of its own, so that the cards of one context are
+ * never found in another one. The {@linkplain #index() index} to search in is the one of the
+ * context attached last, which is the only context in a running server.
+ *
+ * <p>If the {@value #SNAPSHOT} system property is set, the index of a context is loaded from
+ * the file at that path when the context is built. On shutdown, the index of the context
+ * attached last is saved to the file.
+ */
+public final class Search {
+
+    /**
+     * The system property with the path of the file to keep the index in between restarts.
+     */
+    public static final String SNAPSHOT = "kanban.search.snapshot";
+
+    private static volatile CardIndex index = new CardIndex();
+    private static final AtomicBoolean savedOnShutdown = new AtomicBoolean();
+
+    /**
+     * Prevents utility class instantiation.
+     */
+    private Search() {
+    }
+
+    private static CardIndex loadIndex() {
+        String snapshot = System.getProperty(SNAPSHOT);
+        if (snapshot == null) {
+            return new CardIndex();
+        }
+        Path file = Paths.get(snapshot);
+        try {
+            CardIndex loaded = CardIndex.readFrom(file)
+                                        .orElseGet(CardIndex::new);
+            if (savedOnShutdown.compareAndSet(false, true)) {
+                Runtime.getRuntime()
+                       .addShutdownHook(new Thread(() -> save(index, file), "kanban-search-save"));
+            }
+            return loaded;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void save(CardIndex index, Path file) {
+        try {
+            index.writeTo(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Starts indexing the cards of the context being built.
+     */
+    public static void attachTo(BoundedContextBuilder context) {
+        CardIndex contextIndex = loadIndex();
+        context.addEventDispatcher(new CardIndexer(contextIndex));
+        index = contextIndex;
+    }
+
+    /**
+     * Returns the index of the cards of the context attached last.
+     *
+     * <p>If no context is attached yet, returns an empty index.
+     */
+    public static CardIndex index() {
+        return index;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.stream;
+
+import com.google.common.collect.ImmutableSet;
+import io.spine.core.Event;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.server.lane.BoardAffinity;
+import io.spine.examples.kanban.stream.EventStreamRequest;
+
+import java.util.Optional;
+
+/**
+ * Selects the events matching an {@link EventStreamRequest}.
+ */
+final class EventSelector {
+
+    private final ImmutableSet<String> types;
+    private final ImmutableSet<BoardId> boards;
+    private final BoardAffinity affinity;
+
+    EventSelector(EventStreamRequest request, BoardAffinity affinity) {
+        this.types = ImmutableSet.copyOf(request.getTypeList());
+        this.boards = ImmutableSet.copyOf(request.getBoardList());
+        this.affinity = affinity;
+    }
+
+    /**
+     * Tells if the event is requested.
+     *
+     * <p>The type is checked first, as it does not need to unpack the event message.
+     */
+    boolean test(Event event) {
+        if (!types.isEmpty() && !types.contains(typeOf(event))) {
+            return false;
+        }
+        if (boards.isEmpty()) {
+            return true;
+        }
+        Optional<BoardId> board = affinity.boardIn(event.enclosedMessage());
+        return board.isPresent() && boards.contains(board.get());
+    }
+
+    /**
+     * Obtains the full Protobuf name of the type of the event message.
+     */
+    private static String typeOf(Event event) {
+        String url = event.getMessage()
+                          .getTypeUrl();
+        return url.substring(url.lastIndexOf('/') + 1);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.stream;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.spine.core.Event;
+import io.spine.examples.kanban.server.history.EventLogReader;
+import io.spine.examples.kanban.stream.EventBatch;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * A stream of the events of the log to one client.
+ *
+ * <p>The batches are sent only while the client is ready to take them. When the client falls
+ * behind, the stream stops reading the log until gRPC tells that the client is ready again.
+ * When the stream reaches the end of the log, it checks the log for the new events
+ * periodically.
+ *
+ * <p>The stream is drained by the tasks of a shared executor. At most one task of a stream is
+ * scheduled at a time.
+ */
+final class EventStream {
+
+    private static final long POLL_DELAY_MILLIS = 200;
+
+    /**
+     * The maximum number of records read for one batch.
+     *
+     * <p>If the events are selective, the records read for a batch may hold no requested events.
+     * In this case an empty batch is sent, so that the client gets the token past those records.
+     */
+    private static final int MAX_SCANNED = 10_000;
+
+    private final ServerCallStreamObserver<EventBatch> client;
+    private final EventLogReader reader;
+    private final EventSelector selector;
+    private final int batchSize;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile boolean cancelled;
+    private boolean closed;
+
+    EventStream(ServerCallStreamObserver<EventBatch> client,
+                EventLogReader reader,
+                EventSelector selector,
+                int batchSize,
+                ScheduledExecutorService executor) {
+        this.client = client;
+        this.reader = reader;
+        this.selector = selector;
+        this.batchSize = batchSize;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts sending the batches to the client.
+     */
+    void start() {
+        client.setOnCancelHandler(this::cancel);
+        client.setOnReadyHandler(this::schedule);
+        schedule();
+    }
+
+    private void cancel() {
+        cancelled = true;
+        schedule();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * Sends the batches while the client is ready to take them.
+     */
+    private synchronized void drain() {
+        scheduled.set(false);
+        if (closed) {
+            return;
+        }
+        try {
+            while (!cancelled && client.isReady()) {
+                EventBatch batch = nextBatch();
+                if (batch == null) {
+                    executor.schedule(this::schedule, POLL_DELAY_MILLIS, MILLISECONDS);
+                    return;
+                }
+                client.onNext(batch);
+            }
+            if (cancelled) {
+                close();
+            }
+        } catch (IOException | RuntimeException e) {
+            if (!cancelled) {
+                client.onError(Status.INTERNAL
+                                       .withDescription("Cannot read the event log.")
+                                       .withCause(e)
+                                       .asRuntimeException());
+            }
+            close();
+        }
+    }
+
+    /**
+     * Reads the next batch from the log.
+     *
+     * @return the batch, or {@code null} if there are no new requested events in the log
+     */
+    private @Nullable EventBatch nextBatch() throws IOException {
+        EventBatch.Builder batch = EventBatch.newBuilder();
+        int scanned = 0;
+        Optional<Event> event = Optional.empty();
+        while (batch.getEventCount() < batchSize && scanned < MAX_SCANNED) {
+            event = reader.next();
+            if (!event.isPresent()) {
+                break;
+            }
+            scanned++;
+            if (selector.test(event.get())) {
+                batch.addEvent(event.get());
+            }
+        }
+        boolean atEnd = scanned < MAX_SCANNED && !event.isPresent();
+        if (batch.getEventCount() == 0 && atEnd) {
+            return null;
+        }
+        return batch.setResumeToken(ResumeTokens.token(reader.position()))
+                    .build();
+    }
+
+    private void close() {
+        closed = true;
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
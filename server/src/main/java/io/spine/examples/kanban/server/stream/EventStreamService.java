@@ -0,0 +1,157 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.stream;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.spine.core.Event;
+import io.spine.examples.kanban.server.history.EventLog;
+import io.spine.examples.kanban.server.history.EventLogReader;
+import io.spine.examples.kanban.server.lane.BoardAffinity;
+import io.spine.examples.kanban.stream.EventBatch;
+import io.spine.examples.kanban.stream.EventStreamRequest;
+import io.spine.examples.kanban.stream.EventStreamServiceGrpc;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Streams the events of the {@link EventLog} to the gRPC clients.
+ *
+ * <p>The events are streamed in the order of the log, in batches. Each batch carries
+ * the token to resume the stream after it, so a client reconnecting after a failure gets
+ * only the events it has not got yet.
+ *
+ * <p>To filter the events by their boards, the service learns the boards of the columns and
+ * cards from the events of the log, and then from the events of the context as they happen.
+ */
+public final class EventStreamService
+        extends EventStreamServiceGrpc.EventStreamServiceImplBase
+        implements Closeable {
+
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int THREADS = 2;
+
+    private final EventLog log;
+    private final BoardAffinity boards;
+    private final ScheduledExecutorService streams;
+
+    private EventStreamService(EventLog log, BoardAffinity boards) {
+        super();
+        this.log = log;
+        this.boards = boards;
+        this.streams = Executors.newScheduledThreadPool(
+                THREADS,
+                new ThreadFactoryBuilder()
+                        .setNameFormat("kanban-event-stream-%d")
+                        .setDaemon(true)
+                        .build()
+        );
+    }
+
+    /**
+     * Creates the service streaming the events of the log.
+     *
+     * <p>The given affinity should be {@linkplain BoardAffinity#attachTo attached} to
+     * the context writing the log, so that it learns the boards of the new columns and cards.
+     * The service teaches it the boards of the ones already in the log.
+     */
+    public static EventStreamService create(EventLog log, BoardAffinity boards)
+            throws IOException {
+        checkNotNull(log);
+        checkNotNull(boards);
+        try (EventLogReader reader = log.read(0)) {
+            Optional<Event> event = reader.next();
+            while (event.isPresent()) {
+                boards.observe(event.get()
+                                    .enclosedMessage());
+                event = reader.next();
+            }
+        }
+        return new EventStreamService(log, boards);
+    }
+
+    @Override
+    public void subscribe(EventStreamRequest request, StreamObserver<EventBatch> observer) {
+        int batchSize = request.getBatchSize() == 0
+                        ? DEFAULT_BATCH_SIZE
+                        : request.getBatchSize();
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            observer.onError(invalid("The batch size must be from 1 to 1000."));
+            return;
+        }
+        long position;
+        try {
+            position = ResumeTokens.position(request.getResumeToken());
+        } catch (IllegalArgumentException e) {
+            observer.onError(invalid("Malformed resume token."));
+            return;
+        }
+        if (position > log.end()) {
+            observer.onError(invalid("The resume token is not issued by this server."));
+            return;
+        }
+        EventLogReader reader;
+        try {
+            reader = log.read(position);
+        } catch (IOException e) {
+            observer.onError(Status.INTERNAL
+                                     .withDescription("Cannot read the event log.")
+                                     .withCause(e)
+                                     .asRuntimeException());
+            return;
+        }
+        EventStream stream = new EventStream((ServerCallStreamObserver<EventBatch>) observer,
+                                             reader,
+                                             new EventSelector(request, boards),
+                                             batchSize,
+                                             streams);
+        stream.start();
+    }
+
+    private static RuntimeException invalid(String description) {
+        return Status.INVALID_ARGUMENT
+                .withDescription(description)
+                .asRuntimeException();
+    }
+
+    /**
+     * Stops streaming the events.
+     */
+    @Override
+    public void close() {
+        streams.shutdownNow();
+    }
+}
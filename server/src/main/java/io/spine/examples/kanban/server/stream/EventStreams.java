@@ -0,0 +1,105 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.stream;
+
+import io.spine.examples.kanban.server.history.EventLog;
+import io.spine.examples.kanban.server.history.History;
+import io.spine.examples.kanban.server.lane.BoardAffinity;
+import io.spine.examples.kanban.server.tenant.Tenancy;
+import io.spine.server.BoundedContextBuilder;
+import io.spine.server.GrpcContainer;
+
+import java.io.IOException;
+
+import static io.spine.client.ConnectionConstants.DEFAULT_CLIENT_SERVICE_PORT;
+
+/**
+ * Serves the {@linkplain EventStreamService stream} of the events of the Kanban contexts in
+ * this JVM.
+ *
+ * <p>The events are streamed from the {@linkplain History history}, so the stream is
+ * available only if the history is kept. The events of all the tenants are kept in one
+ * history, so the stream is not available in the {@linkplain Tenancy#isMultitenant()
+ * multi-tenant} mode.
+ *
+ * <p>The stream is served at the port set by the {@value #PORT} system property, by default
+ * at the port of the server plus two.
+ */
+public final class EventStreams {
+
+    /**
+     * The system property with the port to serve the stream at.
+     */
+    public static final String PORT = "kanban.stream.port";
+
+    private static final BoardAffinity boards = new BoardAffinity();
+
+    /**
+     * Prevents utility class instantiation.
+     */
+    private EventStreams() {
+    }
+
+    /**
+     * Makes the stream learn the boards of the columns and cards of the context being built,
+     * if the stream is available.
+     */
+    public static void attachTo(BoundedContextBuilder context) {
+        if (isAvailable()) {
+            boards.attachTo(context);
+        }
+    }
+
+    private static boolean isAvailable() {
+        return History.log()
+                      .isPresent() && !Tenancy.isMultitenant();
+    }
+
+    /**
+     * Starts serving the stream until the JVM shuts down, if the stream is available.
+     */
+    public static void start() throws IOException {
+        if (!isAvailable()) {
+            return;
+        }
+        EventLog log = History.log()
+                              .get();
+        int port = Integer.parseInt(System.getProperty(
+                PORT, String.valueOf(DEFAULT_CLIENT_SERVICE_PORT + 2)));
+        EventStreamService service = EventStreamService.create(log, boards);
+        GrpcContainer container = GrpcContainer
+                .atPort(port)
+                .addService(service)
+                .build();
+        container.start();
+        Runtime.getRuntime()
+               .addShutdownHook(new Thread(() -> {
+                   container.shutdown();
+                   service.close();
+               }, "kanban-stream-shutdown"));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.stream;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.spine.examples.kanban.stream.EventStreamToken;
+
+import java.util.Base64;
+
+/**
+ * Converts the positions in the event log to the opaque resume tokens and back.
+ */
+final class ResumeTokens {
+
+    /**
+     * Prevents utility class instantiation.
+     */
+    private ResumeTokens() {
+    }
+
+    /**
+     * Creates the token to resume the stream at the given position.
+     */
+    static String token(long position) {
+        byte[] bytes = EventStreamToken.newBuilder()
+                                       .setPosition(position)
+                                       .build()
+                                       .toByteArray();
+        return Base64.getUrlEncoder()
+                     .withoutPadding()
+                     .encodeToString(bytes);
+    }
+
+    /**
+     * Obtains the position to resume the stream at.
+     *
+     * @param token
+     *         the token of a batch, or an empty string to start from the first event
+     * @throws IllegalArgumentException
+     *         if the token is malformed
+     */
+    static long position(String token) {
+        if (token.isEmpty()) {
+            return 0;
+        }
+        byte[] bytes = Base64.getUrlDecoder()
+                             .decode(token);
+        try {
+            long position = EventStreamToken.parseFrom(bytes)
+                                            .getPosition();
+            if (position < 0) {
+                throw new IllegalArgumentException("Negative position in the resume token.");
+            }
+            return position;
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalArgumentException("Malformed resume token.", e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.tenant;
+
+import io.spine.server.BoundedContext;
+import io.spine.server.BoundedContextBuilder;
+
+/**
+ * Provides the tenancy of the Kanban contexts in this JVM.
+ *
+ * <p>The contexts are multi-tenant if the {@value #MULTITENANT} system property is
+ * {@code true}. In a multi-tenant context, the storage of each tenant is separate, and
+ * the commands of each tenant are limited by the {@linkplain TenantQuotas quotas} shared
+ * by all the contexts. Otherwise, the contexts are single-tenant and not limited.
+ */
+public final class Tenancy {
+
+    /**
+     * The system property which turns on the multi-tenant mode.
+     */
+    public static final String MULTITENANT = "kanban.multitenant";
+
+    private static final TenantQuotas quotas = TenantQuotas.fromSystemProperties();
+
+    /**
+     * Prevents utility class instantiation.
+     */
+    private Tenancy() {
+    }
+
+    /**
+     * Tells if the contexts are multi-tenant.
+     */
+    public static boolean isMultitenant() {
+        return Boolean.getBoolean(MULTITENANT);
+    }
+
+    /**
+     * Starts building a context with the given name of the given tenancy.
+     */
+    public static BoundedContextBuilder newContext(String name, boolean multitenant) {
+        return multitenant
+               ? BoundedContext.multitenant(name)
+               : BoundedContext.singleTenant(name);
+    }
+
+    /**
+     * Starts limiting the commands of the context being built, if the context is
+     * multi-tenant.
+     */
+    public static void attachTo(BoundedContextBuilder context) {
+        if (context.isMultitenant()) {
+            quotas.attachTo(context);
+        }
+    }
+
+    /**
+     * Returns the quotas of the tenants of all the multi-tenant contexts.
+     */
+    public static TenantQuotas quotas() {
+        return quotas;
+    }
+}
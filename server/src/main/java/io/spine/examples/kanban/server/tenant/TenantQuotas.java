@@ -0,0 +1,303 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.tenant;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import com.google.protobuf.Any;
+import io.spine.core.Ack;
+import io.spine.core.Command;
+import io.spine.core.Origin;
+import io.spine.core.TenantId;
+import io.spine.examples.kanban.server.monitor.Monitoring;
+import io.spine.examples.kanban.server.quota.QuotaExceeded;
+import io.spine.examples.kanban.server.quota.TokenBucket;
+import io.spine.server.BoundedContextBuilder;
+import io.spine.server.bus.BusFilter;
+import io.spine.server.type.CommandEnvelope;
+import io.spine.server.type.EventEnvelope;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Limits the commands each tenant may post.
+ *
+ * <p>A tenant may post commands at the given rate, with short bursts allowed, and may have
+ * up to the given number of commands in flight, i.e. posted but not handled yet.
+ * A command is handled once the first event or rejection caused by it is posted. A command
+ * which fails without producing any is considered handled after the lease time.
+ *
+ * <p>A command over a quota is not dispatched. The client gets
+ * a {@linkplain QuotaExceeded refusal} telling when to post the command again.
+ * The commands posted by the handlers in the context, e.g. by process managers, always
+ * pass, as they are the part of the work already admitted.
+ *
+ * <p>The admitted and refused commands of each tenant are counted in
+ * the {@linkplain Monitoring#metrics() metrics}.
+ *
+ * <p>The quota of a tenant which posts no commands for ten minutes, or for the lease time if
+ * it is longer, is forgotten together with its metrics. By then, all of its commands are
+ * considered handled. If the tenant posts commands again, it gets a fresh quota.
+ */
+public final class TenantQuotas implements BusFilter<CommandEnvelope> {
+
+    /**
+     * The system property with the number of commands per second a tenant may post,
+     * 50 by default.
+     */
+    public static final String RATE = "kanban.tenant.rate";
+
+    /**
+     * The system property with the number of commands a tenant may post at once over
+     * the rate, 100 by default.
+     */
+    public static final String BURST = "kanban.tenant.burst";
+
+    /**
+     * The system property with the number of commands a tenant may have in flight,
+     * 20 by default.
+     */
+    public static final String CONCURRENCY = "kanban.tenant.concurrency";
+
+    /**
+     * The system property with the time after which a command is considered handled even
+     * if it caused no events, in the ISO-8601 format, {@code PT30S} by default.
+     */
+    public static final String LEASE = "kanban.tenant.lease";
+
+    private static final String DEFAULT_RATE = "50";
+    private static final String DEFAULT_BURST = "100";
+    private static final String DEFAULT_CONCURRENCY = "20";
+    private static final String DEFAULT_LEASE = "PT30S";
+
+    /**
+     * The time after which the quota of an idle tenant is forgotten, unless the lease is
+     * longer.
+     */
+    private static final Duration IDLE = Duration.ofMinutes(10);
+
+    private final double rate;
+    private final int burst;
+    private final int concurrency;
+    private final Ticker ticker;
+    private final Cache<TenantId, Quota> quotas;
+    private final Cache<Any, TenantId> inFlight;
+
+    /**
+     * Creates new quotas.
+     *
+     * @param rate
+     *         the number of commands per second a tenant may post
+     * @param burst
+     *         the number of commands a tenant may post at once
+     * @param concurrency
+     *         the number of commands a tenant may have in flight
+     * @param lease
+     *         the time after which an admitted command is considered handled
+     * @param ticker
+     *         the source of time
+     */
+    TenantQuotas(double rate, int burst, int concurrency, Duration lease, Ticker ticker) {
+        checkArgument(rate > 0, "The rate must be positive.");
+        checkArgument(burst > 0, "The burst must be positive.");
+        checkArgument(concurrency > 0, "The concurrency must be positive.");
+        checkArgument(!lease.isNegative() && !lease.isZero(), "The lease must be positive.");
+        this.rate = rate;
+        this.burst = burst;
+        this.concurrency = concurrency;
+        this.ticker = checkNotNull(ticker);
+        this.inFlight = CacheBuilder
+                .newBuilder()
+                .expireAfterWrite(lease.toNanos(), NANOSECONDS)
+                .ticker(ticker)
+                .removalListener(this::handled)
+                .build();
+        Duration idle = lease.compareTo(IDLE) > 0 ? lease : IDLE;
+        this.quotas = CacheBuilder
+                .newBuilder()
+                .expireAfterAccess(idle.toNanos(), NANOSECONDS)
+                .ticker(ticker)
+                .removalListener(TenantQuotas::forgotten)
+                .build();
+    }
+
+    /**
+     * Creates the quotas configured by the {@value #RATE}, {@value #BURST},
+     * {@value #CONCURRENCY} and {@value #LEASE} system properties.
+     */
+    public static TenantQuotas fromSystemProperties() {
+        double rate = Double.parseDouble(System.getProperty(RATE, DEFAULT_RATE));
+        int burst = Integer.parseInt(System.getProperty(BURST, DEFAULT_BURST));
+        int concurrency = Integer.parseInt(System.getProperty(CONCURRENCY, DEFAULT_CONCURRENCY));
+        Duration lease = Duration.parse(System.getProperty(LEASE, DEFAULT_LEASE));
+        return new TenantQuotas(rate, burst, concurrency, lease, Ticker.systemTicker());
+    }
+
+    /**
+     * Starts limiting the commands of the context being built.
+     */
+    public void attachTo(BoundedContextBuilder context) {
+        context.addCommandFilter(this);
+        context.addEventListener(this::eventPosted);
+    }
+
+    @Override
+    public Optional<Ack> filter(CommandEnvelope envelope) {
+        Command command = envelope.outerObject();
+        if (command.origin()
+                   .isPresent()) {
+            return Optional.empty();
+        }
+        TenantId tenant = command.getContext()
+                                 .getActorContext()
+                                 .getTenantId();
+        String name = nameOf(tenant);
+        inFlight.cleanUp();
+        quotas.cleanUp();
+        Quota quota = quotas.asMap()
+                            .computeIfAbsent(tenant, t -> new Quota());
+        if (!quota.enter()) {
+            Monitoring.metrics()
+                      .overloaded(name);
+            return Optional.of(QuotaExceeded.refuse(
+                    envelope.id(),
+                    format("The tenant `%s` has %d commands in flight.", name, concurrency),
+                    Duration.ofNanos((long) (1e9 / rate))
+            ));
+        }
+        if (!quota.bucket.tryAcquire()) {
+            quota.leave();
+            Monitoring.metrics()
+                      .throttled(name);
+            return Optional.of(QuotaExceeded.refuse(
+                    envelope.id(),
+                    format("The tenant `%s` posts more than %s commands per second.",
+                           name, rate),
+                    quota.bucket.timeToToken()
+            ));
+        }
+        inFlight.put(command.messageId()
+                            .getId(), tenant);
+        Monitoring.metrics()
+                  .admitted(name);
+        return Optional.empty();
+    }
+
+    private void eventPosted(EventEnvelope event) {
+        Optional<Origin> origin = event.outerObject()
+                                       .origin();
+        origin.ifPresent(o -> inFlight.invalidate(o.getMessage()
+                                                   .getId()));
+    }
+
+    private void handled(RemovalNotification<Any, TenantId> notification) {
+        TenantId tenant = checkNotNull(notification.getValue());
+        Quota quota = quotas.getIfPresent(tenant);
+        if (quota != null) {
+            quota.leave();
+        }
+        Monitoring.metrics()
+                  .completed(nameOf(tenant));
+    }
+
+    private static void forgotten(RemovalNotification<TenantId, Quota> notification) {
+        if (notification.getCause() == RemovalCause.EXPIRED) {
+            TenantId tenant = checkNotNull(notification.getKey());
+            Monitoring.metrics()
+                      .forgetTenant(nameOf(tenant));
+        }
+    }
+
+    /**
+     * Returns the number of the commands of the tenant in flight.
+     */
+    public int inFlight(TenantId tenant) {
+        checkNotNull(tenant);
+        inFlight.cleanUp();
+        quotas.cleanUp();
+        Quota quota = quotas.getIfPresent(tenant);
+        return quota == null ? 0 : quota.inFlight.get();
+    }
+
+    /**
+     * Obtains the name of the tenant for the metrics and the error messages.
+     */
+    static String nameOf(TenantId tenant) {
+        switch (tenant.getKindCase()) {
+            case DOMAIN:
+                return tenant.getDomain()
+                             .getValue();
+            case EMAIL:
+                return tenant.getEmail()
+                             .getValue();
+            case VALUE:
+                return tenant.getValue();
+            default:
+                return "";
+        }
+    }
+
+    /**
+     * The quota of a tenant.
+     */
+    private final class Quota {
+
+        private final TokenBucket bucket = new TokenBucket(rate, burst, ticker);
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        /**
+         * Counts a command in flight, if the tenant does not have too many.
+         *
+         * @return {@code true} if the command is counted
+         */
+        private boolean enter() {
+            while (true) {
+                int current = inFlight.get();
+                if (current >= concurrency) {
+                    return false;
+                }
+                if (inFlight.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        private void leave() {
+            inFlight.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.view;
+
+import io.spine.core.EventContext;
+import io.spine.core.Subscribe;
+import io.spine.examples.kanban.CardId;
+import io.spine.examples.kanban.event.CardArchived;
+import io.spine.examples.kanban.view.ArchivedCard;
+import io.spine.server.projection.Projection;
+
+/**
+ * Keeps an archived card out of the active board state.
+ *
+ * <p>Only the cards which were {@linkplain CardArchived archived} get this view. The details
+ * of an archived card remain available from the {@code Card} aggregate.
+ */
+public final class ArchivedCardProjection
+        extends Projection<CardId, ArchivedCard, ArchivedCard.Builder> {
+
+    @Subscribe
+    void on(CardArchived e, EventContext context) {
+        builder().setId(e.getCard())
+                 .setBoard(e.getBoard())
+                 .setColumn(e.getColumn())
+                 .setWhenArchived(context.getTimestamp());
+    }
+}
@@ -29,17 +29,16 @@ package io.spine.examples.kanban.server.view;
 import io.spine.core.Subscribe;
 import io.spine.examples.kanban.BoardId;
 import io.spine.examples.kanban.Card;
-import io.spine.examples.kanban.Column;
-import io.spine.examples.kanban.ColumnId;
 import io.spine.examples.kanban.event.BoardCreated;
+import io.spine.examples.kanban.event.BoardRestored;
+import io.spine.examples.kanban.event.CardArchived;
 import io.spine.examples.kanban.event.ColumnAdditionRequested;
 import io.spine.examples.kanban.event.ColumnMovedOnBoard;
 import io.spine.examples.kanban.event.ColumnPlaced;
+import io.spine.examples.kanban.event.ColumnRestored;
 import io.spine.examples.kanban.view.BoardView;
 import io.spine.server.projection.Projection;
 
-import java.util.stream.IntStream;
-
 /**
  * Builds display information for a board.
  */
@@ -52,58 +51,45 @@ public final class BoardProjection
     }
 
     @Subscribe
-    void on(ColumnAdditionRequested e) {
-        Column column = Column.newBuilder()
-                              .setId(e.getColumn())
-                              .setBoard(e.getBoard())
-                              .setName(e.getName())
-                              .setPosition(e.getDesiredPosition())
-                              .vBuild();
+    void on(BoardRestored e) {
+        builder().setId(e.getBoard());
+    }
 
-        builder().addColumn(column.getPosition().zeroBasedIndex(), column);
+    @Subscribe
+    void on(ColumnAdditionRequested e) {
+        BoardViews.addColumn(builder(), e);
     }
 
     @Subscribe
     void on(ColumnPlaced e) {
-        Column column = state()
-                .getColumn(e.getDesiredPosition().zeroBasedIndex())
-                .toBuilder()
-                .setPosition(e.getActualPosition())
-                .vBuild();
-
-        builder().removeColumn(e.getDesiredPosition().zeroBasedIndex())
-                 .addColumn(column.getPosition().zeroBasedIndex(), column);
+        BoardViews.placeColumn(builder(), e);
     }
 
     @Subscribe
     void on(ColumnMovedOnBoard e) {
-        int index = indexOf(e.getColumn());
-        int newIndex = e.getTo().zeroBasedIndex();
-        if (index != newIndex) {
-            Column column = state()
-                    .getColumn(index)
-                    .toBuilder()
-                    .setPosition(e.getTo())
-                    .vBuild();
-            builder().removeColumn(index)
-                     .addColumn(column.getPosition().zeroBasedIndex(), column);
-        }
+        BoardViews.moveColumn(builder(), e);
     }
 
-    private int indexOf(ColumnId c) {
-        return IntStream.range(0, state().getColumnCount())
-                        .filter(i -> state().getColumn(i).getId().equals(c))
-                        .findFirst().orElse(-1);
+    @Subscribe
+    void on(ColumnRestored e) {
+        BoardViews.restoreColumn(builder(), e);
+    }
+
+    /**
+     * Removes the archived card from the board.
+     *
+     * <p>The card remains available through the {@link ArchivedCardProjection}.
+     */
+    @Subscribe
+    void on(CardArchived e) {
+        BoardViews.removeCard(builder(), e.getCard());
     }
 
+    /**
+     * Displays the new state of the card, unless the card was archived.
+     */
     @Subscribe
     void updated(Card card) {
-        int index = state().getCardList()
-                           .indexOf(card);
-        if (index != -1) {
-            builder().setCard(index, card);
-        } else {
-            builder().addCard(card);
-        }
+        BoardViews.updateCard(builder(), card);
     }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.view;
+
+import io.spine.core.Subscribe;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.event.BoardCreated;
+import io.spine.examples.kanban.event.BoardRestored;
+import io.spine.examples.kanban.event.CardArchived;
+import io.spine.examples.kanban.event.CardCreated;
+import io.spine.examples.kanban.event.CardImported;
+import io.spine.examples.kanban.event.CardRestored;
+import io.spine.examples.kanban.event.ColumnAdditionRequested;
+import io.spine.examples.kanban.event.ColumnMovedOnBoard;
+import io.spine.examples.kanban.event.ColumnPlaced;
+import io.spine.examples.kanban.event.ColumnRestored;
+import io.spine.examples.kanban.event.FileAttached;
+import io.spine.examples.kanban.view.BoardView;
+import io.spine.server.projection.Projection;
+
+/**
+ * Builds display information for a board on a read replica.
+ *
+ * <p>Unlike the {@link BoardProjection}, the replica has no card aggregates to get the states
+ * of the cards from, so it builds them from the card events.
+ */
+public final class BoardReplicaProjection
+        extends Projection<BoardId, BoardView, BoardView.Builder> {
+
+    @Subscribe
+    void on(BoardCreated e) {
+        builder().setId(e.getBoard());
+    }
+
+    @Subscribe
+    void on(BoardRestored e) {
+        builder().setId(e.getBoard());
+    }
+
+    @Subscribe
+    void on(ColumnAdditionRequested e) {
+        BoardViews.addColumn(builder(), e);
+    }
+
+    @Subscribe
+    void on(ColumnPlaced e) {
+        BoardViews.placeColumn(builder(), e);
+    }
+
+    @Subscribe
+    void on(ColumnMovedOnBoard e) {
+        BoardViews.moveColumn(builder(), e);
+    }
+
+    @Subscribe
+    void on(ColumnRestored e) {
+        BoardViews.restoreColumn(builder(), e);
+    }
+
+    @Subscribe
+    void on(CardArchived e) {
+        BoardViews.removeCard(builder(), e.getCard());
+    }
+
+    @Subscribe
+    void on(CardCreated e) {
+        BoardViews.createCard(builder(), e);
+    }
+
+    @Subscribe
+    void on(CardImported e) {
+        BoardViews.importCard(builder(), e);
+    }
+
+    @Subscribe
+    void on(CardRestored e) {
+        BoardViews.updateCard(builder(), e.getState());
+    }
+
+    @Subscribe
+    void on(FileAttached e) {
+        BoardViews.attachFile(builder(), e);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.view;
+
+import com.google.common.collect.ImmutableSet;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.event.BoardCreated;
+import io.spine.examples.kanban.event.BoardRestored;
+import io.spine.examples.kanban.event.CardArchived;
+import io.spine.examples.kanban.event.CardCreated;
+import io.spine.examples.kanban.event.CardImported;
+import io.spine.examples.kanban.event.CardRestored;
+import io.spine.examples.kanban.event.ColumnAdditionRequested;
+import io.spine.examples.kanban.event.ColumnMovedOnBoard;
+import io.spine.examples.kanban.event.ColumnPlaced;
+import io.spine.examples.kanban.event.ColumnRestored;
+import io.spine.examples.kanban.event.FileAttached;
+import io.spine.examples.kanban.server.lane.BoardAffinity;
+import io.spine.examples.kanban.view.BoardView;
+import io.spine.server.projection.ProjectionRepository;
+import io.spine.server.route.EventRouting;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.server.route.EventRoute.withId;
+
+/**
+ * The repository for managing {@link BoardReplicaProjection} instances.
+ *
+ * <p>Routes the events to the board named in them rather than to their producers, as
+ * the replica gets the events from a log and not from the aggregates which produced them.
+ * The {@link FileAttached} event does not name the board, so it is routed to the board of
+ * the card as told by the {@link BoardAffinity}.
+ */
+public final class BoardReplicaRepository
+        extends ProjectionRepository<BoardId, BoardReplicaProjection, BoardView> {
+
+    private final BoardAffinity boards;
+
+    /**
+     * Creates the repository routing the attached files by the given affinity.
+     *
+     * <p>The affinity should learn the boards of the cards from the same events.
+     */
+    public BoardReplicaRepository(BoardAffinity boards) {
+        super();
+        this.boards = checkNotNull(boards);
+    }
+
+    @Override
+    protected void setupEventRouting(EventRouting<BoardId> routing) {
+        super.setupEventRouting(routing);
+        routing.route(BoardCreated.class, (event, context) -> withId(event.getBoard()))
+               .route(BoardRestored.class, (event, context) -> withId(event.getBoard()))
+               .route(ColumnAdditionRequested.class, (event, context) -> withId(event.getBoard()))
+               .route(ColumnPlaced.class, (event, context) -> withId(event.getBoard()))
+               .route(ColumnMovedOnBoard.class, (event, context) -> withId(event.getBoard()))
+               .route(ColumnRestored.class, (event, context) -> withId(event.getBoard()))
+               .route(CardArchived.class, (event, context) -> withId(event.getBoard()))
+               .route(CardCreated.class, (event, context) -> withId(event.getBoard()))
+               .route(CardImported.class, (event, context) -> withId(event.getBoard()))
+               .route(CardRestored.class, (event, context) -> withId(event.getBoard()))
+               .route(FileAttached.class, (event, context) -> boardOf(event));
+    }
+
+    private Set<BoardId> boardOf(FileAttached event) {
+        Optional<BoardId> board = boards.boardOf(event.getCard());
+        return board.isPresent()
+               ? withId(board.get())
+               : ImmutableSet.of();
+    }
+}
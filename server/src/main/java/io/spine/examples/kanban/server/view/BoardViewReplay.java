@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.view;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import io.spine.base.EventMessage;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.event.CardArchived;
+import io.spine.examples.kanban.event.CardCreated;
+import io.spine.examples.kanban.event.CardImported;
+import io.spine.examples.kanban.event.CardRestored;
+import io.spine.examples.kanban.event.ColumnAdditionRequested;
+import io.spine.examples.kanban.event.ColumnMovedOnBoard;
+import io.spine.examples.kanban.event.ColumnPlaced;
+import io.spine.examples.kanban.event.ColumnRestored;
+import io.spine.examples.kanban.event.FileAttached;
+import io.spine.examples.kanban.view.BoardView;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Builds the view of a board from its past events outside of the {@link BoardProjection}.
+ *
+ * <p>The projection gets the states of the cards from the card aggregates. The replay has no
+ * aggregates to ask, so it builds the card states from the card events the same way
+ * the {@code CardAggregate} does.
+ *
+ * <p>The replay ignores the events of other boards, so it can be fed with the events of all
+ * the boards. An event belongs to the board if its {@code board} field tells so, or if it
+ * is about a card on the board.
+ */
+public final class BoardViewReplay {
+
+    private static final String BOARD_FIELD = "board";
+
+    private final BoardId board;
+    private final BoardView.Builder view;
+
+    /**
+     * Creates a replay starting from the given view.
+     */
+    public BoardViewReplay(BoardView start) {
+        checkNotNull(start);
+        this.board = start.getId();
+        this.view = start.toBuilder();
+    }
+
+    /**
+     * Creates a replay starting from the empty view of the given board.
+     */
+    public BoardViewReplay(BoardId board) {
+        this(BoardView.newBuilder()
+                      .setId(board)
+                      .build());
+    }
+
+    /**
+     * Applies the event to the view, if the event belongs to the board.
+     *
+     * @return {@code true} if the event belongs to the board
+     */
+    @CanIgnoreReturnValue
+    public boolean apply(EventMessage event) {
+        checkNotNull(event);
+        if (event instanceof FileAttached) {
+            return BoardViews.attachFile(view, (FileAttached) event);
+        }
+        FieldDescriptor boardField = event.getDescriptorForType()
+                                          .findFieldByName(BOARD_FIELD);
+        if (boardField == null || !board.equals(event.getField(boardField))) {
+            return false;
+        }
+        change(event);
+        return true;
+    }
+
+    private void change(EventMessage event) {
+        if (event instanceof ColumnAdditionRequested) {
+            BoardViews.addColumn(view, (ColumnAdditionRequested) event);
+        } else if (event instanceof ColumnPlaced) {
+            BoardViews.placeColumn(view, (ColumnPlaced) event);
+        } else if (event instanceof ColumnMovedOnBoard) {
+            BoardViews.moveColumn(view, (ColumnMovedOnBoard) event);
+        } else if (event instanceof ColumnRestored) {
+            BoardViews.restoreColumn(view, (ColumnRestored) event);
+        } else if (event instanceof CardArchived) {
+            BoardViews.removeCard(view, ((CardArchived) event).getCard());
+        } else if (event instanceof CardCreated) {
+            BoardViews.createCard(view, (CardCreated) event);
+        } else if (event instanceof CardImported) {
+            BoardViews.importCard(view, (CardImported) event);
+        } else if (event instanceof CardRestored) {
+            BoardViews.updateCard(view, ((CardRestored) event).getState());
+        }
+    }
+
+    /**
+     * Returns the view of the board with the events applied so far.
+     */
+    public BoardView view() {
+        return view.build();
+    }
+}
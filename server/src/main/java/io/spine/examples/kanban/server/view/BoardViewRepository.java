@@ -0,0 +1,53 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.view;
+
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.event.CardArchived;
+import io.spine.examples.kanban.event.ColumnRestored;
+import io.spine.examples.kanban.view.BoardView;
+import io.spine.server.projection.ProjectionRepository;
+import io.spine.server.route.EventRouting;
+
+import static io.spine.server.route.EventRoute.withId;
+
+/**
+ * The repository for managing {@link BoardProjection} instances.
+ *
+ * <p>Routes the {@link CardArchived} event to the view of the board to which the card belongs,
+ * and the {@link ColumnRestored} event to the view of the board of the column.
+ */
+public final class BoardViewRepository
+        extends ProjectionRepository<BoardId, BoardProjection, BoardView> {
+
+    @Override
+    protected void setupEventRouting(EventRouting<BoardId> routing) {
+        super.setupEventRouting(routing);
+        routing.route(CardArchived.class, (event, context) -> withId(event.getBoard()))
+               .route(ColumnRestored.class, (event, context) -> withId(event.getBoard()));
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.view;
+
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.Card;
+import io.spine.examples.kanban.CardId;
+import io.spine.examples.kanban.Column;
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.event.CardCreated;
+import io.spine.examples.kanban.event.CardImported;
+import io.spine.examples.kanban.event.ColumnAdditionRequested;
+import io.spine.examples.kanban.event.ColumnMovedOnBoard;
+import io.spine.examples.kanban.event.ColumnPlaced;
+import io.spine.examples.kanban.event.ColumnRestored;
+import io.spine.examples.kanban.event.FileAttached;
+import io.spine.examples.kanban.view.BoardView;
+import io.spine.examples.kanban.view.BoardViewOrBuilder;
+
+import java.util.stream.IntStream;
+
+/**
+ * Changes of a board view caused by the events.
+ *
+ * <p>The changes are shared by the {@link BoardProjection}, the {@link BoardViewReplay} and
+ * the {@link BoardReplicaProjection}, so that a view replayed from the history is the same as
+ * the one built live.
+ */
+final class BoardViews {
+
+    /**
+     * Prevents utility class instantiation.
+     */
+    private BoardViews() {
+    }
+
+    static void addColumn(BoardView.Builder view, ColumnAdditionRequested e) {
+        Column column = Column.newBuilder()
+                              .setId(e.getColumn())
+                              .setBoard(e.getBoard())
+                              .setName(e.getName())
+                              .setPosition(e.getDesiredPosition())
+                              .vBuild();
+
+        view.addColumn(column.getPosition().zeroBasedIndex(), column);
+    }
+
+    static void placeColumn(BoardView.Builder view, ColumnPlaced e) {
+        Column column = view
+                .getColumn(e.getDesiredPosition().zeroBasedIndex())
+                .toBuilder()
+                .setPosition(e.getActualPosition())
+                .vBuild();
+
+        view.removeColumn(e.getDesiredPosition().zeroBasedIndex())
+            .addColumn(column.getPosition().zeroBasedIndex(), column);
+    }
+
+    static void moveColumn(BoardView.Builder view, ColumnMovedOnBoard e) {
+        int index = indexOf(view, e.getColumn());
+        int newIndex = e.getTo().zeroBasedIndex();
+        if (index != newIndex) {
+            Column column = view
+                    .getColumn(index)
+                    .toBuilder()
+                    .setPosition(e.getTo())
+                    .vBuild();
+            view.removeColumn(index)
+                .addColumn(column.getPosition().zeroBasedIndex(), column);
+        }
+    }
+
+    /**
+     * Adds the restored column to the board, or replaces it if the board already has it.
+     *
+     * <p>The columns of a board are restored in the order of the board, so a new column
+     * is added after the others.
+     */
+    static void restoreColumn(BoardView.Builder view, ColumnRestored e) {
+        int index = indexOf(view, e.getColumn());
+        if (index != -1) {
+            view.setColumn(index, e.getState());
+        } else {
+            view.addColumn(e.getState());
+        }
+    }
+
+    /**
+     * Removes the card from the board, if the board has it.
+     */
+    static void removeCard(BoardView.Builder view, CardId card) {
+        int index = indexOf(view, card);
+        if (index != -1) {
+            view.removeCard(index);
+        }
+    }
+
+    /**
+     * Replaces the card on the board with its new state, or adds the card if the board does
+     * not have it yet.
+     *
+     * <p>An {@linkplain Card#getArchived() archived} card is removed from the board instead.
+     */
+    static void updateCard(BoardView.Builder view, Card card) {
+        if (card.getArchived()) {
+            removeCard(view, card.getId());
+            return;
+        }
+        int index = indexOf(view, card.getId());
+        if (index != -1) {
+            view.setCard(index, card);
+        } else {
+            view.addCard(card);
+        }
+    }
+
+    /**
+     * Adds the created card to the board in the state the {@code CardAggregate} gives it.
+     */
+    static void createCard(BoardView.Builder view, CardCreated e) {
+        Card.Builder card = newCard(e.getCard(), e.getBoard(), e.getName(), e.getDescription());
+        if (e.hasFullDescription()) {
+            card.setFullDescription(e.getFullDescription());
+        }
+        updateCard(view, card.build());
+    }
+
+    /**
+     * Adds the imported card to the board in the state the {@code CardAggregate} gives it.
+     */
+    static void importCard(BoardView.Builder view, CardImported e) {
+        Card.Builder card = newCard(e.getCard(), e.getBoard(), e.getName(), e.getDescription());
+        if (e.hasFullDescription()) {
+            card.setFullDescription(e.getFullDescription());
+        }
+        updateCard(view, card.build());
+    }
+
+    private static Card.Builder newCard(CardId card, BoardId board,
+                                        String name, String description) {
+        return Card.newBuilder()
+                   .setId(card)
+                   .setBoard(board)
+                   .setName(name)
+                   .setDescription(description);
+    }
+
+    /**
+     * Adds the attachment to the card, if the board has the card.
+     *
+     * <p>A card which is not on the board, e.g. an archived one, stays off the board, as
+     * {@linkplain #updateCard it does} when the {@link BoardProjection} gets its new state.
+     *
+     * @return {@code true} if the board has the card, {@code false} otherwise
+     */
+    static boolean attachFile(BoardView.Builder view, FileAttached e) {
+        int index = indexOf(view, e.getCard());
+        if (index == -1) {
+            return false;
+        }
+        Card card = view.getCard(index)
+                        .toBuilder()
+                        .addAttachment(e.getAttachment())
+                        .build();
+        view.setCard(index, card);
+        return true;
+    }
+
+    static int indexOf(BoardViewOrBuilder view, ColumnId c) {
+        return IntStream.range(0, view.getColumnCount())
+                        .filter(i -> view.getColumn(i).getId().equals(c))
+                        .findFirst().orElse(-1);
+    }
+
+    static int indexOf(BoardViewOrBuilder view, CardId c) {
+        return IntStream.range(0, view.getCardCount())
+                        .filter(i -> view.getCard(i).getId().equals(c))
+                        .findFirst().orElse(-1);
+    }
+}
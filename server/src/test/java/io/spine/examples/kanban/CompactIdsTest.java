@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban;
+
+import io.spine.testing.UtilityClassTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.UUID;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`CompactIds` should")
+class CompactIdsTest extends UtilityClassTest<CompactIds> {
+
+    CompactIdsTest() {
+        super(CompactIds.class);
+    }
+
+    @Test
+    @DisplayName("convert identifiers to the binary form and back")
+    void roundTrip() {
+        BoardId board = BoardId.generate();
+        ColumnId column = ColumnId.generate();
+        CardId card = CardId.generate();
+
+        assertThat(CompactIds.toBoardId(board.toCompact())).isEqualTo(board);
+        assertThat(CompactIds.toColumnId(column.toCompact())).isEqualTo(column);
+        assertThat(CompactIds.toCardId(card.toCompact())).isEqualTo(card);
+    }
+
+    @Test
+    @DisplayName("keep the bits of the UUID")
+    void keepBits() {
+        UUID uuid = UUID.randomUUID();
+        Uuid128 compact = CompactIds.parse(uuid.toString());
+
+        assertThat(compact.getMostSignificantBits()).isEqualTo(uuid.getMostSignificantBits());
+        assertThat(compact.getLeastSignificantBits()).isEqualTo(uuid.getLeastSignificantBits());
+        assertThat(compact.toUuid()).isEqualTo(uuid);
+    }
+
+    @Test
+    @DisplayName("reject values which are not canonical UUIDs")
+    void rejectNonCanonical() {
+        String upperCase = UUID.randomUUID()
+                               .toString()
+                               .toUpperCase(Locale.ROOT);
+        assertThrows(IllegalArgumentException.class, () -> CompactIds.parse(upperCase));
+        assertThrows(IllegalArgumentException.class, () -> CompactIds.parse("1-1-1-1-1"));
+        assertThrows(IllegalArgumentException.class,
+                     () -> CompactIds.parse("0123456789abcdef0123456789abcdef0123"));
+    }
+
+    @Test
+    @DisplayName("tell the canonical UUIDs")
+    void canonical() {
+        String uuid = UUID.randomUUID()
+                          .toString();
+        assertThat(CompactIds.isCanonical(uuid)).isTrue();
+        assertThat(CompactIds.isCanonical(uuid.toUpperCase(Locale.ROOT))).isFalse();
+        assertThat(CompactIds.isCanonical(uuid.replace('-', '0'))).isFalse();
+        assertThat(CompactIds.isCanonical("board")).isFalse();
+    }
+
+    @Test
+    @DisplayName("hash the binary form by the bits of the UUID")
+    void stableHash() {
+        UUID uuid = UUID.randomUUID();
+        Uuid128 compact = CompactIds.parse(uuid.toString());
+
+        assertThat(compact.stableHash()).isEqualTo(
+                Long.hashCode(uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits())
+        );
+    }
+}
@@ -26,9 +26,11 @@
 
 package io.spine.examples.kanban.server;
 
+import io.spine.client.Client;
 import io.spine.client.QueryResponse;
 import io.spine.examples.kanban.Board;
 import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.server.migration.BoardExport;
 import io.spine.server.Server;
 import io.spine.testing.client.grpc.TestClient;
 import org.junit.jupiter.api.AfterEach;
@@ -36,8 +38,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import static com.google.common.truth.Truth.assertThat;
 import static io.spine.client.ConnectionConstants.DEFAULT_CLIENT_SERVICE_PORT;
@@ -92,4 +97,28 @@ class KanbanServerTest {
             assertThat(response.getMessageCount()).isEqualTo(1);
         }
     }
+
+    @Nested
+    class Export {
+
+        @Test
+        @DisplayName("export the board with its columns")
+        void export(@TempDir Path dir) throws IOException {
+            client.post(createBoard(boardId));
+            Path file = dir.resolve("board.dump");
+            Client exportClient = Client
+                    .connectTo(HOST, DEFAULT_CLIENT_SERVICE_PORT)
+                    .build();
+            long records;
+            try {
+                records = new BoardExport(exportClient, null).run(boardId, file);
+            } finally {
+                exportClient.close();
+            }
+
+            // The header, the board and the four default columns.
+            assertThat(records).isEqualTo(6L);
+            assertThat(Files.size(file)).isGreaterThan(0L);
+        }
+    }
 }
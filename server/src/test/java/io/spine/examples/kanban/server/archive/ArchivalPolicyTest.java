@@ -0,0 +1,103 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.archive;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import io.spine.examples.kanban.command.ArchiveCard;
+import io.spine.examples.kanban.server.KanbanContext;
+import io.spine.examples.kanban.server.KanbanTest;
+import io.spine.testing.server.blackbox.BlackBoxContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("`ArchivalPolicy` should")
+class ArchivalPolicyTest extends KanbanTest {
+
+    private static final Duration AGE = Duration.ofDays(14);
+
+    private ArchivalPolicy policy;
+    private BlackBoxContext context;
+
+    @BeforeEach
+    void createContext() {
+        policy = new ArchivalPolicy(AGE, ImmutableSet.of("To Do"));
+        context = BlackBoxContext.from(KanbanContext.newBuilder()
+                                                    .addEventDispatcher(policy));
+        context.receivesCommand(createBoard())
+               .receivesCommand(createCard());
+    }
+
+    @AfterEach
+    void closeContext() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("not select the card which is not old enough")
+    void fresh() {
+        assertThat(policy.due(Instant.now()))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("select the card staying in the archiving column longer than the age")
+    void old() {
+        ImmutableList<ArchiveCard> due = policy.due(Instant.now().plus(AGE));
+        assertThat(due).hasSize(1);
+        assertThat(due.get(0).getCard())
+                .isEqualTo(card());
+    }
+
+    @Test
+    @DisplayName("select each card once")
+    void once() {
+        Instant later = Instant.now().plus(AGE);
+        assertThat(policy.due(later)).hasSize(1);
+        assertThat(policy.due(later)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("not select the cards in other columns")
+    void otherColumns() {
+        ArchivalPolicy done = new ArchivalPolicy(AGE, ImmutableSet.of("Done"));
+        BlackBoxContext other = BlackBoxContext.from(KanbanContext.newBuilder()
+                                                                  .addEventDispatcher(done));
+        other.receivesCommand(createBoard())
+             .receivesCommand(createCard());
+        assertThat(done.due(Instant.now().plus(AGE)))
+                .isEmpty();
+        other.close();
+    }
+}
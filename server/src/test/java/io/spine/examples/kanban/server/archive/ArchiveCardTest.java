@@ -0,0 +1,175 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.archive;
+
+import io.spine.examples.kanban.Attachment;
+import io.spine.examples.kanban.Card;
+import io.spine.examples.kanban.Column;
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.command.AddColumn;
+import io.spine.examples.kanban.command.ArchiveCard;
+import io.spine.examples.kanban.command.AttachFile;
+import io.spine.examples.kanban.event.CardArchived;
+import io.spine.examples.kanban.rejection.Rejections.CardAlreadyArchived;
+import io.spine.examples.kanban.rejection.Rejections.CardNotInColumn;
+import io.spine.examples.kanban.server.KanbanContextTest;
+import io.spine.examples.kanban.server.blob.BlobStore;
+import io.spine.examples.kanban.view.ArchivedCard;
+import io.spine.examples.kanban.view.BoardView;
+import io.spine.testing.server.EventSubject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Archiving a card should")
+class ArchiveCardTest extends KanbanContextTest {
+
+    private ColumnId firstColumn;
+
+    @BeforeEach
+    void setupCard() {
+        context().receivesCommand(createBoard())
+                 .receivesCommand(createCard());
+        firstColumn = receivedCommands(AddColumn.class)
+                .findFirst()
+                .map(AddColumn::getColumn)
+                .orElseThrow(IllegalStateException::new);
+        context().receivesCommand(archiveCard());
+    }
+
+    private ArchiveCard archiveCard() {
+        return ArchiveCard
+                .newBuilder()
+                .setColumn(firstColumn)
+                .setCard(card())
+                .vBuild();
+    }
+
+    @Test
+    @DisplayName("emit the `CardArchived` event")
+    void event() {
+        EventSubject assertEvents = assertEvents(CardArchived.class);
+        assertEvents.hasSize(1);
+
+        CardArchived expected =
+                CardArchived.newBuilder()
+                            .setCard(card())
+                            .setColumn(firstColumn)
+                            .setBoard(board())
+                            .vBuild();
+        assertEvents.message(0)
+                    .isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("remove the card from the column")
+    void column() {
+        Column expected =
+                Column.newBuilder()
+                      .setId(firstColumn)
+                      .setBoard(board())
+                      .setName("To Do")
+                      .buildPartial();
+        context().assertEntityWithState(firstColumn, Column.class)
+                 .hasStateThat()
+                 .ignoringFields(Column.POSITION_FIELD_NUMBER)
+                 .isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("remove the card from the board view")
+    void boardView() {
+        assertNoCardsOnBoard();
+    }
+
+    private void assertNoCardsOnBoard() {
+        BoardView expected =
+                BoardView.newBuilder()
+                         .setId(board())
+                         .buildPartial();
+        context().assertEntityWithState(board(), BoardView.class)
+                 .hasStateThat()
+                 .ignoringFields(BoardView.COLUMN_FIELD_NUMBER)
+                 .isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("keep the card in the archive")
+    void archive() {
+        ArchivedCard expected =
+                ArchivedCard.newBuilder()
+                            .setId(card())
+                            .setBoard(board())
+                            .setColumn(firstColumn)
+                            .buildPartial();
+        context().assertEntityWithState(card(), ArchivedCard.class)
+                 .hasStateThat()
+                 .comparingExpectedFieldsOnly()
+                 .isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("reject archiving the card which is not in the column")
+    void rejection() {
+        context().receivesCommand(archiveCard());
+
+        EventSubject assertRejections = assertEvents(CardNotInColumn.class);
+        assertRejections.hasSize(1);
+
+        CardNotInColumn expected =
+                CardNotInColumn.newBuilder()
+                               .setColumn(firstColumn)
+                               .setCard(card())
+                               .vBuild();
+        assertRejections.message(0)
+                        .isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("reject attaching a file to the archived card")
+    void attachment() {
+        AttachFile attachFile =
+                AttachFile.newBuilder()
+                          .setCard(card())
+                          .setAttachment(Attachment.newBuilder()
+                                                   .setContent(BlobStore.shared()
+                                                                        .put(new byte[]{1}))
+                                                   .setFileName("notes.txt"))
+                          .vBuild();
+        context().receivesCommand(attachFile);
+
+        EventSubject assertRejections = assertEvents(CardAlreadyArchived.class);
+        assertRejections.hasSize(1);
+        context().assertEntityWithState(card(), Card.class)
+                 .hasStateThat()
+                 .comparingExpectedFieldsOnly()
+                 .isEqualTo(Card.newBuilder()
+                                .setArchived(true)
+                                .buildPartial());
+        assertNoCardsOnBoard();
+    }
+}
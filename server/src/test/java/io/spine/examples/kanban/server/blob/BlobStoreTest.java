@@ -0,0 +1,150 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.blob;
+
+import com.google.common.base.Strings;
+import io.spine.examples.kanban.BlobRef;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Random;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`BlobStore` should")
+class BlobStoreTest {
+
+    private BlobStore store;
+
+    @BeforeEach
+    void createStore(@TempDir Path dir) {
+        store = BlobStore.at(dir);
+    }
+
+    @Test
+    @DisplayName("return the stored content")
+    void roundTrip() {
+        byte[] content = "Lorem ipsum".getBytes(UTF_8);
+        BlobRef ref = store.put(content);
+
+        assertThat(ref.getSize()).isEqualTo((long) content.length);
+        assertThat(store.get(ref).get()).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("address the content by its SHA-256 hash")
+    void contentAddressed() {
+        BlobRef ref = store.put("abc".getBytes(UTF_8));
+
+        assertThat(ref.getSha256())
+                .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+        assertThat(store.put("abc".getBytes(UTF_8))).isEqualTo(ref);
+    }
+
+    @Test
+    @DisplayName("keep the blobs of a namespace apart from the others")
+    void namespace() {
+        BlobStore descriptions = store.namespace("descriptions");
+        BlobRef outside = store.put("attachment".getBytes(UTF_8));
+        BlobRef inside = descriptions.put("description".getBytes(UTF_8));
+
+        assertThat(descriptions.get(outside).isPresent()).isFalse();
+        assertThat(store.get(inside).isPresent()).isFalse();
+        assertThat(descriptions.get(inside).isPresent()).isTrue();
+        assertThrows(IllegalArgumentException.class, () -> store.namespace("../up"));
+    }
+
+    @Test
+    @DisplayName("return empty `Optional` for an unknown blob")
+    void unknown() {
+        BlobRef ref = BlobRef.newBuilder()
+                             .setSha256(Strings.repeat("0", 64))
+                             .vBuild();
+        assertThat(store.get(ref).isPresent()).isFalse();
+    }
+
+    @Test
+    @DisplayName("reject an invalid hash")
+    void invalidHash() {
+        BlobRef ref = BlobRef.newBuilder()
+                             .setSha256("../../etc/passwd")
+                             .buildPartial();
+        assertThrows(IllegalArgumentException.class, () -> store.get(ref));
+    }
+
+    @Test
+    @DisplayName("store the content streamed from a channel")
+    void streamIn() throws IOException {
+        byte[] content = randomBytes(3 << 20);
+        Optional<BlobRef> ref = store.put(channelOf(content), content.length);
+
+        assertThat(ref.isPresent()).isTrue();
+        assertThat(ref.get()).isEqualTo(store.put(content));
+        assertThat(store.sizeOf(ref.get()).get()).isEqualTo((long) content.length);
+    }
+
+    @Test
+    @DisplayName("not store the streamed content larger than the limit")
+    void tooLarge() throws IOException {
+        byte[] content = randomBytes(1024);
+        Optional<BlobRef> ref = store.put(channelOf(content), content.length - 1);
+
+        assertThat(ref.isPresent()).isFalse();
+    }
+
+    @Test
+    @DisplayName("stream the content to a channel")
+    void streamOut() throws IOException {
+        byte[] content = randomBytes(3 << 20);
+        BlobRef ref = store.put(content);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThat(store.transferTo(ref, Channels.newChannel(out))).isTrue();
+        assertThat(out.toByteArray()).isEqualTo(content);
+    }
+
+    private static ReadableByteChannel channelOf(byte[] content) {
+        return Channels.newChannel(new ByteArrayInputStream(content));
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -32,6 +32,7 @@ import io.spine.examples.kanban.ColumnPosition;
 import io.spine.examples.kanban.command.AddColumn;
 import io.spine.examples.kanban.command.MoveColumn;
 import io.spine.examples.kanban.event.BoardCreated;
+import io.spine.examples.kanban.event.ColumnMovedOnBoard;
 import io.spine.examples.kanban.server.KanbanContextTest;
 import io.spine.testing.server.EventSubject;
 import org.junit.Ignore;
@@ -262,6 +263,128 @@ class BoardTest extends KanbanContextTest {
         }
     }
 
+    @Nested
+    @DisplayName("merge column moves with the concurrent ones")
+    class MergeColumnMoves {
+
+        private ColumnId first;
+        private ColumnId second;
+        private ColumnId third;
+        private ColumnId fourth;
+
+        @BeforeEach
+        void rememberColumns() {
+            Board board = currentBoardState();
+            first = board.getColumn(0);
+            second = board.getColumn(1);
+            third = board.getColumn(2);
+            fourth = board.getColumn(3);
+        }
+
+        private Board currentBoardState() {
+            return (Board) context()
+                    .assertEntityWithState(board(), Board.class)
+                    .actual()
+                    .state();
+        }
+
+        private void move(ColumnId column, int from, int to, MoveColumn.Neighbour neighbour) {
+            MoveColumn command =
+                    MoveColumn.newBuilder()
+                              .setColumn(column)
+                              .setBoard(board())
+                              .setFrom(ColumnPositions.of(from, 4))
+                              .setTo(ColumnPositions.of(to, 4))
+                              .setNeighbour(neighbour)
+                              .vBuild();
+            context().receivesCommand(command);
+        }
+
+        private MoveColumn.Neighbour after(ColumnId column) {
+            return MoveColumn.Neighbour
+                    .newBuilder()
+                    .setAfter(column)
+                    .vBuild();
+        }
+
+        private MoveColumn.Neighbour before(ColumnId column) {
+            return MoveColumn.Neighbour
+                    .newBuilder()
+                    .setBefore(column)
+                    .vBuild();
+        }
+
+        private void assertOrder(ColumnId... columns) {
+            assertThat(currentBoardState().getColumnList())
+                    .containsExactlyElementsIn(columns)
+                    .inOrder();
+            assertEvents(ColumnCannotBeMoved.class).hasSize(0);
+        }
+
+        @Test
+        @DisplayName("rebasing a stale move onto the current order")
+        void rebase() {
+            context().receivesCommand(MoveColumn.newBuilder()
+                                                .setColumn(fourth)
+                                                .setBoard(board())
+                                                .setFrom(ColumnPositions.of(4, 4))
+                                                .setTo(ColumnPositions.of(1, 4))
+                                                .vBuild());
+            move(second, 2, 3, after(third));
+
+            assertOrder(fourth, first, third, second);
+        }
+
+        @Test
+        @DisplayName("placing the column before the neighbour")
+        void beforeNeighbour() {
+            move(fourth, 4, 1, before(first));
+
+            assertOrder(fourth, first, second, third);
+        }
+
+        @Test
+        @DisplayName("accepting the move if the column is already next to the neighbour")
+        void alreadyThere() {
+            int moved = movedColumns();
+            move(first, 1, 2, before(second));
+
+            assertKeptInPlace(moved);
+        }
+
+        @Test
+        @DisplayName("keeping the column in place if the neighbour is not on the board")
+        void unknownNeighbour() {
+            int moved = movedColumns();
+            move(first, 1, 3, after(ColumnId.generate()));
+
+            assertKeptInPlace(moved);
+        }
+
+        private int movedColumns() {
+            return context().assertEvents()
+                            .withType(ColumnMovedOnBoard.class)
+                            .actual()
+                            .size();
+        }
+
+        private void assertKeptInPlace(int movedBefore) {
+            assertThat(currentBoardState().getColumnList())
+                    .containsExactly(first, second, third, fourth)
+                    .inOrder();
+            assertEvents(ColumnCannotBeMoved.class).hasSize(0);
+            assertThat(movedColumns()).isEqualTo(movedBefore + 1);
+        }
+
+        @Test
+        @DisplayName("rejecting the move of a column which is not on the board")
+        void unknownColumn() {
+            move(ColumnId.generate(), 1, 2, after(first));
+
+            assertEvents(ColumnCannotBeMoved.class).hasSize(1);
+        }
+    }
+
     @Nested
     @DisplayName("move card emitting")
     class MoveCard {
@@ -26,10 +26,13 @@
 
 package io.spine.examples.kanban.server.board;
 
+import io.spine.examples.kanban.ColumnPosition;
 import io.spine.testing.UtilityClassTest;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DisplayName("`ColumnPositions` should")
@@ -47,4 +50,42 @@ class ColumnPositionsTest extends UtilityClassTest<ColumnPositions> {
                 () -> ColumnPositions.of(3, 2)
         );
     }
+
+    @Nested
+    @DisplayName("intern positions")
+    class Intern {
+
+        @Test
+        @DisplayName("returning the same instance for the same position")
+        void sameInstance() {
+            int width = ColumnPositions.maxInternedWidth();
+            for (int index = 1; index <= width; index++) {
+                ColumnPosition first = ColumnPositions.of(index, width);
+                ColumnPosition second = ColumnPositions.of(index, width);
+                assertThat(second).isSameInstanceAs(first);
+                assertThat(first.getIndex()).isEqualTo(index);
+                assertThat(first.getOfTotal()).isEqualTo(width);
+            }
+        }
+
+        @Test
+        @DisplayName("keeping positions of different boards apart")
+        void distinctPositions() {
+            ColumnPosition ofTwo = ColumnPositions.of(1, 2);
+            ColumnPosition ofThree = ColumnPositions.of(1, 3);
+
+            assertThat(ofTwo.getOfTotal()).isEqualTo(2);
+            assertThat(ofThree.getOfTotal()).isEqualTo(3);
+            assertThat(ColumnPositions.of(2, 2).getIndex()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("creating equal positions on boards wider than the max interned width")
+        void beyondMaxWidth() {
+            int width = ColumnPositions.maxInternedWidth() + 1;
+
+            assertThat(ColumnPositions.of(width, width))
+                    .isEqualTo(ColumnPositions.of(width, width));
+        }
+    }
 }
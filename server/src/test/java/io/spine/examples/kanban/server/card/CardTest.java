@@ -26,15 +26,22 @@
 
 package io.spine.examples.kanban.server.card;
 
+import com.google.common.base.Strings;
+import io.spine.examples.kanban.Attachment;
 import io.spine.examples.kanban.Card;
+import io.spine.examples.kanban.command.AttachFile;
+import io.spine.examples.kanban.command.CreateCard;
 import io.spine.examples.kanban.event.CardCreated;
 import io.spine.examples.kanban.server.KanbanContextTest;
+import io.spine.examples.kanban.server.blob.BlobStore;
 import io.spine.testing.server.EventSubject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import static com.google.common.truth.Truth.assertThat;
+
 @DisplayName("`Card` should")
 class CardTest extends KanbanContextTest {
 
@@ -81,4 +88,85 @@ class CardTest extends KanbanContextTest {
                         .isEqualTo(expected);
         }
     }
+
+    @Nested
+    @DisplayName("keep a long description out of line")
+    class LongDescription {
+
+        private final String description = Strings.repeat("Lorem ipsum dolor sit amet. ", 1000);
+
+        @BeforeEach
+        void setupCard() {
+            CreateCard command = createCard()
+                    .toBuilder()
+                    .setDescription(description)
+                    .vBuild();
+            context().receivesCommand(command);
+        }
+
+        @Test
+        @DisplayName("with the preview in the state")
+        void preview() {
+            Card expected =
+                    Card.newBuilder()
+                        .setId(card())
+                        .setDescription(Descriptions.preview(description))
+                        .buildPartial();
+            context().assertEntityWithState(card(), Card.class)
+                     .hasStateThat()
+                     .comparingExpectedFieldsOnly()
+                     .isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("with the full text in the blob store")
+        void fullText() {
+            EventSubject assertEvents = assertEvents(CardCreated.class);
+            assertEvents.hasSize(1);
+            CardCreated event = (CardCreated) assertEvents.actual()
+                                                          .get(0)
+                                                          .enclosedMessage();
+            assertThat(event.hasFullDescription()).isTrue();
+            assertThat(Descriptions.fullText(event.getFullDescription()).get())
+                    .isEqualTo(description);
+        }
+    }
+
+    @Nested
+    @DisplayName("attach a file")
+    class Attaching {
+
+        private final Attachment attachment =
+                Attachment.newBuilder()
+                          .setContent(BlobStore.shared()
+                                               .put(new byte[]{1, 2, 3}))
+                          .setFileName("screenshot.png")
+                          .setMediaType("image/png")
+                          .vBuild();
+
+        @BeforeEach
+        void setupCard() {
+            AttachFile attachFile =
+                    AttachFile.newBuilder()
+                              .setCard(card())
+                              .setAttachment(attachment)
+                              .vBuild();
+            context().receivesCommand(createCard())
+                     .receivesCommand(attachFile);
+        }
+
+        @Test
+        @DisplayName("recording its metadata in the state")
+        void entity() {
+            Card expected =
+                    Card.newBuilder()
+                        .setId(card())
+                        .addAttachment(attachment)
+                        .buildPartial();
+            context().assertEntityWithState(card(), Card.class)
+                     .hasStateThat()
+                     .comparingExpectedFieldsOnly()
+                     .isEqualTo(expected);
+        }
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.card;
+
+import com.google.common.base.Strings;
+import io.spine.examples.kanban.BlobRef;
+import io.spine.examples.kanban.server.blob.BlobStore;
+import io.spine.testing.UtilityClassTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@DisplayName("`Descriptions` should")
+class DescriptionsTest extends UtilityClassTest<Descriptions> {
+
+    DescriptionsTest() {
+        super(Descriptions.class);
+    }
+
+    @Test
+    @DisplayName("keep short descriptions inline")
+    void shortInline() {
+        assertThat(Descriptions.tooLong("")).isFalse();
+        assertThat(Descriptions.tooLong(Strings.repeat("a", 4096))).isFalse();
+    }
+
+    @Test
+    @DisplayName("store long descriptions out of line")
+    void longOutOfLine() {
+        assertThat(Descriptions.tooLong(Strings.repeat("a", 4097))).isTrue();
+    }
+
+    @Test
+    @DisplayName("read the stored descriptions but not other blobs")
+    void storeApart() {
+        String description = Strings.repeat("a", 5000);
+        BlobRef stored = Descriptions.outOfLine(description)
+                                     .orElseThrow(IllegalStateException::new);
+        BlobRef attachment = BlobStore.shared()
+                                      .put("attachment".getBytes(UTF_8));
+
+        assertThat(Descriptions.fullText(stored).orElse("")).isEqualTo(description);
+        assertThat(Descriptions.fullText(attachment).isPresent()).isFalse();
+    }
+
+    @Test
+    @DisplayName("measure the limit in UTF-8 bytes")
+    void utf8() {
+        // Each of the characters takes two bytes.
+        assertThat(Descriptions.tooLong(Strings.repeat("\u00e9", 2049))).isTrue();
+    }
+
+    @Test
+    @DisplayName("not change a short description in the preview")
+    void shortPreview() {
+        assertThat(Descriptions.preview("Lorem ipsum")).isEqualTo("Lorem ipsum");
+    }
+
+    @Test
+    @DisplayName("cut a long description in the preview")
+    void longPreview() {
+        String preview = Descriptions.preview(Strings.repeat("a", 10_000));
+        assertThat(preview.length()).isEqualTo(Descriptions.PREVIEW_LENGTH + 1);
+        assertThat(preview).endsWith("\u2026");
+    }
+
+    @Test
+    @DisplayName("not split a surrogate pair in the preview")
+    void surrogates() {
+        // The preview boundary falls between the halves of a pair.
+        String description = 'a' + Strings.repeat("\uD83D\uDE00", Descriptions.PREVIEW_LENGTH);
+        String preview = Descriptions.preview(description);
+
+        assertThat(preview.length()).isEqualTo(Descriptions.PREVIEW_LENGTH);
+        assertThat(Character.isLowSurrogate(preview.charAt(preview.length() - 2))).isTrue();
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.dedup;
+
+import io.spine.base.CommandMessage;
+import io.spine.core.Ack;
+import io.spine.core.Command;
+import io.spine.core.CommandId;
+import io.spine.core.Event;
+import io.spine.examples.kanban.Board;
+import io.spine.examples.kanban.command.RestoreBoard;
+import io.spine.examples.kanban.event.BoardCreated;
+import io.spine.examples.kanban.rejection.Rejections.BoardAlreadyExists;
+import io.spine.examples.kanban.server.KanbanContextTest;
+import io.spine.examples.kanban.server.given.ManualTicker;
+import io.spine.server.type.CommandEnvelope;
+import io.spine.server.type.EventEnvelope;
+import io.spine.testing.client.TestActorRequestFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.protobuf.AnyPacker.unpack;
+
+@DisplayName("`CommandDeduplicator` should")
+class CommandDeduplicatorTest extends KanbanContextTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(10);
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    private final TestActorRequestFactory requests =
+            new TestActorRequestFactory(CommandDeduplicatorTest.class);
+    private final ManualTicker ticker = new ManualTicker();
+    private CommandDeduplicator deduplicator;
+    private CommandEnvelope command;
+
+    @BeforeEach
+    void createDeduplicator() {
+        deduplicator = new CommandDeduplicator(WINDOW, 2, LEASE, ticker);
+        command = envelope(createBoard());
+    }
+
+    private CommandEnvelope envelope(CommandMessage message) {
+        Command result = requests.createCommand(message);
+        return CommandEnvelope.of(result);
+    }
+
+    /**
+     * Creates the envelope of the command which caused the given event.
+     */
+    private CommandEnvelope causeOf(Event event) {
+        CommandId id = event.origin()
+                            .map(origin -> unpack(origin.getMessage()
+                                                        .getId(), CommandId.class))
+                            .orElseThrow(IllegalStateException::new);
+        Command result = requests.createCommand(createBoard())
+                                 .toBuilder()
+                                 .setId(id)
+                                 .build();
+        return CommandEnvelope.of(result);
+    }
+
+    @Test
+    @DisplayName("let the first posting of a command pass")
+    void first() {
+        assertThat(deduplicator.filter(command).isPresent()).isFalse();
+    }
+
+    @Test
+    @DisplayName("acknowledge a retried command without dispatching it")
+    void retried() {
+        assertThat(deduplicator.filter(command).isPresent()).isFalse();
+
+        Optional<Ack> ack = deduplicator.filter(command);
+        assertThat(ack.isPresent()).isTrue();
+        assertThat(ack.get().getStatus().hasOk()).isTrue();
+        assertThat(deduplicator.duplicates()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("remember the handled command after the lease")
+    void handled() {
+        context().receivesCommand(createBoard());
+        Event created = assertEvents(BoardCreated.class).actual()
+                                                        .get(0);
+        CommandEnvelope original = causeOf(created);
+        assertThat(deduplicator.filter(original).isPresent()).isFalse();
+        deduplicator.eventPosted(EventEnvelope.of(created));
+        ticker.advance(LEASE.plusSeconds(1));
+
+        Optional<Ack> ack = deduplicator.filter(original);
+        assertThat(ack.isPresent()).isTrue();
+        assertThat(ack.get().getStatus().hasOk()).isTrue();
+    }
+
+    @Test
+    @DisplayName("answer a retried command with the rejection of the original")
+    void rejected() {
+        RestoreBoard restore = RestoreBoard
+                .newBuilder()
+                .setBoard(board())
+                .setState(Board.newBuilder()
+                               .setId(board()))
+                .vBuild();
+        context().receivesCommand(createBoard())
+                 .receivesCommand(restore);
+        Event rejection = assertEvents(BoardAlreadyExists.class).actual()
+                                                                .get(0);
+        CommandEnvelope original = causeOf(rejection);
+        assertThat(deduplicator.filter(original).isPresent()).isFalse();
+        deduplicator.eventPosted(EventEnvelope.of(rejection));
+
+        Optional<Ack> ack = deduplicator.filter(original);
+        assertThat(ack.isPresent()).isTrue();
+        assertThat(ack.get().getStatus().getRejection()).isEqualTo(rejection);
+    }
+
+    @Test
+    @DisplayName("dispatch the retry of a command which caused no events for the lease time")
+    void failed() {
+        assertThat(deduplicator.filter(command).isPresent()).isFalse();
+        ticker.advance(LEASE.plusSeconds(1));
+
+        assertThat(deduplicator.filter(command).isPresent()).isFalse();
+        assertThat(deduplicator.duplicates()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("let pass a command with the same message and another ID")
+    void anotherId() {
+        assertThat(deduplicator.filter(command).isPresent()).isFalse();
+        assertThat(deduplicator.filter(envelope(createBoard())).isPresent()).isFalse();
+    }
+
+    @Test
+    @DisplayName("forget a command after the window")
+    void expire() {
+        assertThat(deduplicator.filter(command).isPresent()).isFalse();
+        ticker.advance(WINDOW.plusSeconds(1));
+
+        assertThat(deduplicator.filter(command).isPresent()).isFalse();
+    }
+
+    @Test
+    @DisplayName("forget the oldest commands when full")
+    void bounded() {
+        assertThat(deduplicator.filter(command).isPresent()).isFalse();
+        assertThat(deduplicator.filter(envelope(createCard())).isPresent()).isFalse();
+        assertThat(deduplicator.filter(envelope(addColumn())).isPresent()).isFalse();
+
+        assertThat(deduplicator.filter(command).isPresent()).isFalse();
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.history;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Timestamp;
+import io.spine.base.Time;
+import io.spine.examples.kanban.Attachment;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.Card;
+import io.spine.examples.kanban.CardId;
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.command.ArchiveCard;
+import io.spine.examples.kanban.command.AttachFile;
+import io.spine.examples.kanban.history.BoardCheckpoint;
+import io.spine.examples.kanban.server.KanbanContext;
+import io.spine.examples.kanban.server.KanbanTest;
+import io.spine.examples.kanban.server.blob.BlobStore;
+import io.spine.examples.kanban.server.view.BoardProjection;
+import io.spine.examples.kanban.view.BoardView;
+import io.spine.server.BoundedContextBuilder;
+import io.spine.testing.server.blackbox.BlackBoxContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("`BoardTimeTravel` should")
+class BoardTimeTravelTest extends KanbanTest {
+
+    private Path checkpoints;
+    private EventLog log;
+    private BlackBoxContext context;
+    private Timestamp created;
+
+    @BeforeEach
+    void openLog(@TempDir Path dir) throws IOException {
+        checkpoints = dir.resolve("events.log.checkpoints");
+        log = EventLog.open(dir.resolve("events.log"));
+        BoundedContextBuilder builder = KanbanContext.newBuilder();
+        log.attachTo(builder);
+        context = BlackBoxContext.from(builder);
+        context.receivesCommand(createBoard());
+        created = Time.currentTime();
+        context.receivesCommand(createCard());
+    }
+
+    @AfterEach
+    void closeLog() throws IOException {
+        context.close();
+        log.close();
+    }
+
+    private Checkpointer checkpointEvery(int events) throws IOException {
+        Checkpointer checkpointer = Checkpointer.open(log, checkpoints, events);
+        checkpointer.catchUp();
+        return checkpointer;
+    }
+
+    private BoardView boardAt(Checkpointer checkpointer, Timestamp moment) throws IOException {
+        Optional<BoardView> view = new BoardTimeTravel(log, checkpointer)
+                .boardAt(board(), moment);
+        assertThat(view.isPresent()).isTrue();
+        return view.get();
+    }
+
+    private void assertCurrent(BoardView view) {
+        context.assertEntity(board(), BoardProjection.class)
+               .hasStateThat()
+               .isEqualTo(view);
+    }
+
+    @Test
+    @DisplayName("rebuild the current view of the board from the log")
+    void current() throws IOException {
+        try (Checkpointer checkpointer = checkpointEvery(1000)) {
+            assertCurrent(boardAt(checkpointer, Time.currentTime()));
+        }
+    }
+
+    @Test
+    @DisplayName("rebuild the current view of the board from the checkpoints")
+    void fromCheckpoints() throws IOException {
+        try (Checkpointer checkpointer = checkpointEvery(3)) {
+            assertCurrent(boardAt(checkpointer, Time.currentTime()));
+        }
+    }
+
+    @Test
+    @DisplayName("rebuild the view of the board at a past moment")
+    void past() throws IOException {
+        try (Checkpointer checkpointer = checkpointEvery(1)) {
+            BoardView before = boardAt(checkpointer, created);
+            BoardView now = boardAt(checkpointer, Time.currentTime());
+            assertThat(cardsOf(before)).doesNotContain(card());
+            assertThat(cardsOf(now)).contains(card());
+            assertThat(now.getCardCount()).isEqualTo(before.getCardCount() + 1);
+        }
+    }
+
+    private static ImmutableList<CardId> cardsOf(BoardView view) {
+        return view.getCardList()
+                   .stream()
+                   .map(Card::getId)
+                   .collect(toImmutableList());
+    }
+
+    @Test
+    @DisplayName("keep an archived card off the board as the projection does")
+    void archived() throws IOException {
+        try (Checkpointer checkpointer = checkpointEvery(1000)) {
+            ColumnId column = boardAt(checkpointer, Time.currentTime()).getColumn(0)
+                                                                       .getId();
+            context.receivesCommand(ArchiveCard.newBuilder()
+                                               .setColumn(column)
+                                               .setCard(card())
+                                               .vBuild());
+            context.receivesCommand(AttachFile.newBuilder()
+                                              .setCard(card())
+                                              .setAttachment(attachment())
+                                              .vBuild());
+            BoardView view = boardAt(checkpointer, Time.currentTime());
+            assertThat(cardsOf(view)).doesNotContain(card());
+            assertCurrent(view);
+        }
+    }
+
+    private static Attachment attachment() {
+        return Attachment.newBuilder()
+                         .setContent(BlobStore.shared()
+                                              .put(new byte[]{1, 2, 3}))
+                         .setFileName("notes.txt")
+                         .vBuild();
+    }
+
+    @Test
+    @DisplayName("not find the board before it was created")
+    void beforeCreation() throws IOException {
+        Timestamp epoch = Timestamp.getDefaultInstance();
+        try (Checkpointer checkpointer = checkpointEvery(1)) {
+            BoardTimeTravel history = new BoardTimeTravel(log, checkpointer);
+            assertThat(history.boardAt(board(), epoch)
+                              .isPresent()).isFalse();
+            BoardId unknown = BoardId.generate();
+            assertThat(history.boardAt(unknown, Time.currentTime())
+                              .isPresent()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("checkpoint a file attached to a card created before the restart")
+    void attachedAfterRestart() throws IOException {
+        checkpointEvery(1).close();
+        context.receivesCommand(AttachFile.newBuilder()
+                                          .setCard(card())
+                                          .setAttachment(attachment())
+                                          .vBuild());
+        try (Checkpointer checkpointer = checkpointEvery(1)) {
+            BoardView view = checkpointer.store()
+                                         .latest(board())
+                                         .map(BoardCheckpoint::getView)
+                                         .orElseThrow(IllegalStateException::new);
+            assertThat(view.getCard(0)
+                           .getAttachmentList()).containsExactly(attachment());
+            assertCurrent(view);
+        }
+    }
+
+    @Test
+    @DisplayName("resume checkpointing after a clean close")
+    void resume() throws IOException {
+        checkpointEvery(2).close();
+        context.receivesCommand(createCard(CardId.generate()));
+        try (Checkpointer checkpointer = Checkpointer.open(log, checkpoints, 2)) {
+            assertThat(checkpointer.store()
+                                   .completeUpTo()
+                                   .isPresent()).isTrue();
+            checkpointer.catchUp();
+            assertCurrent(boardAt(checkpointer, Time.currentTime()));
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.history;
+
+import io.spine.core.Event;
+import io.spine.examples.kanban.event.BoardCreated;
+import io.spine.examples.kanban.server.KanbanContext;
+import io.spine.examples.kanban.server.KanbanTest;
+import io.spine.server.BoundedContextBuilder;
+import io.spine.testing.server.blackbox.BlackBoxContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.protobuf.AnyPacker.unpack;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+@DisplayName("`EventLog` should")
+class EventLogTest extends KanbanTest {
+
+    private Path file;
+    private EventLog log;
+    private BlackBoxContext context;
+
+    @BeforeEach
+    void openLog(@TempDir Path dir) throws IOException {
+        file = dir.resolve("events.log");
+        log = EventLog.open(file);
+        BoundedContextBuilder builder = KanbanContext.newBuilder();
+        log.attachTo(builder);
+        context = BlackBoxContext.from(builder);
+        context.receivesCommand(createBoard());
+    }
+
+    @AfterEach
+    void closeLog() throws IOException {
+        context.close();
+        log.close();
+    }
+
+    private static List<Event> readAll(EventLogReader reader) throws IOException {
+        List<Event> result = new ArrayList<>();
+        Optional<Event> event = reader.next();
+        while (event.isPresent()) {
+            result.add(event.get());
+            event = reader.next();
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("append the posted events in the order of posting")
+    void append() throws IOException {
+        List<Event> events;
+        try (EventLogReader reader = log.read(0)) {
+            events = readAll(reader);
+            assertThat(reader.position()).isEqualTo(log.end());
+        }
+        assertThat(events.size()).isGreaterThan(1);
+        BoardCreated first = unpack(events.get(0).getMessage(), BoardCreated.class);
+        assertThat(first.getBoard()).isEqualTo(board());
+    }
+
+    @Test
+    @DisplayName("resume reading at the position of a record")
+    void resume() throws IOException {
+        List<Event> all;
+        try (EventLogReader reader = log.read(0)) {
+            all = readAll(reader);
+        }
+        long position;
+        try (EventLogReader reader = log.read(0)) {
+            assertThat(reader.next().isPresent()).isTrue();
+            assertThat(reader.next().isPresent()).isTrue();
+            position = reader.position();
+        }
+        try (EventLogReader reader = log.read(position)) {
+            assertThat(readAll(reader)).isEqualTo(all.subList(2, all.size()));
+        }
+    }
+
+    @Test
+    @DisplayName("return the records appended after reaching the end")
+    void follow() throws IOException {
+        try (EventLogReader reader = log.read(0)) {
+            int before = readAll(reader).size();
+            context.receivesCommand(createCard());
+            assertThat(readAll(reader).size()).isGreaterThan(0);
+            assertThat(reader.position()).isEqualTo(log.end());
+            assertThat(before).isGreaterThan(0);
+        }
+    }
+
+    @Test
+    @DisplayName("stop before an incomplete record")
+    void incomplete() throws IOException {
+        List<Event> all;
+        long lastRecord;
+        try (EventLogReader reader = log.read(0)) {
+            all = readAll(reader);
+        }
+        try (EventLogReader reader = log.read(0)) {
+            for (int i = 0; i < all.size() - 1; i++) {
+                assertThat(reader.next().isPresent()).isTrue();
+            }
+            lastRecord = reader.position();
+        }
+        try (FileChannel channel = FileChannel.open(file, WRITE)) {
+            channel.truncate(log.end() - 1);
+        }
+        try (EventLogReader reader = log.read(0)) {
+            assertThat(readAll(reader)).isEqualTo(all.subList(0, all.size() - 1));
+            assertThat(reader.position()).isEqualTo(lastRecord);
+        }
+    }
+
+    @Test
+    @DisplayName("cut off an incomplete record when reopened")
+    void torn() throws IOException {
+        List<Event> all;
+        try (EventLogReader reader = log.read(0)) {
+            all = readAll(reader);
+        }
+        long end = log.end();
+        log.close();
+        try (FileChannel channel = FileChannel.open(file, WRITE)) {
+            channel.truncate(end - 1);
+        }
+        log = EventLog.open(file);
+        Event last = all.get(all.size() - 1);
+        assertThat(log.append(last)).isLessThan(end);
+
+        assertThat(log.end()).isEqualTo(end);
+        try (EventLogReader reader = log.read(0)) {
+            assertThat(readAll(reader)).isEqualTo(all);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.lane;
+
+import io.spine.examples.kanban.CardId;
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.ImportCards;
+import io.spine.examples.kanban.ImportedCard;
+import io.spine.examples.kanban.SetWipLimit;
+import io.spine.examples.kanban.server.KanbanTest;
+import io.spine.examples.kanban.server.given.WipLimits;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.examples.kanban.server.given.TestCommands.setWipLimit;
+
+@DisplayName("`BoardAffinity` should")
+class BoardAffinityTest extends KanbanTest {
+
+    private BoardAffinity affinity;
+
+    @BeforeEach
+    void createAffinity() {
+        affinity = new BoardAffinity();
+    }
+
+    @Test
+    @DisplayName("tell a board is its own board")
+    void board() {
+        assertThat(affinity.boardOf(board())).isEqualTo(Optional.of(board()));
+    }
+
+    @Test
+    @DisplayName("learn the board of an added column")
+    void column() {
+        affinity.observe(addColumn());
+
+        assertThat(affinity.boardOf(column())).isEqualTo(Optional.of(board()));
+    }
+
+    @Test
+    @DisplayName("learn the board of a created card")
+    void card() {
+        affinity.observe(createCard());
+
+        assertThat(affinity.boardOf(card())).isEqualTo(Optional.of(board()));
+    }
+
+    @Test
+    @DisplayName("learn the board of the imported cards from their column")
+    void imported() {
+        affinity.observe(addColumn());
+        CardId imported = CardId.generate();
+        affinity.observe(ImportCards
+                                 .newBuilder()
+                                 .setColumn(column())
+                                 .addCard(ImportedCard
+                                                  .newBuilder()
+                                                  .setCard(imported)
+                                                  .setName("Imported"))
+                                 .build());
+
+        assertThat(affinity.boardOf(imported)).isEqualTo(Optional.of(board()));
+    }
+
+    @Test
+    @DisplayName("tell the board a message is about")
+    void boardIn() {
+        SetWipLimit setLimit = setWipLimit(column(), WipLimits.of(3));
+        assertThat(affinity.boardIn(setLimit)).isEqualTo(Optional.empty());
+
+        affinity.observe(addColumn());
+        assertThat(affinity.boardIn(setLimit)).isEqualTo(Optional.of(board()));
+        assertThat(affinity.boardIn(createBoard())).isEqualTo(Optional.of(board()));
+    }
+
+    @Test
+    @DisplayName("forget the least recently used columns and cards when bounded")
+    void bounded() {
+        BoardAffinity bounded = new BoardAffinity(1);
+        bounded.observe(addColumn());
+        bounded.observe(createCard());
+        ColumnId otherColumn = ColumnId.generate();
+        bounded.observe(addColumn(otherColumn));
+
+        assertThat(bounded.boardOf(column())).isEqualTo(Optional.empty());
+        assertThat(bounded.boardOf(otherColumn)).isEqualTo(Optional.of(board()));
+        assertThat(bounded.boardOf(card())).isEqualTo(Optional.of(board()));
+        assertThat(bounded.boardIn(column(), id -> Optional.of(board())))
+                .isEqualTo(Optional.of(board()));
+        assertThat(bounded.boardOf(column())).isEqualTo(Optional.of(board()));
+    }
+
+    @Test
+    @DisplayName("not know the board of the entities not seen yet")
+    void unknown() {
+        assertThat(affinity.boardOf(column())).isEqualTo(Optional.empty());
+        assertThat(affinity.boardOf(card())).isEqualTo(Optional.empty());
+        assertThat(affinity.boardOf("not a board member")).isEqualTo(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("let the members of a board be delivered in the shard of the board")
+    void sharding() {
+        affinity.observe(addColumn());
+        affinity.observe(createCard());
+        BoardSharding sharding = new BoardSharding(affinity, 16);
+
+        int shard = sharding.indexFor(board());
+        assertThat(sharding.indexFor(column())).isEqualTo(shard);
+        assertThat(sharding.indexFor(card())).isEqualTo(shard);
+    }
+}
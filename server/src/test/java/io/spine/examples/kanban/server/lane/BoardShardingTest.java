@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.lane;
+
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.server.KanbanTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("`BoardSharding` should")
+class BoardShardingTest extends KanbanTest {
+
+    private static final int SHARDS = 1024;
+
+    private BoardAffinity affinity;
+    private BoardSharding sharding;
+
+    @BeforeEach
+    void createSharding() {
+        affinity = new BoardAffinity();
+        sharding = new BoardSharding(affinity, SHARDS);
+    }
+
+    @Test
+    @DisplayName("put a column and a card into the shard of their board")
+    void learned() {
+        affinity.observe(addColumn());
+        affinity.observe(createCard());
+
+        int shard = sharding.indexFor(board());
+        assertThat(sharding.indexFor(column())).isEqualTo(shard);
+        assertThat(sharding.indexFor(card())).isEqualTo(shard);
+    }
+
+    @Test
+    @DisplayName("read the board of a column or a card it does not know")
+    void stored() {
+        AtomicInteger reads = new AtomicInteger();
+        sharding.readBoardsBy(entityId -> {
+            reads.incrementAndGet();
+            return Optional.of(board());
+        });
+
+        int shard = sharding.indexFor(board());
+        assertThat(sharding.indexFor(column())).isEqualTo(shard);
+        assertThat(sharding.indexFor(card())).isEqualTo(shard);
+        assertThat(sharding.indexFor(card())).isEqualTo(shard);
+        assertThat(reads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("put other entities into the shards of their own IDs")
+    void other() {
+        BoardId otherBoard = BoardId.generate();
+        assertThat(sharding.indexFor(otherBoard)).isEqualTo(sharding.indexFor(otherBoard));
+        assertThat(sharding.indexFor("not a board member"))
+                .isEqualTo(sharding.indexFor("not a board member"));
+        assertThat(sharding.indexFor(card())).isEqualTo(sharding.indexFor(card()));
+    }
+}
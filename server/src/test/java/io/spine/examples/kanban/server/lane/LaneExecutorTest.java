@@ -0,0 +1,151 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.lane;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.Uninterruptibles.awaitUninterruptibly;
+
+@DisplayName("`LaneExecutor` should")
+class LaneExecutorTest {
+
+    private static final int LANES = 4;
+
+    @Test
+    @DisplayName("run the requested lanes")
+    void run() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(LANES);
+        LaneExecutor executor = new LaneExecutor(LANES, 2, lane -> {
+            done.countDown();
+            return true;
+        });
+        for (int lane = 0; lane < LANES; lane++) {
+            executor.request(lane);
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("never run a lane on two workers at a time")
+    void singleWriter() throws InterruptedException {
+        AtomicIntegerArray running = new AtomicIntegerArray(LANES);
+        AtomicBoolean overlapped = new AtomicBoolean();
+        LaneExecutor executor = new LaneExecutor(LANES, 8, lane -> {
+            if (running.incrementAndGet(lane) > 1) {
+                overlapped.set(true);
+            }
+            Thread.yield();
+            running.decrementAndGet(lane);
+            return true;
+        });
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        for (int client = 0; client < 8; client++) {
+            clients.execute(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    executor.request(i % LANES);
+                }
+            });
+        }
+        clients.shutdown();
+
+        assertThat(clients.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        executor.close();
+        assertThat(overlapped.get()).isFalse();
+    }
+
+    @Test
+    @DisplayName("run a lane once more if it is requested while running")
+    void requestedWhileRunning() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch twice = new CountDownLatch(2);
+        AtomicInteger runs = new AtomicInteger();
+        LaneExecutor executor = new LaneExecutor(1, 2, lane -> {
+            started.countDown();
+            awaitUninterruptibly(release);
+            runs.incrementAndGet();
+            twice.countDown();
+            return true;
+        });
+        executor.request(0);
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.request(0);
+        executor.request(0);
+        release.countDown();
+
+        assertThat(twice.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.close();
+        assertThat(runs.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("run a lane again if its work could not be done")
+    void retry() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicInteger attempts = new AtomicInteger();
+        LaneExecutor executor = new LaneExecutor(1, 1, lane -> {
+            if (attempts.incrementAndGet() < 3) {
+                return false;
+            }
+            done.countDown();
+            return true;
+        });
+        executor.request(0);
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.close();
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("wait before running a lane again if its work could not be done")
+    void retryLater() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        LaneExecutor executor = new LaneExecutor(1, 1, lane -> {
+            attempts.incrementAndGet();
+            return false;
+        });
+        executor.request(0);
+        TimeUnit.MILLISECONDS.sleep(200);
+        executor.close();
+
+        assertThat(attempts.get()).isAtLeast(2);
+        assertThat(attempts.get()).isAtMost(20);
+    }
+}
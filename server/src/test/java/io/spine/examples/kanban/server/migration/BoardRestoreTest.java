@@ -0,0 +1,356 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.migration;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.base.CommandMessage;
+import io.spine.base.Time;
+import io.spine.core.Event;
+import io.spine.examples.kanban.BlobRef;
+import io.spine.examples.kanban.Board;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.Card;
+import io.spine.examples.kanban.CardId;
+import io.spine.examples.kanban.Column;
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.command.AddColumn;
+import io.spine.examples.kanban.command.RestoreCards;
+import io.spine.examples.kanban.event.BoardInitialized;
+import io.spine.examples.kanban.event.CardRestored;
+import io.spine.examples.kanban.event.CardWaitingPlacement;
+import io.spine.examples.kanban.migration.DumpHeader;
+import io.spine.examples.kanban.migration.DumpRecord;
+import io.spine.examples.kanban.server.KanbanContextTest;
+import io.spine.examples.kanban.server.blob.BlobStore;
+import io.spine.examples.kanban.server.card.Descriptions;
+import io.spine.examples.kanban.view.BoardView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.examples.kanban.rejection.Rejections.BoardAlreadyExists;
+import static io.spine.examples.kanban.rejection.Rejections.CardAlreadyInColumn;
+import static io.spine.examples.kanban.rejection.Rejections.ColumnAlreadyExists;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`BoardRestore` should")
+class BoardRestoreTest extends KanbanContextTest {
+
+    private static final int BATCH = 2;
+    private static final String DESCRIPTION = "The full description of the card.";
+
+    private ColumnId todo;
+    private ColumnId done;
+    private ImmutableList<CardId> todoCards;
+    private ImmutableList<CardId> doneCards;
+    private BlobRef description;
+    private BlobStore source;
+    private BlobStore blobs;
+    private Path dump;
+
+    @BeforeEach
+    void prepareDump(@TempDir Path dir) throws IOException {
+        source = BlobStore.at(dir.resolve("source"));
+        description = Descriptions.storeIn(source)
+                                  .put(DESCRIPTION.getBytes(UTF_8));
+        blobs = BlobStore.at(dir.resolve("target"));
+        todo = ColumnId.generate();
+        done = ColumnId.generate();
+        todoCards = cards(3);
+        doneCards = cards(2);
+        dump = dir.resolve("board.dump");
+        writeDump(dump, DumpReader.VERSION);
+    }
+
+    private void writeDump(Path file, int version) throws IOException {
+        try (DumpWriter out = DumpWriter.create(file)) {
+            out.write(DumpRecord.newBuilder()
+                                .setHeader(DumpHeader.newBuilder()
+                                                     .setVersion(version)
+                                                     .setBoard(board())
+                                                     .setWhenExported(Time.currentTime()))
+                                .build());
+            out.write(DumpRecord.newBuilder()
+                                .setBoard(Board.newBuilder()
+                                               .setId(board())
+                                               .addColumn(todo)
+                                               .addColumn(done))
+                                .build());
+            writeColumn(out, todo, "To Do", todoCards);
+            if (version < DumpReader.DESCRIPTIONS_VERSION) {
+                out.writeAttachment(description, Descriptions.storeIn(source));
+            } else {
+                out.writeDescription(description, Descriptions.storeIn(source));
+            }
+            writeColumn(out, done, "Done", doneCards);
+            out.write(DumpRecord.newBuilder()
+                                .setEvent(Event.getDefaultInstance())
+                                .build());
+        }
+    }
+
+    private static ImmutableList<CardId> cards(int count) {
+        return Stream.generate(CardId::generate)
+                     .limit(count)
+                     .collect(toImmutableList());
+    }
+
+    private void writeColumn(DumpWriter out, ColumnId id, String name, ImmutableList<CardId> cards)
+            throws IOException {
+        out.write(DumpRecord.newBuilder()
+                            .setColumn(Column.newBuilder()
+                                             .setId(id)
+                                             .setBoard(board())
+                                             .setName(name)
+                                             .addAllCard(cards))
+                            .build());
+        for (CardId card : cards) {
+            Card.Builder state = Card.newBuilder()
+                                     .setId(card)
+                                     .setBoard(board())
+                                     .setName("Card " + card.getUuid());
+            if (id.equals(done)) {
+                state.setFullDescription(description);
+            }
+            out.write(DumpRecord.newBuilder()
+                                .setCard(state)
+                                .build());
+        }
+    }
+
+    /**
+     * Posts the command to the context and throws if the board is rejected, as the target
+     * of a restore should.
+     */
+    private void post(CommandMessage command) {
+        int rejected = rejectedBoards();
+        context().receivesCommand(command);
+        if (rejectedBoards() > rejected) {
+            throw new IllegalStateException("The board is rejected.");
+        }
+    }
+
+    private int rejectedBoards() {
+        return context().assertEvents()
+                        .withType(BoardAlreadyExists.class)
+                        .actual()
+                        .size();
+    }
+
+    private BoardRestore newRestore(boolean clone) {
+        return new BoardRestore(this::post, blobs, BATCH, clone);
+    }
+
+    private void restoreBoard() throws IOException {
+        BoardRestore restore = newRestore(false);
+        assertThat(restore.run(dump)).isEqualTo(board());
+    }
+
+    @Test
+    @DisplayName("restore the board with its columns and cards")
+    void restore() throws IOException {
+        BoardRestore restore = newRestore(false);
+        assertThat(restore.run(dump)).isEqualTo(board());
+
+        assertThat(restore.cards()).isEqualTo(5L);
+        assertThat(restore.skippedEvents()).isEqualTo(1L);
+        context().assertEntityWithState(board(), Board.class)
+                 .hasStateThat()
+                 .comparingExpectedFieldsOnly()
+                 .isEqualTo(Board.newBuilder()
+                                 .addColumn(todo)
+                                 .addColumn(done)
+                                 .buildPartial());
+        context().assertEntityWithState(todo, Column.class)
+                 .hasStateThat()
+                 .comparingExpectedFieldsOnly()
+                 .isEqualTo(Column.newBuilder()
+                                  .setName("To Do")
+                                  .addAllCard(todoCards)
+                                  .buildPartial());
+        CardId card = doneCards.get(1);
+        context().assertEntityWithState(card, Card.class)
+                 .hasStateThat()
+                 .comparingExpectedFieldsOnly()
+                 .isEqualTo(Card.newBuilder()
+                                .setBoard(board())
+                                .setName("Card " + card.getUuid())
+                                .buildPartial());
+    }
+
+    @Test
+    @DisplayName("restore the cards in batches")
+    void batches() throws IOException {
+        restoreBoard();
+
+        assertCommands(RestoreCards.class).hasSize(3);
+        assertEvents(CardRestored.class).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("not run the initialization of the board and the placement of the cards")
+    void noCascade() throws IOException {
+        restoreBoard();
+
+        assertCommands(AddColumn.class).hasSize(0);
+        assertEvents(BoardInitialized.class).hasSize(0);
+        assertEvents(CardWaitingPlacement.class).hasSize(0);
+    }
+
+    @Test
+    @DisplayName("fill the board view")
+    void view() throws IOException {
+        restoreBoard();
+
+        context().assertEntityWithState(board(), BoardView.class)
+                 .hasStateThat()
+                 .comparingExpectedFieldsOnly()
+                 .isEqualTo(BoardView.newBuilder()
+                                     .setId(board())
+                                     .addColumn(Column.newBuilder()
+                                                      .setId(todo))
+                                     .addColumn(Column.newBuilder()
+                                                      .setId(done))
+                                     .addAllCard(Stream.concat(todoCards.stream(),
+                                                               doneCards.stream())
+                                                       .map(id -> Card.newBuilder()
+                                                                      .setId(id)
+                                                                      .buildPartial())
+                                                       .collect(toImmutableList()))
+                                     .buildPartial());
+    }
+
+    @Test
+    @DisplayName("clone the board with new IDs")
+    void cloneBoard() throws IOException {
+        BoardRestore restore = newRestore(true);
+        BoardId clone = restore.run(dump);
+
+        assertThat(clone).isNotEqualTo(board());
+        ImmutableList<ColumnId> columns = receivedCommands(RestoreCards.class)
+                .map(RestoreCards::getColumn)
+                .distinct()
+                .collect(toImmutableList());
+        assertThat(columns).hasSize(2);
+        assertThat(columns).containsNoneOf(todo, done);
+        context().assertEntityWithState(clone, Board.class)
+                 .hasStateThat()
+                 .comparingExpectedFieldsOnly()
+                 .isEqualTo(Board.newBuilder()
+                                 .addAllColumn(columns)
+                                 .buildPartial());
+        ImmutableList<CardId> clonedCards = receivedCommands(RestoreCards.class)
+                .flatMap(c -> c.getCardList().stream())
+                .map(Card::getId)
+                .collect(toImmutableList());
+        assertThat(clonedCards).hasSize(5);
+        assertThat(clonedCards).containsNoneIn(todoCards);
+        assertThat(clonedCards).containsNoneIn(doneCards);
+    }
+
+    @Test
+    @DisplayName("stop if the board already exists")
+    void existing() throws IOException {
+        restoreBoard();
+        CardId card = todoCards.get(0);
+        String name = "Card " + card.getUuid();
+
+        assertThrows(IllegalStateException.class, () -> newRestore(false).run(dump));
+
+        assertEvents(BoardAlreadyExists.class).hasSize(1);
+        assertEvents(ColumnAlreadyExists.class).hasSize(0);
+        assertEvents(CardAlreadyInColumn.class).hasSize(0);
+        assertCommands(RestoreCards.class).hasSize(3);
+        assertEvents(CardRestored.class).hasSize(5);
+        context().assertEntityWithState(todo, Column.class)
+                 .hasStateThat()
+                 .comparingExpectedFieldsOnly()
+                 .isEqualTo(Column.newBuilder()
+                                  .addAllCard(todoCards)
+                                  .buildPartial());
+        context().assertEntityWithState(card, Card.class)
+                 .hasStateThat()
+                 .comparingExpectedFieldsOnly()
+                 .isEqualTo(Card.newBuilder()
+                                .setName(name)
+                                .buildPartial());
+    }
+
+    @Test
+    @DisplayName("put the blobs of the cards to the target store")
+    void blobs() throws IOException {
+        BoardRestore restore = newRestore(false);
+        restore.run(dump);
+
+        assertThat(restore.blobs()).isEqualTo(1L);
+        assertThat(descriptionIn(blobs)).isEqualTo(DESCRIPTION);
+        assertThat(blobs.get(description)
+                        .isPresent()).isFalse();
+        CardId card = doneCards.get(0);
+        context().assertEntityWithState(card, Card.class)
+                 .hasStateThat()
+                 .comparingExpectedFieldsOnly()
+                 .isEqualTo(Card.newBuilder()
+                                .setFullDescription(description)
+                                .buildPartial());
+    }
+
+    private String descriptionIn(BlobStore store) {
+        return Descriptions.storeIn(store)
+                           .get(description)
+                           .map(content -> new String(content, UTF_8))
+                           .orElse("");
+    }
+
+    @Test
+    @DisplayName("put the descriptions of a dump of the second version to their store")
+    void secondVersion(@TempDir Path dir) throws IOException {
+        Path legacy = dir.resolve("legacy.dump");
+        writeDump(legacy, 2);
+        newRestore(false).run(legacy);
+
+        assertThat(descriptionIn(blobs)).isEqualTo(DESCRIPTION);
+    }
+
+    @Test
+    @DisplayName("reject a file which is not a dump")
+    void notDump(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("cards.csv");
+        Files.write(file, "column,name\n".getBytes(UTF_8));
+
+        assertThrows(IllegalArgumentException.class, () -> DumpReader.open(file));
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.migration;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.examples.kanban.Card;
+import io.spine.examples.kanban.CardId;
+import io.spine.examples.kanban.Column;
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.command.AddColumn;
+import io.spine.examples.kanban.command.ImportCards;
+import io.spine.examples.kanban.event.CardImported;
+import io.spine.examples.kanban.event.CardWaitingPlacement;
+import io.spine.examples.kanban.rejection.Rejections.CardAlreadyInColumn;
+import io.spine.examples.kanban.rejection.Rejections.UnknownColumn;
+import io.spine.examples.kanban.server.KanbanContextTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.util.stream.Stream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("`CardImport` should")
+class CardImportTest extends KanbanContextTest {
+
+    private static final int CARDS = 7;
+
+    private ColumnId column;
+    private ImmutableList<CardId> cards;
+
+    @BeforeEach
+    void setupBoard() {
+        context().receivesCommand(createBoard());
+        column = receivedCommands(AddColumn.class)
+                .skip(2)
+                .findFirst()
+                .map(AddColumn::getColumn)
+                .orElseThrow(IllegalStateException::new);
+        cards = Stream.generate(CardId::generate)
+                      .limit(CARDS)
+                      .collect(toImmutableList());
+    }
+
+    private long importCards(String jsonLines) throws IOException, InterruptedException {
+        CardImport cardImport = new CardImport(
+                this::post, 3, 10, 1,
+                new PrintStream(new ByteArrayOutputStream(), true, "UTF-8")
+        );
+        BufferedReader in = new BufferedReader(new StringReader(jsonLines));
+        try (CardRecordReader reader = CardRecordReader.jsonLines(in)) {
+            return cardImport.run(reader);
+        }
+    }
+
+    /**
+     * Posts the batch and throws if the batch is rejected, as the client of the tool does.
+     */
+    private void post(ImportCards batch) {
+        int before = rejections();
+        context().receivesCommand(batch);
+        if (rejections() > before) {
+            throw new IllegalStateException("The batch was rejected.");
+        }
+    }
+
+    private int rejections() {
+        return context().assertEvents()
+                        .withType(UnknownColumn.class)
+                        .actual()
+                        .size()
+                + context().assertEvents()
+                           .withType(CardAlreadyInColumn.class)
+                           .actual()
+                           .size();
+    }
+
+    private String jsonLines() {
+        StringBuilder lines = new StringBuilder();
+        for (CardId card : cards) {
+            lines.append("{\"column\":\"")
+                 .append(column.getUuid())
+                 .append("\",\"card\":\"")
+                 .append(card.getUuid())
+                 .append("\",\"name\":\"Card ")
+                 .append(card.getUuid())
+                 .append("\"}\n");
+        }
+        return lines.toString();
+    }
+
+    @Test
+    @DisplayName("place the cards to the column in the order of the file")
+    void placeCards() throws IOException, InterruptedException {
+        long imported = importCards(jsonLines());
+
+        assertThat(imported).isEqualTo(CARDS);
+        Column expected = Column
+                .newBuilder()
+                .setId(column)
+                .addAllCard(cards)
+                .buildPartial();
+        context().assertEntityWithState(column, Column.class)
+                 .hasStateThat()
+                 .comparingExpectedFieldsOnly()
+                 .isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("create the cards in batches")
+    void createCards() throws IOException, InterruptedException {
+        importCards(jsonLines());
+
+        assertCommands(ImportCards.class).hasSize(3);
+        assertEvents(CardImported.class).hasSize(CARDS);
+        assertEvents(CardWaitingPlacement.class).hasSize(0);
+        for (CardId card : cards) {
+            Card expected = Card
+                    .newBuilder()
+                    .setId(card)
+                    .setBoard(board())
+                    .setName("Card " + card.getUuid())
+                    .buildPartial();
+            context().assertEntityWithState(card, Card.class)
+                     .hasStateThat()
+                     .comparingExpectedFieldsOnly()
+                     .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("reject the cards for an unknown column")
+    void unknownColumn() throws IOException, InterruptedException {
+        column = ColumnId.generate();
+        long imported = importCards(jsonLines());
+
+        assertThat(imported).isEqualTo(0);
+        assertEvents(UnknownColumn.class).hasSize(3);
+        assertEvents(CardImported.class).hasSize(0);
+    }
+
+    @Test
+    @DisplayName("not import the cards which are already in the column")
+    void importAgain() throws IOException, InterruptedException {
+        importCards(jsonLines());
+        long imported = importCards(jsonLines());
+
+        assertThat(imported).isEqualTo(0);
+        assertEvents(CardAlreadyInColumn.class).hasSize(3);
+        assertEvents(CardImported.class).hasSize(CARDS);
+        context().assertEntityWithState(column, Column.class)
+                 .hasStateThat()
+                 .comparingExpectedFieldsOnly()
+                 .isEqualTo(Column.newBuilder()
+                                  .addAllCard(cards)
+                                  .buildPartial());
+    }
+}
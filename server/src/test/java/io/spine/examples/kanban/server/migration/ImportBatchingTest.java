@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.migration;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.command.ImportCards;
+import io.spine.examples.kanban.migration.CardRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Optional;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("Bulk import should")
+class ImportBatchingTest {
+
+    private static CardRecord record(ColumnId column, String name) {
+        return CardRecord
+                .newBuilder()
+                .setColumn(column.getUuid())
+                .setName(name)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("group cards")
+    class Batching {
+
+        private final ColumnId first = ColumnId.generate();
+        private final ColumnId second = ColumnId.generate();
+
+        @Test
+        @DisplayName("into batches of the given size by column")
+        void bySize() {
+            ImportBatcher batcher = new ImportBatcher(2, 10);
+
+            assertThat(batcher.add(record(first, "a")).isPresent()).isFalse();
+            assertThat(batcher.add(record(second, "b")).isPresent()).isFalse();
+            Optional<ImportCards> batch = batcher.add(record(first, "c"));
+
+            assertThat(batch.isPresent()).isTrue();
+            assertThat(batch.get().getColumn()).isEqualTo(first);
+            assertThat(batch.get().getCardCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("emitting the largest batch when the buffer is full")
+        void byBuffer() {
+            ImportBatcher batcher = new ImportBatcher(3, 3);
+            assertThat(batcher.add(record(first, "a")).isPresent()).isFalse();
+            assertThat(batcher.add(record(first, "b")).isPresent()).isFalse();
+            assertThat(batcher.add(record(second, "c")).isPresent()).isFalse();
+            Optional<ImportCards> batch = batcher.add(record(second, "d"));
+
+            assertThat(batch.isPresent()).isTrue();
+            assertThat(batch.get().getCardCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("flushing the incomplete batches at the end")
+        void flush() {
+            ImportBatcher batcher = new ImportBatcher(5, 10);
+            assertThat(batcher.add(record(first, "a")).isPresent()).isFalse();
+            assertThat(batcher.add(record(second, "b")).isPresent()).isFalse();
+
+            ImmutableList<ImportCards> batches = batcher.flush();
+            assertThat(batches).hasSize(2);
+            assertThat(batcher.flush()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("read CSV")
+    class Csv {
+
+        @Test
+        @DisplayName("with the columns in any order and quoted values")
+        void read() throws IOException {
+            String csv = "name,description,column\r\n"
+                    + "Fix login,\"Steps:\n1. Open, then \"\"log in\"\"\",c1\r\n"
+                    + "Add logout,,c2\r\n";
+            CardRecordReader reader =
+                    CardRecordReader.csv(new BufferedReader(new StringReader(csv)));
+
+            CardRecord first = reader.next().get();
+            assertThat(first.getName()).isEqualTo("Fix login");
+            assertThat(first.getDescription()).isEqualTo("Steps:\n1. Open, then \"log in\"");
+            assertThat(first.getColumn()).isEqualTo("c1");
+
+            CardRecord second = reader.next().get();
+            assertThat(second.getName()).isEqualTo("Add logout");
+            assertThat(second.getDescription()).isEmpty();
+            assertThat(second.getColumn()).isEqualTo("c2");
+
+            assertThat(reader.next().isPresent()).isFalse();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.monitor;
+
+import io.spine.examples.kanban.BoardInit;
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.command.MoveColumn;
+import io.spine.examples.kanban.server.KanbanContext;
+import io.spine.examples.kanban.server.KanbanTest;
+import io.spine.examples.kanban.server.board.ColumnPositions;
+import io.spine.server.BoundedContextBuilder;
+import io.spine.testing.server.blackbox.BlackBoxContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("`KanbanMetrics` should")
+class KanbanMetricsTest extends KanbanTest {
+
+    private KanbanMetrics metrics;
+    private BlackBoxContext context;
+
+    @BeforeEach
+    void createContext() {
+        metrics = new KanbanMetrics(false);
+        HopTracker tracker = new HopTracker();
+        tracker.addListener(metrics);
+        BoundedContextBuilder builder = KanbanContext.newBuilder();
+        tracker.attachTo(builder);
+        context = BlackBoxContext.from(builder);
+        context.receivesCommand(createBoard());
+    }
+
+    @AfterEach
+    void closeContext() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("count posted signals of each type")
+    void countSignals() {
+        int defaultColumns = BoardInit.DefaultColumn.values().length - 1;
+
+        assertThat(signal("CreateBoard").getPosted()).isEqualTo(1);
+        assertThat(signal("AddColumn").getPosted()).isEqualTo(defaultColumns);
+        assertThat(signal("BoardInitialized").getPosted()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("record the latency of hops between signals")
+    void recordHops() {
+        HopMetrics created = hop("CreateBoard", "BoardCreated");
+        HopMetrics columnsRequested = hop("BoardCreated", "AddColumn");
+
+        assertThat(created.getCount()).isEqualTo(1);
+        assertThat(created.getMaxMillis()).isAtLeast(0.0);
+        assertThat(columnsRequested.getCount()).isGreaterThan(0);
+    }
+
+    @Test
+    @DisplayName("count rejections caused by commands")
+    void countRejections() {
+        ColumnId column = ColumnId.generate();
+        context.receivesCommand(MoveColumn
+                                        .newBuilder()
+                                        .setBoard(board())
+                                        .setColumn(column)
+                                        .setFrom(ColumnPositions.of(1, 2))
+                                        .setTo(ColumnPositions.of(2, 2))
+                                        .vBuild());
+        SignalMetrics moveColumn = signal("MoveColumn");
+
+        assertThat(moveColumn.getRejected()).isEqualTo(1);
+        assertThat(moveColumn.getRejectionRate()).isEqualTo(1.0);
+        assertThat(moveColumn.rejections()).containsKey("ColumnCannotBeMoved");
+    }
+
+    @Test
+    @DisplayName("count deduplicated commands")
+    void countDuplicates() {
+        metrics.deduplicated("CreateBoard");
+        StringBuilder text = new StringBuilder();
+        metrics.writeText(text);
+
+        assertThat(signal("CreateBoard").getDeduplicated()).isEqualTo(1);
+        assertThat(text.toString())
+                .contains("kanban_commands_deduplicated_total{type=\"CreateBoard\"} 1\n");
+    }
+
+    @Test
+    @DisplayName("count the commands of each tenant")
+    void countTenants() {
+        metrics.admitted("acme");
+        metrics.admitted("acme");
+        metrics.completed("acme");
+        metrics.throttled("acme");
+        StringBuilder text = new StringBuilder();
+        metrics.writeText(text);
+
+        assertThat(text.toString())
+                .contains("kanban_tenant_commands_admitted_total{tenant=\"acme\"} 2\n");
+        assertThat(text.toString())
+                .contains("kanban_tenant_commands_refused_total" +
+                                  "{tenant=\"acme\",reason=\"rate\"} 1\n");
+        assertThat(text.toString())
+                .contains("kanban_tenant_commands_in_flight{tenant=\"acme\"} 1\n");
+    }
+
+    @Test
+    @DisplayName("escape the names of the tenants in the labels")
+    void escapeTenants() {
+        metrics.admitted("a\"b\\c\nd");
+        StringBuilder text = new StringBuilder();
+        metrics.writeText(text);
+
+        assertThat(text.toString())
+                .contains("kanban_tenant_commands_admitted_total{tenant=\"a\\\"b\\\\c\\nd\"} 1\n");
+    }
+
+    @Test
+    @DisplayName("forget the metrics of a tenant")
+    void forgetTenants() {
+        metrics.admitted("acme");
+        metrics.forgetTenant("acme");
+        StringBuilder text = new StringBuilder();
+        metrics.writeText(text);
+
+        assertThat(metrics.tenants()).isEmpty();
+        assertThat(text.toString()).doesNotContain("acme");
+    }
+
+    @Test
+    @DisplayName("track the lag and the failures of a replica")
+    void trackReplicas() {
+        ReplicaMetrics replica = metrics.replica("events.log");
+        replica.caughtUp(100, 150);
+        replica.failed(new IllegalStateException("Corrupted."));
+        StringBuilder text = new StringBuilder();
+        metrics.writeText(text);
+
+        assertThat(replica.getLag()).isEqualTo(50);
+        assertThat(replica.getLastFailure()).contains("Corrupted.");
+        assertThat(text.toString())
+                .contains("kanban_replica_lag_bytes{log=\"events.log\"} 50\n");
+        assertThat(text.toString())
+                .contains("kanban_replica_failures_total{log=\"events.log\"} 1\n");
+    }
+
+    @Test
+    @DisplayName("expose metrics in the Prometheus text format")
+    void exposeText() {
+        StringBuilder text = new StringBuilder();
+        metrics.writeText(text);
+
+        assertThat(text.toString())
+                .contains("kanban_signals_posted_total{type=\"CreateBoard\"} 1\n");
+        assertThat(text.toString())
+                .contains("kanban_hop_latency_seconds_count" +
+                                  "{origin=\"CreateBoard\",produced=\"BoardCreated\"} 1\n");
+    }
+
+    private SignalMetrics signal(String type) {
+        return metrics.signals()
+                      .stream()
+                      .filter(s -> s.getType().equals(type))
+                      .findFirst()
+                      .orElseThrow(() -> new AssertionError("No metrics of " + type));
+    }
+
+    private HopMetrics hop(String origin, String produced) {
+        return metrics.hops()
+                      .stream()
+                      .filter(h -> h.getOrigin().equals(origin)
+                              && h.getProduced().equals(produced))
+                      .findFirst()
+                      .orElseThrow(() -> new AssertionError(
+                              "No metrics of " + origin + " -> " + produced));
+    }
+}
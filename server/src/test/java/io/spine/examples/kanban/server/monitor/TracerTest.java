@@ -0,0 +1,85 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.monitor;
+
+import io.spine.examples.kanban.server.KanbanContext;
+import io.spine.examples.kanban.server.KanbanTest;
+import io.spine.server.BoundedContextBuilder;
+import io.spine.testing.server.blackbox.BlackBoxContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@DisplayName("`Tracer` should")
+class TracerTest extends KanbanTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("write spans of the sampled chains in the Chrome trace format")
+    void writeSpans() throws IOException {
+        String trace = traceBoardCreation(1.0);
+
+        assertThat(trace).startsWith("[\n");
+        assertThat(trace).endsWith("]\n");
+        assertThat(trace).contains("\"name\":\"CreateBoard\",\"cat\":\"post\"");
+        assertThat(trace).contains("\"name\":\"CreateBoard -> BoardCreated\",\"cat\":\"hop\"");
+        assertThat(trace).contains("\"name\":\"BoardCreated -> AddColumn\",\"cat\":\"hop\"");
+    }
+
+    @Test
+    @DisplayName("not write spans of the chains which are not sampled")
+    void skipNotSampled() throws IOException {
+        String trace = traceBoardCreation(0.0);
+
+        assertThat(trace).doesNotContain("\"cat\":\"hop\"");
+        assertThat(trace).doesNotContain("\"cat\":\"post\"");
+    }
+
+    private String traceBoardCreation(double samplingRate) throws IOException {
+        Path file = directory.resolve("trace.json");
+        HopTracker tracker = new HopTracker();
+        BoundedContextBuilder builder = KanbanContext.newBuilder();
+        tracker.attachTo(builder);
+        BlackBoxContext context = BlackBoxContext.from(builder);
+        try (Tracer tracer = Tracer.toFile(file, samplingRate)) {
+            tracker.addListener(tracer);
+            context.receivesCommand(createBoard());
+        } finally {
+            context.close();
+        }
+        return new String(Files.readAllBytes(file), UTF_8);
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.quota;
+
+import io.spine.base.CommandMessage;
+import io.spine.core.Ack;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.CardId;
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.command.MoveCard;
+import io.spine.examples.kanban.server.KanbanTest;
+import io.spine.examples.kanban.server.given.ManualTicker;
+import io.spine.examples.kanban.server.given.TestCommands;
+import io.spine.examples.kanban.server.monitor.Monitoring;
+import io.spine.examples.kanban.server.monitor.SignalMetrics;
+import io.spine.server.type.CommandEnvelope;
+import io.spine.testing.client.TestActorRequestFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("`AdmissionControl` should")
+class AdmissionControlTest extends KanbanTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    private final TestActorRequestFactory client =
+            new TestActorRequestFactory(AdmissionControlTest.class);
+    private final TestActorRequestFactory otherClient =
+            new TestActorRequestFactory(AdmissionControl.class);
+    private final ManualTicker ticker = new ManualTicker();
+    private AdmissionControl admission;
+
+    @BeforeEach
+    void createAdmission() {
+        admission = new AdmissionControl(10, 2, 10, 3, 5, LEASE, ticker);
+    }
+
+    private Optional<Ack> post(TestActorRequestFactory requests, CommandMessage message) {
+        CommandEnvelope envelope = CommandEnvelope.of(requests.createCommand(message));
+        return admission.filter(envelope);
+    }
+
+    private Optional<Ack> postToBoard(TestActorRequestFactory requests) {
+        return post(requests, createCard(CardId.generate()));
+    }
+
+    private Optional<Ack> postToOtherBoard(TestActorRequestFactory requests) {
+        return post(requests, TestCommands.createBoard(BoardId.generate()));
+    }
+
+    @Test
+    @DisplayName("shed the commands over the rate of a board, whoever posts them")
+    void board() {
+        assertThat(postToBoard(client).isPresent()).isFalse();
+        assertThat(postToBoard(otherClient).isPresent()).isFalse();
+
+        Optional<Ack> shed = postToBoard(otherClient);
+        assertThat(shed.isPresent()).isTrue();
+        assertThat(QuotaExceeded.retryAfter(shed.get()))
+                .isEqualTo(Optional.of(Duration.ofMillis(100)));
+        assertThat(postToOtherBoard(otherClient).isPresent()).isFalse();
+    }
+
+    @Test
+    @DisplayName("shed the commands over the rate of a client, whichever boards they are for")
+    void client() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(postToOtherBoard(client).isPresent()).isFalse();
+        }
+
+        Optional<Ack> shed = postToOtherBoard(client);
+        assertThat(shed.isPresent()).isTrue();
+        assertThat(QuotaExceeded.retryAfter(shed.get()).isPresent()).isTrue();
+        assertThat(postToOtherBoard(otherClient).isPresent()).isFalse();
+    }
+
+    @Test
+    @DisplayName("not take the token of a board for a command shed by the client limit")
+    void boardTokenReturned() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(postToOtherBoard(client).isPresent()).isFalse();
+        }
+        assertThat(postToBoard(client).isPresent()).isTrue();
+
+        assertThat(postToBoard(otherClient).isPresent()).isFalse();
+        assertThat(postToBoard(otherClient).isPresent()).isFalse();
+    }
+
+    @Test
+    @DisplayName("limit the board of a column known only from its stored state")
+    void storedColumn() {
+        AtomicInteger reads = new AtomicInteger();
+        admission.readBoardsBy((tenant, entityId) -> {
+            reads.incrementAndGet();
+            return entityId.equals(column())
+                   ? Optional.of(board())
+                   : Optional.empty();
+        });
+        assertThat(post(client, moveCard()).isPresent()).isFalse();
+        assertThat(post(otherClient, moveCard()).isPresent()).isFalse();
+
+        assertThat(post(otherClient, moveCard()).isPresent()).isTrue();
+        assertThat(postToOtherBoard(otherClient).isPresent()).isFalse();
+        assertThat(reads.get()).isEqualTo(1);
+    }
+
+    private MoveCard moveCard() {
+        return MoveCard
+                .newBuilder()
+                .setCard(card())
+                .setCurrentColumn(column())
+                .setTargetColumn(ColumnId.generate())
+                .vBuild();
+    }
+
+    @Test
+    @DisplayName("shed the commands when the server has too many in flight")
+    void server() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(postToOtherBoard(client).isPresent()).isFalse();
+            ticker.advance(Duration.ofSeconds(1));
+        }
+
+        assertThat(admission.inFlight()).isEqualTo(5);
+        assertThat(postToOtherBoard(otherClient).isPresent()).isTrue();
+    }
+
+    @Test
+    @DisplayName("admit the commands again once those in flight are handled")
+    void lease() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(postToOtherBoard(client).isPresent()).isFalse();
+            ticker.advance(Duration.ofSeconds(1));
+        }
+        ticker.advance(LEASE);
+
+        assertThat(admission.inFlight()).isEqualTo(0);
+        assertThat(postToOtherBoard(client).isPresent()).isFalse();
+    }
+
+    @Test
+    @DisplayName("count the shed commands")
+    void metrics() {
+        long before = shedCreateCards();
+        assertThat(postToBoard(client).isPresent()).isFalse();
+        assertThat(postToBoard(client).isPresent()).isFalse();
+        assertThat(postToBoard(client).isPresent()).isTrue();
+
+        assertThat(shedCreateCards()).isEqualTo(before + 1);
+    }
+
+    private static long shedCreateCards() {
+        return Monitoring
+                .metrics()
+                .signals()
+                .stream()
+                .filter(s -> "CreateCard".equals(s.getType()))
+                .mapToLong(SignalMetrics::getShed)
+                .sum();
+    }
+}
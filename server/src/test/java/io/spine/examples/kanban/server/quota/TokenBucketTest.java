@@ -0,0 +1,106 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.quota;
+
+import io.spine.examples.kanban.server.given.ManualTicker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("`TokenBucket` should")
+class TokenBucketTest {
+
+    private final ManualTicker ticker = new ManualTicker();
+    private TokenBucket bucket;
+
+    @BeforeEach
+    void createBucket() {
+        bucket = new TokenBucket(10, 3, ticker);
+    }
+
+    @Test
+    @DisplayName("allow a burst")
+    void burst() {
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+
+        assertThat(bucket.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("refill at the rate")
+    void refill() {
+        drain();
+        ticker.advance(Duration.ofMillis(50));
+        assertThat(bucket.tryAcquire()).isFalse();
+
+        ticker.advance(Duration.ofMillis(50));
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("take back a released token")
+    void release() {
+        drain();
+        bucket.release();
+
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("not hold more tokens than the burst")
+    void capped() {
+        drain();
+        ticker.advance(Duration.ofMinutes(1));
+
+        drain();
+        assertThat(bucket.timeToToken()).isEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    @DisplayName("tell when the next token is available")
+    void timeToToken() {
+        assertThat(bucket.timeToToken()).isEqualTo(Duration.ZERO);
+        drain();
+        ticker.advance(Duration.ofMillis(30));
+
+        assertThat(bucket.timeToToken()).isEqualTo(Duration.ofMillis(70));
+    }
+
+    private void drain() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryAcquire()).isTrue();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.replica;
+
+import io.spine.core.Event;
+import io.spine.examples.kanban.Attachment;
+import io.spine.examples.kanban.Card;
+import io.spine.examples.kanban.command.AttachFile;
+import io.spine.examples.kanban.server.KanbanContext;
+import io.spine.examples.kanban.server.KanbanTest;
+import io.spine.examples.kanban.server.blob.BlobStore;
+import io.spine.examples.kanban.server.history.EventLog;
+import io.spine.examples.kanban.server.history.EventLogReader;
+import io.spine.examples.kanban.server.view.BoardReplicaProjection;
+import io.spine.examples.kanban.server.view.BoardViewReplay;
+import io.spine.examples.kanban.view.BoardView;
+import io.spine.server.BoundedContextBuilder;
+import io.spine.testing.server.blackbox.BlackBoxContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("`ReplicaContext` should")
+class ReplicaContextTest extends KanbanTest {
+
+    private static final Attachment attachment =
+            Attachment.newBuilder()
+                      .setContent(BlobStore.shared()
+                                           .put(new byte[]{1, 2, 3}))
+                      .setFileName("screenshot.png")
+                      .setMediaType("image/png")
+                      .vBuild();
+
+    private EventLog log;
+    private BlackBoxContext server;
+    private BlackBoxContext replica;
+
+    @BeforeEach
+    void startServer(@TempDir Path dir) throws IOException {
+        log = EventLog.open(dir.resolve("events.log"));
+        BoundedContextBuilder builder = KanbanContext.newBuilder();
+        log.attachTo(builder);
+        server = BlackBoxContext.from(builder);
+        replica = BlackBoxContext.from(ReplicaContext.newBuilder());
+        AttachFile attachFile = AttachFile
+                .newBuilder()
+                .setCard(card())
+                .setAttachment(attachment)
+                .vBuild();
+        server.receivesCommand(createBoard())
+              .receivesCommand(createCard())
+              .receivesCommand(attachFile);
+    }
+
+    @AfterEach
+    void stop() throws IOException {
+        replica.close();
+        server.close();
+        log.close();
+    }
+
+    @Test
+    @DisplayName("build the view of the board from the events of the server")
+    void boardView() throws IOException {
+        BoardViewReplay expected = new BoardViewReplay(board());
+        try (EventLogReader reader = log.read(0)) {
+            Optional<Event> event = reader.next();
+            while (event.isPresent()) {
+                expected.apply(event.get()
+                                    .enclosedMessage());
+                replica.receivesEvent(event.get()
+                                           .enclosedMessage());
+                event = reader.next();
+            }
+        }
+        BoardView view = expected.view();
+        Optional<Card> card = view.getCardList()
+                                  .stream()
+                                  .filter(c -> c.getId().equals(card()))
+                                  .findFirst();
+        assertThat(card.isPresent()).isTrue();
+        assertThat(card.get().getAttachmentList()).containsExactly(attachment);
+        replica.assertEntity(board(), BoardReplicaProjection.class)
+               .hasStateThat()
+               .isEqualTo(view);
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.search;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.CardId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("`CardIndex` should")
+class CardIndexTest {
+
+    private final BoardId board = BoardId.generate();
+    private final BoardId otherBoard = BoardId.generate();
+    private final CardId login = CardId.generate();
+    private final CardId logout = CardId.generate();
+    private final CardId crash = CardId.generate();
+
+    private CardIndex index;
+
+    @BeforeEach
+    void fillIndex() {
+        index = new CardIndex();
+        index.put(login, board, "Fix the login page\nThe login button does nothing.");
+        index.put(logout, board, "Add logout\nUsers cannot leave the page.");
+        index.put(crash, otherBoard, "Crash on login\nThe app crashes after login.");
+    }
+
+    private static ImmutableList<CardId> cards(ImmutableList<CardHit> hits) {
+        return hits.stream()
+                   .map(CardHit::card)
+                   .collect(toImmutableList());
+    }
+
+    @Test
+    @DisplayName("find cards by the words of their text ignoring case")
+    void find() {
+        assertThat(cards(index.search("LOGOUT", null, 10)))
+                .containsExactly(logout);
+    }
+
+    @Test
+    @DisplayName("rank the cards with more occurrences of rare words higher")
+    void rank() {
+        assertThat(cards(index.search("login page", null, 10)))
+                .containsExactly(login, crash, logout)
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("return not more than the requested number of cards")
+    void limit() {
+        assertThat(cards(index.search("login page", null, 1)))
+                .containsExactly(login);
+    }
+
+    @Test
+    @DisplayName("search on one board")
+    void board() {
+        assertThat(cards(index.search("login", otherBoard, 10)))
+                .containsExactly(crash);
+        assertThat(index.search("login", BoardId.generate(), 10))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("replace the text of the card indexed again")
+    void update() {
+        index.put(login, board, "Fix the sign-in page");
+
+        assertThat(cards(index.search("login", null, 10)))
+                .containsExactly(crash);
+        assertThat(cards(index.search("sign", null, 10)))
+                .containsExactly(login);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("remove cards")
+    void remove() {
+        index.remove(crash);
+
+        assertThat(cards(index.search("login", null, 10)))
+                .containsExactly(login);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("rank the cards as if the replaced texts were never indexed")
+    void liveStatistics() {
+        index.remove(login);
+        index.put(login, board, "Fix the login page\nThe login button does nothing.");
+        CardIndex fresh = new CardIndex();
+        fresh.put(logout, board, "Add logout\nUsers cannot leave the page.");
+        fresh.put(crash, otherBoard, "Crash on login\nThe app crashes after login.");
+        fresh.put(login, board, "Fix the login page\nThe login button does nothing.");
+
+        assertThat(index.search("login page", null, 10))
+                .containsExactlyElementsIn(fresh.search("login page", null, 10))
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("compact itself once the replaced texts outnumber the live ones")
+    void compactInMemory() {
+        for (int i = 0; i < 2000; i++) {
+            index.put(login, board, "Fix the login page, attempt " + i);
+        }
+
+        assertThat(index.documentCount()).isLessThan(1100);
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(cards(index.search("login", null, 10)))
+                .containsExactly(login, crash);
+        assertThat(cards(index.search("1999", null, 10)))
+                .containsExactly(login);
+    }
+
+    @Nested
+    @DisplayName("be saved to a file")
+    class Persistence {
+
+        private Path file;
+
+        @BeforeEach
+        void setFile(@TempDir Path dir) {
+            file = dir.resolve("cards.index");
+        }
+
+        @Test
+        @DisplayName("and loaded back")
+        void roundTrip() throws IOException {
+            index.writeTo(file);
+            CardIndex loaded = CardIndex.readFrom(file).get();
+
+            assertThat(loaded.size()).isEqualTo(3);
+            assertThat(loaded.search("login page", null, 10))
+                    .isEqualTo(index.search("login page", null, 10));
+            assertThat(loaded.search("login", otherBoard, 10))
+                    .isEqualTo(index.search("login", otherBoard, 10));
+        }
+
+        @Test
+        @DisplayName("without the replaced texts")
+        void compaction() throws IOException {
+            index.put(login, board, "Fix the sign-in page");
+            index.writeTo(file);
+            CardIndex loaded = CardIndex.readFrom(file).get();
+
+            assertThat(loaded.size()).isEqualTo(3);
+            assertThat(cards(loaded.search("login", null, 10)))
+                    .containsExactly(crash);
+            assertThat(cards(loaded.search("sign", board, 10)))
+                    .containsExactly(login);
+        }
+
+        @Test
+        @DisplayName("unless the file does not exist")
+        void noFile() throws IOException {
+            assertThat(CardIndex.readFrom(file).isPresent()).isFalse();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.search;
+
+import io.spine.examples.kanban.ColumnId;
+import io.spine.examples.kanban.command.AddColumn;
+import io.spine.examples.kanban.command.ArchiveCard;
+import io.spine.examples.kanban.server.KanbanContext;
+import io.spine.examples.kanban.server.KanbanContextTest;
+import io.spine.testing.server.blackbox.BlackBoxContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("`Search` should")
+class SearchTest extends KanbanContextTest {
+
+    @BeforeEach
+    void setupCard() {
+        context().receivesCommand(createBoard())
+                 .receivesCommand(createCard());
+    }
+
+    @Test
+    @DisplayName("index the cards of the context")
+    void index() {
+        assertThat(Search.index()
+                         .size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("remove the archived cards from the index")
+    void archived() {
+        ColumnId firstColumn = receivedCommands(AddColumn.class)
+                .findFirst()
+                .map(AddColumn::getColumn)
+                .orElseThrow(IllegalStateException::new);
+        ArchiveCard archive = ArchiveCard
+                .newBuilder()
+                .setColumn(firstColumn)
+                .setCard(card())
+                .vBuild();
+        context().receivesCommand(archive);
+
+        assertThat(Search.index()
+                         .size()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("not share the index between the contexts")
+    void perContext() {
+        CardIndex previous = Search.index();
+        BlackBoxContext other = BlackBoxContext.from(KanbanContext.newBuilder());
+        try {
+            assertThat(Search.index()).isNotSameInstanceAs(previous);
+            assertThat(Search.index()
+                             .size()).isEqualTo(0);
+        } finally {
+            other.close();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.stream;
+
+import com.google.common.collect.ImmutableList;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.spine.core.Event;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.event.BoardCreated;
+import io.spine.examples.kanban.server.KanbanContext;
+import io.spine.examples.kanban.server.KanbanTest;
+import io.spine.examples.kanban.server.given.TestCommands;
+import io.spine.examples.kanban.server.history.EventLog;
+import io.spine.examples.kanban.server.history.EventLogReader;
+import io.spine.examples.kanban.server.lane.BoardAffinity;
+import io.spine.examples.kanban.stream.EventBatch;
+import io.spine.examples.kanban.stream.EventStreamRequest;
+import io.spine.examples.kanban.stream.EventStreamServiceGrpc;
+import io.spine.examples.kanban.stream.EventStreamServiceGrpc.EventStreamServiceBlockingStub;
+import io.spine.server.BoundedContextBuilder;
+import io.spine.testing.server.blackbox.BlackBoxContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`EventStreamService` should")
+class EventStreamServiceTest extends KanbanTest {
+
+    private EventLog log;
+    private BlackBoxContext context;
+    private EventStreamService service;
+    private Server server;
+    private ManagedChannel channel;
+    private EventStreamServiceBlockingStub stub;
+
+    @BeforeEach
+    void start(@TempDir Path dir) throws IOException {
+        log = EventLog.open(dir.resolve("events.log"));
+        BoardAffinity boards = new BoardAffinity();
+        BoundedContextBuilder builder = KanbanContext.newBuilder();
+        log.attachTo(builder);
+        boards.attachTo(builder);
+        context = BlackBoxContext.from(builder);
+        context.receivesCommand(createBoard());
+        context.receivesCommand(TestCommands.createBoard(BoardId.generate()));
+        service = EventStreamService.create(log, boards);
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder
+                .forName(name)
+                .addService(service)
+                .build()
+                .start();
+        channel = InProcessChannelBuilder
+                .forName(name)
+                .build();
+        stub = EventStreamServiceGrpc.newBlockingStub(channel);
+    }
+
+    @AfterEach
+    void stop() throws IOException {
+        channel.shutdownNow();
+        server.shutdownNow();
+        service.close();
+        context.close();
+        log.close();
+    }
+
+    private ImmutableList<Event> logged() throws IOException {
+        List<Event> result = new ArrayList<>();
+        try (EventLogReader reader = log.read(0)) {
+            Optional<Event> event = reader.next();
+            while (event.isPresent()) {
+                result.add(event.get());
+                event = reader.next();
+            }
+        }
+        return ImmutableList.copyOf(result);
+    }
+
+    private EventBatch firstBatch(EventStreamRequest request) {
+        Iterator<EventBatch> batches = stub.subscribe(request);
+        return batches.next();
+    }
+
+    @Test
+    @DisplayName("stream the events in the order of the log")
+    void stream() throws IOException {
+        EventBatch batch = firstBatch(EventStreamRequest.newBuilder()
+                                                        .setBatchSize(1000)
+                                                        .build());
+        assertThat(batch.getEventList()).containsExactlyElementsIn(logged())
+                                        .inOrder();
+    }
+
+    @Test
+    @DisplayName("stream the events of the requested types")
+    void byType() {
+        String type = BoardCreated.getDescriptor()
+                                  .getFullName();
+        EventBatch batch = firstBatch(EventStreamRequest.newBuilder()
+                                                        .addType(type)
+                                                        .build());
+        assertThat(batch.getEventCount()).isEqualTo(2);
+        for (Event event : batch.getEventList()) {
+            assertThat(event.enclosedMessage()).isInstanceOf(BoardCreated.class);
+        }
+    }
+
+    @Test
+    @DisplayName("stream the events of the requested boards")
+    void byBoard() throws IOException {
+        BoardAffinity boards = new BoardAffinity();
+        List<Event> expected = new ArrayList<>();
+        for (Event event : logged()) {
+            boards.observe(event.enclosedMessage());
+            if (boards.boardIn(event.enclosedMessage())
+                      .equals(Optional.of(board()))) {
+                expected.add(event);
+            }
+        }
+        EventBatch batch = firstBatch(EventStreamRequest.newBuilder()
+                                                        .addBoard(board())
+                                                        .setBatchSize(1000)
+                                                        .build());
+        assertThat(expected).isNotEmpty();
+        assertThat(expected.size()).isLessThan(logged().size());
+        assertThat(batch.getEventList()).containsExactlyElementsIn(expected)
+                                        .inOrder();
+    }
+
+    @Test
+    @DisplayName("resume the stream after the last received batch")
+    void resume() throws IOException {
+        EventBatch first = firstBatch(EventStreamRequest.newBuilder()
+                                                        .setBatchSize(2)
+                                                        .build());
+        EventBatch rest = firstBatch(EventStreamRequest.newBuilder()
+                                                       .setResumeToken(first.getResumeToken())
+                                                       .setBatchSize(1000)
+                                                       .build());
+        ImmutableList<Event> all = logged();
+        assertThat(first.getEventList()).isEqualTo(all.subList(0, 2));
+        assertThat(rest.getEventList()).isEqualTo(all.subList(2, all.size()));
+    }
+
+    @Test
+    @DisplayName("reject a malformed resume token")
+    void malformedToken() {
+        EventStreamRequest request = EventStreamRequest.newBuilder()
+                                                       .setResumeToken("not a token")
+                                                       .build();
+        StatusRuntimeException e =
+                assertThrows(StatusRuntimeException.class, () -> firstBatch(request));
+        assertThat(e.getStatus()
+                    .getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.tenant;
+
+import io.spine.core.TenantId;
+import io.spine.examples.kanban.Board;
+import io.spine.examples.kanban.server.KanbanContext;
+import io.spine.examples.kanban.server.KanbanTest;
+import io.spine.testing.server.blackbox.BlackBoxContext;
+import io.spine.testing.server.blackbox.MultitenantBlackBoxContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("Multi-tenant Kanban context should")
+class TenancyTest extends KanbanTest {
+
+    private final TenantId acme = tenant("acme.example.com");
+    private final TenantId globex = tenant("globex.example.com");
+    private MultitenantBlackBoxContext context;
+
+    private static TenantId tenant(String value) {
+        return TenantId
+                .newBuilder()
+                .setValue(value)
+                .build();
+    }
+
+    @BeforeEach
+    void createContext() {
+        context = (MultitenantBlackBoxContext)
+                BlackBoxContext.from(KanbanContext.newBuilder(true));
+    }
+
+    @AfterEach
+    void closeContext() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("keep the boards of each tenant apart")
+    void storage() {
+        context.withTenant(acme)
+               .receivesCommand(createBoard());
+
+        context.withTenant(acme)
+               .assertEntityWithState(board(), Board.class)
+               .exists();
+        context.withTenant(globex)
+               .assertEntityWithState(board(), Board.class)
+               .doesNotExist();
+    }
+
+    @Test
+    @DisplayName("release the quota of a tenant once its command is handled")
+    void release() {
+        context.withTenant(acme)
+               .receivesCommand(createBoard());
+
+        assertThat(Tenancy.quotas()
+                          .inFlight(acme)).isEqualTo(0);
+    }
+}
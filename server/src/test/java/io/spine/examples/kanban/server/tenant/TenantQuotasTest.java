@@ -0,0 +1,175 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.server.tenant;
+
+import io.spine.base.CommandMessage;
+import io.spine.core.Ack;
+import io.spine.core.TenantId;
+import io.spine.examples.kanban.server.KanbanTest;
+import io.spine.examples.kanban.server.given.ManualTicker;
+import io.spine.examples.kanban.server.monitor.Monitoring;
+import io.spine.examples.kanban.server.monitor.TenantMetrics;
+import io.spine.examples.kanban.server.quota.QuotaExceeded;
+import io.spine.server.type.CommandEnvelope;
+import io.spine.testing.client.TestActorRequestFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+
+@DisplayName("`TenantQuotas` should")
+class TenantQuotasTest extends KanbanTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    private final ManualTicker ticker = new ManualTicker();
+    private TenantQuotas quotas;
+    private TenantId tenant;
+
+    @BeforeEach
+    void createQuotas() {
+        quotas = new TenantQuotas(10, 2, 3, LEASE, ticker);
+        tenant = newTenant();
+    }
+
+    private static TenantId newTenant() {
+        return TenantId
+                .newBuilder()
+                .setValue(newUuid())
+                .build();
+    }
+
+    private static CommandEnvelope envelope(TenantId tenant, CommandMessage message) {
+        TestActorRequestFactory requests =
+                new TestActorRequestFactory(TenantQuotasTest.class, tenant);
+        return CommandEnvelope.of(requests.createCommand(message));
+    }
+
+    private Optional<Ack> post(TenantId tenant) {
+        return quotas.filter(envelope(tenant, createBoard()));
+    }
+
+    @Test
+    @DisplayName("admit a burst of commands")
+    void burst() {
+        assertThat(post(tenant).isPresent()).isFalse();
+        assertThat(post(tenant).isPresent()).isFalse();
+        assertThat(quotas.inFlight(tenant)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("refuse the commands over the rate and tell when to retry")
+    void rate() {
+        assertThat(post(tenant).isPresent()).isFalse();
+        assertThat(post(tenant).isPresent()).isFalse();
+
+        Optional<Ack> refused = post(tenant);
+        assertThat(refused.isPresent()).isTrue();
+        assertThat(QuotaExceeded.retryAfter(refused.get()))
+                .isEqualTo(Optional.of(Duration.ofMillis(100)));
+        assertThat(quotas.inFlight(tenant)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("refuse the commands over the concurrency")
+    void concurrency() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(post(tenant).isPresent()).isFalse();
+            ticker.advance(Duration.ofSeconds(1));
+        }
+
+        Optional<Ack> refused = post(tenant);
+        assertThat(refused.isPresent()).isTrue();
+        assertThat(QuotaExceeded.retryAfter(refused.get()).isPresent()).isTrue();
+    }
+
+    @Test
+    @DisplayName("consider the commands handled after the lease")
+    void lease() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(post(tenant).isPresent()).isFalse();
+            ticker.advance(Duration.ofSeconds(1));
+        }
+        ticker.advance(LEASE);
+
+        assertThat(quotas.inFlight(tenant)).isEqualTo(0);
+        assertThat(post(tenant).isPresent()).isFalse();
+    }
+
+    @Test
+    @DisplayName("limit each tenant separately")
+    void separate() {
+        assertThat(post(tenant).isPresent()).isFalse();
+        assertThat(post(tenant).isPresent()).isFalse();
+        assertThat(post(tenant).isPresent()).isTrue();
+
+        TenantId other = newTenant();
+        assertThat(post(other).isPresent()).isFalse();
+    }
+
+    @Test
+    @DisplayName("count the commands of each tenant")
+    void metrics() {
+        assertThat(post(tenant).isPresent()).isFalse();
+        assertThat(post(tenant).isPresent()).isFalse();
+        assertThat(post(tenant).isPresent()).isTrue();
+
+        TenantMetrics metrics = metricsOf(tenant).orElseThrow(AssertionError::new);
+        assertThat(metrics.getAdmitted()).isEqualTo(2);
+        assertThat(metrics.getThrottled()).isEqualTo(1);
+        assertThat(metrics.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("forget the quota and the metrics of an idle tenant")
+    void idle() {
+        assertThat(post(tenant).isPresent()).isFalse();
+        assertThat(post(tenant).isPresent()).isFalse();
+        assertThat(post(tenant).isPresent()).isTrue();
+        ticker.advance(Duration.ofMinutes(11));
+
+        assertThat(quotas.inFlight(tenant)).isEqualTo(0);
+        assertThat(metricsOf(tenant).isPresent()).isFalse();
+        assertThat(post(tenant).isPresent()).isFalse();
+        assertThat(post(tenant).isPresent()).isFalse();
+    }
+
+    private static Optional<TenantMetrics> metricsOf(TenantId tenant) {
+        String name = TenantQuotas.nameOf(tenant);
+        return Monitoring
+                .metrics()
+                .tenants()
+                .stream()
+                .filter(t -> t.getTenant().equals(name))
+                .findFirst();
+    }
+}
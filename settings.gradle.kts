@@ -30,3 +30,4 @@ include("server")
 include("model")
 include("web:server")
 include("web:client-js")
+include("benchmarks")
@@ -30,13 +30,32 @@ import { ActorProvider, Client, init } from "spine-web/index";
 import KanbanModel from "proto/index";
 import SpineWebTypes from "spine-web/proto/index";
 import spineConfig from "@/dependency/spine/config";
+import { v4 as newUuid } from "uuid";
 
 /**
  * Serves as a dependency container that can be injected in any part of the application.
  */
 
 const firebaseApp = Firebase.initializeApp(firebaseConfig);
-const actorProvider = new ActorProvider();
+const actorProvider = new ActorProvider(sessionActor());
+
+/**
+ * Obtains the actor of the commands posted from this browser tab.
+ *
+ * The server limits the rate of the commands of each actor, so every session gets its own
+ * actor instead of the anonymous one shared by all the clients.
+ */
+function sessionActor(): proto.spine.core.UserId {
+  const key = "kanban.actor";
+  let value = sessionStorage.getItem(key);
+  if (!value) {
+    value = newUuid();
+    sessionStorage.setItem(key, value);
+  }
+  const actor = new proto.spine.core.UserId();
+  actor.setValue(value);
+  return actor;
+}
 
 /**
  * The singleton of the {@link Client} to interact with the Kanban web server
@@ -39,6 +39,7 @@ repositories {
 }
 
 dependencies {
+    implementation(project(":model"))
     implementation(project(":server"))
     implementation(GoogleCloud.SecretManager.lib)
     testImplementation(JUnit.Api.lib)
@@ -26,8 +26,10 @@
 
 package io.spine.examples.kanban.web.server;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.spine.base.Production;
 import io.spine.examples.kanban.server.KanbanContext;
+import io.spine.examples.kanban.server.lane.Lanes;
 import io.spine.server.BoundedContext;
 import io.spine.server.CommandService;
 import io.spine.server.QueryService;
@@ -35,67 +37,121 @@ import io.spine.server.ServerEnvironment;
 import io.spine.server.SubscriptionService;
 import io.spine.server.storage.memory.InMemoryStorageFactory;
 import io.spine.server.transport.memory.InMemoryTransportFactory;
+import io.spine.web.firebase.FirebaseClient;
 import io.spine.web.firebase.query.FirebaseQueryBridge;
 import io.spine.web.firebase.subscription.FirebaseSubscriptionBridge;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Acts as the entrypoint to the Kanban application.
  *
  * <p>Configures the {@linkplain ServerEnvironment server environment} and initializes
  * the {@linkplain CommandService command service}, {@linkplain FirebaseQueryBridge query}
- * and {@linkplain FirebaseSubscriptionBridge subscription bridge} for the {@link KanbanContext}.
+ * and {@linkplain LeasedSubscriptionBridge subscription bridge}, and the direct
+ * {@linkplain BoardUpdates board updates} for the {@link KanbanContext}.
+ *
+ * <p>The application is {@linkplain #start() started} asynchronously. The Bounded Context
+ * and the {@linkplain FirebaseClients Firebase client} do not depend on each other, and are
+ * created in parallel. The bridges are created as soon as both parts are ready.
+ * Until then, {@link #isReady()} returns {@code false}, and {@link #instance()} waits
+ * for the startup to complete.
  */
 final class Application {
 
-    private static final Application INSTANCE = create();
+    private static @MonotonicNonNull CompletableFuture<Application> startup;
 
     private final CommandService commandService;
     private final FirebaseQueryBridge queryBridge;
-    private final FirebaseSubscriptionBridge subscriptionBridge;
+    private final LeasedSubscriptionBridge subscriptionBridge;
+    private final BoardUpdates boardUpdates;
 
     private Application(
             CommandService commandService,
             FirebaseQueryBridge queryBridge,
-            FirebaseSubscriptionBridge subscriptionBridge
+            LeasedSubscriptionBridge subscriptionBridge,
+            BoardUpdates boardUpdates
     ) {
         this.commandService = commandService;
         this.queryBridge = queryBridge;
         this.subscriptionBridge = subscriptionBridge;
+        this.boardUpdates = boardUpdates;
+    }
+
+    /**
+     * Starts the application, unless it is already started.
+     *
+     * <p>Returns immediately without waiting for the startup to complete.
+     */
+    static void start() {
+        startup();
+    }
+
+    private static synchronized CompletableFuture<Application> startup() {
+        if (startup == null) {
+            startup = startAsync();
+        }
+        return startup;
+    }
+
+    /**
+     * Tells whether the application has started and is ready to serve requests.
+     */
+    static boolean isReady() {
+        CompletableFuture<Application> future = startup();
+        return future.isDone() && !future.isCompletedExceptionally();
     }
 
     /**
      * Returns the application instance.
+     *
+     * <p>Starts the application, if it is not started yet, and waits for the startup
+     * to complete.
      */
     static Application instance() {
-        return INSTANCE;
+        return startup().join();
     }
 
-    private static Application create() {
-        configureEnvironment();
+    private static CompletableFuture<Application> startAsync() {
+        ExecutorService executor = Executors.newFixedThreadPool(
+                2,
+                new ThreadFactoryBuilder()
+                        .setNameFormat("application-startup-%d")
+                        .setDaemon(true)
+                        .build()
+        );
+        CompletableFuture<Services> services =
+                CompletableFuture.supplyAsync(Services::create, executor);
+        CompletableFuture<FirebaseClient> firebaseClient =
+                CompletableFuture.supplyAsync(FirebaseClients::instance, executor);
+        CompletableFuture<Application> application =
+                services.thenCombine(firebaseClient, Application::create);
+        application.whenComplete((result, error) -> executor.shutdown());
+        return application;
+    }
 
-        BoundedContext context = KanbanContext.newBuilder().build();
-        CommandService commandService = CommandService.withSingle(context);
+    private static Application create(Services services, FirebaseClient firebaseClient) {
         FirebaseQueryBridge queryBridge =
                 FirebaseQueryBridge
                         .newBuilder()
-                        .setQueryService(QueryService.withSingle(context))
-                        .setFirebaseClient(FirebaseClients.instance())
+                        .setQueryService(services.queryService)
+                        .setFirebaseClient(firebaseClient)
                         .build();
-        FirebaseSubscriptionBridge subscriptionBridge =
+        FirebaseSubscriptionBridge firebaseBridge =
                 FirebaseSubscriptionBridge
                         .newBuilder()
-                        .setSubscriptionService(SubscriptionService.withSingle(context))
-                        .setFirebaseClient(FirebaseClients.instance())
+                        .setSubscriptionService(services.subscriptionService)
+                        .setFirebaseClient(firebaseClient)
                         .build();
+        LeasedSubscriptionBridge subscriptionBridge = new LeasedSubscriptionBridge(firebaseBridge);
+        BoardUpdates boardUpdates = new BoardUpdates(services.subscriptionService);
 
-        return new Application(commandService, queryBridge, subscriptionBridge);
-    }
-
-    private static void configureEnvironment() {
-        ServerEnvironment
-                .when(Production.class)
-                .use(InMemoryStorageFactory.newInstance())
-                .use(InMemoryTransportFactory.newInstance());
+        return new Application(
+                services.commandService, queryBridge, subscriptionBridge, boardUpdates
+        );
     }
 
     /**
@@ -115,7 +171,44 @@ final class Application {
     /**
      * Returns the subscription bridge.
      */
-    FirebaseSubscriptionBridge subscriptionBridge() {
+    LeasedSubscriptionBridge subscriptionBridge() {
         return subscriptionBridge;
     }
+
+    /**
+     * Returns the board updates delivered without the Firebase round trip.
+     */
+    BoardUpdates boardUpdates() {
+        return boardUpdates;
+    }
+
+    /**
+     * The services of the Kanban Bounded Context.
+     */
+    private static final class Services {
+
+        private final CommandService commandService;
+        private final QueryService queryService;
+        private final SubscriptionService subscriptionService;
+
+        private Services(BoundedContext context) {
+            this.commandService = CommandService.withSingle(context);
+            this.queryService = QueryService.withSingle(context);
+            this.subscriptionService = SubscriptionService.withSingle(context);
+        }
+
+        private static Services create() {
+            configureEnvironment();
+            BoundedContext context = KanbanContext.newBuilder().build();
+            return new Services(context);
+        }
+
+        private static void configureEnvironment() {
+            ServerEnvironment
+                    .when(Production.class)
+                    .use(InMemoryStorageFactory.newInstance())
+                    .use(InMemoryTransportFactory.newInstance());
+            Lanes.configure();
+        }
+    }
 }
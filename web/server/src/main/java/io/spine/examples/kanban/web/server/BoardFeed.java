@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.web.server;
+
+import io.grpc.stub.StreamObserver;
+import io.spine.client.EntityStateUpdate;
+import io.spine.client.SubscriptionUpdate;
+import io.spine.examples.kanban.view.BoardView;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import static io.spine.protobuf.AnyPacker.unpack;
+
+/**
+ * Fans out updates of a single board to all the streams watching it.
+ *
+ * <p>A feed is backed by exactly one subscription to the board, no matter how many clients
+ * watch the board. Each update is serialized once, and the same frame is sent to every
+ * stream.
+ *
+ * <p>The feed takes no locks. It keeps the streams in a copy-on-write set and calls them
+ * without holding any monitor, so that each stream only takes its own one.
+ */
+final class BoardFeed implements StreamObserver<SubscriptionUpdate> {
+
+    private final Set<BoardUpdateStream> streams = new CopyOnWriteArraySet<>();
+
+    /**
+     * Starts sending updates to the passed stream.
+     */
+    void add(BoardUpdateStream stream) {
+        streams.add(stream);
+    }
+
+    /**
+     * Stops sending updates to the passed stream.
+     */
+    void remove(BoardUpdateStream stream) {
+        streams.remove(stream);
+    }
+
+    /**
+     * Tells whether there are no streams watching the board.
+     */
+    boolean isEmpty() {
+        return streams.isEmpty();
+    }
+
+    @Override
+    public void onNext(SubscriptionUpdate update) {
+        for (EntityStateUpdate entityUpdate : update.getEntityUpdates()
+                                                    .getUpdateList()) {
+            if (entityUpdate.hasState()) {
+                BoardView board = unpack(entityUpdate.getState(), BoardView.class);
+                byte[] frame = BoardUpdateStream.frameOf(board);
+                streams.forEach(stream -> stream.send(frame));
+            }
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        closeAll();
+    }
+
+    @Override
+    public void onCompleted() {
+        closeAll();
+    }
+
+    private void closeAll() {
+        streams.forEach(BoardUpdateStream::close);
+    }
+}
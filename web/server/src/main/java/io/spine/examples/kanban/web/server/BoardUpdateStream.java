@@ -0,0 +1,232 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.web.server;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.spine.examples.kanban.view.BoardView;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+import static io.spine.json.Json.toCompactJson;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * A single Server-Sent Events connection which pushes {@link BoardView} updates
+ * to a client.
+ *
+ * <p>The stream writes to the client using the non-blocking servlet I/O. Updates which
+ * cannot be written immediately are kept in a bounded buffer. When the client reads
+ * slower than updates arrive and the buffer is full, the oldest pending update is dropped.
+ * Since every update carries the whole state of the board, the client loses only
+ * intermediate states and still ends up with the latest one.
+ *
+ * <p>A comment frame is sent periodically, so that idle connections are not closed by
+ * the servlet container and disconnected clients are detected.
+ *
+ * <p>The state of the stream is guarded by its monitor. The {@linkplain #onClose(Runnable)
+ * close hook} runs while the monitor is held, so the hook must not wait for locks which are
+ * held while calling the stream. See {@link BoardUpdates} for the lock order.
+ */
+final class BoardUpdateStream implements WriteListener, AsyncListener {
+
+    /**
+     * The maximum number of frames waiting to be written to the client.
+     */
+    @VisibleForTesting
+    static final int BUFFER_CAPACITY = 16;
+
+    private static final long HEARTBEAT_PERIOD_SECONDS = 15;
+    private static final byte[] HEARTBEAT = frame(": heartbeat\n\n");
+    private static final ScheduledExecutorService heartbeats =
+            Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder()
+                            .setNameFormat("board-update-heartbeat")
+                            .setDaemon(true)
+                            .build()
+            );
+
+    private final AsyncContext async;
+    private final ServletOutputStream out;
+    private final Queue<byte[]> pending = new ArrayDeque<>(BUFFER_CAPACITY);
+    private final ScheduledFuture<?> heartbeat;
+    private Runnable closeHook = () -> {};
+    private boolean awaitingWrite;
+    private boolean closed;
+    private long dropped;
+
+    private BoardUpdateStream(AsyncContext async) throws IOException {
+        this.async = async;
+        this.out = async.getResponse().getOutputStream();
+        this.heartbeat = heartbeats.scheduleAtFixedRate(
+                () -> send(HEARTBEAT),
+                HEARTBEAT_PERIOD_SECONDS, HEARTBEAT_PERIOD_SECONDS, SECONDS
+        );
+    }
+
+    /**
+     * Opens a stream over the passed asynchronous context.
+     *
+     * <p>The response headers are expected to be already set.
+     */
+    static BoardUpdateStream open(AsyncContext async) throws IOException {
+        BoardUpdateStream stream = new BoardUpdateStream(async);
+        async.addListener(stream);
+        stream.out.setWriteListener(stream);
+        return stream;
+    }
+
+    /**
+     * Sets the action to perform when the stream is closed.
+     *
+     * <p>If the stream is already closed, the action is performed immediately.
+     */
+    synchronized void onClose(Runnable hook) {
+        if (closed) {
+            hook.run();
+        } else {
+            this.closeHook = hook;
+        }
+    }
+
+    /**
+     * Creates a frame carrying the passed board state.
+     *
+     * <p>The same frame may be {@linkplain #send(byte[]) sent} to any number of streams.
+     */
+    static byte[] frameOf(BoardView board) {
+        return frame("event: board\ndata: " + toCompactJson(board) + "\n\n");
+    }
+
+    private static byte[] frame(String text) {
+        return text.getBytes(UTF_8);
+    }
+
+    /**
+     * Queues the passed frame for sending to the client.
+     */
+    synchronized void send(byte[] frame) {
+        if (closed) {
+            return;
+        }
+        if (pending.size() == BUFFER_CAPACITY) {
+            pending.poll();
+            dropped++;
+        }
+        pending.add(frame);
+        if (!awaitingWrite) {
+            flush();
+        }
+    }
+
+    @Override
+    public synchronized void onWritePossible() {
+        awaitingWrite = false;
+        flush();
+    }
+
+    /**
+     * Writes pending frames while the client connection accepts data.
+     */
+    private void flush() {
+        try {
+            while (!closed && !pending.isEmpty()) {
+                if (!out.isReady()) {
+                    awaitingWrite = true;
+                    return;
+                }
+                out.write(pending.poll());
+            }
+            if (!closed && out.isReady()) {
+                out.flush();
+            }
+        } catch (IOException ignored) {
+            close();
+        }
+    }
+
+    /**
+     * Returns the number of updates dropped because the client did not keep up with them.
+     */
+    synchronized long dropped() {
+        return dropped;
+    }
+
+    /**
+     * Closes the stream and completes the underlying request.
+     */
+    synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pending.clear();
+        heartbeat.cancel(false);
+        closeHook.run();
+        try {
+            async.complete();
+        } catch (IllegalStateException ignored) {
+            // The request is already completed by the container.
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        close();
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+        // Nothing to do: the stream is registered after the asynchronous processing starts.
+    }
+}
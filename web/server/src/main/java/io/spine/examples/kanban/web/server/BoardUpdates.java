@@ -0,0 +1,153 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.web.server;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.spine.client.ActorRequestFactory;
+import io.spine.client.Subscription;
+import io.spine.client.Topic;
+import io.spine.core.UserId;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.view.BoardView;
+import io.spine.grpc.MemoizingObserver;
+import io.spine.server.SubscriptionService;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.grpc.StreamObservers.memoizingObserver;
+import static io.spine.grpc.StreamObservers.noOpObserver;
+
+/**
+ * Delivers {@link BoardView} updates from the {@link SubscriptionService} directly to
+ * {@linkplain BoardUpdateStream streams} opened by clients.
+ *
+ * <p>Unlike the {@linkplain io.spine.web.firebase.subscription.FirebaseSubscriptionBridge
+ * Firebase subscription bridge}, updates do not make a round trip through
+ * the Firebase Realtime Database, and clients do not need to keep their subscriptions up.
+ *
+ * <p>All streams watching the same board share a single {@linkplain BoardFeed feed} and,
+ * therefore, a single subscription. The subscription is created when the first client starts
+ * watching the board and cancelled when the last one leaves. This way, the cost of
+ * an update depends on the number of watched boards rather than the number of clients.
+ *
+ * <p>The locks are always taken in the same order: the monitor of a {@link BoardUpdateStream}
+ * first, then the monitor of this object. A closing stream calls back into this object while
+ * holding its own monitor. Therefore, this object never calls a stream while holding its
+ * monitor, and cancels subscriptions only after releasing it. The {@link BoardFeed} holds
+ * no locks of its own.
+ */
+final class BoardUpdates {
+
+    private static final UserId ACTOR =
+            UserId.newBuilder()
+                  .setValue("kanban-web-server")
+                  .vBuild();
+
+    private final SubscriptionService subscriptionService;
+    private final ActorRequestFactory requests;
+
+    /**
+     * Active feeds and their subscriptions by the ID of the watched board.
+     */
+    private final Map<BoardId, ActiveFeed> feeds = new HashMap<>();
+
+    BoardUpdates(SubscriptionService subscriptionService) {
+        this.subscriptionService = checkNotNull(subscriptionService);
+        this.requests = ActorRequestFactory
+                .newBuilder()
+                .setActor(ACTOR)
+                .build();
+    }
+
+    /**
+     * Starts sending updates of the board with the given ID to the passed stream.
+     *
+     * <p>The stream stops receiving updates when it is closed.
+     */
+    void stream(BoardId board, BoardUpdateStream stream) {
+        checkNotNull(board);
+        checkNotNull(stream);
+        ActiveFeed active;
+        synchronized (this) {
+            active = feeds.computeIfAbsent(board, this::open);
+            active.feed.add(stream);
+        }
+        stream.onClose(() -> leave(board, active, stream));
+    }
+
+    private ActiveFeed open(BoardId board) {
+        Topic topic = requests
+                .topic()
+                .select(BoardView.class)
+                .byId(board)
+                .build();
+        MemoizingObserver<Subscription> observer = memoizingObserver();
+        subscriptionService.subscribe(topic, observer);
+        Subscription subscription = observer.firstResponse();
+        BoardFeed feed = new BoardFeed();
+        subscriptionService.activate(subscription, feed);
+        return new ActiveFeed(subscription, feed);
+    }
+
+    private void leave(BoardId board, ActiveFeed active, BoardUpdateStream stream) {
+        boolean last;
+        synchronized (this) {
+            active.feed.remove(stream);
+            last = active.feed.isEmpty() && active.equals(feeds.get(board));
+            if (last) {
+                feeds.remove(board);
+            }
+        }
+        if (last) {
+            subscriptionService.cancel(active.subscription, noOpObserver());
+        }
+    }
+
+    /**
+     * Tells whether any stream watches the board with the given ID.
+     */
+    @VisibleForTesting
+    synchronized boolean isWatched(BoardId board) {
+        return feeds.containsKey(board);
+    }
+
+    /**
+     * A feed along with the subscription which backs it.
+     */
+    private static final class ActiveFeed {
+
+        private final Subscription subscription;
+        private final BoardFeed feed;
+
+        private ActiveFeed(Subscription subscription, BoardFeed feed) {
+            this.subscription = subscription;
+            this.feed = feed;
+        }
+    }
+}
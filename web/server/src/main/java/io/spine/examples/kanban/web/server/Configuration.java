@@ -28,6 +28,7 @@ package io.spine.examples.kanban.web.server;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.Properties;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -112,6 +113,23 @@ final class Configuration {
         return get(Key.GCP_PROJECT_ID);
     }
 
+    /**
+     * Tells whether the Firebase Realtime Database should be replaced with
+     * the {@linkplain InMemoryFirebaseClient in-memory} one.
+     */
+    static boolean inMemoryFirebase() {
+        FirebaseClientKind kind = FirebaseClientKind.valueOf(get(Key.FIREBASE_CLIENT));
+        return kind == FirebaseClientKind.IN_MEMORY;
+    }
+
+    /**
+     * The latency added to each operation of the in-memory Firebase client.
+     */
+    static Duration inMemoryFirebaseLatency() {
+        long millis = Long.parseLong(get(Key.IN_MEMORY_FIREBASE_LATENCY));
+        return Duration.ofMillis(millis);
+    }
+
     /**
      * Configuration keys that can be set in the {@code resources/config.properties}.
      */
@@ -137,7 +155,20 @@ final class Configuration {
         /**
          * The URL of the Firebase Realtime Database.
          */
-        FIREBASE_DB_URL("firebase.databaseUrl");
+        FIREBASE_DB_URL("firebase.databaseUrl"),
+
+        /**
+         * The kind of the Firebase client to use.
+         *
+         * <p> Values should be parseable to {@link FirebaseClientKind}.
+         */
+        FIREBASE_CLIENT("firebase.client"),
+
+        /**
+         * The latency in milliseconds added to each operation of the in-memory
+         * Firebase client.
+         */
+        IN_MEMORY_FIREBASE_LATENCY("firebase.inMemory.latencyMillis");
 
         private final String literal;
 
@@ -153,4 +184,20 @@ final class Configuration {
         PRODUCTION,
         DEVELOPMENT
     }
+
+    /**
+     * Values of the {@code firebase.client} setting in the {@code config.properties} file.
+     */
+    private enum FirebaseClientKind {
+
+        /**
+         * The client of the Firebase Realtime Database or its emulator.
+         */
+        REMOTE,
+
+        /**
+         * The client keeping data in memory of the server.
+         */
+        IN_MEMORY
+    }
 }
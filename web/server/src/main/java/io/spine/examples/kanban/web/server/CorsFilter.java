@@ -33,11 +33,16 @@ import javax.servlet.annotation.WebFilter;
  * A {@linkplain javax.servlet.Filter filter} which appends the CORS headers to
  * the HTTP responses.
  *
+ * <p>The filter supports asynchronous processing, so that it does not prevent
+ * the {@linkplain KanbanSubscriptionStreamServlet streaming endpoint} from keeping
+ * its connections open.
+ *
  * @see AllowAnyOriginFilter
  */
 @WebFilter(
         filterName = AllowAnyOriginFilter.NAME,
-        urlPatterns = AllowAnyOriginFilter.ANY_URL
+        urlPatterns = AllowAnyOriginFilter.ANY_URL,
+        asyncSupported = true
 )
 public final class CorsFilter extends AllowAnyOriginFilter {
 }
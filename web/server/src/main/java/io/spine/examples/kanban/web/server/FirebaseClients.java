@@ -35,6 +35,8 @@ import io.spine.web.firebase.FirebaseClientFactory;
 
 import static io.spine.examples.kanban.web.server.Configuration.firebaseDatabaseUrl;
 import static io.spine.examples.kanban.web.server.Configuration.firebaseServiceAccountSecret;
+import static io.spine.examples.kanban.web.server.Configuration.inMemoryFirebase;
+import static io.spine.examples.kanban.web.server.Configuration.inMemoryFirebaseLatency;
 import static io.spine.examples.kanban.web.server.Configuration.productionEnv;
 
 /**
@@ -47,6 +49,9 @@ import static io.spine.examples.kanban.web.server.Configuration.productionEnv;
  *     <li>In the development environment assumes that a database emulator is used
  *     and mocks credentials to access the emulator.
  * </ul>
+ *
+ * <p>If the {@code firebase.client} setting is {@code IN_MEMORY}, no database is accessed,
+ * and the {@linkplain InMemoryFirebaseClient in-memory} client is used instead.
  */
 final class FirebaseClients {
 
@@ -66,6 +71,9 @@ final class FirebaseClients {
     }
 
     private static FirebaseClient create() {
+        if (inMemoryFirebase()) {
+            return new InMemoryFirebaseClient(inMemoryFirebaseLatency());
+        }
         FirebaseOptions options =
                 FirebaseOptions.builder()
                                .setCredentials(credentials())
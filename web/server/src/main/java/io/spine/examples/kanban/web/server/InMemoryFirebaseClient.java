@@ -0,0 +1,144 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.web.server;
+
+import com.google.firebase.database.ChildEventListener;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.spine.web.firebase.FirebaseClient;
+import io.spine.web.firebase.NodePath;
+import io.spine.web.firebase.NodeValue;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.util.concurrent.Uninterruptibles.sleepUninterruptibly;
+
+/**
+ * A {@link FirebaseClient} which keeps the database nodes in memory.
+ *
+ * <p>Allows to run the web server, and measure throughput and latency of the query and
+ * subscription bridges, on a single machine without access to a Firebase Realtime Database
+ * or its emulator.
+ *
+ * <p>Each operation may be delayed by the configured latency to approximate the network
+ * round trip to a real database.
+ *
+ * <p>The stored values are never changed in place. A value is copied when stored and when
+ * fetched, and an update stores a new merged value, so a fetched value is not affected by
+ * the later changes of the node.
+ *
+ * <p>Firebase {@link ChildEventListener}s are accepted, but never notified, since
+ * the Firebase SDK does not allow creating the data snapshots passed to them. These
+ * listeners are only used to watch changes made by other server instances, which do not
+ * exist for an in-memory database.
+ */
+final class InMemoryFirebaseClient implements FirebaseClient {
+
+    private static final String SEPARATOR = "/";
+
+    private final ConcurrentNavigableMap<String, NodeValue> nodes = new ConcurrentSkipListMap<>();
+    private final Duration latency;
+
+    /**
+     * Creates a new client which delays each operation by the given latency.
+     */
+    InMemoryFirebaseClient(Duration latency) {
+        checkNotNull(latency);
+        checkArgument(!latency.isNegative(), "The latency cannot be negative.");
+        this.latency = latency;
+    }
+
+    @Override
+    public Optional<NodeValue> fetchNode(NodePath nodePath) {
+        simulateLatency();
+        return Optional.ofNullable(nodes.get(nodePath.getValue()))
+                       .map(InMemoryFirebaseClient::copyOf);
+    }
+
+    @Override
+    public void subscribeTo(NodePath nodePath, ChildEventListener listener) {
+        simulateLatency();
+    }
+
+    @Override
+    public void create(NodePath nodePath, NodeValue value) {
+        simulateLatency();
+        nodes.put(nodePath.getValue(), copyOf(value));
+    }
+
+    /**
+     * Merges the children of the passed value into the node, as the Realtime Database does.
+     */
+    @Override
+    public void update(NodePath nodePath, NodeValue value) {
+        simulateLatency();
+        nodes.merge(nodePath.getValue(), copyOf(value), InMemoryFirebaseClient::merge);
+    }
+
+    private static NodeValue merge(NodeValue existing, NodeValue update) {
+        NodeValue merged = copyOf(existing);
+        addChildren(merged, update);
+        return merged;
+    }
+
+    private static NodeValue copyOf(NodeValue value) {
+        NodeValue copy = NodeValue.empty();
+        addChildren(copy, value);
+        return copy;
+    }
+
+    private static void addChildren(NodeValue target, NodeValue source) {
+        JsonObject json = target.underlyingJson();
+        for (Map.Entry<String, JsonElement> child : source.underlyingJson().entrySet()) {
+            json.add(child.getKey(), child.getValue().deepCopy());
+        }
+    }
+
+    /**
+     * Deletes the node along with all its descendants.
+     */
+    @Override
+    public void delete(NodePath nodePath) {
+        simulateLatency();
+        String path = nodePath.getValue();
+        nodes.remove(path);
+        nodes.subMap(path + SEPARATOR, path + SEPARATOR + Character.MAX_VALUE)
+             .clear();
+    }
+
+    private void simulateLatency() {
+        if (!latency.isZero()) {
+            sleepUninterruptibly(latency);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.web.server;
+
+import io.spine.examples.kanban.BlobRef;
+import io.spine.examples.kanban.server.blob.BlobStore;
+import io.spine.validate.ValidationException;
+
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Optional;
+
+import static io.spine.json.Json.toCompactJson;
+import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
+import static javax.servlet.http.HttpServletResponse.SC_NOT_FOUND;
+import static javax.servlet.http.HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE;
+
+/**
+ * The {@code /attachments} endpoint of the Kanban system.
+ *
+ * <p>A {@code POST} request uploads the request body to the {@linkplain BlobStore#shared()
+ * blob store} and responds with the JSON of the {@link BlobRef} to the stored content.
+ * The client then attaches the file to a card with the {@code AttachFile} command.
+ *
+ * <p>A {@code GET} request with the {@code sha256} parameter downloads the content.
+ * The content is always sent as a downloaded {@code application/octet-stream}, so that
+ * an uploaded file is never rendered as a page of the application. The client knows the file
+ * name and the media type from the {@code Attachment} of the card.
+ *
+ * <p>Both directions stream the content through a {@code FileChannel}, so the heap use
+ * does not grow with the file size. The size of an upload is limited by
+ * the {@value #MAX_SIZE} system property, 25 MiB by default.
+ */
+@WebServlet("/attachments")
+public final class KanbanAttachmentServlet extends HttpServlet {
+
+    /**
+     * The system property with the maximum size of an attachment in bytes.
+     */
+    public static final String MAX_SIZE = "kanban.attachment.maxSize";
+
+    private static final long serialVersionUID = 0L;
+
+    private static final long maxSize = Long.getLong(MAX_SIZE, 25L << 20);
+
+    public KanbanAttachmentServlet() {
+        super();
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        if (req.getContentLengthLong() > maxSize) {
+            resp.sendError(SC_REQUEST_ENTITY_TOO_LARGE);
+            return;
+        }
+        Optional<BlobRef> ref;
+        try (ReadableByteChannel body = Channels.newChannel(req.getInputStream())) {
+            ref = BlobStore.shared()
+                           .put(body, maxSize);
+        }
+        if (!ref.isPresent()) {
+            resp.sendError(SC_REQUEST_ENTITY_TOO_LARGE);
+            return;
+        }
+        resp.setContentType("application/json");
+        resp.setCharacterEncoding("UTF-8");
+        resp.getWriter()
+            .write(toCompactJson(ref.get()));
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        BlobRef ref;
+        try {
+            ref = BlobRef.newBuilder()
+                         .setSha256(String.valueOf(req.getParameter("sha256")))
+                         .vBuild();
+        } catch (ValidationException e) {
+            resp.sendError(SC_BAD_REQUEST, "Expected the `sha256` parameter.");
+            return;
+        }
+        BlobStore store = BlobStore.shared();
+        Optional<Long> size = store.sizeOf(ref);
+        if (!size.isPresent()) {
+            resp.sendError(SC_NOT_FOUND);
+            return;
+        }
+        resp.setContentType("application/octet-stream");
+        resp.setHeader("Content-Disposition", "attachment");
+        resp.setHeader("X-Content-Type-Options", "nosniff");
+        resp.setContentLengthLong(size.get());
+        resp.setHeader("Cache-Control", "public, max-age=31536000, immutable");
+        WritableByteChannel body = Channels.newChannel(resp.getOutputStream());
+        store.transferTo(ref, body);
+    }
+}
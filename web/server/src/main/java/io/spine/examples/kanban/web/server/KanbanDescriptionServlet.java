@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.web.server;
+
+import io.spine.examples.kanban.BlobRef;
+import io.spine.examples.kanban.server.blob.BlobStore;
+import io.spine.examples.kanban.server.card.Descriptions;
+import io.spine.validate.ValidationException;
+
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Optional;
+
+import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
+import static javax.servlet.http.HttpServletResponse.SC_NOT_FOUND;
+
+/**
+ * The {@code /description} endpoint of the Kanban system.
+ *
+ * <p>Serves the full text of a card description stored out of line. The description is
+ * identified by the {@code sha256} parameter taken from the {@code full_description}
+ * reference of the card. Since the content never changes for the same hash, the response
+ * may be cached forever.
+ *
+ * <p>Only the {@linkplain Descriptions#store() descriptions} are served, never
+ * the attachments or other blobs. The text is streamed from the store, and a description
+ * over the {@linkplain Descriptions#maxSize() maximum size} is not served at all.
+ */
+@WebServlet("/description")
+public final class KanbanDescriptionServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 0L;
+
+    public KanbanDescriptionServlet() {
+        super();
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        BlobRef ref;
+        try {
+            ref = BlobRef.newBuilder()
+                         .setSha256(String.valueOf(req.getParameter("sha256")))
+                         .vBuild();
+        } catch (ValidationException e) {
+            resp.sendError(SC_BAD_REQUEST, "Expected the `sha256` parameter.");
+            return;
+        }
+        BlobStore store = Descriptions.store();
+        Optional<Long> size = store.sizeOf(ref);
+        if (!size.isPresent() || size.get() > Descriptions.maxSize()) {
+            resp.sendError(SC_NOT_FOUND);
+            return;
+        }
+        resp.setContentType("text/plain");
+        resp.setCharacterEncoding("UTF-8");
+        resp.setHeader("X-Content-Type-Options", "nosniff");
+        resp.setContentLengthLong(size.get());
+        resp.setHeader("Cache-Control", "public, max-age=31536000, immutable");
+        WritableByteChannel body = Channels.newChannel(resp.getOutputStream());
+        store.transferTo(ref, body);
+    }
+}
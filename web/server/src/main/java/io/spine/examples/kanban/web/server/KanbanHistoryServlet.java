@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.web.server;
+
+import com.google.protobuf.Timestamp;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.server.history.BoardTimeTravel;
+import io.spine.examples.kanban.server.history.History;
+import io.spine.examples.kanban.view.BoardView;
+
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Optional;
+
+import static com.google.protobuf.util.Timestamps.parse;
+import static io.spine.json.Json.toCompactJson;
+import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
+import static javax.servlet.http.HttpServletResponse.SC_NOT_FOUND;
+
+/**
+ * The {@code /board/history} endpoint of the Kanban system.
+ *
+ * <p>Returns the view of the board with the UUID of the {@code board} parameter as it was at
+ * the moment of the {@code at} parameter, given in the RFC 3339 format, e.g.
+ * {@code 2020-06-01T12:00:00Z}.
+ *
+ * <p>Responds with the JSON of the {@code BoardView}, or with the 404 status if the board
+ * did not exist at the moment, or the history of the server is not kept. The history of
+ * a multi-tenant server mixes the boards of all the tenants, so it is not served.
+ */
+@WebServlet("/board/history")
+public final class KanbanHistoryServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 0L;
+
+    public KanbanHistoryServlet() {
+        super();
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        String board = req.getParameter("board");
+        String at = req.getParameter("at");
+        if (board == null || at == null) {
+            resp.sendError(SC_BAD_REQUEST, "Expected the `board` and `at` parameters.");
+            return;
+        }
+        Timestamp moment;
+        try {
+            moment = parse(at);
+        } catch (ParseException e) {
+            resp.sendError(SC_BAD_REQUEST, "The `at` parameter must be an RFC 3339 time.");
+            return;
+        }
+        Optional<BoardTimeTravel> history = History.timeTravel();
+        if (!history.isPresent()) {
+            resp.sendError(SC_NOT_FOUND, "The history of the boards is not available.");
+            return;
+        }
+        BoardId boardId = BoardId.newBuilder()
+                                 .setUuid(board)
+                                 .build();
+        Optional<BoardView> view = history.get()
+                                          .boardAt(boardId, moment);
+        if (!view.isPresent()) {
+            resp.sendError(SC_NOT_FOUND, "The board did not exist at the given time.");
+            return;
+        }
+        resp.setContentType("application/json");
+        resp.setCharacterEncoding("UTF-8");
+        resp.getWriter()
+            .write(toCompactJson(view.get()));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.web.server;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.ListValue;
+import com.google.protobuf.Struct;
+import com.google.protobuf.Value;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.server.search.CardHit;
+import io.spine.examples.kanban.server.search.Search;
+
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+import static io.spine.json.Json.toCompactJson;
+import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
+
+/**
+ * The {@code /search} endpoint of the Kanban system.
+ *
+ * <p>Finds the cards by the text of the {@code q} parameter. The optional {@code board}
+ * parameter limits the search to the board with the given UUID, and the optional {@code k}
+ * parameter sets the number of the returned cards, 20 by default and 100 at most.
+ *
+ * <p>Responds with a JSON array of the found cards, the best match first:
+ * <pre>
+ * [{"card":"&lt;uuid&gt;","score":3.14}, ...]
+ * </pre>
+ */
+@WebServlet("/search")
+public final class KanbanSearchServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 0L;
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+
+    public KanbanSearchServlet() {
+        super();
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        String query = req.getParameter("q");
+        if (query == null) {
+            resp.sendError(SC_BAD_REQUEST, "Expected the `q` parameter.");
+            return;
+        }
+        int limit;
+        try {
+            String k = req.getParameter("k");
+            limit = k == null ? DEFAULT_LIMIT : Integer.parseInt(k);
+        } catch (NumberFormatException e) {
+            resp.sendError(SC_BAD_REQUEST, "The `k` parameter must be a number.");
+            return;
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            resp.sendError(SC_BAD_REQUEST, "The `k` parameter must be from 1 to 100.");
+            return;
+        }
+        String board = req.getParameter("board");
+        BoardId boardId = board == null
+                          ? null
+                          : BoardId.newBuilder()
+                                   .setUuid(board)
+                                   .build();
+        ImmutableList<CardHit> hits = Search.index()
+                                            .search(query, boardId, limit);
+        resp.setContentType("application/json");
+        resp.setCharacterEncoding("UTF-8");
+        resp.getWriter()
+            .write(toJson(hits));
+    }
+
+    private static String toJson(ImmutableList<CardHit> hits) {
+        ListValue.Builder list = ListValue.newBuilder();
+        for (CardHit hit : hits) {
+            Struct found = Struct
+                    .newBuilder()
+                    .putFields("card", Value.newBuilder()
+                                            .setStringValue(hit.card().getUuid())
+                                            .build())
+                    .putFields("score", Value.newBuilder()
+                                             .setNumberValue(hit.score())
+                                             .build())
+                    .build();
+            list.addValues(Value.newBuilder()
+                                .setStructValue(found));
+        }
+        return toCompactJson(list.build());
+    }
+}
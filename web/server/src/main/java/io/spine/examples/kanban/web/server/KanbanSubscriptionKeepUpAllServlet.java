@@ -0,0 +1,85 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.web.server;
+
+import com.google.common.io.CharStreams;
+import io.spine.examples.kanban.subscription.KeepUpSubscriptions;
+import io.spine.examples.kanban.subscription.SubscriptionsKeptUp;
+
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+import static io.spine.json.Json.fromJson;
+import static io.spine.json.Json.toCompactJson;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
+
+/**
+ * The {@code /subscription/keep-up-all} endpoint of the Kanban system.
+ *
+ * <p>Keeps up all the subscriptions listed in the {@link KeepUpSubscriptions} request
+ * with a single call, and responds with {@link SubscriptionsKeptUp}. Subscriptions
+ * reported as unknown have expired or been cancelled and should be created anew.
+ *
+ * <p>The {@code spine-web} client library does not use this endpoint, as it keeps up
+ * each of its subscriptions separately through {@link KanbanSubscriptionKeepUpServlet}.
+ *
+ * <p>A request which is not a valid {@code KeepUpSubscriptions} JSON is answered with
+ * the {@code 400 Bad Request} status.
+ */
+@WebServlet("/subscription/keep-up-all")
+public final class KanbanSubscriptionKeepUpAllServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 0L;
+
+    public KanbanSubscriptionKeepUpAllServlet() {
+        super();
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        String body = CharStreams.toString(req.getReader());
+        KeepUpSubscriptions request;
+        try {
+            request = fromJson(body, KeepUpSubscriptions.class);
+        } catch (IllegalArgumentException e) {
+            resp.sendError(SC_BAD_REQUEST, "Expected a `KeepUpSubscriptions` request in JSON.");
+            return;
+        }
+        SubscriptionsKeptUp result =
+                Application.instance()
+                           .subscriptionBridge()
+                           .keepUpAll(request);
+        resp.setContentType("application/json");
+        resp.setCharacterEncoding(UTF_8.name());
+        resp.getWriter()
+            .write(toCompactJson(result));
+    }
+}
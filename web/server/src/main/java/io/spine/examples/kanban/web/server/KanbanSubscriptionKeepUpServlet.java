@@ -33,6 +33,10 @@ import javax.servlet.annotation.WebServlet;
 
 /**
  * The {@code /subscription/keep-up} endpoint of the Kanban system.
+ *
+ * <p>Keeps up a single subscription. This is the endpoint the {@code spine-web} client
+ * library calls for each of its subscriptions. Clients which manage their subscriptions
+ * on their own should rather use {@link KanbanSubscriptionKeepUpAllServlet}.
  */
 @WebServlet("/subscription/keep-up")
 public class KanbanSubscriptionKeepUpServlet extends SubscriptionKeepUpServlet<Response> {
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.web.server;
+
+import io.spine.examples.kanban.BoardId;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
+
+/**
+ * The {@code /subscription/stream} endpoint of the Kanban system.
+ *
+ * <p>Streams updates of the {@link io.spine.examples.kanban.view.BoardView BoardView}
+ * with the ID passed in the {@code board} query parameter as
+ * <a href="https://html.spec.whatwg.org/multipage/server-sent-events.html">Server-Sent
+ * Events</a>. Each {@code board} event carries the JSON of the whole board state.
+ *
+ * <p>The stream does not require keeping the subscription up. The subscription is
+ * cancelled as soon as the client disconnects.
+ */
+@WebServlet(value = "/subscription/stream", asyncSupported = true)
+public final class KanbanSubscriptionStreamServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 0L;
+    private static final String BOARD_PARAM = "board";
+
+    public KanbanSubscriptionStreamServlet() {
+        super();
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        String board = req.getParameter(BOARD_PARAM);
+        if (isNullOrEmpty(board)) {
+            resp.sendError(SC_BAD_REQUEST, "The `board` parameter is required.");
+            return;
+        }
+        resp.setContentType("text/event-stream");
+        resp.setCharacterEncoding(UTF_8.name());
+        resp.setHeader("Cache-Control", "no-cache");
+
+        AsyncContext async = req.startAsync();
+        async.setTimeout(0);
+        BoardUpdateStream stream = BoardUpdateStream.open(async);
+        Application.instance()
+                   .boardUpdates()
+                   .stream(BoardId.of(board), stream);
+    }
+}
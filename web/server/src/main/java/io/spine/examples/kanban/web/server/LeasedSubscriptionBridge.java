@@ -0,0 +1,139 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.web.server;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.spine.client.Subscription;
+import io.spine.client.SubscriptionId;
+import io.spine.client.Topic;
+import io.spine.core.Response;
+import io.spine.examples.kanban.subscription.KeepUpSubscriptions;
+import io.spine.examples.kanban.subscription.SubscriptionsKeptUp;
+import io.spine.web.firebase.subscription.FirebaseSubscription;
+import io.spine.web.firebase.subscription.FirebaseSubscriptionBridge;
+import io.spine.web.subscription.SubscriptionBridge;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * A {@link SubscriptionBridge} which keeps subscriptions alive by leases.
+ *
+ * <p>Each subscription created through the bridge gets a lease which is renewed whenever
+ * the subscription is kept up. Subscriptions whose leases expire are cancelled.
+ *
+ * <p>Besides keeping up subscriptions one by one, the bridge allows to
+ * {@linkplain #keepUpAll(KeepUpSubscriptions) keep up} any number of subscriptions at once.
+ *
+ * <p>The actual work with subscriptions is delegated to the
+ * {@link FirebaseSubscriptionBridge}.
+ *
+ * <p>The leases are kept in the memory of the bridge, and so of a single web server.
+ * When several servers share the Firebase database, all the requests of a client must be
+ * routed to the same server, e.g. by sticky sessions. Otherwise, a subscription kept up
+ * through another server is reported {@linkplain SubscriptionsKeptUp#getUnknownList()
+ * unknown} there, and is cancelled by the server which created it once its lease expires.
+ */
+final class LeasedSubscriptionBridge
+        implements SubscriptionBridge<FirebaseSubscription, Response, Response> {
+
+    /**
+     * The duration of a lease.
+     *
+     * <p>Should be longer than the interval at which clients keep their subscriptions up.
+     */
+    private static final int LEASE_SECONDS = 300;
+
+    private static final ScheduledExecutorService ticker =
+            Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder()
+                            .setNameFormat("subscription-leases")
+                            .setDaemon(true)
+                            .build()
+            );
+
+    private final FirebaseSubscriptionBridge delegate;
+    private final Map<SubscriptionId, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final SubscriptionLeases leases;
+
+    LeasedSubscriptionBridge(FirebaseSubscriptionBridge delegate) {
+        this.delegate = checkNotNull(delegate);
+        this.leases = new SubscriptionLeases(LEASE_SECONDS, this::expire);
+        ticker.scheduleAtFixedRate(leases::tick, 1, 1, SECONDS);
+    }
+
+    @Override
+    public FirebaseSubscription subscribe(Topic topic) {
+        FirebaseSubscription result = delegate.subscribe(topic);
+        Subscription subscription = result.getSubscription();
+        subscriptions.put(subscription.getId(), subscription);
+        leases.grant(subscription.getId());
+        return result;
+    }
+
+    @Override
+    public Response keepUp(Subscription subscription) {
+        leases.renew(subscription.getId());
+        return delegate.keepUp(subscription);
+    }
+
+    /**
+     * Keeps up all the requested subscriptions known to this bridge.
+     */
+    SubscriptionsKeptUp keepUpAll(KeepUpSubscriptions request) {
+        SubscriptionsKeptUp.Builder result = SubscriptionsKeptUp.newBuilder();
+        for (SubscriptionId id : request.getSubscriptionList()) {
+            Subscription subscription = subscriptions.get(id);
+            if (subscription != null && leases.renew(id)) {
+                delegate.keepUp(subscription);
+                result.addKeptUp(id);
+            } else {
+                result.addUnknown(id);
+            }
+        }
+        return result.build();
+    }
+
+    @Override
+    public Response cancel(Subscription subscription) {
+        leases.revoke(subscription.getId());
+        subscriptions.remove(subscription.getId());
+        return delegate.cancel(subscription);
+    }
+
+    private void expire(SubscriptionId id) {
+        Subscription subscription = subscriptions.remove(id);
+        if (subscription != null) {
+            delegate.cancel(subscription);
+        }
+    }
+}
@@ -30,6 +30,8 @@ import com.google.cloud.secretmanager.v1.SecretManagerServiceClient;
 import com.google.cloud.secretmanager.v1.SecretVersionName;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static io.spine.examples.kanban.web.server.Configuration.projectId;
@@ -40,9 +42,14 @@ import static io.spine.util.Exceptions.newIllegalStateException;
  * with the provided name.
  *
  * <p>Secret is assumed to belong to the {@link Configuration#projectId()}.
+ *
+ * <p>Retrieved secrets are cached, so that the Secret Manager is accessed only once
+ * per secret.
  */
 final class RetrieveSecret {
 
+    private static final Map<String, String> cache = new ConcurrentHashMap<>();
+
     /**
      * Prevents the utility class instantiation.
      */
@@ -54,7 +61,10 @@ final class RetrieveSecret {
                 !name.isEmpty(),
                 "A secret's name cannot be an empty string."
         );
+        return cache.computeIfAbsent(name, RetrieveSecret::retrieve);
+    }
 
+    private static String retrieve(String name) {
         SecretVersionName secret = SecretVersionName.of(projectId(), name, "latest");
         try (SecretManagerServiceClient client = SecretManagerServiceClient.create()) {
             return client
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.web.server;
+
+import com.google.common.collect.ImmutableSet;
+import io.spine.client.SubscriptionId;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Tracks leases of live subscriptions in a timer wheel.
+ *
+ * <p>The wheel has a slot per {@linkplain #tick() tick} of the lease duration. A granted
+ * or renewed lease is put into the slot which the wheel reaches when the lease runs out.
+ * Each tick moves the wheel by one slot and expires all the leases in it. This way,
+ * renewing a lease and expiring leases cost a constant time regardless of the number
+ * of subscriptions, and no per-subscription timestamps need to be compared.
+ */
+final class SubscriptionLeases {
+
+    private final List<Set<SubscriptionId>> wheel;
+    private final Map<SubscriptionId, Integer> slots = new HashMap<>();
+    private final Consumer<SubscriptionId> onExpiry;
+    private final int leaseTicks;
+    private int cursor;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param leaseTicks
+     *         the number of ticks a lease lasts for
+     * @param onExpiry
+     *         the action to perform for each subscription whose lease expired
+     */
+    SubscriptionLeases(int leaseTicks, Consumer<SubscriptionId> onExpiry) {
+        checkArgument(leaseTicks > 0, "A lease must last for at least one tick.");
+        this.leaseTicks = leaseTicks;
+        this.onExpiry = checkNotNull(onExpiry);
+        this.wheel = new ArrayList<>(leaseTicks + 1);
+        for (int i = 0; i <= leaseTicks; i++) {
+            wheel.add(new HashSet<>());
+        }
+    }
+
+    /**
+     * Grants a new lease to the subscription with the given ID, or renews the existing one.
+     */
+    synchronized void grant(SubscriptionId subscription) {
+        checkNotNull(subscription);
+        revoke(subscription);
+        int slot = (cursor + leaseTicks) % wheel.size();
+        wheel.get(slot).add(subscription);
+        slots.put(subscription, slot);
+    }
+
+    /**
+     * Renews the lease of the subscription with the given ID.
+     *
+     * @return {@code true} if the subscription has an active lease which was renewed,
+     *         {@code false} if the subscription is unknown or its lease has expired
+     */
+    synchronized boolean renew(SubscriptionId subscription) {
+        if (!slots.containsKey(subscription)) {
+            return false;
+        }
+        grant(subscription);
+        return true;
+    }
+
+    /**
+     * Revokes the lease of the subscription with the given ID, if there is one.
+     */
+    synchronized void revoke(SubscriptionId subscription) {
+        Integer slot = slots.remove(subscription);
+        if (slot != null) {
+            wheel.get(slot).remove(subscription);
+        }
+    }
+
+    /**
+     * Moves the wheel by one slot and expires the leases stored in it.
+     */
+    void tick() {
+        ImmutableSet<SubscriptionId> expired;
+        synchronized (this) {
+            cursor = (cursor + 1) % wheel.size();
+            Set<SubscriptionId> slot = wheel.get(cursor);
+            expired = ImmutableSet.copyOf(slot);
+            slot.clear();
+            expired.forEach(slots::remove);
+        }
+        expired.forEach(onExpiry);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.web.server;
+
+import io.spine.client.EntityStateUpdate;
+import io.spine.client.EntityUpdates;
+import io.spine.client.SubscriptionUpdate;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.view.BoardView;
+import io.spine.examples.kanban.web.server.given.TestConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.protobuf.AnyPacker.pack;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@DisplayName("`BoardFeed` should")
+class BoardFeedTest {
+
+    private BoardFeed feed;
+    private TestConnection first;
+    private TestConnection second;
+    private BoardUpdateStream firstStream;
+    private BoardUpdateStream secondStream;
+
+    @BeforeEach
+    void openStreams() throws IOException {
+        feed = new BoardFeed();
+        first = new TestConnection();
+        second = new TestConnection();
+        firstStream = BoardUpdateStream.open(first.async());
+        secondStream = BoardUpdateStream.open(second.async());
+        feed.add(firstStream);
+        feed.add(secondStream);
+    }
+
+    @AfterEach
+    void closeStreams() {
+        firstStream.close();
+        secondStream.close();
+    }
+
+    private static SubscriptionUpdate updateOf(BoardView board) {
+        EntityStateUpdate stateUpdate =
+                EntityStateUpdate.newBuilder()
+                                 .setState(pack(board))
+                                 .build();
+        EntityUpdates updates =
+                EntityUpdates.newBuilder()
+                             .addUpdate(stateUpdate)
+                             .build();
+        return SubscriptionUpdate.newBuilder()
+                                 .setEntityUpdates(updates)
+                                 .build();
+    }
+
+    @Test
+    @DisplayName("send the board state to all the streams")
+    void fanOut() {
+        BoardView board = BoardView.newBuilder()
+                                   .setId(BoardId.generate())
+                                   .buildPartial();
+        feed.onNext(updateOf(board));
+
+        String expected = new String(BoardUpdateStream.frameOf(board), UTF_8);
+        assertThat(first.received()).isEqualTo(expected);
+        assertThat(second.received()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("not send updates to the removed streams")
+    void remove() {
+        feed.remove(secondStream);
+        feed.onNext(updateOf(BoardView.newBuilder()
+                                      .setId(BoardId.generate())
+                                      .buildPartial()));
+
+        assertThat(first.received()).isNotEmpty();
+        assertThat(second.received()).isEmpty();
+        assertThat(feed.isEmpty()).isFalse();
+    }
+
+    @Test
+    @DisplayName("close all the streams when the subscription completes")
+    void complete() {
+        feed.onCompleted();
+
+        assertThat(first.isCompleted()).isTrue();
+        assertThat(second.isCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("close all the streams when the subscription fails")
+    void error() {
+        feed.onError(new IllegalStateException("Subscription failed."));
+
+        assertThat(first.isCompleted()).isTrue();
+        assertThat(second.isCompleted()).isTrue();
+    }
+}
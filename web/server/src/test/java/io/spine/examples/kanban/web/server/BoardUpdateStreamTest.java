@@ -0,0 +1,165 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.web.server;
+
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.view.BoardView;
+import io.spine.examples.kanban.web.server.given.TestConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.examples.kanban.web.server.BoardUpdateStream.BUFFER_CAPACITY;
+import static io.spine.json.Json.toCompactJson;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@DisplayName("`BoardUpdateStream` should")
+class BoardUpdateStreamTest {
+
+    private TestConnection connection;
+    private BoardUpdateStream stream;
+
+    @BeforeEach
+    void openStream() throws IOException {
+        connection = new TestConnection();
+        stream = BoardUpdateStream.open(connection.async());
+    }
+
+    @AfterEach
+    void closeStream() {
+        stream.close();
+    }
+
+    private static BoardView board() {
+        return BoardView.newBuilder()
+                        .setId(BoardId.generate())
+                        .buildPartial();
+    }
+
+    private static String text(byte[] frame) {
+        return new String(frame, UTF_8);
+    }
+
+    @Test
+    @DisplayName("frame a board state as a single `board` event")
+    void frame() {
+        BoardView board = board();
+        String frame = text(BoardUpdateStream.frameOf(board));
+
+        assertThat(frame).isEqualTo("event: board\ndata: " + toCompactJson(board) + "\n\n");
+        assertThat(frame.split("\n")).hasLength(2);
+    }
+
+    @Test
+    @DisplayName("write the frames to a ready client at once")
+    void write() {
+        byte[] first = BoardUpdateStream.frameOf(board());
+        byte[] second = BoardUpdateStream.frameOf(board());
+        stream.send(first);
+        stream.send(second);
+
+        assertThat(connection.received()).isEqualTo(text(first) + text(second));
+    }
+
+    @Test
+    @DisplayName("keep the latest frames for a slow client and drop the oldest ones")
+    void slowClient() throws IOException {
+        connection.block();
+        int extra = 4;
+        StringBuilder latest = new StringBuilder();
+        for (int i = 0; i < BUFFER_CAPACITY + extra; i++) {
+            byte[] frame = BoardUpdateStream.frameOf(board());
+            stream.send(frame);
+            if (i >= extra) {
+                latest.append(text(frame));
+            }
+        }
+        assertThat(connection.received()).isEmpty();
+        assertThat(stream.dropped()).isEqualTo(extra);
+
+        connection.unblock();
+        assertThat(connection.received()).isEqualTo(latest.toString());
+    }
+
+    @Test
+    @DisplayName("complete the request and run the close hook once when closed")
+    void close() {
+        AtomicInteger hookRuns = new AtomicInteger();
+        stream.onClose(hookRuns::incrementAndGet);
+        stream.close();
+        stream.close();
+
+        assertThat(connection.isCompleted()).isTrue();
+        assertThat(hookRuns.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("not write after closed")
+    void notWriteClosed() {
+        stream.close();
+        stream.send(BoardUpdateStream.frameOf(board()));
+
+        assertThat(connection.received()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("run the close hook at once if already closed")
+    void hookAfterClose() {
+        stream.close();
+        AtomicInteger hookRuns = new AtomicInteger();
+        stream.onClose(hookRuns::incrementAndGet);
+
+        assertThat(hookRuns.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("close when the client disconnects")
+    void disconnect() throws IOException {
+        AtomicInteger hookRuns = new AtomicInteger();
+        stream.onClose(hookRuns::incrementAndGet);
+        connection.disconnect();
+
+        assertThat(hookRuns.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("close when writing to the client fails")
+    void writeFailure() {
+        AtomicInteger hookRuns = new AtomicInteger();
+        stream.onClose(hookRuns::incrementAndGet);
+        connection.breakWrites();
+        stream.send(BoardUpdateStream.frameOf(board()));
+
+        assertThat(hookRuns.get()).isEqualTo(1);
+        assertThat(connection.isCompleted()).isTrue();
+    }
+}
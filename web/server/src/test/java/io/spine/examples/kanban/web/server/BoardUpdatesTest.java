@@ -0,0 +1,165 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.web.server;
+
+import io.spine.client.ActorRequestFactory;
+import io.spine.core.Command;
+import io.spine.core.UserId;
+import io.spine.examples.kanban.BoardId;
+import io.spine.examples.kanban.command.CreateBoard;
+import io.spine.examples.kanban.server.KanbanContext;
+import io.spine.examples.kanban.web.server.given.TestConnection;
+import io.spine.server.BoundedContext;
+import io.spine.server.CommandService;
+import io.spine.server.SubscriptionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.grpc.StreamObservers.noOpObserver;
+
+@DisplayName("`BoardUpdates` should")
+class BoardUpdatesTest {
+
+    private static final long DELIVERY_TIMEOUT_MILLIS = 5_000;
+
+    private final ActorRequestFactory requests =
+            ActorRequestFactory.newBuilder()
+                               .setActor(UserId.newBuilder()
+                                               .setValue("board-updates-test")
+                                               .vBuild())
+                               .build();
+
+    private BoundedContext context;
+    private CommandService commandService;
+    private BoardUpdates updates;
+    private BoardId board;
+
+    @BeforeEach
+    void createContext() {
+        context = KanbanContext.newBuilder()
+                               .build();
+        commandService = CommandService.withSingle(context);
+        updates = new BoardUpdates(SubscriptionService.withSingle(context));
+        board = BoardId.generate();
+    }
+
+    @AfterEach
+    void closeContext() throws Exception {
+        context.close();
+    }
+
+    private BoardUpdateStream watch(TestConnection connection) throws IOException {
+        BoardUpdateStream stream = BoardUpdateStream.open(connection.async());
+        updates.stream(board, stream);
+        return stream;
+    }
+
+    private void createBoard() {
+        CreateBoard createBoard = CreateBoard
+                .newBuilder()
+                .setBoard(board)
+                .vBuild();
+        Command command = requests.command()
+                                  .create(createBoard);
+        commandService.post(command, noOpObserver());
+    }
+
+    private static void awaitFrame(TestConnection connection) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + DELIVERY_TIMEOUT_MILLIS;
+        while (connection.received().isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    @DisplayName("stream the board updates to every watching client")
+    void stream() throws IOException, InterruptedException {
+        TestConnection first = new TestConnection();
+        TestConnection second = new TestConnection();
+        BoardUpdateStream firstStream = watch(first);
+        BoardUpdateStream secondStream = watch(second);
+        createBoard();
+        awaitFrame(first);
+        awaitFrame(second);
+
+        assertThat(first.received()).startsWith("event: board\ndata: ");
+        assertThat(first.received()).contains(board.getUuid());
+        assertThat(second.received()).contains(board.getUuid());
+
+        firstStream.close();
+        secondStream.close();
+    }
+
+    @Test
+    @DisplayName("cancel the subscription when the last client disconnects")
+    void cancel() throws IOException {
+        TestConnection first = new TestConnection();
+        TestConnection second = new TestConnection();
+        watch(first);
+        watch(second);
+        assertThat(updates.isWatched(board)).isTrue();
+
+        first.disconnect();
+        assertThat(updates.isWatched(board)).isTrue();
+
+        second.disconnect();
+        assertThat(updates.isWatched(board)).isFalse();
+    }
+
+    @Test
+    @DisplayName("not stream to the disconnected clients")
+    void notStreamDisconnected() throws IOException, InterruptedException {
+        TestConnection gone = new TestConnection();
+        TestConnection staying = new TestConnection();
+        watch(gone);
+        BoardUpdateStream stayingStream = watch(staying);
+        gone.disconnect();
+        createBoard();
+        awaitFrame(staying);
+
+        assertThat(staying.received()).isNotEmpty();
+        assertThat(gone.received()).isEmpty();
+
+        stayingStream.close();
+    }
+
+    @Test
+    @DisplayName("resubscribe when a client watches the board again")
+    void watchAgain() throws IOException {
+        watch(new TestConnection()).close();
+        assertThat(updates.isWatched(board)).isFalse();
+
+        BoardUpdateStream stream = watch(new TestConnection());
+        assertThat(updates.isWatched(board)).isTrue();
+        stream.close();
+    }
+}
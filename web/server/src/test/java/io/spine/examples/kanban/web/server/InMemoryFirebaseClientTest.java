@@ -0,0 +1,135 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.web.server;
+
+import com.google.gson.JsonObject;
+import io.spine.web.firebase.NodePath;
+import io.spine.web.firebase.NodeValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("`InMemoryFirebaseClient` should")
+class InMemoryFirebaseClientTest {
+
+    private InMemoryFirebaseClient client;
+    private NodePath node;
+
+    @BeforeEach
+    void createClient() {
+        client = new InMemoryFirebaseClient(Duration.ZERO);
+        node = path("subscriptions/board");
+    }
+
+    private static NodePath path(String value) {
+        return NodePath.newBuilder()
+                       .setValue(value)
+                       .build();
+    }
+
+    private static NodeValue value(String key, String child) {
+        NodeValue value = NodeValue.empty();
+        value.underlyingJson()
+             .addProperty(key, child);
+        return value;
+    }
+
+    private JsonObject fetch(NodePath path) {
+        return client.fetchNode(path)
+                     .orElseThrow(IllegalStateException::new)
+                     .underlyingJson();
+    }
+
+    @Test
+    @DisplayName("store a created node")
+    void create() {
+        client.create(node, value("a", "1"));
+
+        assertThat(fetch(node).get("a").getAsString()).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("not be affected by changes of the stored value")
+    void copyCreated() {
+        NodeValue value = value("a", "1");
+        client.create(node, value);
+        value.underlyingJson()
+             .addProperty("a", "2");
+
+        assertThat(fetch(node).get("a").getAsString()).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("create a node on update")
+    void updateMissing() {
+        client.update(node, value("a", "1"));
+
+        assertThat(fetch(node).get("a").getAsString()).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("merge the children of the update into the node")
+    void merge() {
+        client.create(node, value("a", "1"));
+        client.update(node, value("b", "2"));
+        client.update(node, value("a", "3"));
+
+        JsonObject json = fetch(node);
+        assertThat(json.get("a").getAsString()).isEqualTo("3");
+        assertThat(json.get("b").getAsString()).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("not change a fetched value on update")
+    void notChangeFetched() {
+        client.create(node, value("a", "1"));
+        JsonObject fetched = fetch(node);
+        client.update(node, value("a", "2"));
+
+        assertThat(fetched.get("a").getAsString()).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("delete the node with its descendants")
+    void delete() {
+        NodePath child = path("subscriptions/board/update");
+        NodePath sibling = path("subscriptions/boards");
+        client.create(node, value("a", "1"));
+        client.create(child, value("b", "2"));
+        client.create(sibling, value("c", "3"));
+
+        client.delete(node);
+
+        assertThat(client.fetchNode(node).isPresent()).isFalse();
+        assertThat(client.fetchNode(child).isPresent()).isFalse();
+        assertThat(client.fetchNode(sibling).isPresent()).isTrue();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.web.server;
+
+import io.spine.client.SubscriptionId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.testing.Tests.repeat;
+
+@DisplayName("`SubscriptionLeases` should")
+class SubscriptionLeasesTest {
+
+    private static final int LEASE_TICKS = 3;
+
+    private final List<SubscriptionId> expired = new ArrayList<>();
+    private SubscriptionLeases leases;
+    private SubscriptionId subscription;
+
+    @BeforeEach
+    void createLeases() {
+        expired.clear();
+        leases = new SubscriptionLeases(LEASE_TICKS, expired::add);
+        subscription = SubscriptionId.newBuilder()
+                                     .setValue("test-subscription")
+                                     .build();
+    }
+
+    @Test
+    @DisplayName("expire a lease after its duration")
+    void expire() {
+        leases.grant(subscription);
+        repeat(LEASE_TICKS - 1, leases::tick);
+        assertThat(expired).isEmpty();
+
+        leases.tick();
+        assertThat(expired).containsExactly(subscription);
+    }
+
+    @Test
+    @DisplayName("prolong a renewed lease")
+    void renew() {
+        leases.grant(subscription);
+        repeat(LEASE_TICKS - 1, leases::tick);
+
+        assertThat(leases.renew(subscription)).isTrue();
+        repeat(LEASE_TICKS - 1, leases::tick);
+        assertThat(expired).isEmpty();
+
+        leases.tick();
+        assertThat(expired).containsExactly(subscription);
+    }
+
+    @Test
+    @DisplayName("not renew an expired lease")
+    void notRenewExpired() {
+        leases.grant(subscription);
+        repeat(LEASE_TICKS, leases::tick);
+
+        assertThat(leases.renew(subscription)).isFalse();
+    }
+
+    @Test
+    @DisplayName("not expire a revoked lease")
+    void revoke() {
+        leases.grant(subscription);
+        leases.revoke(subscription);
+        repeat(LEASE_TICKS, leases::tick);
+
+        assertThat(expired).isEmpty();
+        assertThat(leases.renew(subscription)).isFalse();
+    }
+}
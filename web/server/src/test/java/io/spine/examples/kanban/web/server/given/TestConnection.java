@@ -0,0 +1,196 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.kanban.web.server.given;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletResponse;
+import javax.servlet.WriteListener;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * An asynchronous client connection which records what is written to it.
+ *
+ * <p>Only the parts of the servlet API used by the update streams are supported.
+ */
+public final class TestConnection {
+
+    private final Output out = new Output();
+    private final List<AsyncListener> listeners = new ArrayList<>();
+    private final AsyncContext async;
+    private boolean completed;
+
+    public TestConnection() {
+        ServletResponse response = proxy(ServletResponse.class, (method, args) -> {
+            if ("getOutputStream".equals(method.getName())) {
+                return out;
+            }
+            throw unsupported(method);
+        });
+        this.async = proxy(AsyncContext.class, (method, args) -> {
+            switch (method.getName()) {
+                case "getResponse":
+                    return response;
+                case "addListener":
+                    listeners.add((AsyncListener) args[0]);
+                    return null;
+                case "complete":
+                    completed = true;
+                    return null;
+                default:
+                    throw unsupported(method);
+            }
+        });
+    }
+
+    /**
+     * Returns the asynchronous context of the connection.
+     */
+    public AsyncContext async() {
+        return async;
+    }
+
+    /**
+     * Returns the text written to the connection so far.
+     */
+    public String received() {
+        return new String(out.bytes.toByteArray(), UTF_8);
+    }
+
+    /**
+     * Makes the connection not accept any more data, as a slow client does.
+     */
+    public void block() {
+        out.ready = false;
+    }
+
+    /**
+     * Makes the connection accept data again and notifies the write listener.
+     */
+    public void unblock() throws IOException {
+        out.ready = true;
+        checkNotNull(out.listener).onWritePossible();
+    }
+
+    /**
+     * Makes all the further writes to the connection fail.
+     */
+    public void breakWrites() {
+        out.broken = true;
+    }
+
+    /**
+     * Completes the request as the servlet container does when the client disconnects.
+     */
+    public void disconnect() throws IOException {
+        AsyncEvent event = new AsyncEvent(async);
+        for (AsyncListener listener : new ArrayList<>(listeners)) {
+            listener.onComplete(event);
+        }
+    }
+
+    /**
+     * Tells whether the request is completed.
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        Object instance = Proxy.newProxyInstance(
+                type.getClassLoader(), new Class<?>[]{type}, handler
+        );
+        return type.cast(instance);
+    }
+
+    private static UnsupportedOperationException unsupported(Method method) {
+        return new UnsupportedOperationException(method.getName());
+    }
+
+    /**
+     * Handles the calls of a proxy ignoring the proxy instance itself.
+     */
+    @FunctionalInterface
+    private interface Handler extends InvocationHandler {
+
+        Object handle(Method method, Object[] args) throws Throwable;
+
+        @Override
+        default Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return TestConnection.class.getSimpleName();
+                default:
+                    return handle(method, args);
+            }
+        }
+    }
+
+    /**
+     * The output stream which accepts data only while it is ready.
+     */
+    private static final class Output extends ServletOutputStream {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private WriteListener listener;
+        private boolean ready = true;
+        private boolean broken;
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            this.listener = writeListener;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (broken) {
+                throw new IOException("The connection is broken.");
+            }
+            bytes.write(b);
+        }
+    }
+}